@@ -28,109 +28,201 @@
 package com.boskokg.flutter_blue_plus;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.boskokg.flutter_blue_plus.Protos.AdvertisementData;
 
-import java.io.UnsupportedEncodingException;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.UUID;
 
 /**
  * Parser of Bluetooth Advertisement packets.
+ *
+ * Reads the record in place: service and manufacturer data are wrapped as slices of the input
+ * array instead of being copied, and UUID and local name strings are served from small caches,
+ * so parsing an advertisement seen before allocates little beyond the resulting proto.
  */
 class AdvertisementParser {
 
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final char[] BASE_UUID = "00000000-0000-1000-8000-00805f9b34fb".toCharArray();
+
+  // Every possible tx power level, a single signed byte
+  private static final Protos.Int32Value[] TX_POWER_LEVELS = new Protos.Int32Value[256];
+
+  static {
+    for (int i = 0; i < TX_POWER_LEVELS.length; i++) {
+      TX_POWER_LEVELS[i] = Protos.Int32Value.newBuilder().setValue((byte) i).build();
+    }
+  }
+
+  private static final ThreadLocal<AdvertisementParser> PARSER = new ThreadLocal<AdvertisementParser>() {
+    @Override
+    protected AdvertisementParser initialValue() {
+      return new AdvertisementParser();
+    }
+  };
+
+  private static final int CACHE_SIZE = 64; // power of two
+
+  private final AdvertisementData.Builder builder = AdvertisementData.newBuilder();
+  private final long[] uuidKeys = new long[CACHE_SIZE];
+  private final String[] uuids = new String[CACHE_SIZE];
+  private final byte[][] nameKeys = new byte[CACHE_SIZE][];
+  private final String[] names = new String[CACHE_SIZE];
+
+  private AdvertisementParser() {
+    Arrays.fill(uuidKeys, -1L);
+  }
+
   /**
    * Parses packet data into {@link AdvertisementData} structure.
    *
+   * The returned proto shares its byte fields with {@code rawData}, which must not be modified
+   * afterwards.
+   *
    * @param rawData The scan record data.
    * @return An AdvertisementData proto object.
    * @throws ArrayIndexOutOfBoundsException if the input is truncated.
    */
   static AdvertisementData parse(byte[] rawData) {
-    ByteBuffer data = ByteBuffer.wrap(rawData).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
-    AdvertisementData.Builder ret = AdvertisementData.newBuilder();
+    return PARSER.get().parseRecord(rawData);
+  }
+
+  private AdvertisementData parseRecord(byte[] data) {
+    AdvertisementData.Builder ret = builder.clear();
     boolean seenLongLocalName = false;
-    do {
-      int length = data.get() & 0xFF;
+    int position = 0;
+    while (position < data.length) {
+      int length = data[position++] & 0xFF;
       if (length == 0) {
         break;
       }
-      if (length > data.remaining()) {
+      if (length > data.length - position) {
         throw new ArrayIndexOutOfBoundsException("Not enough data.");
       }
 
-      int type = data.get() & 0xFF;
+      int type = data[position] & 0xFF;
+      int offset = position + 1;
       length--;
+      position = offset + length;
 
       switch (type) {
         case 0x08: // Short local name.
         case 0x09: { // Long local name.
           if (seenLongLocalName) {
             // Prefer the long name over the short.
-            data.position(data.position() + length);
             break;
           }
-          byte[] name = new byte[length];
-          data.get(name);
-          try {
-            ret.setLocalName(new String(name, "UTF-8"));
-          } catch (UnsupportedEncodingException e) {
-            throw new RuntimeException(e);
-          }
+          ret.setLocalName(localName(data, offset, length));
           if (type == 0x09) {
             seenLongLocalName = true;
           }
           break;
         }
         case 0x0A: { // Power level.
-          ret.setTxPowerLevel(Protos.Int32Value.newBuilder().setValue(data.get()));
+          if (length > 0) {
+            ret.setTxPowerLevel(TX_POWER_LEVELS[data[offset] & 0xFF]);
+          }
           break;
         }
         case 0x16: // Service Data with 16 bit UUID.
         case 0x20: // Service Data with 32 bit UUID.
         case 0x21: { // Service Data with 128 bit UUID.
-          UUID uuid;
-          int remainingDataLength = 0;
-          if (type == 0x16 || type == 0x20) {
-            long uuidValue;
-            if (type == 0x16) {
-              uuidValue = data.getShort() & 0xFFFF;
-              remainingDataLength = length - 2;
-            } else {
-              uuidValue = data.getInt() & 0xFFFFFFFF;
-              remainingDataLength = length - 4;
-            }
-            uuid = UUID.fromString(String.format("%08x-0000-1000-8000-00805f9b34fb", uuidValue));
+          int uuidLength = type == 0x16 ? 2 : type == 0x20 ? 4 : 16;
+          if (length < uuidLength) {
+            throw new ArrayIndexOutOfBoundsException("Not enough data for Service Data.");
+          }
+          String uuid;
+          if (uuidLength == 16) {
+            long msb = readLong(data, offset);
+            long lsb = readLong(data, offset + 8);
+            uuid = new UUID(msb, lsb).toString();
           } else {
-            long msb = data.getLong();
-            long lsb = data.getLong();
-            uuid = new UUID(msb, lsb);
-            remainingDataLength = length - 16;
+            long uuidValue = (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8);
+            if (uuidLength == 4) {
+              uuidValue |= ((data[offset + 2] & 0xFFL) << 16) | ((data[offset + 3] & 0xFFL) << 24);
+            }
+            uuid = shortUuid(uuidValue);
           }
-          byte[] remainingData = new byte[remainingDataLength];
-          data.get(remainingData);
-          ret.putServiceData(uuid.toString(), ByteString.copyFrom(remainingData));
+          ret.putServiceData(uuid, slice(data, offset + uuidLength, length - uuidLength));
           break;
         }
         case 0xFF: {// Manufacturer specific data.
           if(length < 2) {
             throw new ArrayIndexOutOfBoundsException("Not enough data for Manufacturer specific data.");
           }
-          int manufacturerId = data.getShort();
+          int manufacturerId = (data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8);
           if((length - 2) > 0) {
-            byte[] msd = new byte[length - 2];
-            data.get(msd);
-            ret.putManufacturerData(manufacturerId, ByteString.copyFrom(msd));
+            ret.putManufacturerData(manufacturerId, slice(data, offset + 2, length - 2));
           }
           break;
         }
         default: {
-          data.position(data.position() + length);
           break;
         }
       }
-    } while (true);
+    }
     return ret.build();
   }
+
+  private static ByteString slice(byte[] data, int offset, int length) {
+    // The scan record is not touched again once parsed, so it can back the ByteString directly
+    return UnsafeByteOperations.unsafeWrap(data, offset, length);
+  }
+
+  // Eight bytes in little endian order, as the ByteBuffer based parser read them
+  private static long readLong(byte[] data, int offset) {
+    long value = 0;
+    for (int i = 7; i >= 0; i--) {
+      value = (value << 8) | (data[offset + i] & 0xFF);
+    }
+    return value;
+  }
+
+  // 16 or 32 bit UUID expanded with the Bluetooth base UUID
+  private String shortUuid(long value) {
+    int slot = (int) (value ^ (value >>> 11)) & (CACHE_SIZE - 1);
+    if (uuidKeys[slot] == value) {
+      return uuids[slot];
+    }
+    char[] chars = BASE_UUID.clone();
+    for (int i = 0; i < 8; i++) {
+      chars[i] = HEX_DIGITS[(int) (value >>> (28 - 4 * i)) & 0xF];
+    }
+    String uuid = new String(chars);
+    uuidKeys[slot] = value;
+    uuids[slot] = uuid;
+    return uuid;
+  }
+
+  private String localName(byte[] data, int offset, int length) {
+    int hash = 1;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + data[i];
+    }
+    int slot = (hash ^ (hash >>> 16)) & (CACHE_SIZE - 1);
+    byte[] key = nameKeys[slot];
+    if (key != null && rangeEquals(key, data, offset, length)) {
+      return names[slot];
+    }
+    String name = new String(data, offset, length, UTF_8);
+    nameKeys[slot] = Arrays.copyOfRange(data, offset, offset + length);
+    names[slot] = name;
+    return name;
+  }
+
+  private static boolean rangeEquals(byte[] key, byte[] data, int offset, int length) {
+    if (key.length != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (key[i] != data[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
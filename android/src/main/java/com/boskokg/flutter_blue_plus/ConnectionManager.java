@@ -0,0 +1,119 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothGatt;
+
+import com.boskokg.flutter_blue_plus.FlutterBluePlusPlugin.BluetoothDeviceCache;
+import com.boskokg.flutter_blue_plus.FlutterBluePlusPlugin.LinkState;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+
+/**
+ * Keeps the number of GATT clients the plugin holds under a configurable limit.
+ *
+ * Android only has a few client slots, and controllers only carry a handful of links; past that
+ * connectGatt fails with status 133 or links drop at random. Connect requests over the limit wait
+ * here, in order, until a connection is closed or one that has been idle long enough can be
+ * evicted, least recently used first. Connections still being opened are never evicted, closing
+ * them would leave their connect call unanswered. A connection that is being closed keeps its slot until its
+ * BluetoothGatt has actually been closed. All methods must be called with this locked.
+ */
+class ConnectionManager {
+
+  private int maxConnections; // 0 for no limit
+  private long minIdleMillis;
+  // Keyed by remote id, in the order the requests came in
+  private final LinkedHashMap<String, Protos.ConnectRequest> pending = new LinkedHashMap<>();
+  // Disconnected, but not closed until onConnectionStateChange says so
+  private final Set<BluetoothGatt> closing = new HashSet<>();
+
+  void setLimits(int maxConnections, long minIdleMillis) {
+    this.maxConnections = maxConnections;
+    this.minIdleMillis = minIdleMillis;
+  }
+
+  /** Queues the request, replacing an earlier one for the same device. */
+  void enqueue(Protos.ConnectRequest request) {
+    pending.remove(request.getRemoteId());
+    pending.put(request.getRemoteId(), request);
+  }
+
+  /** Drops a request that has not been started yet, returns false if there was none. */
+  boolean cancel(String remoteId) {
+    return pending.remove(remoteId) != null;
+  }
+
+  boolean hasPending() {
+    return !pending.isEmpty();
+  }
+
+  Protos.ConnectRequest pollPending() {
+    Iterator<Protos.ConnectRequest> it = pending.values().iterator();
+    Protos.ConnectRequest request = it.next();
+    it.remove();
+    return request;
+  }
+
+  void closing(BluetoothGatt gatt) {
+    closing.add(gatt);
+  }
+
+  /** Frees the slot of a connection that was being closed, returns false if it was not. */
+  boolean closed(BluetoothGatt gatt) {
+    return closing.remove(gatt);
+  }
+
+  boolean hasRoom(int open) {
+    return maxConnections <= 0 || open + closing.size() < maxConnections;
+  }
+
+  /** Whether the pending requests need more room than the connections being closed will free. */
+  boolean needsEviction() {
+    return pending.size() > closing.size();
+  }
+
+  /**
+   * Picks the connection to make room with, or null when none may be evicted yet. Links that
+   * dropped go first, then the connected one that has been idle the longest.
+   */
+  BluetoothDeviceCache selectEviction(Collection<BluetoothDeviceCache> connections, long now) {
+    BluetoothDeviceCache best = null;
+    for (BluetoothDeviceCache c : connections) {
+      if (c.link == LinkState.CONNECTING || pending.containsKey(c.gatt.getDevice().getAddress()) || !c.isIdle()) {
+        continue;
+      }
+      if (c.link == LinkState.DROPPED) {
+        return c;
+      }
+      if (now - c.lastActivity >= minIdleMillis && (best == null || c.lastActivity < best.lastActivity)) {
+        best = c;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Time until the next idle connection may be evicted, or -1 when no connection that is up or
+   * dropped is idle.
+   */
+  long millisUntilEvictable(Collection<BluetoothDeviceCache> connections, long now) {
+    long delay = -1;
+    for (BluetoothDeviceCache c : connections) {
+      if (c.link == LinkState.CONNECTING || !c.isIdle()) {
+        continue;
+      }
+      long d = Math.max(0, c.lastActivity + minIdleMillis - now);
+      if (delay < 0 || d < delay) {
+        delay = d;
+      }
+    }
+    return delay;
+  }
+}
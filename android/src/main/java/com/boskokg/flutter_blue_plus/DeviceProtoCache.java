@@ -0,0 +1,70 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothDevice;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Remembers the BluetoothDevice message built for each address.
+ *
+ * BluetoothDevice.getName and getType are binder calls into the Bluetooth service, too costly to
+ * make for every advertisement. Entries are rebuilt when the system reports a new name, or when a
+ * device advertises a name it did not advertise before. The least recently used entries are
+ * dropped once the cache is full.
+ */
+class DeviceProtoCache {
+
+  private static class Entry {
+    final Protos.BluetoothDevice proto;
+    // Name in the advertisement the entry was built for, null if there was none
+    final String advertisedName;
+
+    Entry(Protos.BluetoothDevice proto, String advertisedName) {
+      this.proto = proto;
+      this.advertisedName = advertisedName;
+    }
+  }
+
+  private final Map<String, Entry> entries;
+
+  DeviceProtoCache(final int capacity) {
+    entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > capacity;
+      }
+    };
+  }
+
+  /**
+   * Returns the message for the device. Pass the name found in its advertisement, if any, so a
+   * renamed device is picked up without waiting for the system broadcast.
+   */
+  Protos.BluetoothDevice get(BluetoothDevice device, String advertisedName) {
+    String address = device.getAddress();
+    if (advertisedName != null && advertisedName.isEmpty()) {
+      advertisedName = null;
+    }
+    synchronized (this) {
+      Entry e = entries.get(address);
+      if (e != null && (advertisedName == null || advertisedName.equals(e.advertisedName))) {
+        return e.proto;
+      }
+    }
+    // Binder calls, made outside the lock
+    Protos.BluetoothDevice proto = ProtoMaker.from(device);
+    synchronized (this) {
+      entries.put(address, new Entry(proto, advertisedName));
+    }
+    return proto;
+  }
+
+  synchronized void invalidate(String address) {
+    entries.remove(address);
+  }
+}
@@ -16,9 +16,11 @@ import android.bluetooth.BluetoothGattDescriptor;
 import android.bluetooth.BluetoothGattService;
 import android.bluetooth.BluetoothManager;
 import android.bluetooth.BluetoothProfile;
+import android.bluetooth.BluetoothStatusCodes;
 import android.bluetooth.le.BluetoothLeScanner;
 import android.bluetooth.le.ScanCallback;
 import android.bluetooth.le.ScanFilter;
+import android.bluetooth.le.ScanRecord;
 import android.bluetooth.le.ScanResult;
 import android.bluetooth.le.ScanSettings;
 import android.content.BroadcastReceiver;
@@ -28,20 +30,26 @@ import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.os.Build;
 import android.os.Handler;
-import android.os.Looper;
+import android.os.HandlerThread;
 import android.os.ParcelUuid;
+import android.os.SystemClock;
 import android.util.Log;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import androidx.annotation.NonNull;
 import androidx.core.app.ActivityCompat;
@@ -59,36 +67,77 @@ import io.flutter.plugin.common.MethodChannel;
 import io.flutter.plugin.common.MethodChannel.MethodCallHandler;
 import io.flutter.plugin.common.MethodChannel.Result;
 import io.flutter.plugin.common.PluginRegistry.RequestPermissionsResultListener;
+import io.flutter.plugin.common.StandardMethodCodec;
 
 public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler, RequestPermissionsResultListener, ActivityAware {
 
   private static final String TAG = "FlutterBluePlugin";
   private final Object initializationLock = new Object();
-  private final Object tearDownLock = new Object();
-  private Context context;
+  // Fields read by method calls are volatile, calls may be handled off the main thread
+  private volatile Context context;
   private MethodChannel channel;
+  // Scan and GATT callbacks are handled here, only finished messages go to the main thread
+  private HandlerThread callbackThread;
+  private Handler callbackHandler;
+  private final MainThreadDispatcher dispatcher = new MainThreadDispatcher();
   private static final String NAMESPACE = "flutter_blue_plus";
 
   private EventChannel stateChannel;
-  private BluetoothManager mBluetoothManager;
-  private BluetoothAdapter mBluetoothAdapter;
+  // High rate events, sent outside the method channel while Dart listens
+  private final ProtoEventStream scanEvents = new ProtoEventStream("ScanResult", "RawScanResult", "ScanResults");
+  private final ProtoEventStream notificationEvents = new ProtoEventStream("CharacteristicValueChanged", "NotificationBatch");
+  private final ProtoEventStream connectionEvents = new ProtoEventStream("DeviceState", "DeviceStatus");
+  private EventChannel scanResultsChannel;
+  private EventChannel notificationsChannel;
+  private EventChannel connectionStateChannel;
+  private volatile BluetoothManager mBluetoothManager;
+  private volatile BluetoothAdapter mBluetoothAdapter;
 
   private FlutterPluginBinding pluginBinding;
-  private ActivityPluginBinding activityBinding;
+  private volatile ActivityPluginBinding activityBinding;
 
   static final private UUID CCCD_ID = UUID.fromString("00002902-0000-1000-8000-00805f9b34fb");
-  private final Map<String, BluetoothDeviceCache> mDevices = new HashMap<>();
-  private LogLevel logLevel = LogLevel.EMERGENCY;
+  static final private UUID GENERIC_ATTRIBUTE_ID = UUID.fromString("00001801-0000-1000-8000-00805f9b34fb");
+  static final private UUID DATABASE_HASH_ID = UUID.fromString("00002b2a-0000-1000-8000-00805f9b34fb");
+  // Read from the callback thread without locking, changed under the connectionManager lock
+  private final Map<String, BluetoothDeviceCache> mDevices = new ConcurrentHashMap<>();
+  private volatile LogLevel logLevel = LogLevel.EMERGENCY;
 
   private interface OperationOnPermission {
     void op(boolean granted, String permission);
   }
 
-  private int lastEventId = 1452;
-  private final Map<Integer, OperationOnPermission> operationsOnPermission = new HashMap<>();
+  private final AtomicInteger lastEventId = new AtomicInteger(1452);
+  private final Map<Integer, OperationOnPermission> operationsOnPermission = new ConcurrentHashMap<>();
+  // Guards mDevices against connects and evictions racing each other
+  private final ConnectionManager connectionManager = new ConnectionManager();
+  private final Runnable pendingConnectsTask = this::startPendingConnects;
+  // Devices of connectAll calls that are not ready yet, keyed by remote id
+  private final Map<String, BringUp> bringUps = new ConcurrentHashMap<>();
+  // BluetoothDevice messages of devices seen lately, saves binder calls for every scan result
+  private final DeviceProtoCache deviceProtos = new DeviceProtoCache(512);
+  private final BroadcastReceiver nameChangedReceiver = new BroadcastReceiver() {
+    @Override
+    @SuppressWarnings("deprecation") // getParcelableExtra(String) is only called before Android 13
+    public void onReceive(Context context, Intent intent) {
+      BluetoothDevice device = Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU
+              ? intent.getParcelableExtra(BluetoothDevice.EXTRA_DEVICE, BluetoothDevice.class)
+              : intent.getParcelableExtra(BluetoothDevice.EXTRA_DEVICE);
+      if (device != null) {
+        deviceProtos.invalidate(device.getAddress());
+      }
+    }
+  };
+  // Last MTU each device agreed to, kept across connections
+  private final Map<String, Integer> negotiatedMtus = new ConcurrentHashMap<>();
 
-  private final ArrayList<String> macDeviceScanned = new ArrayList<>();
-  private boolean allowDuplicates = false;
+  // Only touched on the callback thread
+  private final ScannedDeviceSet macDeviceScanned = new ScannedDeviceSet();
+  private volatile ScanConfig scanConfig = ScanConfig.NONE;
+
+  // Scan results waiting to be sent to Dart as one ScanResults message, timed flushes run on the callback thread
+  private final ProtoEncoder.ScanResultsBuffer scanResultBatch = new ProtoEncoder.ScanResultsBuffer();
+  private final Runnable flushScanResultBatch = this::flushScanResults;
 
   public FlutterBluePlusPlugin() {}
 
@@ -139,28 +188,66 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
     synchronized (initializationLock) {
       Log.d(TAG, "setup");
       this.context = application;
-      channel = new MethodChannel(messenger, NAMESPACE + "/methods");
+      callbackThread = new HandlerThread("FlutterBluePlusCallbacks");
+      callbackThread.start();
+      callbackHandler = new Handler(callbackThread.getLooper());
+      channel = makeMethodChannel(messenger);
       channel.setMethodCallHandler(this);
+      dispatcher.attach(channel);
       stateChannel = new EventChannel(messenger, NAMESPACE + "/state");
       stateChannel.setStreamHandler(stateHandler);
+      scanResultsChannel = makeEventChannel(messenger, "/scanResults", scanEvents);
+      notificationsChannel = makeEventChannel(messenger, "/notifications", notificationEvents);
+      connectionStateChannel = makeEventChannel(messenger, "/connectionState", connectionEvents);
       mBluetoothManager = (BluetoothManager) application.getSystemService(Context.BLUETOOTH_SERVICE);
       mBluetoothAdapter = mBluetoothManager.getAdapter();
+      application.registerReceiver(nameChangedReceiver, new IntentFilter(BluetoothDevice.ACTION_NAME_CHANGED));
     }
   }
 
-  private void tearDown() {
-    synchronized (tearDownLock) {
-      Log.d(TAG, "teardown");
-      context = null;
-      channel.setMethodCallHandler(null);
-      channel = null;
-      stateChannel.setStreamHandler(null);
-      stateChannel = null;
-      mBluetoothAdapter = null;
-      mBluetoothManager = null;
+  // Method calls are handled on a background task queue where the embedding has them (Flutter 2.10+),
+  // replies and events still go through the main thread
+  private static MethodChannel makeMethodChannel(BinaryMessenger messenger) {
+    try {
+      BinaryMessenger.TaskQueue taskQueue = messenger.makeBackgroundTaskQueue();
+      return new MethodChannel(messenger, NAMESPACE + "/methods", StandardMethodCodec.INSTANCE, taskQueue);
+    } catch (UnsupportedOperationException | LinkageError e) {
+      Log.d(TAG, "no background task queue, handling method calls on the main thread");
+      return new MethodChannel(messenger, NAMESPACE + "/methods");
     }
   }
 
+  private EventChannel makeEventChannel(BinaryMessenger messenger, String name, ProtoEventStream stream) {
+    EventChannel eventChannel = new EventChannel(messenger, NAMESPACE + name, ProtoEventStream.Codec.INSTANCE);
+    eventChannel.setStreamHandler(stream);
+    dispatcher.route(stream);
+    return eventChannel;
+  }
+
+  private void tearDown() {
+    Log.d(TAG, "teardown");
+    dispatcher.detach();
+    callbackThread.quitSafely();
+    context.unregisterReceiver(nameChangedReceiver);
+    context = null;
+    channel.setMethodCallHandler(null);
+    channel = null;
+    stateChannel.setStreamHandler(null);
+    stateChannel = null;
+    scanResultsChannel.setStreamHandler(null);
+    scanResultsChannel = null;
+    notificationsChannel.setStreamHandler(null);
+    notificationsChannel = null;
+    connectionStateChannel.setStreamHandler(null);
+    connectionStateChannel = null;
+    // Sinks of the old engine, nothing cancels them
+    scanEvents.onCancel(null);
+    notificationEvents.onCancel(null);
+    connectionEvents.onCancel(null);
+    mBluetoothAdapter = null;
+    mBluetoothManager = null;
+  }
+
   @Override
   public boolean onRequestPermissionsResult(int requestCode, String[] permissions, int[] grantResults) {
     OperationOnPermission operation = operationsOnPermission.get(requestCode);
@@ -187,6 +274,25 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
         break;
       }
 
+      case "setConnectionLimits":
+      {
+        byte[] data = call.arguments();
+        Protos.ConnectionLimits request;
+        try {
+          request = Protos.ConnectionLimits.newBuilder().mergeFrom(data).build();
+        } catch (InvalidProtocolBufferException e) {
+          result.error("RuntimeException", e.getMessage(), e);
+          break;
+        }
+        synchronized (connectionManager) {
+          connectionManager.setLimits(request.getMaxConnections(), request.getMinIdleMillis());
+        }
+        // A higher limit may let waiting requests through
+        startPendingConnects();
+        result.success(null);
+        break;
+      }
+
       case "state":
       {
         Protos.BluetoothState.Builder p = Protos.BluetoothState.newBuilder();
@@ -230,7 +336,9 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       case "turnOn":
       {
         if (!mBluetoothAdapter.isEnabled()) {
-          result.success(mBluetoothAdapter.enable());
+          // No replacement exists, from Android 13 on it returns false unless the app is privileged
+          @SuppressWarnings("deprecation") boolean enabling = mBluetoothAdapter.enable();
+          result.success(enabling);
         }
         break;
       }
@@ -238,7 +346,9 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       case "turnOff":
       {
         if (mBluetoothAdapter.isEnabled()) {
-          result.success(mBluetoothAdapter.disable());
+          // No replacement exists, from Android 13 on it returns false unless the app is privileged
+          @SuppressWarnings("deprecation") boolean disabling = mBluetoothAdapter.disable();
+          result.success(disabling);
         }
         break;
       }
@@ -265,7 +375,8 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       case "stopScan":
       {
         stopScan();
-        result.success(null);
+        // Behind the last batch, Dart stops listening once this returns
+        dispatcher.post(() -> result.success(null));
         break;
       }
 
@@ -280,7 +391,7 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           List<BluetoothDevice> devices = mBluetoothManager.getConnectedDevices(BluetoothProfile.GATT);
           Protos.ConnectedDevicesResponse.Builder p = Protos.ConnectedDevicesResponse.newBuilder();
           for (BluetoothDevice d : devices) {
-            p.addDevices(ProtoMaker.from(d));
+            p.addDevices(deviceProtos.get(d, null));
           }
           result.success(p.build().toByteArray());
           log(LogLevel.EMERGENCY, "mDevices size: " + mDevices.size());
@@ -293,7 +404,7 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
         final Set<BluetoothDevice> bondedDevices = mBluetoothAdapter.getBondedDevices();
         Protos.ConnectedDevicesResponse.Builder p = Protos.ConnectedDevicesResponse.newBuilder();
         for (BluetoothDevice d : bondedDevices) {
-          p.addDevices(ProtoMaker.from(d));
+          p.addDevices(deviceProtos.get(d, null));
         }
         result.success(p.build().toByteArray());
         log(LogLevel.EMERGENCY, "mDevices size: " + mDevices.size());
@@ -326,26 +437,33 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
             return;
           }
 
-          // If device was connected to previously but is now disconnected, attempt a reconnect
-          BluetoothDeviceCache bluetoothDeviceCache = mDevices.get(deviceId);
-          if(bluetoothDeviceCache != null && !isConnected) {
-            if(bluetoothDeviceCache.gatt.connect()){
-              result.success(null);
-            } else {
-              result.error("reconnect_error", "error when reconnecting to device", null);
-            }
-            return;
+          if(requestConnection(mDevices.get(deviceId), options)) {
+            result.success(null);
+          } else {
+            result.error("reconnect_error", "error when reconnecting to device", null);
           }
+        });
+        break;
+      }
 
-          // New request, connect and add gattServer to Map
-          BluetoothGatt gattServer;
-          if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
-            gattServer = device.connectGatt(context, options.getAndroidAutoConnect(), mGattCallback, BluetoothDevice.TRANSPORT_LE);
-          } else {
-            gattServer = device.connectGatt(context, options.getAndroidAutoConnect(), mGattCallback);
+      case "connectAll":
+      {
+        ensurePermissionBeforeAction(Build.VERSION.SDK_INT >= Build.VERSION_CODES.S ? Manifest.permission.BLUETOOTH_CONNECT : null, (granted, permission) -> {
+          if (!granted) {
+            result.error(
+                    "no_permissions", String.format("flutter_blue plugin requires %s for new connection", permission), null);
+            return;
+          }
+          byte[] data = call.arguments();
+          Protos.ConnectAllRequest request;
+          try {
+            request = Protos.ConnectAllRequest.newBuilder().mergeFrom(data).build();
+          } catch (InvalidProtocolBufferException e) {
+            result.error("RuntimeException", e.getMessage(), e);
+            return;
           }
-          mDevices.put(deviceId, new BluetoothDeviceCache(gattServer));
           result.success(null);
+          startBringUps(new ConnectAll(request));
         });
         break;
       }
@@ -353,16 +471,7 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       case "disconnect":
       {
         String deviceId = (String)call.arguments;
-        BluetoothDevice device = mBluetoothAdapter.getRemoteDevice(deviceId);
-        BluetoothDeviceCache cache = mDevices.remove(deviceId);
-        if(cache != null) {
-          BluetoothGatt gattServer = cache.gatt;
-          gattServer.disconnect();
-          int state = mBluetoothManager.getConnectionState(device, BluetoothProfile.GATT);
-          if(state == BluetoothProfile.STATE_DISCONNECTED) {
-            gattServer.close();
-          }
-        }
+        disconnectDevice(deviceId);
         result.success(null);
         break;
       }
@@ -383,16 +492,15 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       case "discoverServices":
       {
         String deviceId = (String)call.arguments;
+        BluetoothDeviceCache cache;
         try {
-          BluetoothGatt gatt = locateGatt(deviceId);
-          if(gatt.discoverServices()) {
-            result.success(null);
-          } else {
-            result.error("discover_services_error", "unknown reason", null);
-          }
+          cache = locateCache(deviceId);
         } catch(Exception e) {
           result.error("discover_services_error", e.getMessage(), e);
+          break;
         }
+        // Queued, so discovery runs after an MTU exchange or layout check started on connect
+        enqueueDiscovery(cache, result);
         break;
       }
 
@@ -400,13 +508,8 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       {
         String deviceId = (String)call.arguments;
         try {
-          BluetoothGatt gatt = locateGatt(deviceId);
-          Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
-          p.setRemoteId(deviceId);
-          for(BluetoothGattService s : gatt.getServices()){
-            p.addServices(ProtoMaker.from(gatt.getDevice(), s, gatt));
-          }
-          result.success(p.build().toByteArray());
+          BluetoothDeviceCache cache = locateCache(deviceId);
+          result.success(cache.encodeServices());
         } catch(Exception e) {
           result.error("get_services_error", e.getMessage(), e);
         }
@@ -424,21 +527,64 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           break;
         }
 
-        BluetoothGatt gattServer;
+        BluetoothDeviceCache cache;
         BluetoothGattCharacteristic characteristic;
         try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+          cache = locateCache(request.getRemoteId());
+          characteristic = locateCharacteristic(cache, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
         } catch(Exception e) {
           result.error("read_characteristic_error", e.getMessage(), null);
           return;
         }
 
-        if(gattServer.readCharacteristic(characteristic)) {
-          result.success(null);
-        } else {
-          result.error("read_characteristic_error", "unknown reason, may occur if readCharacteristic was called before last read finished.", null);
+        enqueueOperation(cache, result, "read_characteristic_error", GattCallback.CHARACTERISTIC_READ, gatt -> {
+          if(!gatt.readCharacteristic(characteristic)) {
+            return "unknown reason, readCharacteristic returned false";
+          }
+          return null;
+        }, error -> sendReadCharacteristicResponse(cache.gatt, characteristic, null, error));
+        break;
+      }
+
+      case "readLongCharacteristic":
+      {
+        byte[] data = call.arguments();
+        Protos.ReadLongCharacteristicRequest request;
+        try {
+          request = Protos.ReadLongCharacteristicRequest.newBuilder().mergeFrom(data).build();
+        } catch (InvalidProtocolBufferException e) {
+          result.error("RuntimeException", e.getMessage(), e);
+          break;
+        }
+
+        BluetoothDeviceCache cache;
+        BluetoothGattCharacteristic characteristic;
+        try {
+          cache = locateCache(request.getRemoteId());
+          characteristic = locateCharacteristic(cache, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+        } catch(Exception e) {
+          result.error("read_characteristic_error", e.getMessage(), null);
+          return;
         }
+
+        // All reads form one queued request, each onCharacteristicRead issues the next one. BluetoothGatt
+        // already assembles a long value with Read Blob requests, further reads only make sense for
+        // devices that return the next part of the value every time, which the caller says through chunk_length.
+        enqueueOperation(cache, result, "read_characteristic_error", GattCallback.CHARACTERISTIC_READ, gatt -> {
+          int maxLength = request.getMaxLength() > 0 ? request.getMaxLength() : LongRead.DEFAULT_MAX_LENGTH;
+          LongRead read = new LongRead(request, characteristic, maxLength, request.getChunkLength());
+          cache.longRead = read;
+          if(!gatt.readCharacteristic(characteristic)) {
+            cache.longRead = null;
+            return "unknown reason, readCharacteristic returned false";
+          }
+          return null;
+        }, error -> {
+          LongRead read = cache.longRead;
+          if(read != null) {
+            finishLongRead(cache, read, error);
+          }
+        });
         break;
       }
 
@@ -453,23 +599,24 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           break;
         }
 
-        BluetoothGatt gattServer;
+        BluetoothDeviceCache cache;
         BluetoothGattCharacteristic characteristic;
         BluetoothGattDescriptor descriptor;
         try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+          cache = locateCache(request.getRemoteId());
+          characteristic = locateCharacteristic(cache, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
           descriptor = locateDescriptor(characteristic, request.getDescriptorUuid());
         } catch(Exception e) {
           result.error("read_descriptor_error", e.getMessage(), null);
           return;
         }
 
-        if(gattServer.readDescriptor(descriptor)) {
-          result.success(null);
-        } else {
-          result.error("read_descriptor_error", "unknown reason, may occur if readDescriptor was called before last read finished.", null);
-        }
+        enqueueOperation(cache, result, "read_descriptor_error", GattCallback.DESCRIPTOR_READ, gatt -> {
+          if(!gatt.readDescriptor(descriptor)) {
+            return "unknown reason, readDescriptor returned false";
+          }
+          return null;
+        }, error -> sendReadDescriptorResponse(cache.gatt, descriptor, null, error));
         break;
       }
 
@@ -484,34 +631,121 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           break;
         }
 
-        BluetoothGatt gattServer;
+        BluetoothDeviceCache cache;
         BluetoothGattCharacteristic characteristic;
         try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+          cache = locateCache(request.getRemoteId());
+          characteristic = locateCharacteristic(cache, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
         } catch(Exception e) {
           result.error("write_characteristic_error", e.getMessage(), null);
           return;
         }
 
-        // Set characteristic to new value
-        if(!characteristic.setValue(request.getValue().toByteArray())){
-          result.error("write_characteristic_error", "could not set the local value of characteristic", null);
+        // Before Android 13 the value and write type live on the shared characteristic object,
+        // so they can only be applied once it is this request's turn
+        int writeType = request.getWriteType() == Protos.WriteCharacteristicRequest.WriteType.WITHOUT_RESPONSE
+                ? BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE
+                : BluetoothGattCharacteristic.WRITE_TYPE_DEFAULT;
+        enqueueOperation(cache, result, "write_characteristic_error", GattCallback.CHARACTERISTIC_WRITE,
+                gatt -> writeCharacteristic(gatt, characteristic, request.getValue().toByteArray(), writeType),
+                error -> sendWriteCharacteristicResponse(cache.gatt, characteristic, false));
+        break;
+      }
+
+      case "reliableWrite":
+      {
+        byte[] data = call.arguments();
+        Protos.ReliableWriteRequest request;
+        try {
+          request = Protos.ReliableWriteRequest.newBuilder().mergeFrom(data).build();
+        } catch (InvalidProtocolBufferException e) {
+          result.error("RuntimeException", e.getMessage(), e);
+          break;
         }
 
-        // Apply the correct write type
-        if(request.getWriteType() == Protos.WriteCharacteristicRequest.WriteType.WITHOUT_RESPONSE) {
-          characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE);
-        } else {
-          characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_DEFAULT);
+        BluetoothDeviceCache cache;
+        List<BluetoothGattCharacteristic> characteristics = new ArrayList<>();
+        try {
+          cache = locateCache(request.getRemoteId());
+          for(Protos.WriteCharacteristicRequest w : request.getWritesList()) {
+            characteristics.add(locateCharacteristic(cache, w.getServiceUuid(), w.getSecondaryServiceUuid(), w.getCharacteristicUuid()));
+          }
+        } catch(Exception e) {
+          result.error("reliable_write_error", e.getMessage(), null);
+          return;
+        }
+        if(characteristics.isEmpty()) {
+          result.error("reliable_write_error", "nothing to write", null);
+          break;
+        }
+
+        // The whole transaction is one queued request: begin, one write per callback, then execute
+        enqueueOperation(cache, result, "reliable_write_error", GattCallback.RELIABLE_WRITE_COMPLETED, gatt -> {
+          if(!gatt.beginReliableWrite()) {
+            return "beginReliableWrite failed";
+          }
+          ReliableWrite transaction = new ReliableWrite(request, characteristics);
+          cache.reliableWrite = transaction;
+          String error = writeNextReliably(cache, transaction);
+          if(error != null) {
+            cache.reliableWrite = null;
+            gatt.abortReliableWrite();
+          }
+          return error;
+        }, error -> {
+          ReliableWrite transaction = cache.reliableWrite;
+          if(transaction != null) {
+            cache.gatt.abortReliableWrite();
+            finishReliableWrite(cache, transaction, error);
+          }
+        });
+        break;
+      }
+
+      case "writeStream":
+      {
+        byte[] data = call.arguments();
+        Protos.WriteStreamRequest request;
+        try {
+          request = Protos.WriteStreamRequest.newBuilder().mergeFrom(data).build();
+        } catch (InvalidProtocolBufferException e) {
+          result.error("RuntimeException", e.getMessage(), e);
+          break;
         }
 
-        if(!gattServer.writeCharacteristic(characteristic)){
-          result.error("write_characteristic_error", "writeCharacteristic failed", null);
+        BluetoothDeviceCache cache;
+        BluetoothGattCharacteristic characteristic;
+        try {
+          cache = locateCache(request.getRemoteId());
+          characteristic = locateCharacteristic(cache, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+        } catch(Exception e) {
+          result.error("write_stream_error", e.getMessage(), null);
           return;
         }
 
-        result.success(null);
+        // The whole stream is one queued request, chunks are paced by onCharacteristicWrite
+        enqueueOperation(cache, result, "write_stream_error", GattCallback.CHARACTERISTIC_WRITE, gatt -> {
+          // ATT header takes 3 bytes of the MTU
+          int chunkSize = Math.max(20, cache.mtu - 3);
+          if(request.getChunkSize() > 0) {
+            chunkSize = Math.min(chunkSize, request.getChunkSize());
+          }
+          WriteStream stream = new WriteStream(request, characteristic, request.getValue().toByteArray(), chunkSize);
+          if(stream.data.length == 0) {
+            return "nothing to write";
+          }
+          cache.writeStream = stream;
+          String error = writeNextChunk(cache, stream);
+          if(error != null) {
+            cache.writeStream = null;
+          }
+          return error;
+        }, error -> {
+          WriteStream stream = cache.writeStream;
+          if(stream != null) {
+            finishWriteStream(cache, stream, error);
+          }
+        });
         break;
       }
 
@@ -526,29 +760,21 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           break;
         }
 
-        BluetoothGatt gattServer;
+        BluetoothDeviceCache cache;
         BluetoothGattCharacteristic characteristic;
         BluetoothGattDescriptor descriptor;
         try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+          cache = locateCache(request.getRemoteId());
+          characteristic = locateCharacteristic(cache, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
           descriptor = locateDescriptor(characteristic, request.getDescriptorUuid());
         } catch(Exception e) {
           result.error("write_descriptor_error", e.getMessage(), null);
           return;
         }
 
-        // Set descriptor to new value
-        if(!descriptor.setValue(request.getValue().toByteArray())){
-          result.error("write_descriptor_error", "could not set the local value for descriptor", null);
-        }
-
-        if(!gattServer.writeDescriptor(descriptor)){
-          result.error("write_descriptor_error", "writeCharacteristic failed", null);
-          return;
-        }
-
-        result.success(null);
+        DescriptorWrite write = new DescriptorWrite(cache, descriptor, request.getValue().toByteArray());
+        enqueueOperation(cache, result, "write_descriptor_error", GattCallback.DESCRIPTOR_WRITE, write,
+                error -> failDescriptorWrite(cache, write, error));
         break;
       }
 
@@ -563,60 +789,24 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           break;
         }
 
-        BluetoothGatt gattServer;
-        BluetoothGattCharacteristic characteristic;
-        BluetoothGattDescriptor cccDescriptor;
+        BluetoothDeviceCache cache;
+        CccdWrite cccdWrite;
         try {
-          gattServer = locateGatt(request.getRemoteId());
-          characteristic = locateCharacteristic(gattServer, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
-          cccDescriptor = characteristic.getDescriptor(CCCD_ID);
-          if(cccDescriptor == null) {
-            //Some devices - including the widely used Bluno do not actually set the CCCD_ID.
-            //thus setNotifications works perfectly (tested on Bluno) without cccDescriptor
-            log(LogLevel.INFO, "could not locate CCCD descriptor for characteristic: " + characteristic.getUuid().toString());
-          }
+          cache = locateCache(request.getRemoteId());
+          cccdWrite = prepareNotification(cache, request);
         } catch(Exception e) {
           result.error("set_notification_error", e.getMessage(), null);
           return;
         }
 
-        byte[] value = null;
-
-        if(request.getEnable()) {
-          boolean canNotify = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_NOTIFY) > 0;
-          boolean canIndicate = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_INDICATE) > 0;
-          if(!canIndicate && !canNotify) {
-            result.error("set_notification_error", "the characteristic cannot notify or indicate", null);
-            return;
-          }
-          if(canIndicate) {
-            value = BluetoothGattDescriptor.ENABLE_INDICATION_VALUE;
-          }
-          if(canNotify) {
-            value = BluetoothGattDescriptor.ENABLE_NOTIFICATION_VALUE;
-          }
-        } else {
-          value = BluetoothGattDescriptor.DISABLE_NOTIFICATION_VALUE;
-        }
-
-        if(!gattServer.setCharacteristicNotification(characteristic, request.getEnable())){
-          result.error("set_notification_error", "could not set characteristic notifications to :" + request.getEnable(), null);
-          return;
-        }
-
-        if(cccDescriptor != null) {
-          if (!cccDescriptor.setValue(value)) {
-            result.error("set_notification_error", "error when setting the descriptor value to: " + Arrays.toString(value), null);
-            return;
-          }
-
-          if (!gattServer.writeDescriptor(cccDescriptor)) {
-            result.error("set_notification_error", "error when writing the descriptor", null);
-            return;
-          }
+        if(cccdWrite == null) {
+          // Nothing is sent over the air, so there is no need to wait for the queue
+          result.success(null);
+          break;
         }
 
-        result.success(null);
+        enqueueOperation(cache, result, "set_notification_error", GattCallback.DESCRIPTOR_WRITE, cccdWrite,
+                error -> failDescriptorWrite(cache, cccdWrite, error));
         break;
       }
 
@@ -646,41 +836,122 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
           break;
         }
 
-        BluetoothGatt gatt;
+        if(Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+          result.error("requestMtu", "Only supported on devices >= API 21 (Lollipop). This device == " + Build.VERSION.SDK_INT, null);
+          break;
+        }
+
+        BluetoothDeviceCache cache;
         try {
-          gatt = locateGatt(request.getRemoteId());
-          int mtu = request.getMtu();
-          if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-            if(gatt.requestMtu(mtu)) {
-              result.success(null);
-            } else {
-              result.error("requestMtu", "gatt.requestMtu returned false", null);
-            }
-          } else {
-            result.error("requestMtu", "Only supported on devices >= API 21 (Lollipop). This device == " + Build.VERSION.SDK_INT, null);
-          }
+          cache = locateCache(request.getRemoteId());
         } catch(Exception e) {
           result.error("requestMtu", e.getMessage(), e);
+          break;
+        }
+
+        int mtu = request.getMtu();
+        enqueueOperation(cache, result, "requestMtu", GattCallback.MTU_CHANGED, gatt -> {
+          if(!gatt.requestMtu(mtu)) {
+            return "gatt.requestMtu returned false";
+          }
+          return null;
+        }, error -> sendMtuFailure(cache.gatt, error));
+        break;
+      }
+
+      case "requestConnectionPriority":
+      {
+        byte[] data = call.arguments();
+        Protos.ConnectionPriorityRequest request;
+        try {
+          request = Protos.ConnectionPriorityRequest.newBuilder().mergeFrom(data).build();
+        } catch (InvalidProtocolBufferException e) {
+          result.error("RuntimeException", e.getMessage(), e);
+          break;
+        }
+
+        if(Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+          result.error("requestConnectionPriority", "Only supported on devices >= API 21 (Lollipop). This device == " + Build.VERSION.SDK_INT, null);
+          break;
+        }
+
+        try {
+          BluetoothGatt gatt = locateGatt(request.getRemoteId());
+          // The proto enum uses the same numbers as BluetoothGatt.CONNECTION_PRIORITY_*
+          if(!gatt.requestConnectionPriority(request.getConnectionPriorityValue())) {
+            result.error("requestConnectionPriority", "gatt.requestConnectionPriority returned false", null);
+            break;
+          }
+          result.success(null);
+        } catch(Exception e) {
+          result.error("requestConnectionPriority", e.getMessage(), e);
+        }
+        break;
+      }
+
+      case "setPreferredPhy":
+      {
+        byte[] data = call.arguments();
+        Protos.PreferredPhyRequest request;
+        try {
+          request = Protos.PreferredPhyRequest.newBuilder().mergeFrom(data).build();
+        } catch (InvalidProtocolBufferException e) {
+          result.error("RuntimeException", e.getMessage(), e);
+          break;
+        }
+
+        if(Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+          result.error("setPreferredPhy", "Only supported on devices >= API 26 (Oreo). This device == " + Build.VERSION.SDK_INT, null);
+          break;
+        }
+
+        try {
+          // Answered by onPhyUpdate; the proto uses the same numbers as BluetoothDevice.PHY_*
+          BluetoothGatt gatt = locateGatt(request.getRemoteId());
+          gatt.setPreferredPhy(request.getTxPhyMask(), request.getRxPhyMask(), request.getPhyOptions());
+          result.success(null);
+        } catch(Exception e) {
+          result.error("setPreferredPhy", e.getMessage(), e);
+        }
+        break;
+      }
+
+      case "readPhy":
+      {
+        String remoteId = (String)call.arguments;
+        if(Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+          result.error("readPhy", "Only supported on devices >= API 26 (Oreo). This device == " + Build.VERSION.SDK_INT, null);
+          break;
         }
 
+        try {
+          // Answered by onPhyRead
+          BluetoothGatt gatt = locateGatt(remoteId);
+          gatt.readPhy();
+          result.success(null);
+        } catch(Exception e) {
+          result.error("readPhy", e.getMessage(), e);
+        }
         break;
       }
 
       case "readRssi":
       {
         String remoteId = (String)call.arguments;
-        BluetoothGatt gatt;
+        BluetoothDeviceCache cache;
         try {
-          gatt = locateGatt(remoteId);
-          if(gatt.readRemoteRssi()) {
-            result.success(null);
-          } else {
-            result.error("readRssi", "gatt.readRemoteRssi returned false", null);
-          }
+          cache = locateCache(remoteId);
         } catch(Exception e) {
           result.error("readRssi", e.getMessage(), e);
+          break;
         }
 
+        enqueueOperation(cache, result, "readRssi", GattCallback.READ_REMOTE_RSSI, gatt -> {
+          if(!gatt.readRemoteRssi()) {
+            return "gatt.readRemoteRssi returned false";
+          }
+          return null;
+        }, error -> sendReadRssiFailure(cache.gatt, error));
         break;
       }
 
@@ -695,68 +966,822 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
   private void ensurePermissionBeforeAction(String permission, OperationOnPermission operation) {
     if (permission != null &&
             ContextCompat.checkSelfPermission(context, permission) != PackageManager.PERMISSION_GRANTED) {
-      operationsOnPermission.put(lastEventId, (granted, perm) -> {
-        operationsOnPermission.remove(lastEventId);
+      ActivityPluginBinding binding = activityBinding;
+      if (binding == null) {
+        // No activity to ask the user from
+        operation.op(false, permission);
+        return;
+      }
+      int requestCode = lastEventId.getAndIncrement();
+      operationsOnPermission.put(requestCode, (granted, perm) -> {
+        operationsOnPermission.remove(requestCode);
         operation.op(granted, perm);
       });
-      ActivityCompat.requestPermissions(
-              activityBinding.getActivity(),
+      // The dialog has to be started from the main thread
+      dispatcher.post(() -> ActivityCompat.requestPermissions(
+              binding.getActivity(),
               new String[]{permission},
-              lastEventId);
-      lastEventId++;
+              requestCode));
     } else {
       operation.op(true, permission);
     }
   }
 
   private BluetoothGatt locateGatt(String remoteId) throws Exception {
+    return locateCache(remoteId).gatt;
+  }
+
+  private BluetoothDeviceCache locateCache(String remoteId) throws Exception {
     BluetoothDeviceCache cache = mDevices.get(remoteId);
     if(cache == null || cache.gatt == null) {
       throw new Exception("no instance of BluetoothGatt, have you connected first?");
     } else {
-      return cache.gatt;
+      return cache;
     }
   }
 
-  private BluetoothGattCharacteristic locateCharacteristic(BluetoothGatt gattServer, String serviceId, String secondaryServiceId, String characteristicId) throws Exception {
-    BluetoothGattService primaryService = gattServer.getService(UUID.fromString(serviceId));
-    if(primaryService == null) {
-      throw new Exception("service (" + serviceId + ") could not be located on the device");
+  // Queues a GATT request behind any request still in flight on the same device.
+  // The method call is answered once the request has actually been started (or has failed to start),
+  // the outcome itself is reported by the awaited mGattCallback event as before. When that event does
+  // not come in time, or the link goes down first, failure reports the error instead (may be null).
+  private void enqueueOperation(BluetoothDeviceCache cache, Result result, String errorCode, GattCallback awaits,
+                                GattRequest request, GattFailure failure) {
+    cache.lastActivity = SystemClock.elapsedRealtime();
+    GattOperation operation = new GattOperation(result, errorCode, awaits, request, failure);
+    operation.timeout = () -> timeOutOperation(cache, operation);
+    synchronized (cache.operations) {
+      cache.operations.add(operation);
     }
-    BluetoothGattService secondaryService = null;
-    if(secondaryServiceId.length() > 0) {
-      for(BluetoothGattService s : primaryService.getIncludedServices()){
-        if(s.getUuid().equals(UUID.fromString(secondaryServiceId))){
-          secondaryService = s;
-        }
+    startNextOperation(cache);
+  }
+
+  // Called from every mGattCallback event that may finish a queued request. Events the request in
+  // flight does not wait for, such as an MTU exchange the peer started, leave the queue alone.
+  private void completeOperation(BluetoothGatt gatt, GattCallback callback) {
+    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+    if(cache == null || cache.gatt != gatt) {
+      return;
+    }
+    cache.lastActivity = SystemClock.elapsedRealtime();
+    GattOperation finished;
+    synchronized (cache.operations) {
+      finished = cache.inFlight;
+      if(finished == null || finished.awaits != callback) {
+        return;
       }
-      if(secondaryService == null) {
-        throw new Exception("secondary service (" + secondaryServiceId + ") could not be located on the device");
+      cache.inFlight = null;
+    }
+    callbackHandler.removeCallbacks(finished.timeout);
+    advanceQueue(cache);
+  }
+
+  // The awaited event did not come: fail the request and let the next one run
+  private void timeOutOperation(BluetoothDeviceCache cache, GattOperation operation) {
+    synchronized (cache.operations) {
+      if(cache.inFlight != operation) {
+        return;
       }
+      cache.inFlight = null;
     }
-    BluetoothGattService service = (secondaryService != null) ? secondaryService : primaryService;
-    BluetoothGattCharacteristic characteristic = service.getCharacteristic(UUID.fromString(characteristicId));
-    if(characteristic == null) {
-      throw new Exception("characteristic (" + characteristicId + ") could not be located in the service ("+service.getUuid().toString()+")");
+    log(LogLevel.WARNING, "[" + operation.errorCode + "] no " + operation.awaits + " callback within " + GattOperation.TIMEOUT_MILLIS + " ms");
+    if(operation.failure != null) {
+      operation.failure.failed("timed out");
     }
-    return characteristic;
+    advanceQueue(cache);
   }
 
-  private BluetoothGattDescriptor locateDescriptor(BluetoothGattCharacteristic characteristic, String descriptorId) throws Exception {
-    BluetoothGattDescriptor descriptor = characteristic.getDescriptor(UUID.fromString(descriptorId));
-    if(descriptor == null) {
-      throw new Exception("descriptor (" + descriptorId + ") could not be located in the characteristic ("+characteristic.getUuid().toString()+")");
+  // Requests made of several GATT round trips call this on every step, the timeout applies to each one
+  private void extendOperation(BluetoothDeviceCache cache) {
+    GattOperation operation;
+    synchronized (cache.operations) {
+      operation = cache.inFlight;
+    }
+    if(operation != null) {
+      callbackHandler.removeCallbacks(operation.timeout);
+      callbackHandler.postDelayed(operation.timeout, GattOperation.TIMEOUT_MILLIS);
     }
-    return descriptor;
   }
 
-  private final StreamHandler stateHandler = new StreamHandler() {
-    private EventSink sink;
-
-    private final BroadcastReceiver mReceiver = new BroadcastReceiver() {
-      @Override
-      public void onReceive(Context context, Intent intent) {
-        final String action = intent.getAction();
+  private void advanceQueue(BluetoothDeviceCache cache) {
+    startNextOperation(cache);
+    boolean waiting;
+    synchronized (connectionManager) {
+      waiting = connectionManager.hasPending();
+    }
+    if(waiting && cache.isIdle()) {
+      // The connection may now be closed to make room
+      startPendingConnects();
+    }
+  }
+
+  private void startNextOperation(BluetoothDeviceCache cache) {
+    while(true) {
+      GattOperation operation;
+      synchronized (cache.operations) {
+        if(cache.inFlight != null || cache.operations.isEmpty()) {
+          return;
+        }
+        operation = cache.operations.poll();
+        cache.inFlight = operation;
+      }
+
+      String error;
+      try {
+        error = operation.request.start(cache.gatt);
+      } catch(Exception e) {
+        error = e.getMessage();
+      }
+
+      if(error == null) {
+        // Started, the awaited callback will call completeOperation
+        callbackHandler.postDelayed(operation.timeout, GattOperation.TIMEOUT_MILLIS);
+        replyUIThread(operation.result, null, null);
+        if(operation.request instanceof StartedGattRequest) {
+          ((StartedGattRequest) operation.request).started(cache.gatt);
+        }
+        return;
+      }
+
+      replyUIThread(operation.result, operation.errorCode, error);
+      synchronized (cache.operations) {
+        cache.inFlight = null;
+      }
+    }
+  }
+
+  // Queues the next write of the transaction on the device. Returns null on success, otherwise the error.
+  private String writeNextReliably(BluetoothDeviceCache cache, ReliableWrite transaction) {
+    Protos.WriteCharacteristicRequest w = transaction.request.getWrites(transaction.index);
+    BluetoothGattCharacteristic characteristic = transaction.characteristics.get(transaction.index);
+    return writeCharacteristic(cache.gatt, characteristic, w.getValue().toByteArray(), BluetoothGattCharacteristic.WRITE_TYPE_DEFAULT);
+  }
+
+  // Returns null once the write was handed to the stack, otherwise the error. Android 13 takes the value
+  // and write type with the call, older versions only through the shared characteristic object.
+  @SuppressWarnings("deprecation")
+  private static String writeCharacteristic(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value, int writeType) {
+    if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
+      int status = gatt.writeCharacteristic(characteristic, value, writeType);
+      return status == BluetoothStatusCodes.SUCCESS ? null : "writeCharacteristic failed with status " + status;
+    }
+    characteristic.setWriteType(writeType);
+    if(!characteristic.setValue(value)) {
+      return "could not set the local value of characteristic";
+    }
+    if(!gatt.writeCharacteristic(characteristic)) {
+      return "writeCharacteristic failed";
+    }
+    return null;
+  }
+
+  // Same for descriptors
+  @SuppressWarnings("deprecation")
+  private static String writeDescriptor(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, byte[] value) {
+    if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
+      int status = gatt.writeDescriptor(descriptor, value);
+      return status == BluetoothStatusCodes.SUCCESS ? null : "writeDescriptor failed with status " + status;
+    }
+    if(!descriptor.setValue(value)) {
+      return "could not set the local value for descriptor";
+    }
+    if(!gatt.writeDescriptor(descriptor)) {
+      return "writeDescriptor failed";
+    }
+    return null;
+  }
+
+  // The device queued the current write and echoed it. Android leaves checking the echo to the app: on any
+  // difference the transaction is aborted before the next write, and in any case before it is executed.
+  private void onReliableWriteQueued(BluetoothDeviceCache cache, ReliableWrite transaction, int status, byte[] echo) {
+    String error = null;
+    extendOperation(cache);
+    Protos.WriteCharacteristicRequest w = transaction.request.getWrites(transaction.index);
+    if(status != BluetoothGatt.GATT_SUCCESS) {
+      error = "write failed with status " + status;
+    } else if(echo != null && !Arrays.equals(echo, w.getValue().toByteArray())) {
+      error = "the device echoed a different value for " + w.getCharacteristicUuid();
+    } else if(++transaction.index < transaction.characteristics.size()) {
+      error = writeNextReliably(cache, transaction);
+    } else if(!cache.gatt.executeReliableWrite()) {
+      error = "executeReliableWrite failed";
+    }
+    // On success the next write or onReliableWriteCompleted follows
+    if(error != null) {
+      cache.gatt.abortReliableWrite();
+      finishReliableWrite(cache, transaction, error);
+    }
+  }
+
+  // Reports the outcome of the transaction (error is null on success) and lets the next queued request run
+  private void finishReliableWrite(BluetoothDeviceCache cache, ReliableWrite transaction, String error) {
+    if(cache.reliableWrite != transaction) {
+      return;
+    }
+    cache.reliableWrite = null;
+    Protos.ReliableWriteResponse.Builder p = Protos.ReliableWriteResponse.newBuilder();
+    p.setRemoteId(transaction.request.getRemoteId());
+    p.setSuccess(error == null);
+    if(error != null) {
+      p.setErrorMessage(error);
+    }
+    invokeMethodUIThread("ReliableWriteResponse", p.build().toByteArray());
+    completeOperation(cache.gatt, GattCallback.RELIABLE_WRITE_COMPLETED);
+  }
+
+  private void onLongReadChunk(BluetoothDeviceCache cache, LongRead read, int status, byte[] value) {
+    if(status != BluetoothGatt.GATT_SUCCESS) {
+      finishLongRead(cache, read, "read failed with status " + status);
+      return;
+    }
+    int length = value != null ? Math.min(value.length, read.maxLength - read.value.size()) : 0;
+    if(length > 0) {
+      read.value.write(value, 0, length);
+    }
+    // Without a chunk length the first read returned the whole value
+    boolean last = read.chunkLength <= 0 || length < read.chunkLength || read.value.size() >= read.maxLength;
+    if(last) {
+      finishLongRead(cache, read, null);
+      return;
+    }
+    extendOperation(cache);
+    if(!cache.gatt.readCharacteristic(read.characteristic)) {
+      finishLongRead(cache, read, "unknown reason, readCharacteristic returned false");
+    }
+  }
+
+  // Sends the assembled value (error is null on success) and lets the next queued request run
+  private void finishLongRead(BluetoothDeviceCache cache, LongRead read, String error) {
+    if(cache.longRead != read) {
+      return;
+    }
+    cache.longRead = null;
+    Protos.ReadLongCharacteristicResponse.Builder p = Protos.ReadLongCharacteristicResponse.newBuilder();
+    p.setRemoteId(read.request.getRemoteId());
+    p.setCharacteristicUuid(read.request.getCharacteristicUuid());
+    p.setServiceUuid(read.request.getServiceUuid());
+    p.setSuccess(error == null);
+    if(error == null) {
+      p.setValue(ByteString.copyFrom(read.value.toByteArray()));
+    } else {
+      p.setErrorMessage(error);
+    }
+    invokeMethodUIThread("ReadLongCharacteristicResponse", p.build().toByteArray());
+    completeOperation(cache.gatt, GattCallback.CHARACTERISTIC_READ);
+  }
+
+  // Hands the next chunk of the stream to the stack. Returns null once it was handed over or a retry
+  // is scheduled, otherwise why the stream has to stop.
+  @SuppressWarnings("deprecation") // Only before Android 13
+  private String writeNextChunk(BluetoothDeviceCache cache, WriteStream stream) {
+    int length = Math.min(stream.chunkSize, stream.data.length - stream.offset);
+    byte[] chunk = Arrays.copyOfRange(stream.data, stream.offset, stream.offset + length);
+    boolean busy;
+    if(Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
+      int status = cache.gatt.writeCharacteristic(stream.characteristic, chunk, BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE);
+      if(status != BluetoothStatusCodes.SUCCESS && status != BluetoothStatusCodes.ERROR_GATT_WRITE_REQUEST_BUSY) {
+        return "writeCharacteristic failed with status " + status;
+      }
+      busy = status == BluetoothStatusCodes.ERROR_GATT_WRITE_REQUEST_BUSY;
+    } else {
+      stream.characteristic.setWriteType(BluetoothGattCharacteristic.WRITE_TYPE_NO_RESPONSE);
+      if(!stream.characteristic.setValue(chunk)) {
+        return "could not set the local value of characteristic";
+      }
+      // Older versions only say false, which mostly means the stack is still busy with the previous chunk
+      busy = !cache.gatt.writeCharacteristic(stream.characteristic);
+    }
+    if(!busy) {
+      stream.pendingChunk = length;
+      stream.retries = 0;
+      return null;
+    }
+    if(++stream.retries > WriteStream.MAX_RETRIES) {
+      return "writeCharacteristic failed";
+    }
+    callbackHandler.postDelayed(() -> {
+      // The stream may have been aborted in the meantime
+      if(cache.writeStream == stream) {
+        String error = writeNextChunk(cache, stream);
+        if(error != null) {
+          finishWriteStream(cache, stream, error);
+        }
+      }
+    }, WriteStream.RETRY_DELAY_MILLIS);
+    return null;
+  }
+
+  private void onWriteStreamChunk(BluetoothDeviceCache cache, WriteStream stream, int status) {
+    if(status != BluetoothGatt.GATT_SUCCESS) {
+      finishWriteStream(cache, stream, "write failed with status " + status);
+      return;
+    }
+    stream.offset += stream.pendingChunk;
+    if(stream.offset >= stream.data.length) {
+      finishWriteStream(cache, stream, null);
+      return;
+    }
+    extendOperation(cache);
+    long now = SystemClock.uptimeMillis();
+    if(now - stream.lastProgressUptime >= WriteStream.PROGRESS_INTERVAL_MILLIS) {
+      stream.lastProgressUptime = now;
+      sendWriteStreamProgress(stream, false, null);
+    }
+    String error = writeNextChunk(cache, stream);
+    if(error != null) {
+      finishWriteStream(cache, stream, error);
+    }
+  }
+
+  // Reports the outcome (error is null on success) and lets the next queued request run
+  private void finishWriteStream(BluetoothDeviceCache cache, WriteStream stream, String error) {
+    if(cache.writeStream != stream) {
+      return;
+    }
+    cache.writeStream = null;
+    sendWriteStreamProgress(stream, true, error);
+    completeOperation(cache.gatt, GattCallback.CHARACTERISTIC_WRITE);
+  }
+
+  private void sendWriteStreamProgress(WriteStream stream, boolean done, String error) {
+    Protos.WriteStreamProgress.Builder p = Protos.WriteStreamProgress.newBuilder();
+    p.setRemoteId(stream.request.getRemoteId());
+    p.setCharacteristicUuid(stream.request.getCharacteristicUuid());
+    p.setServiceUuid(stream.request.getServiceUuid());
+    p.setBytesWritten(stream.offset);
+    p.setTotalBytes(stream.data.length);
+    p.setDone(done);
+    p.setSuccess(done && error == null);
+    if(error != null) {
+      p.setErrorMessage(error);
+    }
+    invokeMethodUIThread("WriteStreamProgress", p.build().toByteArray());
+  }
+
+  // Reconnects a known BluetoothGatt, or queues a new connection until the connection limit allows it.
+  // Returns false when reconnecting failed.
+  private boolean requestConnection(BluetoothDeviceCache cache, Protos.ConnectRequest options) {
+    if(cache != null) {
+      // Connected to previously but now disconnected
+      cache.targetMtu = options.getAndroidMtu();
+      cache.fastReconnect = options.getAndroidFastReconnect();
+      cache.link = LinkState.CONNECTING;
+      if(!cache.gatt.connect()) {
+        cache.link = LinkState.DROPPED;
+        return false;
+      }
+      return true;
+    }
+    synchronized (connectionManager) {
+      connectionManager.enqueue(options);
+    }
+    startPendingConnects();
+    return true;
+  }
+
+  private void enqueueDiscovery(BluetoothDeviceCache cache, Result result) {
+    enqueueOperation(cache, result, "discover_services_error", GattCallback.SERVICES_DISCOVERED,
+            discoverServicesRequest(cache), error -> sendDiscoverServicesFailure(cache.gatt, error));
+  }
+
+  private GattRequest discoverServicesRequest(BluetoothDeviceCache cache) {
+    return new StartedGattRequest() {
+      private boolean fromCache;
+
+      @Override
+      public String start(BluetoothGatt gatt) {
+        // When the layout of the previous link still holds, answer from it without a GATT round trip
+        fromCache = cache.servicesValid;
+        if(!fromCache && !gatt.discoverServices()) {
+          return "unknown reason";
+        }
+        return null;
+      }
+
+      @Override
+      public void started(BluetoothGatt gatt) {
+        if(fromCache) {
+          // After the reply, Dart only waits for the result once discoverServices has returned
+          invokeMethodUIThread("DiscoverServicesResult", cache.encodeServices());
+          callbackHandler.post(() -> completeOperation(gatt, GattCallback.SERVICES_DISCOVERED));
+        }
+      }
+    };
+  }
+
+  // Sets up notifications of the characteristic locally. Returns the CCCD write to queue, or null when
+  // the characteristic has no CCCD and nothing has to go over the air. Throws when the request cannot be served.
+  private CccdWrite prepareNotification(BluetoothDeviceCache cache, Protos.SetNotificationRequest request) throws Exception {
+    BluetoothGattCharacteristic characteristic = locateCharacteristic(cache, request.getServiceUuid(), request.getSecondaryServiceUuid(), request.getCharacteristicUuid());
+    BluetoothGattDescriptor cccDescriptor = characteristic.getDescriptor(CCCD_ID);
+    if(cccDescriptor == null) {
+      //Some devices - including the widely used Bluno do not actually set the CCCD_ID.
+      //thus setNotifications works perfectly (tested on Bluno) without cccDescriptor
+      log(LogLevel.INFO, "could not locate CCCD descriptor for characteristic: " + characteristic.getUuid().toString());
+    }
+
+    byte[] value;
+
+    if(request.getEnable()) {
+      boolean canNotify = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_NOTIFY) > 0;
+      boolean canIndicate = (characteristic.getProperties() & BluetoothGattCharacteristic.PROPERTY_INDICATE) > 0;
+      if(!canIndicate && !canNotify) {
+        throw new Exception("the characteristic cannot notify or indicate");
+      }
+      // Prefer notifications when the characteristic supports both
+      value = canNotify ? BluetoothGattDescriptor.ENABLE_NOTIFICATION_VALUE : BluetoothGattDescriptor.ENABLE_INDICATION_VALUE;
+    } else {
+      value = BluetoothGattDescriptor.DISABLE_NOTIFICATION_VALUE;
+    }
+
+    if(cccDescriptor == null) {
+      if(!cache.gatt.setCharacteristicNotification(characteristic, request.getEnable())){
+        throw new Exception("could not set characteristic notifications to :" + request.getEnable());
+      }
+      applyBatching(cache, characteristic, request);
+      return null;
+    }
+
+    // Batching changes once the device confirms the CCCD write, so a failed write leaves it as it was
+    return new CccdWrite(cache, cccDescriptor, request, value);
+  }
+
+  // Starts or stops batching notifications of the characteristic as the request asks
+  private void applyBatching(BluetoothDeviceCache cache, BluetoothGattCharacteristic characteristic, Protos.SetNotificationRequest request) {
+    int handle = characteristic.getInstanceId();
+    if(request.getEnable() && isBatchingNotifications(request)) {
+      cache.notificationBatcher.setMaxBatchesPerSecond(request.getAndroidMaxBatchesPerSecond());
+      cache.notificationBatcher.enable(handle, request.getAndroidBatchWindowMillis(),
+              request.getAndroidBatchCount(), request.getAndroidBatchBytes());
+    } else {
+      cache.notificationBatcher.disable(handle);
+    }
+  }
+
+  private BluetoothDeviceCache newDeviceCache(BluetoothGatt gatt) {
+    NotificationBatcher batcher = new NotificationBatcher(gatt.getDevice().getAddress(), callbackHandler,
+            batch -> invokeMethodUIThread("NotificationBatch", batch));
+    return new BluetoothDeviceCache(gatt, batcher);
+  }
+
+  // Starts bringing up devices of the batch while fewer than its limit are in progress
+  private void startBringUps(ConnectAll batch) {
+    while(true) {
+      Protos.ConnectRequest options;
+      synchronized (batch) {
+        if(batch.waiting.isEmpty() || (batch.maxConcurrent > 0 && batch.running >= batch.maxConcurrent)) {
+          return;
+        }
+        options = batch.waiting.poll();
+        batch.running++;
+      }
+      beginBringUp(batch, options);
+    }
+  }
+
+  private void beginBringUp(ConnectAll batch, Protos.ConnectRequest options) {
+    String deviceId = options.getRemoteId();
+    BringUp bringUp = new BringUp(batch, deviceId);
+    if(bringUps.putIfAbsent(deviceId, bringUp) != null) {
+      sendDeviceReady(deviceId, "the device is already being brought up", null);
+      onBringUpDone(batch);
+      return;
+    }
+    if(batch.timeoutMillis > 0) {
+      bringUp.timeout = () -> {
+        if(finishBringUp(bringUp, "timed out")) {
+          // Free the connection slot of a device that never got ready
+          disconnectDevice(deviceId);
+        }
+      };
+      callbackHandler.postDelayed(bringUp.timeout, batch.timeoutMillis);
+    }
+    BluetoothDeviceCache cache = mDevices.get(deviceId);
+    if(cache != null && cache.link == LinkState.CONNECTED) {
+      queueBringUpSteps(cache, bringUp);
+    } else if(!requestConnection(cache, options)) {
+      finishBringUp(bringUp, "error when reconnecting to device");
+    }
+  }
+
+  // Called once the device is connected: discovery, the notification plan, then the DeviceReady report
+  private void queueBringUpSteps(BluetoothDeviceCache cache, BringUp bringUp) {
+    enqueueDiscovery(cache, null);
+    for(Protos.SetNotificationRequest notification : bringUp.batch.notifications) {
+      enqueueOperation(cache, null, "set_notification_error", GattCallback.DESCRIPTOR_WRITE, gatt -> {
+        if(bringUp.error != null) {
+          return bringUp.error;
+        }
+        String error;
+        try {
+          CccdWrite cccdWrite = prepareNotification(cache, notification);
+          if(cccdWrite == null) {
+            callbackHandler.post(() -> completeOperation(gatt, GattCallback.DESCRIPTOR_WRITE));
+            return null;
+          }
+          error = cccdWrite.start(gatt);
+        } catch(Exception e) {
+          error = e.getMessage();
+        }
+        if(error != null) {
+          bringUp.error = error;
+        }
+        return error;
+      }, error -> {
+        if(bringUp.error == null) {
+          bringUp.error = "enabling notifications " + error;
+        }
+      });
+    }
+    enqueueOperation(cache, null, "connect_all_error", GattCallback.NONE, gatt -> {
+      finishBringUp(bringUp, bringUp.error);
+      callbackHandler.post(() -> completeOperation(gatt, GattCallback.NONE));
+      return null;
+    }, null);
+  }
+
+  // Reports the outcome once, returns false when the device was already reported
+  private boolean finishBringUp(BringUp bringUp, String error) {
+    if(!bringUps.remove(bringUp.remoteId, bringUp)) {
+      return false;
+    }
+    if(bringUp.timeout != null) {
+      callbackHandler.removeCallbacks(bringUp.timeout);
+    }
+    sendDeviceReady(bringUp.remoteId, error, error == null ? mDevices.get(bringUp.remoteId) : null);
+    onBringUpDone(bringUp.batch);
+    return true;
+  }
+
+  private void onBringUpDone(ConnectAll batch) {
+    synchronized (batch) {
+      batch.running--;
+    }
+    startBringUps(batch);
+  }
+
+  private void sendDeviceReady(String remoteId, String error, BluetoothDeviceCache cache) {
+    Protos.DeviceReady.Builder p = Protos.DeviceReady.newBuilder();
+    p.setRemoteId(remoteId);
+    p.setSuccess(error == null);
+    if(error != null) {
+      p.setErrorMessage(error);
+    }
+    byte[] ready = p.build().toByteArray();
+    if(cache != null) {
+      // Append the encoded services as field 4, an embedded message is encoded the same way as a bytes field
+      byte[] services = cache.encodeServices();
+      byte[] bytes = new byte[ready.length + CodedOutputStream.computeByteArraySize(4, services)];
+      System.arraycopy(ready, 0, bytes, 0, ready.length);
+      CodedOutputStream output = CodedOutputStream.newInstance(bytes, ready.length, bytes.length - ready.length);
+      try {
+        output.writeByteArray(4, services);
+        output.checkNoSpaceLeft();
+      } catch (IOException e) {
+        throw new RuntimeException("Serializing to a byte array threw an IOException (should never happen).", e);
+      }
+      ready = bytes;
+    }
+    invokeMethodUIThread("DeviceReady", ready);
+  }
+
+  private void disconnectDevice(String deviceId) {
+    synchronized (connectionManager) {
+      connectionManager.cancel(deviceId);
+      BluetoothDeviceCache cache = mDevices.remove(deviceId);
+      if(cache != null) {
+        closeConnection(cache);
+      }
+    }
+    startPendingConnects();
+  }
+
+  // Connects waiting requests while the connection limit allows, evicting idle connections to make room
+  private void startPendingConnects() {
+    synchronized (connectionManager) {
+      while(connectionManager.hasPending()) {
+        if(connectionManager.hasRoom(mDevices.size())) {
+          openConnection(connectionManager.pollPending());
+          continue;
+        }
+        if(!connectionManager.needsEviction()) {
+          // Enough connections are closing already, their callbacks start the next requests
+          return;
+        }
+        long now = SystemClock.elapsedRealtime();
+        BluetoothDeviceCache victim = connectionManager.selectEviction(mDevices.values(), now);
+        if(victim == null) {
+          long delay = connectionManager.millisUntilEvictable(mDevices.values(), now);
+          if(delay >= 0 && callbackHandler != null) {
+            callbackHandler.removeCallbacks(pendingConnectsTask);
+            callbackHandler.postDelayed(pendingConnectsTask, Math.max(1, delay));
+          }
+          return;
+        }
+        String remoteId = victim.gatt.getDevice().getAddress();
+        log(LogLevel.INFO, "[connect] connection limit reached, closing idle connection to " + remoteId);
+        mDevices.remove(remoteId);
+        closeConnection(victim);
+      }
+    }
+  }
+
+  // Called with connectionManager locked
+  private void openConnection(Protos.ConnectRequest options) {
+    String deviceId = options.getRemoteId();
+    BluetoothDevice device = mBluetoothAdapter.getRemoteDevice(deviceId);
+    BluetoothGatt gattServer;
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.TIRAMISU) {
+      // Callbacks, and the encoding they do, run on the callback thread instead of a binder thread
+      gattServer = device.connectGatt(context, options.getAndroidAutoConnect(), mGattCallback,
+              BluetoothDevice.TRANSPORT_LE, BluetoothDevice.PHY_LE_1M_MASK, callbackHandler);
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+      // No handler: values have to be copied on the binder thread, see binderGattCallback
+      gattServer = device.connectGatt(context, options.getAndroidAutoConnect(), binderGattCallback,
+              BluetoothDevice.TRANSPORT_LE, BluetoothDevice.PHY_LE_1M_MASK);
+    } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.M) {
+      gattServer = device.connectGatt(context, options.getAndroidAutoConnect(), binderGattCallback, BluetoothDevice.TRANSPORT_LE);
+    } else {
+      gattServer = device.connectGatt(context, options.getAndroidAutoConnect(), binderGattCallback);
+    }
+    if(gattServer == null) {
+      log(LogLevel.ERROR, "[connect] connectGatt returned null for " + deviceId);
+      return;
+    }
+    BluetoothDeviceCache cache = newDeviceCache(gattServer);
+    cache.targetMtu = options.getAndroidMtu();
+    cache.fastReconnect = options.getAndroidFastReconnect();
+    mDevices.put(deviceId, cache);
+  }
+
+  // Disconnects a connection already removed from mDevices. Its slot stays taken until the
+  // BluetoothGatt is closed, right away if the link is down, otherwise once the callback confirms it.
+  // Called with connectionManager locked.
+  private void closeConnection(BluetoothDeviceCache cache) {
+    abortOperations(cache);
+    cache.notificationBatcher.flush();
+    BluetoothGatt gattServer = cache.gatt;
+    gattServer.disconnect();
+    int state = mBluetoothManager.getConnectionState(gattServer.getDevice(), BluetoothProfile.GATT);
+    if(state == BluetoothProfile.STATE_DISCONNECTED) {
+      gattServer.close();
+    } else {
+      connectionManager.closing(gattServer);
+    }
+  }
+
+  // Starts the MTU exchange asked for in ConnectRequest. A device that agreed to an MTU before is
+  // asked for that value again, so it does not have to negotiate down from the target every time.
+  private void negotiateMtu(BluetoothDeviceCache cache) {
+    if(cache.targetMtu <= 0 || Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      return;
+    }
+    Integer known = negotiatedMtus.get(cache.gatt.getDevice().getAddress());
+    int mtu = known != null ? Math.min(known, cache.targetMtu) : cache.targetMtu;
+    enqueueOperation(cache, null, "requestMtu", GattCallback.MTU_CHANGED, gatt -> {
+      if(!gatt.requestMtu(mtu)) {
+        return "gatt.requestMtu returned false";
+      }
+      return null;
+    }, null);
+  }
+
+  // With fast reconnect, checks whether the layout discovered on an earlier link still holds. Devices
+  // with a Database Hash characteristic are asked for it, bonded devices without one are trusted
+  // because they indicate Service Changed. Dart is sent the layout as soon as it is known to hold.
+  private void restoreServices(BluetoothDeviceCache cache) {
+    cache.servicesValid = false;
+    if(!cache.fastReconnect || cache.gatt.getServices().isEmpty()) {
+      return;
+    }
+    BluetoothGattCharacteristic hash = findDatabaseHash(cache.gatt);
+    if(hash == null) {
+      if(cache.gatt.getDevice().getBondState() == BluetoothDevice.BOND_BONDED) {
+        onServicesRestored(cache);
+      }
+      return;
+    }
+    if(cache.databaseHash == null) {
+      // Nothing to compare with, discovery has to run
+      return;
+    }
+    readDatabaseHash(cache, hash, true);
+  }
+
+  // Queues a read of the Database Hash, which either checks the cached layout or records the hash of a new one
+  private void readDatabaseHash(BluetoothDeviceCache cache, BluetoothGattCharacteristic hash, boolean verify) {
+    enqueueOperation(cache, null, "database_hash_error", GattCallback.CHARACTERISTIC_READ, gatt -> {
+      cache.verifyingHash = verify;
+      cache.hashRead = hash;
+      if(!gatt.readCharacteristic(hash)) {
+        cache.hashRead = null;
+        return "readCharacteristic failed";
+      }
+      return null;
+    }, error -> {
+      if(cache.hashRead == hash) {
+        onDatabaseHashRead(cache, BluetoothGatt.GATT_FAILURE, null);
+      }
+    });
+  }
+
+  private void onDatabaseHashRead(BluetoothDeviceCache cache, int status, byte[] value) {
+    cache.hashRead = null;
+    byte[] hash = status == BluetoothGatt.GATT_SUCCESS ? value : null;
+    if(!cache.verifyingHash) {
+      cache.databaseHash = hash;
+    } else if(hash != null && Arrays.equals(hash, cache.databaseHash)) {
+      onServicesRestored(cache);
+    } else {
+      // The layout changed, or could not be checked: the next discoverServices runs a full discovery
+      cache.databaseHash = null;
+      cache.invalidateServices();
+    }
+    completeOperation(cache.gatt, GattCallback.CHARACTERISTIC_READ);
+  }
+
+  private void onServicesRestored(BluetoothDeviceCache cache) {
+    log(LogLevel.DEBUG, "[restoreServices] reusing the layout of " + cache.gatt.getDevice().getAddress());
+    cache.servicesValid = true;
+    invokeMethodUIThread("ServicesRestored", cache.encodeServices());
+  }
+
+  private static BluetoothGattCharacteristic findDatabaseHash(BluetoothGatt gatt) {
+    BluetoothGattService service = gatt.getService(GENERIC_ATTRIBUTE_ID);
+    return service != null ? service.getCharacteristic(DATABASE_HASH_ID) : null;
+  }
+
+  // Fails the request in flight, a stream or long read included, and every queued request once the link is gone
+  private void abortOperations(BluetoothDeviceCache cache) {
+    GattOperation inFlight;
+    List<GattOperation> cancelled;
+    synchronized (cache.operations) {
+      inFlight = cache.inFlight;
+      cache.inFlight = null;
+      cancelled = new ArrayList<>(cache.operations);
+      cache.operations.clear();
+    }
+    if(inFlight != null) {
+      callbackHandler.removeCallbacks(inFlight.timeout);
+      if(inFlight.failure != null) {
+        inFlight.failure.failed("device disconnected");
+      }
+    }
+    for(GattOperation operation : cancelled) {
+      replyUIThread(operation.result, operation.errorCode, "device disconnected before the request could be sent");
+    }
+  }
+
+  private BluetoothGattCharacteristic locateCharacteristic(BluetoothDeviceCache cache, String serviceId, String secondaryServiceId, String characteristicId) throws Exception {
+    BluetoothGattCharacteristic indexed = cache.index().characteristic(serviceId, secondaryServiceId, characteristicId);
+    if(indexed != null) {
+      return indexed;
+    }
+    // Not discovered, or the UUIDs are not in canonical form: search, and explain what is missing
+    BluetoothGatt gattServer = cache.gatt;
+    BluetoothGattService primaryService = gattServer.getService(UUID.fromString(serviceId));
+    if(primaryService == null) {
+      throw new Exception("service (" + serviceId + ") could not be located on the device");
+    }
+    BluetoothGattService secondaryService = null;
+    if(secondaryServiceId.length() > 0) {
+      for(BluetoothGattService s : primaryService.getIncludedServices()){
+        if(s.getUuid().equals(UUID.fromString(secondaryServiceId))){
+          secondaryService = s;
+        }
+      }
+      if(secondaryService == null) {
+        throw new Exception("secondary service (" + secondaryServiceId + ") could not be located on the device");
+      }
+    }
+    BluetoothGattService service = (secondaryService != null) ? secondaryService : primaryService;
+    BluetoothGattCharacteristic characteristic = service.getCharacteristic(UUID.fromString(characteristicId));
+    if(characteristic == null) {
+      throw new Exception("characteristic (" + characteristicId + ") could not be located in the service ("+service.getUuid().toString()+")");
+    }
+    return characteristic;
+  }
+
+  // Index of the connection, or a throwaway one for a BluetoothGatt the plugin no longer tracks
+  private GattIndex indexOf(BluetoothGatt gatt) {
+    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+    return cache != null && cache.gatt == gatt ? cache.index() : new GattIndex(gatt.getServices());
+  }
+
+  private BluetoothGattDescriptor locateDescriptor(BluetoothGattCharacteristic characteristic, String descriptorId) throws Exception {
+    BluetoothGattDescriptor descriptor = characteristic.getDescriptor(UUID.fromString(descriptorId));
+    if(descriptor == null) {
+      throw new Exception("descriptor (" + descriptorId + ") could not be located in the characteristic ("+characteristic.getUuid().toString()+")");
+    }
+    return descriptor;
+  }
+
+  private final StreamHandler stateHandler = new StreamHandler() {
+    private EventSink sink;
+
+    private final BroadcastReceiver mReceiver = new BroadcastReceiver() {
+      @Override
+      public void onReceive(Context context, Intent intent) {
+        final String action = intent.getAction();
 
         if (BluetoothAdapter.ACTION_STATE_CHANGED.equals(action)) {
           final int state = intent.getIntExtra(BluetoothAdapter.EXTRA_STATE,
@@ -793,17 +1818,58 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
     }
   };
 
+  // Settings of the running scan. startScan fills one in completely before publishing it, so the
+  // callback thread never sees a mix of an old and a new scan.
+  private static class ScanConfig {
+    static final ScanConfig NONE = new ScanConfig(Protos.ScanSettings.getDefaultInstance());
+    // Longest a result waits when batching by count only, so a batch that never fills is still sent
+    static final int DEFAULT_BATCH_LATENCY_MILLIS = 1000;
+
+    final boolean allowDuplicates;
+    final int duplicateTimeoutMillis;
+    final boolean rawAdvertisements;
+    // Results weaker than this are dropped before any proto is built
+    final int minRssi;
+    final List<String> namePrefixes;
+    final int batchSize;
+    // May still be set by startScan21, before the config is published
+    int batchWindowMillis;
+    // Filters the controller cannot apply together with name prefixes, null when it applies all of them
+    List<ScanFilter> softwareFilters;
+
+    ScanConfig(Protos.ScanSettings settings) {
+      allowDuplicates = settings.getAllowDuplicates();
+      duplicateTimeoutMillis = settings.getAndroidDuplicateTimeoutMillis();
+      rawAdvertisements = settings.getAndroidRawAdvertisements();
+      minRssi = settings.hasAndroidMinRssi() ? settings.getAndroidMinRssi().getValue() : Integer.MIN_VALUE;
+      namePrefixes = settings.getAndroidNamePrefixesList();
+      batchSize = settings.getAndroidBatchSize();
+      batchWindowMillis = settings.getAndroidBatchWindowMillis();
+    }
+
+    boolean isBatching() {
+      return batchWindowMillis > 0 || batchSize > 1;
+    }
+
+    // How long the first result of a batch may wait before the batch is sent
+    int batchLatencyMillis() {
+      return batchWindowMillis > 0 ? batchWindowMillis : DEFAULT_BATCH_LATENCY_MILLIS;
+    }
+  }
+
   private void startScan(MethodCall call, Result result) {
     byte[] data = call.arguments();
     Protos.ScanSettings settings;
     try {
       settings = Protos.ScanSettings.newBuilder().mergeFrom(data).build();
-      allowDuplicates = settings.getAllowDuplicates();
-      macDeviceScanned.clear();
+      ScanConfig config = new ScanConfig(settings);
+      // Results are checked against it on the callback thread
+      callbackHandler.post(macDeviceScanned::clear);
+      clearScanResults();
       if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-        startScan21(settings);
+        startScan21(settings, config);
       } else {
-        startScan18(settings);
+        startScan18(settings, config);
       }
       result.success(null);
     } catch (Exception e) {
@@ -811,11 +1877,103 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
     }
   }
 
-  private void stopScan() {
-    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
-      stopScan21();
-    } else {
-      stopScan18();
+  private void stopScan() {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      stopScan21();
+    } else {
+      stopScan18();
+    }
+    // Send what is still batched, ahead of the reply to stopScan
+    flushScanResults();
+  }
+
+  private boolean isDuplicate(ScanConfig config, BluetoothDevice device) {
+    if (config.allowDuplicates || device == null || device.getAddress() == null) {
+      return false;
+    }
+    return !macDeviceScanned.report(device.getAddress(), SystemClock.elapsedRealtime(), config.duplicateTimeoutMillis);
+  }
+
+  @TargetApi(21)
+  private Protos.BluetoothDevice deviceProto(ScanResult result) {
+    ScanRecord scanRecord = result.getScanRecord();
+    return deviceProtos.get(result.getDevice(), scanRecord != null ? scanRecord.getDeviceName() : null);
+  }
+
+  @TargetApi(21)
+  private boolean passesScanFilters(ScanConfig config, ScanResult result) {
+    if (result.getRssi() < config.minRssi) {
+      return false;
+    }
+    if (config.softwareFilters == null) {
+      return true;
+    }
+    for (ScanFilter filter : config.softwareFilters) {
+      if (filter.matches(result)) {
+        return true;
+      }
+    }
+    ScanRecord scanRecord = result.getScanRecord();
+    String name = scanRecord != null ? scanRecord.getDeviceName() : null;
+    if (name != null) {
+      for (String prefix : config.namePrefixes) {
+        if (name.startsWith(prefix)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // Takes the encoded ScanResult or RawScanResult, as the config says
+  private void sendScanResult(ScanConfig config, ProtoEncoder scanResult) {
+    if (!config.isBatching()) {
+      invokeMethodUIThread(config.rawAdvertisements ? "RawScanResult" : "ScanResult", scanResult.toByteArray());
+      return;
+    }
+    boolean full;
+    synchronized (scanResultBatch) {
+      if (config.rawAdvertisements) {
+        scanResultBatch.addRawResult(scanResult);
+      } else {
+        scanResultBatch.addResult(scanResult);
+      }
+      full = onScanResultBatched(config);
+    }
+    if (full) {
+      flushScanResults();
+    }
+  }
+
+  // Called with the batch locked after adding a result, returns true when the batch should be sent now
+  private boolean onScanResultBatched(ScanConfig config) {
+    int size = scanResultBatch.size();
+    if (config.batchSize > 0 && size >= config.batchSize) {
+      return true;
+    }
+    if (size == 1) {
+      callbackHandler.postDelayed(flushScanResultBatch, config.batchLatencyMillis());
+    }
+    return false;
+  }
+
+  private void flushScanResults() {
+    byte[] p;
+    synchronized (scanResultBatch) {
+      callbackHandler.removeCallbacks(flushScanResultBatch);
+      if (scanResultBatch.size() == 0) {
+        return;
+      }
+      p = scanResultBatch.toByteArray();
+      scanResultBatch.clear();
+    }
+    invokeMethodUIThread("ScanResults", p);
+  }
+
+  private void clearScanResults() {
+    synchronized (scanResultBatch) {
+      callbackHandler.removeCallbacks(flushScanResultBatch);
+      scanResultBatch.clear();
     }
   }
 
@@ -829,22 +1987,44 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
         @Override
         public void onScanResult(int callbackType, ScanResult result) {
           super.onScanResult(callbackType, result);
-          if(result != null){
-            if (!allowDuplicates && result.getDevice() != null && result.getDevice().getAddress() != null) {
-              if (macDeviceScanned.contains(result.getDevice().getAddress())) {
-                return;
-              }
-              macDeviceScanned.add(result.getDevice().getAddress());
-            }
-            Protos.ScanResult scanResult = ProtoMaker.from(result.getDevice(), result);
-            invokeMethodUIThread("ScanResult", scanResult.toByteArray());
+          if(result == null){
+            return;
           }
+          // Delivered on the main thread, filter and encode on the callback thread instead
+          callbackHandler.post(() -> {
+            ScanConfig config = scanConfig;
+            if (!passesScanFilters(config, result) || isDuplicate(config, result.getDevice())) {
+              return;
+            }
+            if (config.rawAdvertisements) {
+              sendScanResult(config, ProtoEncoder.get().rawScanResult(result));
+            } else {
+              sendScanResult(config, ProtoEncoder.get().scanResult(deviceProto(result), result));
+            }
+          });
         }
 
         @Override
         public void onBatchScanResults(List<ScanResult> results) {
           super.onBatchScanResults(results);
-
+          // Delivered when a report delay is set, the controller already did the batching for us
+          callbackHandler.post(() -> {
+            ScanConfig config = scanConfig;
+            ProtoEncoder.ScanResultsBuffer p = new ProtoEncoder.ScanResultsBuffer();
+            for (ScanResult result : results) {
+              if (result == null || !passesScanFilters(config, result) || isDuplicate(config, result.getDevice())) {
+                continue;
+              }
+              if (config.rawAdvertisements) {
+                p.addRawResult(ProtoEncoder.get().rawScanResult(result));
+              } else {
+                p.addResult(ProtoEncoder.get().scanResult(deviceProto(result), result));
+              }
+            }
+            if (p.size() > 0) {
+              invokeMethodUIThread("ScanResults", p.toByteArray());
+            }
+          });
         }
 
         @Override
@@ -857,7 +2037,7 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
   }
 
   @TargetApi(21)
-  private void startScan21(Protos.ScanSettings proto) throws IllegalStateException {
+  private void startScan21(Protos.ScanSettings proto, ScanConfig config) throws IllegalStateException {
     BluetoothLeScanner scanner = mBluetoothAdapter.getBluetoothLeScanner();
     if(scanner == null) throw new IllegalStateException("getBluetoothLeScanner() is null. Is the Adapter on?");
     int scanMode = proto.getAndroidScanMode();
@@ -868,8 +2048,45 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       ScanFilter f = new ScanFilter.Builder().setServiceUuid(ParcelUuid.fromString(uuid)).build();
       filters.add(f);
     }
-    ScanSettings settings = new ScanSettings.Builder().setScanMode(scanMode).build();
-    scanner.startScan(filters, settings, getScanCallback21());
+    for(Protos.ManufacturerDataFilter m : proto.getAndroidManufacturerDataFiltersList()) {
+      ScanFilter.Builder f = new ScanFilter.Builder();
+      if(m.getMask().isEmpty()) {
+        f.setManufacturerData(m.getManufacturerId(), m.getData().toByteArray());
+      } else {
+        f.setManufacturerData(m.getManufacturerId(), m.getData().toByteArray(), m.getMask().toByteArray());
+      }
+      filters.add(f.build());
+    }
+    for(Protos.ServiceDataFilter s : proto.getAndroidServiceDataFiltersList()) {
+      ScanFilter.Builder f = new ScanFilter.Builder();
+      ParcelUuid uuid = ParcelUuid.fromString(s.getServiceUuid());
+      if(s.getMask().isEmpty()) {
+        f.setServiceData(uuid, s.getData().toByteArray());
+      } else {
+        f.setServiceData(uuid, s.getData().toByteArray(), s.getMask().toByteArray());
+      }
+      filters.add(f.build());
+    }
+    for(String name : proto.getAndroidNamesList()) {
+      filters.add(new ScanFilter.Builder().setDeviceName(name).build());
+    }
+    if(!config.namePrefixes.isEmpty()) {
+      // ScanFilter has no prefix match, and filters are OR'ed: scan unfiltered and match everything here
+      config.softwareFilters = filters;
+      filters = new ArrayList<>();
+    }
+    ScanSettings.Builder settings = new ScanSettings.Builder().setScanMode(scanMode);
+    int reportDelay = proto.getAndroidReportDelayMillis();
+    if(reportDelay > 0) {
+      if(mBluetoothAdapter.isOffloadedScanBatchingSupported()) {
+        settings.setReportDelay(reportDelay);
+      } else if(config.batchWindowMillis == 0) {
+        // No hardware batching on this controller, fall back to collecting results here
+        config.batchWindowMillis = reportDelay;
+      }
+    }
+    scanConfig = config;
+    scanner.startScan(filters, settings.build(), getScanCallback21());
   }
 
   @TargetApi(21)
@@ -882,29 +2099,37 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
 
   private BluetoothAdapter.LeScanCallback getScanCallback18() {
     if(scanCallback18 == null) {
-      scanCallback18 = (bluetoothDevice, rssi, scanRecord) -> {
-        if (!allowDuplicates && bluetoothDevice != null && bluetoothDevice.getAddress() != null) {
-          if (macDeviceScanned.contains(bluetoothDevice.getAddress())) return;
-          macDeviceScanned.add(bluetoothDevice.getAddress());
-        }
+      scanCallback18 = (bluetoothDevice, rssi, scanRecord) -> callbackHandler.post(() -> {
+        ScanConfig config = scanConfig;
+        if (rssi < config.minRssi || isDuplicate(config, bluetoothDevice)) return;
 
-        Protos.ScanResult scanResult = ProtoMaker.from(bluetoothDevice, scanRecord, rssi);
-        invokeMethodUIThread("ScanResult", scanResult.toByteArray());
-      };
+        if (config.rawAdvertisements) {
+          // Connectability is not reported before Lollipop
+          sendScanResult(config, ProtoEncoder.get().rawScanResult(bluetoothDevice.getAddress(), scanRecord, rssi, false));
+        } else {
+          Protos.AdvertisementData advertisementData = scanRecord != null && scanRecord.length > 0
+                  ? AdvertisementParser.parse(scanRecord) : null;
+          String name = advertisementData != null ? advertisementData.getLocalName() : null;
+          sendScanResult(config, ProtoEncoder.get().scanResult(deviceProtos.get(bluetoothDevice, name), advertisementData, rssi));
+        }
+      });
     }
     return scanCallback18;
   }
 
-  private void startScan18(Protos.ScanSettings proto) throws IllegalStateException {
+  @SuppressWarnings("deprecation") // The API 18 scanner, only used before Lollipop
+  private void startScan18(Protos.ScanSettings proto, ScanConfig config) throws IllegalStateException {
     List<String> serviceUuids = proto.getServiceUuidsList();
     UUID[] uuids = new UUID[serviceUuids.size()];
     for(int i = 0; i < serviceUuids.size(); i++) {
       uuids[i] = UUID.fromString(serviceUuids.get(i));
     }
+    scanConfig = config;
     boolean success = mBluetoothAdapter.startLeScan(uuids, getScanCallback18());
     if(!success) throw new IllegalStateException("getBluetoothLeScanner() is null. Is the Adapter on?");
   }
 
+  @SuppressWarnings("deprecation")
   private void stopScan18() {
     mBluetoothAdapter.stopLeScan(getScanCallback18());
   }
@@ -915,10 +2140,63 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
       log(LogLevel.DEBUG, "[onConnectionStateChange] status: " + status + " newState: " + newState);
       //デバイス接続ステータス取得用
       invokeMethodUIThread("DeviceStatus", ProtoMaker.from(gatt.getDevice(), newState, status).toByteArray());
+      BluetoothDeviceCache current = mDevices.get(gatt.getDevice().getAddress());
+      if(current != null && current.gatt == gatt) {
+        if(newState == BluetoothProfile.STATE_CONNECTED) {
+          current.link = LinkState.CONNECTED;
+        } else if(newState == BluetoothProfile.STATE_DISCONNECTED) {
+          current.link = LinkState.DROPPED;
+        }
+        current.lastActivity = SystemClock.elapsedRealtime();
+      }
+      if(newState == BluetoothProfile.STATE_CONNECTED) {
+        BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+        if(cache != null) {
+          // Queued before Dart hears about the connection, so they go ahead of service discovery
+          negotiateMtu(cache);
+          restoreServices(cache);
+          BringUp bringUp = bringUps.get(gatt.getDevice().getAddress());
+          if(bringUp != null) {
+            queueBringUpSteps(cache, bringUp);
+          }
+          boolean waiting;
+          synchronized (connectionManager) {
+            waiting = connectionManager.hasPending();
+          }
+          if(waiting) {
+            // A connection that was still being opened could not be evicted, it can be from now on
+            startPendingConnects();
+          }
+        }
+      }
       //TODO: 切断に成功した場合のみGATTを閉じる。
       if(newState == BluetoothProfile.STATE_DISCONNECTED/*&&status == BluetoothGatt.GATT_SUCCESS*/) {
-        if(!mDevices.containsKey(gatt.getDevice().getAddress())) {
+        BringUp bringUp = bringUps.get(gatt.getDevice().getAddress());
+        if(bringUp != null) {
+          finishBringUp(bringUp, "device disconnected with status " + status);
+        }
+        BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+        if(cache == null) {
           gatt.close();
+          boolean freed;
+          synchronized (connectionManager) {
+            freed = connectionManager.closed(gatt);
+          }
+          if(freed) {
+            startPendingConnects();
+          }
+        } else {
+          abortOperations(cache);
+          cache.servicesValid = false;
+          cache.hashRead = null;
+          if(!cache.fastReconnect) {
+            cache.invalidateServices();
+          }
+          cache.mtu = 20;
+          // Deliver what arrived before the link went down
+          cache.notificationBatcher.flush();
+          // The link is down, so it can make room for waiting requests
+          startPendingConnects();
         }
       }
       invokeMethodUIThread("DeviceState", ProtoMaker.from(gatt.getDevice(), newState).toByteArray());
@@ -927,99 +2205,92 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
     @Override
     public void onServicesDiscovered(BluetoothGatt gatt, int status) {
       log(LogLevel.DEBUG, "[onServicesDiscovered] count: " + gatt.getServices().size() + " status: " + status);
-      Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
-      p.setRemoteId(gatt.getDevice().getAddress());
-      for(BluetoothGattService s : gatt.getServices()) {
-        p.addServices(ProtoMaker.from(gatt.getDevice(), s, gatt));
+      BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+      if(cache == null) {
+        cache = newDeviceCache(gatt);
+      } else {
+        cache.invalidateServices();
+        if(cache.fastReconnect && status == BluetoothGatt.GATT_SUCCESS) {
+          cache.servicesValid = true;
+          BluetoothGattCharacteristic hash = findDatabaseHash(gatt);
+          if(hash != null) {
+            // Remember what this layout hashes to, to check it on the next connection
+            readDatabaseHash(cache, hash, false);
+          }
+        }
+      }
+      if(status != BluetoothGatt.GATT_SUCCESS) {
+        BringUp bringUp = bringUps.get(gatt.getDevice().getAddress());
+        if(bringUp != null) {
+          bringUp.error = "service discovery failed with status " + status;
+        }
       }
-      invokeMethodUIThread("DiscoverServicesResult", p.build().toByteArray());
+      invokeMethodUIThread("DiscoverServicesResult", cache.encodeServices());
+      completeOperation(gatt, GattCallback.SERVICES_DISCOVERED);
     }
 
     @Override
-    public void onCharacteristicRead(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
-      log(LogLevel.DEBUG, "[onCharacteristicRead] uuid: " + characteristic.getUuid().toString() + " status: " + status);
-      Protos.ReadCharacteristicResponse.Builder p = Protos.ReadCharacteristicResponse.newBuilder();
-      p.setRemoteId(gatt.getDevice().getAddress());
-      p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, gatt));
-      invokeMethodUIThread("ReadCharacteristicResponse", p.build().toByteArray());
+    public void onCharacteristicRead(@NonNull BluetoothGatt gatt, @NonNull BluetoothGattCharacteristic characteristic, @NonNull byte[] value, int status) {
+      onCharacteristicValueRead(gatt, characteristic, value, status);
     }
 
     @Override
     public void onCharacteristicWrite(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
-      log(LogLevel.DEBUG, "[onCharacteristicWrite] uuid: " + characteristic.getUuid().toString() + " status: " + status);
-      Protos.WriteCharacteristicRequest.Builder request = Protos.WriteCharacteristicRequest.newBuilder();
-      request.setRemoteId(gatt.getDevice().getAddress());
-      request.setCharacteristicUuid(characteristic.getUuid().toString());
-      request.setServiceUuid(characteristic.getService().getUuid().toString());
-      Protos.WriteCharacteristicResponse.Builder p = Protos.WriteCharacteristicResponse.newBuilder();
-      p.setRequest(request);
-      p.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
-      invokeMethodUIThread("WriteCharacteristicResponse", p.build().toByteArray());
+      // Android 13 and newer keep the echoed value to themselves
+      onCharacteristicWritten(gatt, characteristic, null, status);
     }
 
     @Override
-    public void onCharacteristicChanged(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic) {
-      log(LogLevel.DEBUG, "[onCharacteristicChanged] uuid: " + characteristic.getUuid().toString());
-      Protos.OnCharacteristicChanged.Builder p = Protos.OnCharacteristicChanged.newBuilder();
-      p.setRemoteId(gatt.getDevice().getAddress());
-      p.setCharacteristic(ProtoMaker.from(gatt.getDevice(), characteristic, gatt));
-      invokeMethodUIThread("OnCharacteristicChanged", p.build().toByteArray());
+    public void onCharacteristicChanged(@NonNull BluetoothGatt gatt, @NonNull BluetoothGattCharacteristic characteristic, @NonNull byte[] value) {
+      onCharacteristicValueChanged(gatt, characteristic, value);
     }
 
     @Override
-    public void onDescriptorRead(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
-      log(LogLevel.DEBUG, "[onDescriptorRead] uuid: " + descriptor.getUuid().toString() + " status: " + status);
-      // Rebuild the ReadAttributeRequest and send back along with response
-      Protos.ReadDescriptorRequest.Builder q = Protos.ReadDescriptorRequest.newBuilder();
-      q.setRemoteId(gatt.getDevice().getAddress());
-      q.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
-      q.setDescriptorUuid(descriptor.getUuid().toString());
-      if(descriptor.getCharacteristic().getService().getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
-        q.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
-      } else {
-        // Reverse search to find service
-        for(BluetoothGattService s : gatt.getServices()) {
-          for(BluetoothGattService ss : s.getIncludedServices()) {
-            if(ss.getUuid().equals(descriptor.getCharacteristic().getService().getUuid())){
-              q.setServiceUuid(s.getUuid().toString());
-              q.setSecondaryServiceUuid(ss.getUuid().toString());
-              break;
-            }
-          }
-        }
-      }
-      Protos.ReadDescriptorResponse.Builder p = Protos.ReadDescriptorResponse.newBuilder();
-      p.setRequest(q);
-      p.setValue(ByteString.copyFrom(descriptor.getValue()));
-      invokeMethodUIThread("ReadDescriptorResponse", p.build().toByteArray());
+    public void onDescriptorRead(@NonNull BluetoothGatt gatt, @NonNull BluetoothGattDescriptor descriptor, int status, @NonNull byte[] value) {
+      onDescriptorValueRead(gatt, descriptor, value, status);
     }
 
     @Override
     public void onDescriptorWrite(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
       log(LogLevel.DEBUG, "[onDescriptorWrite] uuid: " + descriptor.getUuid().toString() + " status: " + status);
-      Protos.WriteDescriptorRequest.Builder request = Protos.WriteDescriptorRequest.newBuilder();
-      request.setRemoteId(gatt.getDevice().getAddress());
-      request.setDescriptorUuid(descriptor.getUuid().toString());
-      request.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
-      request.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
-      Protos.WriteDescriptorResponse.Builder p = Protos.WriteDescriptorResponse.newBuilder();
-      p.setRequest(request);
-      p.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
-      invokeMethodUIThread("WriteDescriptorResponse", p.build().toByteArray());
-
-      if(descriptor.getUuid().compareTo(CCCD_ID) == 0) {
-        // SetNotificationResponse
-        Protos.SetNotificationResponse.Builder q = Protos.SetNotificationResponse.newBuilder();
-        q.setRemoteId(gatt.getDevice().getAddress());
-        q.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
-        q.setCharacteristic(ProtoMaker.from(gatt.getDevice(), descriptor.getCharacteristic(), gatt));
-        invokeMethodUIThread("SetNotificationResponse", q.build().toByteArray());
+      BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+      DescriptorWrite write = cache != null ? cache.descriptorWrite : null;
+      byte[] written = null;
+      if(write != null && write.descriptor == descriptor) {
+        cache.descriptorWrite = null;
+        written = write.value;
+      }
+      if(status == BluetoothGatt.GATT_SUCCESS) {
+        if(written != null && write instanceof CccdWrite) {
+          applyBatching(cache, descriptor.getCharacteristic(), ((CccdWrite) write).request);
+        }
+        sendWriteDescriptorResponse(gatt, descriptor, written, null);
+      } else {
+        sendWriteDescriptorResponse(gatt, descriptor, null, "failed with status " + status);
       }
+      completeOperation(gatt, GattCallback.DESCRIPTOR_WRITE);
+    }
+
+    @Override
+    public void onPhyUpdate(BluetoothGatt gatt, int txPhy, int rxPhy, int status) {
+      log(LogLevel.DEBUG, "[onPhyUpdate] txPhy: " + txPhy + " rxPhy: " + rxPhy + " status: " + status);
+      invokeMethodUIThread("PhyUpdate", ProtoMaker.from(gatt.getDevice(), txPhy, rxPhy, status).toByteArray());
+    }
+
+    @Override
+    public void onPhyRead(BluetoothGatt gatt, int txPhy, int rxPhy, int status) {
+      log(LogLevel.DEBUG, "[onPhyRead] txPhy: " + txPhy + " rxPhy: " + rxPhy + " status: " + status);
+      invokeMethodUIThread("PhyRead", ProtoMaker.from(gatt.getDevice(), txPhy, rxPhy, status).toByteArray());
     }
 
     @Override
     public void onReliableWriteCompleted(BluetoothGatt gatt, int status) {
       log(LogLevel.DEBUG, "[onReliableWriteCompleted] status: " + status);
+      BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+      ReliableWrite transaction = cache != null ? cache.reliableWrite : null;
+      if(transaction != null) {
+        finishReliableWrite(cache, transaction, status == BluetoothGatt.GATT_SUCCESS ? null : "executeReliableWrite failed with status " + status);
+      }
     }
 
     @Override
@@ -1030,6 +2301,21 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
         p.setRemoteId(gatt.getDevice().getAddress());
         p.setRssi(rssi);
         invokeMethodUIThread("ReadRssiResult", p.build().toByteArray());
+      } else {
+        sendReadRssiFailure(gatt, "failed with status " + status);
+      }
+      completeOperation(gatt, GattCallback.READ_REMOTE_RSSI);
+    }
+
+    @Override
+    public void onServiceChanged(@NonNull BluetoothGatt gatt) {
+      log(LogLevel.DEBUG, "[onServiceChanged]");
+      BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+      if(cache != null) {
+        // The next discoverServices has to run a full discovery
+        cache.servicesValid = false;
+        cache.databaseHash = null;
+        cache.invalidateServices();
       }
     }
 
@@ -1037,20 +2323,286 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
     public void onMtuChanged(BluetoothGatt gatt, int mtu, int status) {
       log(LogLevel.DEBUG, "[onMtuChanged] mtu: " + mtu + " status: " + status);
       if(status == BluetoothGatt.GATT_SUCCESS) {
-        if(mDevices.containsKey(gatt.getDevice().getAddress())) {
-          BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
-          if (cache != null) {
-            cache.mtu = mtu;
-          }
+        negotiatedMtus.put(gatt.getDevice().getAddress(), mtu);
+      } else {
+        // Start over from the target next time
+        negotiatedMtus.remove(gatt.getDevice().getAddress());
+      }
+      if(status == BluetoothGatt.GATT_SUCCESS) {
+        BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+        if(cache != null) {
+          cache.mtu = mtu;
           Protos.MtuSizeResponse.Builder p = Protos.MtuSizeResponse.newBuilder();
           p.setRemoteId(gatt.getDevice().getAddress());
           p.setMtu(mtu);
           invokeMethodUIThread("MtuSize", p.build().toByteArray());
         }
+      } else {
+        sendMtuFailure(gatt, "failed with status " + status);
       }
+      completeOperation(gatt, GattCallback.MTU_CHANGED);
+    }
+  };
+
+  // Before Android 13 values only reach the callbacks through the characteristic or descriptor object,
+  // which the binder thread overwrites as soon as the next value arrives. Without a handler the
+  // callbacks run on that binder thread, so the value is copied right there, and the event is then
+  // handled on the callback thread as on newer versions.
+  @SuppressWarnings("deprecation")
+  private final BluetoothGattCallback binderGattCallback = new BluetoothGattCallback() {
+    @Override
+    public void onConnectionStateChange(BluetoothGatt gatt, int status, int newState) {
+      callbackHandler.post(() -> mGattCallback.onConnectionStateChange(gatt, status, newState));
+    }
+
+    @Override
+    public void onServicesDiscovered(BluetoothGatt gatt, int status) {
+      callbackHandler.post(() -> mGattCallback.onServicesDiscovered(gatt, status));
+    }
+
+    @Override
+    public void onCharacteristicRead(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
+      byte[] value = copyOf(characteristic.getValue());
+      callbackHandler.post(() -> onCharacteristicValueRead(gatt, characteristic, value, status));
+    }
+
+    @Override
+    public void onCharacteristicWrite(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, int status) {
+      // What the characteristic holds now is all the callback tells about the value the device echoed
+      byte[] value = characteristic.getValue();
+      byte[] echo = value != null ? value.clone() : null;
+      callbackHandler.post(() -> onCharacteristicWritten(gatt, characteristic, echo, status));
+    }
+
+    @Override
+    public void onCharacteristicChanged(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic) {
+      byte[] value = copyOf(characteristic.getValue());
+      callbackHandler.post(() -> onCharacteristicValueChanged(gatt, characteristic, value));
+    }
+
+    @Override
+    public void onDescriptorRead(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
+      byte[] value = copyOf(descriptor.getValue());
+      callbackHandler.post(() -> onDescriptorValueRead(gatt, descriptor, value, status));
+    }
+
+    @Override
+    public void onDescriptorWrite(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, int status) {
+      callbackHandler.post(() -> mGattCallback.onDescriptorWrite(gatt, descriptor, status));
+    }
+
+    @Override
+    public void onPhyUpdate(BluetoothGatt gatt, int txPhy, int rxPhy, int status) {
+      callbackHandler.post(() -> mGattCallback.onPhyUpdate(gatt, txPhy, rxPhy, status));
+    }
+
+    @Override
+    public void onPhyRead(BluetoothGatt gatt, int txPhy, int rxPhy, int status) {
+      callbackHandler.post(() -> mGattCallback.onPhyRead(gatt, txPhy, rxPhy, status));
+    }
+
+    @Override
+    public void onReliableWriteCompleted(BluetoothGatt gatt, int status) {
+      callbackHandler.post(() -> mGattCallback.onReliableWriteCompleted(gatt, status));
+    }
+
+    @Override
+    public void onReadRemoteRssi(BluetoothGatt gatt, int rssi, int status) {
+      callbackHandler.post(() -> mGattCallback.onReadRemoteRssi(gatt, rssi, status));
+    }
+
+    @Override
+    public void onServiceChanged(@NonNull BluetoothGatt gatt) {
+      callbackHandler.post(() -> mGattCallback.onServiceChanged(gatt));
+    }
+
+    @Override
+    public void onMtuChanged(BluetoothGatt gatt, int mtu, int status) {
+      callbackHandler.post(() -> mGattCallback.onMtuChanged(gatt, mtu, status));
     }
   };
 
+  private static byte[] copyOf(byte[] value) {
+    return value != null ? value.clone() : new byte[0];
+  }
+
+  // Events carrying a value, on the callback thread with a value nobody else writes to
+
+  private void onCharacteristicValueRead(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value, int status) {
+    log(LogLevel.DEBUG, "[onCharacteristicRead] uuid: " + characteristic.getUuid().toString() + " status: " + status);
+    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+    LongRead read = cache != null ? cache.longRead : null;
+    if(read != null && read.characteristic == characteristic) {
+      onLongReadChunk(cache, read, status, value);
+      return;
+    }
+    if(cache != null && cache.hashRead == characteristic) {
+      onDatabaseHashRead(cache, status, value);
+      return;
+    }
+    sendReadCharacteristicResponse(gatt, characteristic, value, status == BluetoothGatt.GATT_SUCCESS ? null : "read failed with status " + status);
+    completeOperation(gatt, GattCallback.CHARACTERISTIC_READ);
+  }
+
+  private void onCharacteristicValueChanged(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value) {
+    log(LogLevel.DEBUG, "[onCharacteristicChanged] uuid: " + characteristic.getUuid().toString());
+    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+    if(cache != null) {
+      cache.lastActivity = SystemClock.elapsedRealtime();
+    }
+    if(cache == null || !cache.notificationBatcher.add(characteristic.getInstanceId(), value)) {
+      // Dart already knows the characteristic from discovery, only send what changed
+      byte[] changed = ProtoEncoder.get()
+              .characteristicValueChanged(gatt.getDevice().getAddress(), characteristic.getInstanceId(), value)
+              .toByteArray();
+      invokeMethodUIThread("CharacteristicValueChanged", changed);
+    }
+  }
+
+  // echo is the value reported back with the write, null where the platform does not report it
+  private void onCharacteristicWritten(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] echo, int status) {
+    log(LogLevel.DEBUG, "[onCharacteristicWrite] uuid: " + characteristic.getUuid().toString() + " status: " + status);
+    BluetoothDeviceCache cache = mDevices.get(gatt.getDevice().getAddress());
+    WriteStream stream = cache != null ? cache.writeStream : null;
+    if(stream != null && stream.characteristic == characteristic) {
+      onWriteStreamChunk(cache, stream, status);
+      return;
+    }
+    ReliableWrite transaction = cache != null ? cache.reliableWrite : null;
+    if(transaction != null) {
+      onReliableWriteQueued(cache, transaction, status, echo);
+      return;
+    }
+    sendWriteCharacteristicResponse(gatt, characteristic, status == BluetoothGatt.GATT_SUCCESS);
+    completeOperation(gatt, GattCallback.CHARACTERISTIC_WRITE);
+  }
+
+  private void onDescriptorValueRead(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, byte[] value, int status) {
+    log(LogLevel.DEBUG, "[onDescriptorRead] uuid: " + descriptor.getUuid().toString() + " status: " + status);
+    sendReadDescriptorResponse(gatt, descriptor, value, status == BluetoothGatt.GATT_SUCCESS ? null : "read failed with status " + status);
+    completeOperation(gatt, GattCallback.DESCRIPTOR_READ);
+  }
+
+  // Events answering requests, error is null on success
+
+  private void sendDiscoverServicesFailure(BluetoothGatt gatt, String error) {
+    BringUp bringUp = bringUps.get(gatt.getDevice().getAddress());
+    if(bringUp != null && bringUp.error == null) {
+      bringUp.error = "service discovery " + error;
+    }
+    Protos.DiscoverServicesResult.Builder p = Protos.DiscoverServicesResult.newBuilder();
+    p.setRemoteId(gatt.getDevice().getAddress());
+    p.setAndroidErrorMessage(error);
+    invokeMethodUIThread("DiscoverServicesResult", p.build().toByteArray());
+  }
+
+  private void sendReadCharacteristicResponse(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, byte[] value, String error) {
+    byte[] response = ProtoEncoder.get()
+            .readCharacteristicResponse(gatt.getDevice(), characteristic, value, error, indexOf(gatt))
+            .toByteArray();
+    invokeMethodUIThread("ReadCharacteristicResponse", response);
+  }
+
+  private void sendWriteCharacteristicResponse(BluetoothGatt gatt, BluetoothGattCharacteristic characteristic, boolean success) {
+    Protos.WriteCharacteristicRequest.Builder request = Protos.WriteCharacteristicRequest.newBuilder();
+    request.setRemoteId(gatt.getDevice().getAddress());
+    request.setCharacteristicUuid(characteristic.getUuid().toString());
+    request.setServiceUuid(characteristic.getService().getUuid().toString());
+    Protos.WriteCharacteristicResponse.Builder p = Protos.WriteCharacteristicResponse.newBuilder();
+    p.setRequest(request);
+    p.setSuccess(success);
+    invokeMethodUIThread("WriteCharacteristicResponse", p.build().toByteArray());
+  }
+
+  private void sendReadDescriptorResponse(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, byte[] value, String error) {
+    // Rebuild the ReadAttributeRequest and send back along with response
+    Protos.ReadDescriptorRequest.Builder q = Protos.ReadDescriptorRequest.newBuilder();
+    q.setRemoteId(gatt.getDevice().getAddress());
+    q.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
+    q.setDescriptorUuid(descriptor.getUuid().toString());
+    BluetoothGattService service = descriptor.getCharacteristic().getService();
+    if(service.getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
+      q.setServiceUuid(service.getUuid().toString());
+    } else {
+      BluetoothGattService parent = indexOf(gatt).parentOf(service);
+      if(parent != null) {
+        q.setServiceUuid(parent.getUuid().toString());
+        q.setSecondaryServiceUuid(service.getUuid().toString());
+      }
+    }
+    Protos.ReadDescriptorResponse.Builder p = Protos.ReadDescriptorResponse.newBuilder();
+    p.setRequest(q);
+    if(error == null) {
+      p.setValue(ByteString.copyFrom(value));
+    } else {
+      p.setAndroidErrorMessage(error);
+    }
+    invokeMethodUIThread("ReadDescriptorResponse", p.build().toByteArray());
+  }
+
+  private void failDescriptorWrite(BluetoothDeviceCache cache, DescriptorWrite write, String error) {
+    if(cache.descriptorWrite == write) {
+      cache.descriptorWrite = null;
+    }
+    sendWriteDescriptorResponse(cache.gatt, write.descriptor, null, error);
+  }
+
+  // written is the value the descriptor now holds, when known
+  private void sendWriteDescriptorResponse(BluetoothGatt gatt, BluetoothGattDescriptor descriptor, byte[] written, String error) {
+    Protos.WriteDescriptorRequest.Builder request = Protos.WriteDescriptorRequest.newBuilder();
+    request.setRemoteId(gatt.getDevice().getAddress());
+    request.setDescriptorUuid(descriptor.getUuid().toString());
+    request.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
+    request.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
+    Protos.WriteDescriptorResponse.Builder p = Protos.WriteDescriptorResponse.newBuilder();
+    p.setRequest(request);
+    p.setSuccess(error == null);
+    invokeMethodUIThread("WriteDescriptorResponse", p.build().toByteArray());
+
+    if(descriptor.getUuid().compareTo(CCCD_ID) == 0) {
+      // SetNotificationResponse
+      Protos.SetNotificationResponse.Builder q = Protos.SetNotificationResponse.newBuilder();
+      q.setRemoteId(gatt.getDevice().getAddress());
+      q.setSuccess(error == null);
+      Protos.BluetoothCharacteristic.Builder c = ProtoMaker.from(gatt.getDevice(), descriptor.getCharacteristic(), indexOf(gatt)).toBuilder();
+      if(written != null) {
+        // Dart takes isNotifying from the CCCD value, which the layout leaves out
+        for(int i = 0; i < c.getDescriptorsCount(); i++) {
+          if(c.getDescriptors(i).getUuid().equals(CCCD_ID.toString())) {
+            c.setDescriptors(i, c.getDescriptors(i).toBuilder().setValue(ByteString.copyFrom(written)));
+          }
+        }
+      }
+      q.setCharacteristic(c);
+      invokeMethodUIThread("SetNotificationResponse", q.build().toByteArray());
+      BringUp bringUp = bringUps.get(gatt.getDevice().getAddress());
+      if(bringUp != null && error != null && bringUp.error == null) {
+        bringUp.error = "enabling notifications " + error;
+      }
+    }
+  }
+
+  private void sendMtuFailure(BluetoothGatt gatt, String error) {
+    Protos.MtuSizeResponse.Builder p = Protos.MtuSizeResponse.newBuilder();
+    p.setRemoteId(gatt.getDevice().getAddress());
+    p.setAndroidErrorMessage(error);
+    invokeMethodUIThread("MtuSize", p.build().toByteArray());
+  }
+
+  private void sendReadRssiFailure(BluetoothGatt gatt, String error) {
+    Protos.ReadRssiResult.Builder p = Protos.ReadRssiResult.newBuilder();
+    p.setRemoteId(gatt.getDevice().getAddress());
+    p.setAndroidErrorMessage(error);
+    invokeMethodUIThread("ReadRssiResult", p.build().toByteArray());
+  }
+
+  private static boolean isBatchingNotifications(Protos.SetNotificationRequest request) {
+    return request.getAndroidBatchWindowMillis() > 0
+            || request.getAndroidBatchCount() > 0
+            || request.getAndroidBatchBytes() > 0
+            || request.getAndroidMaxBatchesPerSecond() > 0;
+  }
+
   private void log(LogLevel level, String message) {
     if(level.ordinal() <= logLevel.ordinal()) {
       Log.d(TAG, message);
@@ -1061,14 +2613,23 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
 
   private void invokeMethodUIThread(final String name, final byte[] byteArray)
   {
-    new Handler(Looper.getMainLooper()).post(() -> {
-      synchronized (tearDownLock) {
-        //Could already be teared down at this moment
-        if (channel != null) {
-          channel.invokeMethod(name, byteArray);
-        } else {
-          Log.w(TAG, "Tried to call " + name + " on closed channel");
-        }
+    dispatcher.invokeMethod(name, byteArray);
+  }
+
+  private void replyUIThread(final Result result, final String errorCode, final String errorMessage)
+  {
+    if (result == null) {
+      // Requests the plugin makes on its own, nobody waits for them
+      if (errorCode != null) {
+        log(LogLevel.WARNING, "[" + errorCode + "] " + errorMessage);
+      }
+      return;
+    }
+    dispatcher.post(() -> {
+      if (errorCode == null) {
+        result.success(null);
+      } else {
+        result.error(errorCode, errorMessage, null);
       }
     });
   }
@@ -1080,13 +2641,286 @@ public class FlutterBluePlusPlugin implements FlutterPlugin, MethodCallHandler,
 
   // BluetoothDeviceCache contains any other cached information not stored in Android Bluetooth API
   // but still needed Dart side.
+  enum LinkState {
+    // connectGatt or connect was called, the link is not up yet
+    CONNECTING,
+    CONNECTED,
+    // The link went down, or reconnecting failed
+    DROPPED
+  }
+
   static class BluetoothDeviceCache {
     final BluetoothGatt gatt;
-    int mtu;
-
-    BluetoothDeviceCache(BluetoothGatt gatt) {
+    // Written by onMtuChanged on the callback thread
+    volatile int mtu;
+    // MTU to negotiate whenever the link comes up, 0 for none
+    volatile int targetMtu;
+    volatile LinkState link = LinkState.CONNECTING;
+    // Keep the discovered layout across reconnects and check it instead of discovering again
+    volatile boolean fastReconnect;
+    // The discovered layout is known to match the device on the current link
+    volatile boolean servicesValid;
+    // Database Hash of the discovered layout, null when unknown
+    volatile byte[] databaseHash;
+    // Database Hash read in progress, and whether it checks the layout rather than recording its hash
+    volatile BluetoothGattCharacteristic hashRead;
+    volatile boolean verifyingHash;
+    // elapsedRealtime of the last request, response or notification, for evicting idle connections
+    volatile long lastActivity = SystemClock.elapsedRealtime();
+    // Android only allows one outstanding GATT request per connection, so requests wait here
+    final ArrayDeque<GattOperation> operations = new ArrayDeque<>();
+    GattOperation inFlight;
+
+    // Encoded BluetoothService messages of the services discovered so far, keyed by identity. They hold
+    // the layout only, so they stay valid until the layout changes.
+    private final Map<BluetoothGattService, byte[]> encodedServices = new ConcurrentHashMap<>();
+    // The stream occupying the request queue, if any
+    volatile WriteStream writeStream;
+    // The long read occupying the request queue, if any
+    volatile LongRead longRead;
+    // The reliable write transaction occupying the request queue, if any
+    volatile ReliableWrite reliableWrite;
+    // Descriptor write in progress, to learn the value written once it is answered
+    volatile DescriptorWrite descriptorWrite;
+    // null until the services are first looked up after a discovery
+    private volatile GattIndex index;
+    // Collects notifications of the characteristics whose notifications are batched
+    final NotificationBatcher notificationBatcher;
+
+    BluetoothDeviceCache(BluetoothGatt gatt, NotificationBatcher notificationBatcher) {
       this.gatt = gatt;
+      this.notificationBatcher = notificationBatcher;
       mtu = 20;
     }
+
+    // No request is queued or in flight
+    boolean isIdle() {
+      synchronized (operations) {
+        return inFlight == null && operations.isEmpty();
+      }
+    }
+
+    // Encodes a DiscoverServicesResult, only re-encoding services that changed since the last call
+    byte[] encodeServices() {
+      BluetoothDevice device = gatt.getDevice();
+      String remoteId = device.getAddress();
+      List<BluetoothGattService> services = gatt.getServices();
+      byte[][] encoded = new byte[services.size()][];
+      int size = CodedOutputStream.computeStringSize(1, remoteId);
+      for (int i = 0; i < encoded.length; i++) {
+        BluetoothGattService s = services.get(i);
+        byte[] bytes = encodedServices.get(s);
+        if (bytes == null) {
+          bytes = ProtoMaker.from(device, s, index()).toByteArray();
+          encodedServices.put(s, bytes);
+        }
+        encoded[i] = bytes;
+        // An embedded message is encoded the same way as a bytes field
+        size += CodedOutputStream.computeByteArraySize(2, bytes);
+      }
+      byte[] result = new byte[size];
+      CodedOutputStream output = CodedOutputStream.newInstance(result);
+      try {
+        output.writeString(1, remoteId);
+        for (byte[] bytes : encoded) {
+          output.writeByteArray(2, bytes);
+        }
+        output.checkNoSpaceLeft();
+      } catch (IOException e) {
+        throw new RuntimeException("Serializing to a byte array threw an IOException (should never happen).", e);
+      }
+      return result;
+    }
+
+    // The layout is rediscovered, changed or no longer kept
+    void invalidateServices() {
+      encodedServices.clear();
+      index = null;
+    }
+
+    // Index of the discovered services, built on first use after each discovery
+    GattIndex index() {
+      GattIndex i = index;
+      if (i == null) {
+        i = new GattIndex(gatt.getServices());
+        index = i;
+      }
+      return i;
+    }
+  }
+
+  // A connectAll call: devices still to bring up, and how many are in progress
+  static class ConnectAll {
+    final ArrayDeque<Protos.ConnectRequest> waiting;
+    final List<Protos.SetNotificationRequest> notifications;
+    final int maxConcurrent;
+    final int timeoutMillis;
+    int running; // guarded by this
+
+    ConnectAll(Protos.ConnectAllRequest request) {
+      waiting = new ArrayDeque<>(request.getDevicesList());
+      notifications = request.getNotificationsList();
+      maxConcurrent = request.getMaxConcurrent();
+      timeoutMillis = request.getTimeoutMillis();
+    }
+  }
+
+  // One device of a connectAll call, from connecting until it is reported ready or failed
+  static class BringUp {
+    final ConnectAll batch;
+    final String remoteId;
+    // First step that failed, the remaining steps are skipped
+    volatile String error;
+    volatile Runnable timeout;
+
+    BringUp(ConnectAll batch, String remoteId) {
+      this.batch = batch;
+      this.remoteId = remoteId;
+    }
+  }
+
+  static class WriteStream {
+    static final int MAX_RETRIES = 50;
+    static final long RETRY_DELAY_MILLIS = 5;
+    static final long PROGRESS_INTERVAL_MILLIS = 100;
+
+    final Protos.WriteStreamRequest request;
+    final BluetoothGattCharacteristic characteristic;
+    final byte[] data;
+    final int chunkSize;
+    // Only touched by the thread handling GATT callbacks once the first chunk is written
+    int offset;
+    int pendingChunk;
+    int retries;
+    long lastProgressUptime;
+
+    WriteStream(Protos.WriteStreamRequest request, BluetoothGattCharacteristic characteristic, byte[] data, int chunkSize) {
+      this.request = request;
+      this.characteristic = characteristic;
+      this.data = data;
+      this.chunkSize = chunkSize;
+    }
+  }
+
+  static class ReliableWrite {
+    final Protos.ReliableWriteRequest request;
+    // Resolved from request.writes, in the same order
+    final List<BluetoothGattCharacteristic> characteristics;
+    int index;
+
+    ReliableWrite(Protos.ReliableWriteRequest request, List<BluetoothGattCharacteristic> characteristics) {
+      this.request = request;
+      this.characteristics = characteristics;
+    }
+  }
+
+  static class LongRead {
+    static final int DEFAULT_MAX_LENGTH = 1 << 20;
+
+    final Protos.ReadLongCharacteristicRequest request;
+    final BluetoothGattCharacteristic characteristic;
+    final int maxLength;
+    final int chunkLength; // 0 for a single read
+    final ByteArrayOutputStream value = new ByteArrayOutputStream();
+
+    LongRead(Protos.ReadLongCharacteristicRequest request, BluetoothGattCharacteristic characteristic, int maxLength, int chunkLength) {
+      this.request = request;
+      this.characteristic = characteristic;
+      this.maxLength = maxLength;
+      this.chunkLength = chunkLength;
+    }
+  }
+
+  interface GattRequest {
+    // Hands the request to BluetoothGatt. Returns null on success, otherwise why it could not be started.
+    String start(BluetoothGatt gatt);
+  }
+
+  interface StartedGattRequest extends GattRequest {
+    // Called once a successful start was replied to, events sent from here reach Dart after the reply
+    void started(BluetoothGatt gatt);
+  }
+
+  // Writes a descriptor, answered by onDescriptorWrite
+  static class DescriptorWrite implements GattRequest {
+    final BluetoothDeviceCache cache;
+    final BluetoothGattDescriptor descriptor;
+    final byte[] value;
+
+    DescriptorWrite(BluetoothDeviceCache cache, BluetoothGattDescriptor descriptor, byte[] value) {
+      this.cache = cache;
+      this.descriptor = descriptor;
+      this.value = value;
+    }
+
+    @Override
+    public String start(BluetoothGatt gatt) {
+      cache.descriptorWrite = this;
+      String error = writeDescriptor(gatt, descriptor, value);
+      if(error != null) {
+        cache.descriptorWrite = null;
+      }
+      return error;
+    }
+  }
+
+  // Turns notifications of a characteristic on or off
+  static class CccdWrite extends DescriptorWrite {
+    // Carries the batching settings to apply once the write succeeds
+    final Protos.SetNotificationRequest request;
+
+    CccdWrite(BluetoothDeviceCache cache, BluetoothGattDescriptor descriptor, Protos.SetNotificationRequest request, byte[] value) {
+      super(cache, descriptor, value);
+      this.request = request;
+    }
+
+    @Override
+    public String start(BluetoothGatt gatt) {
+      boolean enable = request.getEnable();
+      if(!gatt.setCharacteristicNotification(descriptor.getCharacteristic(), enable)){
+        return "could not set characteristic notifications to :" + enable;
+      }
+      return super.start(gatt);
+    }
+  }
+
+  interface GattFailure {
+    // Reports that the started request failed without its callback, e.g. it timed out
+    void failed(String error);
+  }
+
+  // The mGattCallback event that finishes a queued request
+  enum GattCallback {
+    SERVICES_DISCOVERED,
+    CHARACTERISTIC_READ,
+    CHARACTERISTIC_WRITE,
+    DESCRIPTOR_READ,
+    DESCRIPTOR_WRITE,
+    RELIABLE_WRITE_COMPLETED,
+    MTU_CHANGED,
+    READ_REMOTE_RSSI,
+    // Requests that finish without going over the air
+    NONE
+  }
+
+  static class GattOperation {
+    // A little longer than the 30 second ATT transaction timeout, after which the stack gives up itself
+    static final long TIMEOUT_MILLIS = 35000;
+
+    final Result result;
+    final String errorCode;
+    final GattCallback awaits;
+    final GattRequest request;
+    final GattFailure failure; // null when nobody waits for the outcome
+    // Fails the request while it is in flight, posted on the callback handler
+    Runnable timeout;
+
+    GattOperation(Result result, String errorCode, GattCallback awaits, GattRequest request, GattFailure failure) {
+      this.result = result;
+      this.errorCode = errorCode;
+      this.awaits = awaits;
+      this.request = request;
+      this.failure = failure;
+    }
   }
 }
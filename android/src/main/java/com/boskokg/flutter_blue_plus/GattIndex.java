@@ -0,0 +1,71 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattService;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup tables over the services of one connection, built once after discovery.
+ *
+ * Characteristics are keyed by the UUID strings Dart sends, so a request needs neither
+ * UUID.fromString nor a walk over included services. Secondary services map back to the
+ * service including them. Lookups resolve ties between equal UUIDs the same way BluetoothGatt
+ * and the linear searches did. Immutable once built.
+ */
+class GattIndex {
+
+  private final Map<String, BluetoothGattCharacteristic> characteristics = new HashMap<>();
+  private final Map<BluetoothGattService, BluetoothGattService> parents = new IdentityHashMap<>();
+
+  GattIndex(List<BluetoothGattService> services) {
+    Map<String, BluetoothGattService> byKey = new HashMap<>();
+    for (BluetoothGattService s : services) {
+      String serviceId = s.getUuid().toString();
+      // BluetoothGatt.getService returns the first service with the UUID
+      if (byKey.containsKey(key(serviceId, ""))) {
+        continue;
+      }
+      byKey.put(key(serviceId, ""), s);
+      for (BluetoothGattService included : s.getIncludedServices()) {
+        // The last included service with the UUID wins
+        byKey.put(key(serviceId, included.getUuid().toString()), included);
+      }
+    }
+    for (Map.Entry<String, BluetoothGattService> e : byKey.entrySet()) {
+      for (BluetoothGattCharacteristic c : e.getValue().getCharacteristics()) {
+        String k = e.getKey() + '/' + c.getUuid().toString();
+        // BluetoothGattService.getCharacteristic returns the first characteristic with the UUID
+        if (!characteristics.containsKey(k)) {
+          characteristics.put(k, c);
+        }
+      }
+    }
+    for (BluetoothGattService s : services) {
+      for (BluetoothGattService included : s.getIncludedServices()) {
+        parents.put(included, s);
+      }
+    }
+  }
+
+  /** Returns the characteristic, or null when the UUIDs do not name one exactly as discovered. */
+  BluetoothGattCharacteristic characteristic(String serviceId, String secondaryServiceId, String characteristicId) {
+    return characteristics.get(serviceId + '/' + secondaryServiceId + '/' + characteristicId);
+  }
+
+  /** Returns the service including the given secondary service, or null for primary services. */
+  BluetoothGattService parentOf(BluetoothGattService service) {
+    return parents.get(service);
+  }
+
+  private static String key(String serviceId, String secondaryServiceId) {
+    return serviceId + '/' + secondaryServiceId;
+  }
+}
@@ -0,0 +1,109 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Moves channel events and method call replies from Bluetooth binder threads to the main thread.
+ *
+ * Work from any thread is appended to a lock-free queue. A single main-thread pass then drains
+ * everything that is waiting, so a burst of scan results or notifications costs one Handler post
+ * instead of one per event. Events keep the order in which they were queued, including events
+ * routed to one of the event streams.
+ */
+class MainThreadDispatcher {
+
+  private static final String TAG = "FlutterBluePlugin";
+
+  // Upper bound of tasks run per pass, so a flood of events cannot stall a frame
+  private static final int MAX_TASKS_PER_PASS = 64;
+
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+  // null once the plugin has been torn down
+  private final AtomicReference<MethodChannel> channel = new AtomicReference<>();
+  private final Runnable drain = this::drain;
+  // Events sent through an event stream rather than the method channel, by name
+  private final Map<String, ProtoEventStream> routes = new ConcurrentHashMap<>();
+
+  void attach(MethodChannel methodChannel) {
+    channel.set(methodChannel);
+  }
+
+  /** Sends the events the stream carries through it while Dart listens to it. */
+  void route(ProtoEventStream stream) {
+    for (String name : stream.kinds()) {
+      routes.put(name, stream);
+    }
+  }
+
+  void detach() {
+    channel.set(null);
+  }
+
+  /** Sends a method call, or an event on its stream, to Dart on the main thread. */
+  void invokeMethod(String name, byte[] byteArray) {
+    post(new ChannelEvent(name, byteArray));
+  }
+
+  /** Runs the task on the main thread, after everything queued before it. */
+  void post(Runnable task) {
+    queue.add(task);
+    if (drainScheduled.compareAndSet(false, true)) {
+      handler.post(drain);
+    }
+  }
+
+  private void drain() {
+    // Clear the flag first: anything queued from now on either gets picked up by this pass or schedules a new one
+    drainScheduled.set(false);
+    for (int i = 0; i < MAX_TASKS_PER_PASS; i++) {
+      Runnable task = queue.poll();
+      if (task == null) {
+        return;
+      }
+      task.run();
+    }
+    if (!queue.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+      handler.post(drain);
+    }
+  }
+
+  private class ChannelEvent implements Runnable {
+    private final String name;
+    private final byte[] byteArray;
+
+    ChannelEvent(String name, byte[] byteArray) {
+      this.name = name;
+      this.byteArray = byteArray;
+    }
+
+    @Override
+    public void run() {
+      //Could already be teared down at this moment
+      MethodChannel methodChannel = channel.get();
+      if (methodChannel == null) {
+        Log.w(TAG, "Tried to call " + name + " on closed channel");
+        return;
+      }
+      ProtoEventStream stream = routes.get(name);
+      if (stream == null || !stream.send(stream.kindOf(name), byteArray)) {
+        methodChannel.invokeMethod(name, byteArray);
+      }
+    }
+  }
+}
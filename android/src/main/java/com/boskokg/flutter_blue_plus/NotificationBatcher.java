@@ -0,0 +1,149 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.os.Handler;
+import android.os.SystemClock;
+
+import com.google.protobuf.ByteString;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects notifications of one connection and sends them to Dart as NotificationBatch messages.
+ *
+ * Only characteristics enabled through {@link #enable} are collected. Values of all of them share
+ * one pending batch, which is sent once it is as old, as large or as long as the settings of any
+ * characteristic in it allow. Without a window, a batch waits at most
+ * {@link Limits#DEFAULT_LATENCY_MILLIS} to fill. Batches of a connection are never sent more often than the
+ * configured rate, whatever the settings. Timed flushes run on the given handler, off the main
+ * thread, so only the encoded batch goes to the main thread.
+ */
+class NotificationBatcher {
+
+  interface Sender {
+    void send(byte[] batch);
+  }
+
+  static class Limits {
+    // Longest a value waits when batching by count or size only, so a batch that never fills is still sent
+    static final int DEFAULT_LATENCY_MILLIS = 1000;
+
+    final int windowMillis;
+    final int maxCount;
+    final int maxBytes;
+
+    Limits(int windowMillis, int maxCount, int maxBytes) {
+      this.windowMillis = windowMillis;
+      this.maxCount = maxCount;
+      this.maxBytes = maxBytes;
+    }
+
+    // How long the first value of a batch may wait before the batch is sent
+    int latencyMillis() {
+      if (windowMillis > 0) {
+        return windowMillis;
+      }
+      // No limit at all, only the rate cap delays a value
+      return maxCount > 0 || maxBytes > 0 ? DEFAULT_LATENCY_MILLIS : 0;
+    }
+  }
+
+  private final String remoteId;
+  private final Handler timers;
+  private final Sender sender;
+  // Keyed by characteristic handle
+  private final Map<Integer, Limits> limits = new ConcurrentHashMap<>();
+  private final Runnable flushTask = this::flush;
+
+  // Guarded by this
+  private int minFlushIntervalMillis;
+  private Protos.NotificationBatch.Builder batch = Protos.NotificationBatch.newBuilder();
+  private long batchStartNanos;
+  private int batchBytes;
+  private long lastFlushUptime;
+  private long flushScheduledAt; // uptime, 0 when no flush is scheduled
+
+  NotificationBatcher(String remoteId, Handler timers, Sender sender) {
+    this.remoteId = remoteId;
+    this.timers = timers;
+    this.sender = sender;
+  }
+
+  void enable(int handle, int windowMillis, int maxCount, int maxBytes) {
+    limits.put(handle, new Limits(windowMillis, maxCount, maxBytes));
+  }
+
+  void disable(int handle) {
+    if (limits.remove(handle) != null) {
+      flush();
+    }
+  }
+
+  synchronized void setMaxBatchesPerSecond(int maxBatchesPerSecond) {
+    minFlushIntervalMillis = maxBatchesPerSecond > 0 ? 1000 / maxBatchesPerSecond : 0;
+  }
+
+  /** Adds the value to the pending batch, returns false when the characteristic is not batched. */
+  boolean add(int handle, byte[] value) {
+    Limits l = limits.get(handle);
+    if (l == null) {
+      return false;
+    }
+    synchronized (this) {
+      long now = SystemClock.elapsedRealtimeNanos();
+      if (batch.getHandlesCount() == 0) {
+        batchStartNanos = now;
+        batch.setRemoteId(remoteId);
+        batch.setStartTimeMillis(System.currentTimeMillis());
+      }
+      batch.addHandles(handle);
+      batch.addValues(ByteString.copyFrom(value));
+      batch.addTimeOffsetsMicros((int) ((now - batchStartNanos) / 1000));
+      batchBytes += value.length;
+
+      boolean full = (l.maxCount > 0 && batch.getHandlesCount() >= l.maxCount)
+          || (l.maxBytes > 0 && batchBytes >= l.maxBytes);
+      if (full) {
+        scheduleFlush(0);
+      } else {
+        // Counted from the first value, a flush already scheduled earlier stays
+        long age = (now - batchStartNanos) / 1000000;
+        scheduleFlush(Math.max(0, l.latencyMillis() - age));
+      }
+    }
+    return true;
+  }
+
+  /** Sends whatever is pending right away, ignoring the rate cap. */
+  void flush() {
+    byte[] bytes;
+    synchronized (this) {
+      timers.removeCallbacks(flushTask);
+      flushScheduledAt = 0;
+      if (batch.getHandlesCount() == 0) {
+        return;
+      }
+      bytes = batch.build().toByteArray();
+      batch = Protos.NotificationBatch.newBuilder();
+      batchBytes = 0;
+      lastFlushUptime = SystemClock.uptimeMillis();
+    }
+    sender.send(bytes);
+  }
+
+  // Called with this locked. Moves the pending flush earlier if needed, but never before the rate cap allows.
+  private void scheduleFlush(long delayMillis) {
+    long now = SystemClock.uptimeMillis();
+    long at = Math.max(now + delayMillis, lastFlushUptime + minFlushIntervalMillis);
+    if (flushScheduledAt != 0 && flushScheduledAt <= at) {
+      return;
+    }
+    timers.removeCallbacks(flushTask);
+    timers.postDelayed(flushTask, at - now);
+    flushScheduledAt = at;
+  }
+}
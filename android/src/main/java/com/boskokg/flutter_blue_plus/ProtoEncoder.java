@@ -0,0 +1,340 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import android.annotation.TargetApi;
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattDescriptor;
+import android.bluetooth.BluetoothGattService;
+import android.bluetooth.le.ScanRecord;
+import android.bluetooth.le.ScanResult;
+import android.os.ParcelUuid;
+import android.util.SparseArray;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes the messages sent most often straight from the Android objects, without building them
+ * first.
+ *
+ * Builders allocate the whole message tree, and toByteArray a new array, for every message; during
+ * long scans or fast notifications that is most of the garbage the plugin makes. Here fields are
+ * written through CodedOutputStreams into buffers kept per thread and reused, and only the
+ * finished message is copied out, to an array of its exact size. A nested message is written into
+ * a buffer of its own first since its length has to precede it. Fields holding default values are
+ * left out, so the output is the same as the builders give.
+ *
+ * Get the encoder with {@link #get()} on the thread that encodes. It holds the last message
+ * encoded until the next one is started.
+ */
+class ProtoEncoder {
+
+  private static final ThreadLocal<ProtoEncoder> ENCODERS = new ThreadLocal<ProtoEncoder>() {
+    @Override
+    protected ProtoEncoder initialValue() {
+      return new ProtoEncoder();
+    }
+  };
+
+  static ProtoEncoder get() {
+    return ENCODERS.get();
+  }
+
+  /** A ByteArrayOutputStream whose contents can be written out without copying them first. */
+  private static class Buffer extends ByteArrayOutputStream {
+    Buffer(int size) {
+      super(size);
+    }
+
+    void writeTo(CodedOutputStream out) throws IOException {
+      out.write(buf, 0, count);
+    }
+  }
+
+  private static class Level {
+    final Buffer buffer = new Buffer(256);
+    final CodedOutputStream out = CodedOutputStream.newInstance(buffer, 256);
+  }
+
+  // Deepest nesting is ReadCharacteristicResponse > BluetoothCharacteristic > BluetoothDescriptor
+  private final Level[] levels = {new Level(), new Level(), new Level()};
+  private int depth;
+
+  private ProtoEncoder() {}
+
+  /** Returns a copy of the message. */
+  byte[] toByteArray() {
+    return levels[0].buffer.toByteArray();
+  }
+
+  /** Writes the message as a field of another one. */
+  void writeTo(CodedOutputStream out, int fieldNumber) throws IOException {
+    writeLengthDelimited(out, fieldNumber, levels[0].buffer);
+  }
+
+  @TargetApi(21)
+  ProtoEncoder scanResult(Protos.BluetoothDevice device, ScanResult scanResult) {
+    try {
+      CodedOutputStream out = begin();
+      out.writeMessage(Protos.ScanResult.DEVICE_FIELD_NUMBER, device);
+      CodedOutputStream a = beginMessage();
+      ScanRecord scanRecord = scanResult.getScanRecord();
+      if (scanRecord != null) {
+        writeString(a, Protos.AdvertisementData.LOCAL_NAME_FIELD_NUMBER, scanRecord.getDeviceName());
+        int txPower = scanRecord.getTxPowerLevel();
+        if (txPower != Integer.MIN_VALUE) {
+          writeInt32(beginMessage(), Protos.Int32Value.VALUE_FIELD_NUMBER, txPower);
+          endMessage(Protos.AdvertisementData.TX_POWER_LEVEL_FIELD_NUMBER);
+        }
+      }
+      writeBool(a, Protos.AdvertisementData.CONNECTABLE_FIELD_NUMBER, ProtoMaker.isConnectable(scanResult));
+      if (scanRecord != null) {
+        SparseArray<byte[]> msd = scanRecord.getManufacturerSpecificData();
+        if (msd != null) {
+          for (int i = 0; i < msd.size(); i++) {
+            // Map entries carry their key and value even when those are defaults
+            CodedOutputStream e = beginMessage();
+            e.writeInt32(1, msd.keyAt(i));
+            e.writeByteArray(2, msd.valueAt(i));
+            endMessage(Protos.AdvertisementData.MANUFACTURER_DATA_FIELD_NUMBER);
+          }
+        }
+        Map<ParcelUuid, byte[]> serviceData = scanRecord.getServiceData();
+        if (serviceData != null) {
+          for (Map.Entry<ParcelUuid, byte[]> entry : serviceData.entrySet()) {
+            CodedOutputStream e = beginMessage();
+            e.writeString(1, entry.getKey().getUuid().toString());
+            e.writeByteArray(2, entry.getValue());
+            endMessage(Protos.AdvertisementData.SERVICE_DATA_FIELD_NUMBER);
+          }
+        }
+        List<ParcelUuid> serviceUuids = scanRecord.getServiceUuids();
+        if (serviceUuids != null) {
+          for (ParcelUuid s : serviceUuids) {
+            a.writeString(Protos.AdvertisementData.SERVICE_UUIDS_FIELD_NUMBER, s.getUuid().toString());
+          }
+        }
+      }
+      endMessage(Protos.ScanResult.ADVERTISEMENT_DATA_FIELD_NUMBER);
+      writeInt32(out, Protos.ScanResult.RSSI_FIELD_NUMBER, scanResult.getRssi());
+      return end();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** For advertisements parsed by {@link AdvertisementParser}, advertisementData may be null. */
+  ProtoEncoder scanResult(Protos.BluetoothDevice device, Protos.AdvertisementData advertisementData, int rssi) {
+    try {
+      CodedOutputStream out = begin();
+      out.writeMessage(Protos.ScanResult.DEVICE_FIELD_NUMBER, device);
+      if (advertisementData != null) {
+        out.writeMessage(Protos.ScanResult.ADVERTISEMENT_DATA_FIELD_NUMBER, advertisementData);
+      }
+      writeInt32(out, Protos.ScanResult.RSSI_FIELD_NUMBER, rssi);
+      return end();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  ProtoEncoder rawScanResult(String remoteId, byte[] scanRecord, int rssi, boolean connectable) {
+    try {
+      CodedOutputStream out = begin();
+      writeString(out, Protos.RawScanResult.REMOTE_ID_FIELD_NUMBER, remoteId);
+      writeInt32(out, Protos.RawScanResult.RSSI_FIELD_NUMBER, rssi);
+      writeBytes(out, Protos.RawScanResult.ADVERTISEMENT_DATA_FIELD_NUMBER, scanRecord);
+      writeBool(out, Protos.RawScanResult.CONNECTABLE_FIELD_NUMBER, connectable);
+      return end();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @TargetApi(21)
+  ProtoEncoder rawScanResult(ScanResult scanResult) {
+    ScanRecord scanRecord = scanResult.getScanRecord();
+    return rawScanResult(scanResult.getDevice().getAddress(),
+            scanRecord != null ? scanRecord.getBytes() : null,
+            scanResult.getRssi(),
+            ProtoMaker.isConnectable(scanResult));
+  }
+
+  ProtoEncoder characteristicValueChanged(String remoteId, int handle, byte[] value) {
+    try {
+      CodedOutputStream out = begin();
+      writeString(out, Protos.CharacteristicValueChanged.REMOTE_ID_FIELD_NUMBER, remoteId);
+      writeUInt32(out, Protos.CharacteristicValueChanged.HANDLE_FIELD_NUMBER, handle);
+      writeBytes(out, Protos.CharacteristicValueChanged.VALUE_FIELD_NUMBER, value);
+      return end();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Same as building the response around ProtoMaker.from(device, characteristic, index) with the
+   * value that was read. error is null on success.
+   */
+  ProtoEncoder readCharacteristicResponse(BluetoothDevice device, BluetoothGattCharacteristic characteristic, byte[] value, String error, GattIndex index) {
+    try {
+      String remoteId = device.getAddress();
+      CodedOutputStream out = begin();
+      writeString(out, Protos.ReadCharacteristicResponse.REMOTE_ID_FIELD_NUMBER, remoteId);
+      writeCharacteristic(beginMessage(), remoteId, characteristic, value, index);
+      endMessage(Protos.ReadCharacteristicResponse.CHARACTERISTIC_FIELD_NUMBER);
+      writeString(out, Protos.ReadCharacteristicResponse.ANDROID_ERROR_MESSAGE_FIELD_NUMBER, error);
+      return end();
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private void writeCharacteristic(CodedOutputStream out, String remoteId, BluetoothGattCharacteristic characteristic, byte[] value, GattIndex index) throws IOException {
+    String serviceUuid = null;
+    String secondaryServiceUuid = null;
+    BluetoothGattService service = characteristic.getService();
+    if (service.getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
+      serviceUuid = service.getUuid().toString();
+    } else {
+      BluetoothGattService parent = index.parentOf(service);
+      if (parent != null) {
+        serviceUuid = parent.getUuid().toString();
+        secondaryServiceUuid = service.getUuid().toString();
+      }
+    }
+    String uuid = characteristic.getUuid().toString();
+    writeString(out, Protos.BluetoothCharacteristic.UUID_FIELD_NUMBER, uuid);
+    writeString(out, Protos.BluetoothCharacteristic.REMOTE_ID_FIELD_NUMBER, remoteId);
+    writeString(out, Protos.BluetoothCharacteristic.SERVICEUUID_FIELD_NUMBER, serviceUuid);
+    writeString(out, Protos.BluetoothCharacteristic.SECONDARYSERVICEUUID_FIELD_NUMBER, secondaryServiceUuid);
+    // Descriptors name the characteristic's own service, as in ProtoMaker
+    String descriptorServiceUuid = service.getUuid().toString();
+    for (BluetoothGattDescriptor d : characteristic.getDescriptors()) {
+      CodedOutputStream p = beginMessage();
+      writeString(p, Protos.BluetoothDescriptor.UUID_FIELD_NUMBER, d.getUuid().toString());
+      writeString(p, Protos.BluetoothDescriptor.REMOTE_ID_FIELD_NUMBER, remoteId);
+      writeString(p, Protos.BluetoothDescriptor.SERVICEUUID_FIELD_NUMBER, descriptorServiceUuid);
+      writeString(p, Protos.BluetoothDescriptor.CHARACTERISTICUUID_FIELD_NUMBER, uuid);
+      endMessage(Protos.BluetoothCharacteristic.DESCRIPTORS_FIELD_NUMBER);
+    }
+    // CharacteristicProperties fields are numbered in the order of the property bits
+    int properties = characteristic.getProperties();
+    CodedOutputStream p = beginMessage();
+    for (int field = 1; field <= 10; field++) {
+      writeBool(p, field, (properties & (1 << (field - 1))) != 0);
+    }
+    endMessage(Protos.BluetoothCharacteristic.PROPERTIES_FIELD_NUMBER);
+    writeBytes(out, Protos.BluetoothCharacteristic.VALUE_FIELD_NUMBER, value);
+    writeUInt32(out, Protos.BluetoothCharacteristic.HANDLE_FIELD_NUMBER, characteristic.getInstanceId());
+  }
+
+  /** A ScanResults message, one result added at a time. Not thread safe. */
+  static class ScanResultsBuffer {
+    private final Buffer buffer = new Buffer(1024);
+    private final CodedOutputStream out = CodedOutputStream.newInstance(buffer, 256);
+    private int size;
+
+    void addResult(ProtoEncoder scanResult) {
+      add(Protos.ScanResults.RESULTS_FIELD_NUMBER, scanResult);
+    }
+
+    void addRawResult(ProtoEncoder rawScanResult) {
+      add(Protos.ScanResults.RAW_RESULTS_FIELD_NUMBER, rawScanResult);
+    }
+
+    private void add(int fieldNumber, ProtoEncoder result) {
+      try {
+        result.writeTo(out, fieldNumber);
+        out.flush();
+      } catch (IOException e) {
+        throw new IllegalStateException(e);
+      }
+      size++;
+    }
+
+    int size() {
+      return size;
+    }
+
+    byte[] toByteArray() {
+      return buffer.toByteArray();
+    }
+
+    void clear() {
+      buffer.reset();
+      size = 0;
+    }
+  }
+
+  private CodedOutputStream begin() {
+    depth = 0;
+    levels[0].buffer.reset();
+    return levels[0].out;
+  }
+
+  private CodedOutputStream beginMessage() {
+    Level level = levels[++depth];
+    level.buffer.reset();
+    return level.out;
+  }
+
+  /** Writes the nested message just finished into the enclosing one. */
+  private void endMessage(int fieldNumber) throws IOException {
+    Level level = levels[depth--];
+    level.out.flush();
+    writeLengthDelimited(levels[depth].out, fieldNumber, level.buffer);
+  }
+
+  private ProtoEncoder end() throws IOException {
+    levels[0].out.flush();
+    return this;
+  }
+
+  private static void writeLengthDelimited(CodedOutputStream out, int fieldNumber, Buffer buffer) throws IOException {
+    out.writeTag(fieldNumber, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+    out.writeUInt32NoTag(buffer.size());
+    buffer.writeTo(out);
+  }
+
+  // Proto3 leaves fields holding default values out
+
+  private static void writeString(CodedOutputStream out, int fieldNumber, String value) throws IOException {
+    if (value != null && !value.isEmpty()) {
+      out.writeString(fieldNumber, value);
+    }
+  }
+
+  private static void writeBytes(CodedOutputStream out, int fieldNumber, byte[] value) throws IOException {
+    if (value != null && value.length > 0) {
+      out.writeByteArray(fieldNumber, value);
+    }
+  }
+
+  private static void writeInt32(CodedOutputStream out, int fieldNumber, int value) throws IOException {
+    if (value != 0) {
+      out.writeInt32(fieldNumber, value);
+    }
+  }
+
+  private static void writeUInt32(CodedOutputStream out, int fieldNumber, int value) throws IOException {
+    if (value != 0) {
+      out.writeUInt32(fieldNumber, value);
+    }
+  }
+
+  private static void writeBool(CodedOutputStream out, int fieldNumber, boolean value) throws IOException {
+    if (value) {
+      out.writeBool(fieldNumber, true);
+    }
+  }
+}
@@ -0,0 +1,169 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import io.flutter.plugin.common.EventChannel;
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodCodec;
+
+/**
+ * An EventChannel for a few kinds of high rate events, so they do not share the method channel
+ * with request and response traffic.
+ *
+ * Each event is an encoded proto message tagged with a byte naming its kind, which is the index
+ * of its name in the constructor arguments. {@link Codec} copies the message bytes into the
+ * platform message as they are, without the method call envelope. Events are only sent while
+ * Dart listens; otherwise the caller falls back to the method channel.
+ */
+class ProtoEventStream implements EventChannel.StreamHandler {
+
+  static final byte SUCCESS = 0;
+  static final byte ERROR = 1;
+  private static final Charset UTF8 = Charset.forName("UTF-8");
+
+  private final String[] kinds;
+  private volatile EventChannel.EventSink sink;
+
+  ProtoEventStream(String... kinds) {
+    this.kinds = kinds;
+  }
+
+  String[] kinds() {
+    return kinds;
+  }
+
+  /** Returns the kind of the named event, or -1 when this stream does not carry it. */
+  int kindOf(String name) {
+    for (int i = 0; i < kinds.length; i++) {
+      if (kinds[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public void onListen(Object arguments, EventChannel.EventSink events) {
+    sink = events;
+  }
+
+  @Override
+  public void onCancel(Object arguments) {
+    sink = null;
+  }
+
+  /** Sends the event, on the main thread. Returns false when Dart is not listening. */
+  boolean send(int kind, byte[] message) {
+    EventChannel.EventSink s = sink;
+    if (s == null) {
+      return false;
+    }
+    s.success(new Event(kind, message));
+    return true;
+  }
+
+  static class Event {
+    final int kind;
+    final byte[] message;
+
+    Event(int kind, byte[] message) {
+      this.kind = kind;
+      this.message = message;
+    }
+  }
+
+  /**
+   * Envelopes are a status byte followed by the kind and the message for events, or by the
+   * UTF-8 encoded error code and message, separated by a zero byte, for errors. Method calls,
+   * which are only "listen" and "cancel", are their UTF-8 encoded name.
+   */
+  static class Codec implements MethodCodec {
+    static final Codec INSTANCE = new Codec();
+
+    @Override
+    public ByteBuffer encodeMethodCall(MethodCall methodCall) {
+      return direct(methodCall.method.getBytes(UTF8));
+    }
+
+    @Override
+    public MethodCall decodeMethodCall(ByteBuffer methodCall) {
+      return new MethodCall(new String(remaining(methodCall), UTF8), null);
+    }
+
+    @Override
+    public ByteBuffer encodeSuccessEnvelope(Object result) {
+      if (!(result instanceof Event)) {
+        // Replies to listen and cancel
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1);
+        buffer.put(SUCCESS);
+        buffer.flip();
+        return buffer;
+      }
+      Event event = (Event) result;
+      ByteBuffer buffer = ByteBuffer.allocateDirect(2 + event.message.length);
+      buffer.put(SUCCESS);
+      buffer.put((byte) event.kind);
+      buffer.put(event.message);
+      buffer.flip();
+      return buffer;
+    }
+
+    @Override
+    public ByteBuffer encodeErrorEnvelope(String errorCode, String errorMessage, Object errorDetails) {
+      byte[] code = errorCode.getBytes(UTF8);
+      byte[] message = (errorMessage != null ? errorMessage : "").getBytes(UTF8);
+      ByteBuffer buffer = ByteBuffer.allocateDirect(2 + code.length + message.length);
+      buffer.put(ERROR);
+      buffer.put(code);
+      buffer.put((byte) 0);
+      buffer.put(message);
+      buffer.flip();
+      return buffer;
+    }
+
+    // Not marked @Override, older embeddings do not have it
+    public ByteBuffer encodeErrorEnvelopeWithStacktrace(String errorCode, String errorMessage, Object errorDetails, String errorStacktrace) {
+      return encodeErrorEnvelope(errorCode, errorMessage, errorDetails);
+    }
+
+    @Override
+    public Object decodeEnvelope(ByteBuffer envelope) {
+      byte status = envelope.get();
+      if (status == ERROR) {
+        String error = new String(remaining(envelope), UTF8);
+        int separator = error.indexOf('\0');
+        String code = separator >= 0 ? error.substring(0, separator) : error;
+        String message = separator >= 0 ? error.substring(separator + 1) : "";
+        // FlutterException can only be created by the embedding
+        throw new IllegalStateException(code + ": " + message);
+      }
+      if (status != SUCCESS) {
+        throw new IllegalArgumentException("Envelope corrupted");
+      }
+      if (!envelope.hasRemaining()) {
+        // Reply to listen or cancel
+        return null;
+      }
+      int kind = envelope.get() & 0xff;
+      return new Event(kind, remaining(envelope));
+    }
+
+    private static byte[] remaining(ByteBuffer buffer) {
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return bytes;
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+      buffer.put(bytes);
+      buffer.flip();
+      return buffer;
+    }
+  }
+}
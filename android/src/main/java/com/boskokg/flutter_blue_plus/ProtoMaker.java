@@ -15,16 +15,10 @@ import android.bluetooth.le.ScanRecord;
 import android.bluetooth.le.ScanResult;
 import android.os.Build;
 import android.os.Parcel;
-import android.os.ParcelUuid;
 import android.util.Log;
-import android.util.SparseArray;
 
-import com.google.protobuf.ByteString;
 
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import java.util.UUID;
 
 /**
  * Created by bosko on 30/01/22.
@@ -32,69 +26,13 @@ import java.util.UUID;
 
 public class ProtoMaker {
 
-    private static final UUID CCCD_UUID = UUID.fromString("000002902-0000-1000-8000-00805f9b34fb");
-
-    static Protos.ScanResult from(BluetoothDevice device, byte[] advertisementData, int rssi) {
-        Protos.ScanResult.Builder p = Protos.ScanResult.newBuilder();
-        p.setDevice(from(device));
-        if(advertisementData != null && advertisementData.length > 0)
-            p.setAdvertisementData(AdvertisementParser.parse(advertisementData));
-        p.setRssi(rssi);
-        return p.build();
-    }
-
     @TargetApi(21)
-    static Protos.ScanResult from(BluetoothDevice device, ScanResult scanResult) {
-        Protos.ScanResult.Builder p = Protos.ScanResult.newBuilder();
-        p.setDevice(from(device));
-        Protos.AdvertisementData.Builder a = Protos.AdvertisementData.newBuilder();
-        ScanRecord scanRecord = scanResult.getScanRecord();
+    static boolean isConnectable(ScanResult scanResult) {
         if(Build.VERSION.SDK_INT >= 26) {
-            a.setConnectable(scanResult.isConnectable());
-        } else {
-            if(scanRecord != null) {
-                int flags = scanRecord.getAdvertiseFlags();
-                a.setConnectable((flags & 0x2) > 0);
-            }
+            return scanResult.isConnectable();
         }
-        if(scanRecord != null) {
-            String deviceName = scanRecord.getDeviceName();
-            if(deviceName != null) {
-                a.setLocalName(deviceName);
-            }
-            int txPower = scanRecord.getTxPowerLevel();
-            if(txPower != Integer.MIN_VALUE) {
-                a.setTxPowerLevel(Protos.Int32Value.newBuilder().setValue(txPower));
-            }
-            // Manufacturer Specific Data
-            SparseArray<byte[]> msd = scanRecord.getManufacturerSpecificData();
-            if(msd != null) {
-                for (int i = 0; i < msd.size(); i++) {
-                    int key = msd.keyAt(i);
-                    byte[] value = msd.valueAt(i);
-                    a.putManufacturerData(key, ByteString.copyFrom(value));
-                }
-            }
-            // Service Data
-            Map<ParcelUuid, byte[]> serviceData = scanRecord.getServiceData();
-            if(serviceData != null) {
-                for (Map.Entry<ParcelUuid, byte[]> entry : serviceData.entrySet()) {
-                    ParcelUuid key = entry.getKey();
-                    byte[] value = entry.getValue();
-                    a.putServiceData(key.getUuid().toString(), ByteString.copyFrom(value));
-                }
-            }
-            // Service UUIDs
-            List<ParcelUuid> serviceUuids = scanRecord.getServiceUuids();
-            if(serviceUuids != null) {
-                for (ParcelUuid s : serviceUuids) {
-                    a.addServiceUuids(s.getUuid().toString());
-                }
-            }
-        }
-        p.setRssi(scanResult.getRssi());
-        p.setAdvertisementData(a.build());
-        return p.build();
+        ScanRecord scanRecord = scanResult.getScanRecord();
+        return scanRecord != null && (scanRecord.getAdvertiseFlags() & 0x2) > 0;
     }
 
     static Protos.BluetoothDevice from(BluetoothDevice device) {
@@ -121,42 +59,39 @@ public class ProtoMaker {
         return p.build();
     }
 
-    static Protos.BluetoothService from(BluetoothDevice device, BluetoothGattService service, BluetoothGatt gatt) {
+    // Services, characteristics and descriptors are encoded without values: values reach Dart with the
+    // responses and notifications carrying them, so an encoded layout stays valid while they change.
+    static Protos.BluetoothService from(BluetoothDevice device, BluetoothGattService service, GattIndex index) {
         Protos.BluetoothService.Builder p = Protos.BluetoothService.newBuilder();
         p.setRemoteId(device.getAddress());
         p.setUuid(service.getUuid().toString());
         p.setIsPrimary(service.getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY);
         for(BluetoothGattCharacteristic c : service.getCharacteristics()) {
-            p.addCharacteristics(from(device, c, gatt));
+            p.addCharacteristics(from(device, c, index));
         }
         for(BluetoothGattService s : service.getIncludedServices()) {
-            p.addIncludedServices(from(device, s, gatt));
+            p.addIncludedServices(from(device, s, index));
         }
         return p.build();
     }
 
-    static Protos.BluetoothCharacteristic from(BluetoothDevice device, BluetoothGattCharacteristic characteristic, BluetoothGatt gatt) {
+    static Protos.BluetoothCharacteristic from(BluetoothDevice device, BluetoothGattCharacteristic characteristic, GattIndex index) {
         Protos.BluetoothCharacteristic.Builder p = Protos.BluetoothCharacteristic.newBuilder();
         p.setRemoteId(device.getAddress());
         p.setUuid(characteristic.getUuid().toString());
         p.setProperties(from(characteristic.getProperties()));
-        if(characteristic.getValue() != null)
-            p.setValue(ByteString.copyFrom(characteristic.getValue()));
+        p.setHandle(characteristic.getInstanceId());
         for(BluetoothGattDescriptor d : characteristic.getDescriptors()) {
             p.addDescriptors(from(device, d));
         }
-        if(characteristic.getService().getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
-            p.setServiceUuid(characteristic.getService().getUuid().toString());
+        BluetoothGattService service = characteristic.getService();
+        if(service.getType() == BluetoothGattService.SERVICE_TYPE_PRIMARY) {
+            p.setServiceUuid(service.getUuid().toString());
         } else {
-            // Reverse search to find service
-            for(BluetoothGattService s : gatt.getServices()) {
-                for(BluetoothGattService ss : s.getIncludedServices()) {
-                    if(ss.getUuid().equals(characteristic.getService().getUuid())){
-                        p.setServiceUuid(s.getUuid().toString());
-                        p.setSecondaryServiceUuid(ss.getUuid().toString());
-                        break;
-                    }
-                }
+            BluetoothGattService parent = index.parentOf(service);
+            if(parent != null) {
+                p.setServiceUuid(parent.getUuid().toString());
+                p.setSecondaryServiceUuid(service.getUuid().toString());
             }
         }
         return p.build();
@@ -168,8 +103,15 @@ public class ProtoMaker {
         p.setUuid(descriptor.getUuid().toString());
         p.setCharacteristicUuid(descriptor.getCharacteristic().getUuid().toString());
         p.setServiceUuid(descriptor.getCharacteristic().getService().getUuid().toString());
-        if(descriptor.getValue() != null)
-            p.setValue(ByteString.copyFrom(descriptor.getValue()));
+        return p.build();
+    }
+
+    static Protos.PhyResponse from(BluetoothDevice device, int txPhy, int rxPhy, int status) {
+        Protos.PhyResponse.Builder p = Protos.PhyResponse.newBuilder();
+        p.setRemoteId(device.getAddress());
+        p.setTxPhy(txPhy);
+        p.setRxPhy(rxPhy);
+        p.setSuccess(status == BluetoothGatt.GATT_SUCCESS);
         return p.build();
     }
 
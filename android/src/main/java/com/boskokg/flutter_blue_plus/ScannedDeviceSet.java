@@ -0,0 +1,125 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import java.util.Arrays;
+
+/**
+ * Remembers which devices were already reported during a scan.
+ *
+ * Addresses are packed into 48 bit longs and kept in an open addressing table together with
+ * the time they were last reported, so a lookup is O(1) and allocation free no matter how many
+ * devices are around. Not thread safe, scan callbacks all arrive on the same thread.
+ */
+class ScannedDeviceSet {
+
+  private static final long EMPTY = -1L; // never a valid 48 bit address
+  private static final int INITIAL_CAPACITY = 256; // power of two
+
+  private long[] addresses;
+  private long[] reportedAt;
+  private int size;
+
+  ScannedDeviceSet() {
+    allocate(INITIAL_CAPACITY);
+  }
+
+  void clear() {
+    if (addresses.length > INITIAL_CAPACITY) {
+      allocate(INITIAL_CAPACITY);
+    } else {
+      Arrays.fill(addresses, EMPTY);
+      size = 0;
+    }
+  }
+
+  /**
+   * Records the device as reported at {@code now} and returns true when it should be reported.
+   * That is the case for devices not seen before, and for devices last reported at least
+   * {@code timeoutMillis} ago when the timeout is positive.
+   */
+  boolean report(String address, long now, long timeoutMillis) {
+    long key = pack(address);
+    if (key == EMPTY) {
+      return true;
+    }
+    int mask = addresses.length - 1;
+    int i = hash(key) & mask;
+    while (addresses[i] != EMPTY) {
+      if (addresses[i] == key) {
+        if (timeoutMillis > 0 && now - reportedAt[i] >= timeoutMillis) {
+          reportedAt[i] = now;
+          return true;
+        }
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    addresses[i] = key;
+    reportedAt[i] = now;
+    // Keep the load factor at or below 1/2
+    if (++size * 2 > addresses.length) {
+      grow();
+    }
+    return true;
+  }
+
+  private void allocate(int capacity) {
+    addresses = new long[capacity];
+    reportedAt = new long[capacity];
+    Arrays.fill(addresses, EMPTY);
+    size = 0;
+  }
+
+  private void grow() {
+    long[] oldAddresses = addresses;
+    long[] oldReportedAt = reportedAt;
+    allocate(oldAddresses.length * 2);
+    int mask = addresses.length - 1;
+    for (int j = 0; j < oldAddresses.length; j++) {
+      long key = oldAddresses[j];
+      if (key == EMPTY) {
+        continue;
+      }
+      int i = hash(key) & mask;
+      while (addresses[i] != EMPTY) {
+        i = (i + 1) & mask;
+      }
+      addresses[i] = key;
+      reportedAt[i] = oldReportedAt[j];
+      size++;
+    }
+  }
+
+  private static int hash(long key) {
+    key ^= key >>> 33;
+    key *= 0xff51afd7ed558ccdL;
+    key ^= key >>> 33;
+    return (int) key;
+  }
+
+  // "AA:BB:CC:DD:EE:FF" -> 0xAABBCCDDEEFF, or EMPTY when the string is not an address
+  static long pack(String address) {
+    if (address == null || address.length() != 17) {
+      return EMPTY;
+    }
+    long key = 0;
+    for (int i = 0; i < 17; i++) {
+      char c = address.charAt(i);
+      if (i % 3 == 2) {
+        if (c != ':') {
+          return EMPTY;
+        }
+        continue;
+      }
+      int digit = Character.digit(c, 16);
+      if (digit < 0) {
+        return EMPTY;
+      }
+      key = (key << 4) | digit;
+    }
+    return key;
+  }
+}
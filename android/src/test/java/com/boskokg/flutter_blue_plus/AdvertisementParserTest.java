@@ -0,0 +1,98 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.boskokg.flutter_blue_plus.Protos.AdvertisementData;
+
+import org.junit.Test;
+
+public class AdvertisementParserTest {
+
+  private static byte[] bytes(int... values) {
+    byte[] bytes = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      bytes[i] = (byte) values[i];
+    }
+    return bytes;
+  }
+
+  @Test
+  public void parsesNameAndTxPower() {
+    AdvertisementData data = AdvertisementParser.parse(bytes(
+        0x04, 0x09, 'a', 'b', 'c',
+        0x02, 0x0A, 0xF4));
+    assertEquals("abc", data.getLocalName());
+    assertTrue(data.hasTxPowerLevel());
+    assertEquals(-12, data.getTxPowerLevel().getValue());
+  }
+
+  @Test
+  public void prefersLongLocalName() {
+    AdvertisementData data = AdvertisementParser.parse(bytes(
+        0x03, 0x09, 'l', 'o',
+        0x02, 0x08, 's'));
+    assertEquals("lo", data.getLocalName());
+  }
+
+  @Test
+  public void parsesManufacturerData() {
+    AdvertisementData data = AdvertisementParser.parse(bytes(0x05, 0xFF, 0x4C, 0x00, 0x01, 0x02));
+    assertEquals(1, data.getManufacturerDataCount());
+    assertArrayEquals(bytes(0x01, 0x02), data.getManufacturerDataOrThrow(0x004C).toByteArray());
+  }
+
+  @Test
+  public void skipsManufacturerDataWithoutPayload() {
+    AdvertisementData data = AdvertisementParser.parse(bytes(0x03, 0xFF, 0x4C, 0x00));
+    assertEquals(0, data.getManufacturerDataCount());
+  }
+
+  @Test
+  public void parsesServiceDataOfAllUuidSizes() {
+    AdvertisementData data = AdvertisementParser.parse(bytes(
+        0x04, 0x16, 0x0F, 0x18, 0x64,
+        0x06, 0x20, 0x78, 0x56, 0x34, 0x12, 0x01,
+        0x12, 0x21, 0x00, 0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77,
+        0x88, 0x99, 0xAA, 0xBB, 0xCC, 0xDD, 0xEE, 0xFF, 0x02));
+    assertEquals(3, data.getServiceDataCount());
+    assertArrayEquals(bytes(0x64), data.getServiceDataOrThrow("0000180f-0000-1000-8000-00805f9b34fb").toByteArray());
+    assertArrayEquals(bytes(0x01), data.getServiceDataOrThrow("12345678-0000-1000-8000-00805f9b34fb").toByteArray());
+    // Each half of a 128 bit UUID is read little endian, as the ByteBuffer based parser did
+    assertArrayEquals(bytes(0x02), data.getServiceDataOrThrow("77665544-3322-1100-ffee-ddccbbaa9988").toByteArray());
+  }
+
+  @Test
+  public void stopsAtZeroLength() {
+    AdvertisementData data = AdvertisementParser.parse(bytes(
+        0x02, 0x09, 'a',
+        0x00,
+        0x02, 0x0A, 0x04));
+    assertEquals("a", data.getLocalName());
+    assertFalse(data.hasTxPowerLevel());
+  }
+
+  @Test
+  public void startsEachRecordAfresh() {
+    AdvertisementParser.parse(bytes(0x02, 0x09, 'a', 0x02, 0x0A, 0x04));
+    AdvertisementData data = AdvertisementParser.parse(bytes(0x02, 0x08, 'b'));
+    assertEquals("b", data.getLocalName());
+    assertFalse(data.hasTxPowerLevel());
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void rejectsTruncatedRecord() {
+    AdvertisementParser.parse(bytes(0x05, 0x09, 'a'));
+  }
+
+  @Test(expected = ArrayIndexOutOfBoundsException.class)
+  public void rejectsTruncatedServiceData() {
+    AdvertisementParser.parse(bytes(0x02, 0x16, 0x0F));
+  }
+}
@@ -0,0 +1,150 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import android.bluetooth.BluetoothAdapter;
+import android.bluetooth.BluetoothGatt;
+
+import com.boskokg.flutter_blue_plus.FlutterBluePlusPlugin.BluetoothDeviceCache;
+import com.boskokg.flutter_blue_plus.FlutterBluePlusPlugin.GattCallback;
+import com.boskokg.flutter_blue_plus.FlutterBluePlusPlugin.GattOperation;
+import com.boskokg.flutter_blue_plus.FlutterBluePlusPlugin.LinkState;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+@RunWith(RobolectricTestRunner.class)
+public class ConnectionManagerTest {
+
+  private static BluetoothDeviceCache connection(String remoteId, LinkState link, long lastActivity) {
+    BluetoothGatt gatt = mock(BluetoothGatt.class);
+    when(gatt.getDevice()).thenReturn(BluetoothAdapter.getDefaultAdapter().getRemoteDevice(remoteId));
+    BluetoothDeviceCache cache = new BluetoothDeviceCache(gatt, null);
+    cache.link = link;
+    cache.lastActivity = lastActivity;
+    return cache;
+  }
+
+  private static Protos.ConnectRequest request(String remoteId) {
+    return Protos.ConnectRequest.newBuilder().setRemoteId(remoteId).build();
+  }
+
+  @Test
+  public void hasRoomUpToLimit() {
+    ConnectionManager manager = new ConnectionManager();
+    assertTrue(manager.hasRoom(100));
+    manager.setLimits(2, 0);
+    assertTrue(manager.hasRoom(1));
+    assertFalse(manager.hasRoom(2));
+  }
+
+  @Test
+  public void closingConnectionsKeepTheirSlot() {
+    ConnectionManager manager = new ConnectionManager();
+    manager.setLimits(2, 0);
+    BluetoothGatt gatt = mock(BluetoothGatt.class);
+    manager.closing(gatt);
+    assertFalse(manager.hasRoom(1));
+    assertTrue(manager.closed(gatt));
+    assertTrue(manager.hasRoom(1));
+    assertFalse(manager.closed(gatt));
+  }
+
+  @Test
+  public void servesRequestsInOrder() {
+    ConnectionManager manager = new ConnectionManager();
+    manager.enqueue(request("00:00:00:00:00:01"));
+    manager.enqueue(request("00:00:00:00:00:02"));
+    manager.enqueue(request("00:00:00:00:00:03"));
+    assertTrue(manager.cancel("00:00:00:00:00:02"));
+    assertFalse(manager.cancel("00:00:00:00:00:02"));
+    assertEquals("00:00:00:00:00:01", manager.pollPending().getRemoteId());
+    assertEquals("00:00:00:00:00:03", manager.pollPending().getRemoteId());
+    assertFalse(manager.hasPending());
+  }
+
+  @Test
+  public void repeatedRequestReplacesEarlierOne() {
+    ConnectionManager manager = new ConnectionManager();
+    manager.enqueue(request("00:00:00:00:00:01"));
+    manager.enqueue(request("00:00:00:00:00:02"));
+    manager.enqueue(request("00:00:00:00:00:01"));
+    assertEquals("00:00:00:00:00:02", manager.pollPending().getRemoteId());
+    assertEquals("00:00:00:00:00:01", manager.pollPending().getRemoteId());
+    assertFalse(manager.hasPending());
+  }
+
+  @Test
+  public void needsEvictionOnlyBeyondClosingConnections() {
+    ConnectionManager manager = new ConnectionManager();
+    assertFalse(manager.needsEviction());
+    manager.enqueue(request("00:00:00:00:00:01"));
+    assertTrue(manager.needsEviction());
+    manager.closing(mock(BluetoothGatt.class));
+    assertFalse(manager.needsEviction());
+  }
+
+  @Test
+  public void evictsLeastRecentlyUsedIdleConnection() {
+    ConnectionManager manager = new ConnectionManager();
+    manager.setLimits(3, 1000);
+    BluetoothDeviceCache older = connection("00:00:00:00:00:01", LinkState.CONNECTED, 1000);
+    BluetoothDeviceCache newer = connection("00:00:00:00:00:02", LinkState.CONNECTED, 2000);
+    BluetoothDeviceCache recent = connection("00:00:00:00:00:03", LinkState.CONNECTED, 9500);
+    assertSame(older, manager.selectEviction(Arrays.asList(newer, recent, older), 10000));
+  }
+
+  @Test
+  public void evictsDroppedLinksFirst() {
+    ConnectionManager manager = new ConnectionManager();
+    manager.setLimits(2, 1000);
+    BluetoothDeviceCache idle = connection("00:00:00:00:00:01", LinkState.CONNECTED, 0);
+    BluetoothDeviceCache dropped = connection("00:00:00:00:00:02", LinkState.DROPPED, 9999);
+    assertSame(dropped, manager.selectEviction(Arrays.asList(idle, dropped), 10000));
+  }
+
+  @Test
+  public void neverEvictsBusyOrConnectingOrRequestedConnections() {
+    ConnectionManager manager = new ConnectionManager();
+    manager.setLimits(3, 1000);
+    BluetoothDeviceCache connecting = connection("00:00:00:00:00:01", LinkState.CONNECTING, 0);
+    BluetoothDeviceCache busy = connection("00:00:00:00:00:02", LinkState.CONNECTED, 0);
+    busy.inFlight = new GattOperation(null, null, GattCallback.NONE, null, null);
+    BluetoothDeviceCache requested = connection("00:00:00:00:00:03", LinkState.CONNECTED, 0);
+    manager.enqueue(request("00:00:00:00:00:03"));
+    assertNull(manager.selectEviction(Arrays.asList(connecting, busy, requested), 10000));
+  }
+
+  @Test
+  public void waitsUntilIdleLongEnough() {
+    ConnectionManager manager = new ConnectionManager();
+    manager.setLimits(2, 1000);
+    BluetoothDeviceCache c = connection("00:00:00:00:00:01", LinkState.CONNECTED, 9500);
+    assertNull(manager.selectEviction(Collections.singletonList(c), 10000));
+    assertEquals(500, manager.millisUntilEvictable(Collections.singletonList(c), 10000));
+    assertSame(c, manager.selectEviction(Collections.singletonList(c), 10500));
+    assertEquals(0, manager.millisUntilEvictable(Collections.singletonList(c), 10500));
+  }
+
+  @Test
+  public void nothingEvictableWithoutIdleConnections() {
+    ConnectionManager manager = new ConnectionManager();
+    manager.setLimits(2, 1000);
+    BluetoothDeviceCache connecting = connection("00:00:00:00:00:01", LinkState.CONNECTING, 0);
+    assertEquals(-1, manager.millisUntilEvictable(Collections.singletonList(connecting), 10000));
+  }
+}
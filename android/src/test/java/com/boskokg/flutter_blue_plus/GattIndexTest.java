@@ -0,0 +1,81 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattService;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+@RunWith(RobolectricTestRunner.class)
+public class GattIndexTest {
+
+  private static final UUID SERVICE = UUID.fromString("0000180d-0000-1000-8000-00805f9b34fb");
+  private static final UUID SECONDARY = UUID.fromString("0000180f-0000-1000-8000-00805f9b34fb");
+  private static final UUID CHARACTERISTIC = UUID.fromString("00002a37-0000-1000-8000-00805f9b34fb");
+  private static final UUID OTHER = UUID.fromString("00002a38-0000-1000-8000-00805f9b34fb");
+
+  private static BluetoothGattService service(UUID uuid, int type, BluetoothGattCharacteristic... characteristics) {
+    BluetoothGattService service = new BluetoothGattService(uuid, type);
+    for (BluetoothGattCharacteristic c : characteristics) {
+      service.addCharacteristic(c);
+    }
+    return service;
+  }
+
+  private static BluetoothGattCharacteristic characteristic(UUID uuid) {
+    return new BluetoothGattCharacteristic(uuid, BluetoothGattCharacteristic.PROPERTY_READ, 0);
+  }
+
+  @Test
+  public void findsCharacteristicsOfPrimaryServices() {
+    BluetoothGattCharacteristic c = characteristic(CHARACTERISTIC);
+    BluetoothGattCharacteristic o = characteristic(OTHER);
+    BluetoothGattService s = service(SERVICE, BluetoothGattService.SERVICE_TYPE_PRIMARY, c, o);
+    GattIndex index = new GattIndex(Arrays.asList(s));
+    assertSame(c, index.characteristic(SERVICE.toString(), "", CHARACTERISTIC.toString()));
+    assertSame(o, index.characteristic(SERVICE.toString(), "", OTHER.toString()));
+    assertNull(index.characteristic(SECONDARY.toString(), "", CHARACTERISTIC.toString()));
+    assertNull(index.parentOf(s));
+  }
+
+  @Test
+  public void findsCharacteristicsOfIncludedServices() {
+    BluetoothGattCharacteristic c = characteristic(CHARACTERISTIC);
+    BluetoothGattService secondary = service(SECONDARY, BluetoothGattService.SERVICE_TYPE_SECONDARY, c);
+    BluetoothGattService primary = service(SERVICE, BluetoothGattService.SERVICE_TYPE_PRIMARY);
+    primary.addService(secondary);
+    GattIndex index = new GattIndex(Arrays.asList(primary, secondary));
+    assertSame(c, index.characteristic(SERVICE.toString(), SECONDARY.toString(), CHARACTERISTIC.toString()));
+    assertNull(index.characteristic(SERVICE.toString(), "", CHARACTERISTIC.toString()));
+    assertSame(primary, index.parentOf(secondary));
+  }
+
+  @Test
+  public void resolvesDuplicatesLikeBluetoothGatt() {
+    BluetoothGattCharacteristic first = characteristic(CHARACTERISTIC);
+    BluetoothGattCharacteristic second = characteristic(CHARACTERISTIC);
+    BluetoothGattCharacteristic inLaterService = characteristic(CHARACTERISTIC);
+    BluetoothGattService s = service(SERVICE, BluetoothGattService.SERVICE_TYPE_PRIMARY, first, second);
+    BluetoothGattService later = service(SERVICE, BluetoothGattService.SERVICE_TYPE_PRIMARY, inLaterService);
+    GattIndex index = new GattIndex(Arrays.asList(s, later));
+    assertSame(first, index.characteristic(SERVICE.toString(), "", CHARACTERISTIC.toString()));
+  }
+
+  @Test
+  public void keysOnUuidStringsAsDiscovered() {
+    BluetoothGattCharacteristic c = characteristic(CHARACTERISTIC);
+    GattIndex index = new GattIndex(Arrays.asList(service(SERVICE, BluetoothGattService.SERVICE_TYPE_PRIMARY, c)));
+    assertNull(index.characteristic(SERVICE.toString().toUpperCase(), "", CHARACTERISTIC.toString()));
+  }
+}
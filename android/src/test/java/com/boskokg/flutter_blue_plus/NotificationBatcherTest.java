@@ -0,0 +1,140 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+public class NotificationBatcherTest {
+
+  private static final String REMOTE_ID = "AA:BB:CC:DD:EE:FF";
+
+  private final List<Protos.NotificationBatch> sent = new ArrayList<>();
+  private NotificationBatcher batcher;
+
+  @Before
+  public void setUp() {
+    batcher = new NotificationBatcher(REMOTE_ID, new Handler(Looper.getMainLooper()), batch -> {
+      try {
+        sent.add(Protos.NotificationBatch.parseFrom(batch));
+      } catch (Exception e) {
+        throw new AssertionError(e);
+      }
+    });
+  }
+
+  private static void advance(long millis) {
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(millis));
+  }
+
+  @Test
+  public void ignoresCharacteristicsNotEnabled() {
+    batcher.enable(1, 100, 0, 0);
+    assertFalse(batcher.add(2, new byte[] {1}));
+    advance(1000);
+    assertTrue(sent.isEmpty());
+  }
+
+  @Test
+  public void sendsOnceWindowIsOver() {
+    batcher.enable(1, 100, 0, 0);
+    assertTrue(batcher.add(1, new byte[] {1}));
+    advance(50);
+    assertTrue(batcher.add(1, new byte[] {2, 3}));
+    advance(49);
+    assertTrue(sent.isEmpty());
+    advance(1);
+    assertEquals(1, sent.size());
+    Protos.NotificationBatch batch = sent.get(0);
+    assertEquals(REMOTE_ID, batch.getRemoteId());
+    assertEquals(2, batch.getHandlesCount());
+    assertEquals(1, batch.getHandles(1));
+    assertArrayEquals(new byte[] {2, 3}, batch.getValues(1).toByteArray());
+    assertEquals(50000, batch.getTimeOffsetsMicros(1));
+  }
+
+  @Test
+  public void sendsFullBatchRightAway() {
+    batcher.enable(1, 10000, 3, 0);
+    batcher.add(1, new byte[] {1});
+    batcher.add(1, new byte[] {2});
+    advance(0);
+    assertTrue(sent.isEmpty());
+    batcher.add(1, new byte[] {3});
+    advance(0);
+    assertEquals(1, sent.size());
+    assertEquals(3, sent.get(0).getValuesCount());
+  }
+
+  @Test
+  public void sendsOnceBytesLimitIsReached() {
+    batcher.enable(1, 10000, 0, 4);
+    batcher.add(1, new byte[] {1, 2});
+    advance(0);
+    assertTrue(sent.isEmpty());
+    batcher.add(1, new byte[] {3, 4});
+    advance(0);
+    assertEquals(1, sent.size());
+  }
+
+  @Test
+  public void boundsWaitWithoutWindow() {
+    batcher.enable(1, 0, 100, 0);
+    batcher.add(1, new byte[] {1});
+    advance(NotificationBatcher.Limits.DEFAULT_LATENCY_MILLIS - 1);
+    assertTrue(sent.isEmpty());
+    advance(1);
+    assertEquals(1, sent.size());
+  }
+
+  @Test
+  public void keepsToRateCap() {
+    // Well past the start of the clock, as on a device
+    advance(1000);
+    batcher.setMaxBatchesPerSecond(4);
+    batcher.enable(1, 0, 1, 0);
+    batcher.add(1, new byte[] {1});
+    advance(0);
+    assertEquals(1, sent.size());
+    batcher.add(1, new byte[] {2});
+    advance(249);
+    assertEquals(1, sent.size());
+    advance(1);
+    assertEquals(2, sent.size());
+  }
+
+  @Test
+  public void sendsPendingValuesWhenDisabled() {
+    batcher.enable(1, 10000, 0, 0);
+    batcher.add(1, new byte[] {1});
+    batcher.disable(1);
+    assertEquals(1, sent.size());
+    assertFalse(batcher.add(1, new byte[] {2}));
+    advance(20000);
+    assertEquals(1, sent.size());
+  }
+
+  @Test
+  public void flushSendsNothingWhenEmpty() {
+    batcher.flush();
+    assertTrue(sent.isEmpty());
+  }
+}
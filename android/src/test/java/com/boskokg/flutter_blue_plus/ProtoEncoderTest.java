@@ -0,0 +1,143 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import android.bluetooth.BluetoothAdapter;
+import android.bluetooth.BluetoothDevice;
+import android.bluetooth.BluetoothGattCharacteristic;
+import android.bluetooth.BluetoothGattDescriptor;
+import android.bluetooth.BluetoothGattService;
+
+import com.google.protobuf.ByteString;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.util.ReflectionHelpers;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/** The encoder has to give exactly the bytes the builders give. */
+@RunWith(RobolectricTestRunner.class)
+public class ProtoEncoderTest {
+
+  private static final String REMOTE_ID = "AA:BB:CC:DD:EE:FF";
+  private static final UUID SERVICE = UUID.fromString("0000180d-0000-1000-8000-00805f9b34fb");
+  private static final UUID SECONDARY = UUID.fromString("0000180f-0000-1000-8000-00805f9b34fb");
+  private static final UUID CHARACTERISTIC = UUID.fromString("00002a37-0000-1000-8000-00805f9b34fb");
+  private static final UUID CCCD = UUID.fromString("00002902-0000-1000-8000-00805f9b34fb");
+
+  private static BluetoothDevice device() {
+    return BluetoothAdapter.getDefaultAdapter().getRemoteDevice(REMOTE_ID);
+  }
+
+  private static BluetoothGattCharacteristic characteristic(int properties, int handle) {
+    BluetoothGattCharacteristic c = new BluetoothGattCharacteristic(CHARACTERISTIC, properties, 0);
+    ReflectionHelpers.setField(c, "mInstance", handle);
+    c.addDescriptor(new BluetoothGattDescriptor(CCCD, 0));
+    return c;
+  }
+
+  private static byte[] readResponse(BluetoothGattCharacteristic c, byte[] value, String error, GattIndex index) {
+    Protos.ReadCharacteristicResponse.Builder p = Protos.ReadCharacteristicResponse.newBuilder()
+        .setRemoteId(REMOTE_ID)
+        .setCharacteristic(ProtoMaker.from(device(), c, index).toBuilder().setValue(ByteString.copyFrom(value)));
+    if (error != null) {
+      p.setAndroidErrorMessage(error);
+    }
+    return p.build().toByteArray();
+  }
+
+  @Test
+  public void encodesCharacteristicValueChanged() {
+    byte[] expected = Protos.CharacteristicValueChanged.newBuilder()
+        .setRemoteId(REMOTE_ID)
+        .setHandle(42)
+        .setValue(ByteString.copyFrom(new byte[] {1, 2, 3}))
+        .build().toByteArray();
+    assertArrayEquals(expected, ProtoEncoder.get().characteristicValueChanged(REMOTE_ID, 42, new byte[] {1, 2, 3}).toByteArray());
+  }
+
+  @Test
+  public void leavesOutDefaultValues() {
+    byte[] expected = Protos.CharacteristicValueChanged.newBuilder().setRemoteId(REMOTE_ID).build().toByteArray();
+    assertArrayEquals(expected, ProtoEncoder.get().characteristicValueChanged(REMOTE_ID, 0, new byte[0]).toByteArray());
+  }
+
+  @Test
+  public void encodesRawScanResult() {
+    byte[] record = {0x02, 0x01, 0x06};
+    byte[] expected = Protos.RawScanResult.newBuilder()
+        .setRemoteId(REMOTE_ID)
+        .setRssi(-70)
+        .setAdvertisementData(ByteString.copyFrom(record))
+        .setConnectable(true)
+        .build().toByteArray();
+    assertArrayEquals(expected, ProtoEncoder.get().rawScanResult(REMOTE_ID, record, -70, true).toByteArray());
+  }
+
+  @Test
+  public void encodesParsedScanResult() {
+    Protos.BluetoothDevice device = ProtoMaker.from(device());
+    Protos.AdvertisementData advertisementData = AdvertisementParser.parse(new byte[] {0x02, 0x09, 'a', 0x02, 0x0A, 0x04});
+    byte[] expected = Protos.ScanResult.newBuilder()
+        .setDevice(device)
+        .setAdvertisementData(advertisementData)
+        .setRssi(-50)
+        .build().toByteArray();
+    assertArrayEquals(expected, ProtoEncoder.get().scanResult(device, advertisementData, -50).toByteArray());
+  }
+
+  @Test
+  public void encodesReadOfPrimaryServiceCharacteristic() {
+    BluetoothGattCharacteristic c = characteristic(
+        BluetoothGattCharacteristic.PROPERTY_READ | BluetoothGattCharacteristic.PROPERTY_NOTIFY, 42);
+    BluetoothGattService service = new BluetoothGattService(SERVICE, BluetoothGattService.SERVICE_TYPE_PRIMARY);
+    service.addCharacteristic(c);
+    GattIndex index = new GattIndex(Arrays.asList(service));
+    byte[] value = {5, 6, 7};
+    assertArrayEquals(readResponse(c, value, null, index),
+        ProtoEncoder.get().readCharacteristicResponse(device(), c, value, null, index).toByteArray());
+  }
+
+  @Test
+  public void encodesReadOfSecondaryServiceCharacteristic() {
+    BluetoothGattCharacteristic c = characteristic(BluetoothGattCharacteristic.PROPERTY_EXTENDED_PROPS, 7);
+    BluetoothGattService secondary = new BluetoothGattService(SECONDARY, BluetoothGattService.SERVICE_TYPE_SECONDARY);
+    secondary.addCharacteristic(c);
+    BluetoothGattService primary = new BluetoothGattService(SERVICE, BluetoothGattService.SERVICE_TYPE_PRIMARY);
+    primary.addService(secondary);
+    GattIndex index = new GattIndex(Arrays.asList(primary, secondary));
+    byte[] value = {1};
+    assertArrayEquals(readResponse(c, value, null, index),
+        ProtoEncoder.get().readCharacteristicResponse(device(), c, value, null, index).toByteArray());
+  }
+
+  @Test
+  public void encodesFailedRead() {
+    BluetoothGattCharacteristic c = characteristic(BluetoothGattCharacteristic.PROPERTY_READ, 1);
+    BluetoothGattService service = new BluetoothGattService(SERVICE, BluetoothGattService.SERVICE_TYPE_PRIMARY);
+    service.addCharacteristic(c);
+    GattIndex index = new GattIndex(Arrays.asList(service));
+    byte[] value = {9, 9};
+    assertArrayEquals(readResponse(c, value, "failed with status 133", index),
+        ProtoEncoder.get().readCharacteristicResponse(device(), c, value, "failed with status 133", index).toByteArray());
+  }
+
+  @Test
+  public void reusesBuffersAcrossMessages() {
+    ProtoEncoder encoder = ProtoEncoder.get();
+    encoder.characteristicValueChanged(REMOTE_ID, 1, new byte[300]).toByteArray();
+    byte[] expected = Protos.CharacteristicValueChanged.newBuilder()
+        .setRemoteId(REMOTE_ID)
+        .setHandle(2)
+        .setValue(ByteString.copyFrom(new byte[] {1}))
+        .build().toByteArray();
+    assertArrayEquals(expected, encoder.characteristicValueChanged(REMOTE_ID, 2, new byte[] {1}).toByteArray());
+  }
+}
@@ -0,0 +1,78 @@
+// Copyright 2017, Paul DeMarco.
+// All rights reserved. Use of this source code is governed by a
+// BSD-style license that can be found in the LICENSE file.
+
+package com.boskokg.flutter_blue_plus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ScannedDeviceSetTest {
+
+  private static String address(int i) {
+    return String.format("%02X:%02X:%02X:%02X:%02X:%02X", 0xC0, 0xFF, (i >> 16) & 0xFF, (i >> 8) & 0xFF, i & 0xFF, 0x01);
+  }
+
+  @Test
+  public void reportsEachDeviceOnceWithoutTimeout() {
+    ScannedDeviceSet set = new ScannedDeviceSet();
+    assertTrue(set.report("AA:BB:CC:DD:EE:FF", 0, 0));
+    assertFalse(set.report("AA:BB:CC:DD:EE:FF", 100000, 0));
+    assertTrue(set.report("AA:BB:CC:DD:EE:00", 100000, 0));
+  }
+
+  @Test
+  public void reportsDeviceAgainOnceTimeoutPassed() {
+    ScannedDeviceSet set = new ScannedDeviceSet();
+    assertTrue(set.report("AA:BB:CC:DD:EE:FF", 1000, 500));
+    assertFalse(set.report("AA:BB:CC:DD:EE:FF", 1499, 500));
+    assertTrue(set.report("AA:BB:CC:DD:EE:FF", 1500, 500));
+    // Counted from the last report
+    assertFalse(set.report("AA:BB:CC:DD:EE:FF", 1999, 500));
+  }
+
+  @Test
+  public void keepsDevicesWhenGrowing() {
+    ScannedDeviceSet set = new ScannedDeviceSet();
+    for (int i = 0; i < 5000; i++) {
+      assertTrue(set.report(address(i), 0, 0));
+    }
+    for (int i = 0; i < 5000; i++) {
+      assertFalse(set.report(address(i), 0, 0));
+    }
+  }
+
+  @Test
+  public void clearForgetsDevices() {
+    ScannedDeviceSet set = new ScannedDeviceSet();
+    for (int i = 0; i < 1000; i++) {
+      set.report(address(i), 0, 0);
+    }
+    set.clear();
+    for (int i = 0; i < 1000; i++) {
+      assertTrue(set.report(address(i), 0, 0));
+    }
+  }
+
+  @Test
+  public void alwaysReportsMalformedAddresses() {
+    ScannedDeviceSet set = new ScannedDeviceSet();
+    assertTrue(set.report("not an address", 0, 0));
+    assertTrue(set.report("not an address", 0, 0));
+    assertTrue(set.report(null, 0, 0));
+    assertTrue(set.report(null, 0, 0));
+  }
+
+  @Test
+  public void packsAddressesIntoLongs() {
+    assertEquals(0xAABBCCDDEEFFL, ScannedDeviceSet.pack("AA:BB:CC:DD:EE:FF"));
+    assertEquals(0xAABBCCDDEEFFL, ScannedDeviceSet.pack("aa:bb:cc:dd:ee:ff"));
+    assertEquals(0L, ScannedDeviceSet.pack("00:00:00:00:00:00"));
+    assertEquals(-1L, ScannedDeviceSet.pack("AA-BB-CC-DD-EE-FF"));
+    assertEquals(-1L, ScannedDeviceSet.pack("AA:BB:CC:DD:EE:GG"));
+    assertEquals(-1L, ScannedDeviceSet.pack("AA:BB:CC:DD:EE"));
+  }
+}
@@ -33,8 +33,15 @@ CF_EXTERN_C_BEGIN
 @class ProtosBluetoothDevice;
 @class ProtosBluetoothService;
 @class ProtosCharacteristicProperties;
+@class ProtosConnectRequest;
+@class ProtosDiscoverServicesResult;
 @class ProtosInt32Value;
+@class ProtosManufacturerDataFilter;
+@class ProtosRawScanResult;
 @class ProtosReadDescriptorRequest;
+@class ProtosScanResult;
+@class ProtosServiceDataFilter;
+@class ProtosSetNotificationRequest;
 @class ProtosWriteCharacteristicRequest;
 @class ProtosWriteDescriptorRequest;
 
@@ -156,6 +163,28 @@ GPBEnumDescriptor *ProtosDeviceConnectionStatusResponse_BluetoothDeviceState_Enu
  **/
 BOOL ProtosDeviceConnectionStatusResponse_BluetoothDeviceState_IsValidValue(int32_t value);
 
+#pragma mark - Enum ProtosConnectionPriorityRequest_ConnectionPriority
+
+typedef GPB_ENUM(ProtosConnectionPriorityRequest_ConnectionPriority) {
+  /**
+   * Value used if any message's field encounters a value that is not defined
+   * by this enum. The message will also have C functions to get/set the rawValue
+   * of the field.
+   **/
+  ProtosConnectionPriorityRequest_ConnectionPriority_GPBUnrecognizedEnumeratorValue = kGPBUnrecognizedEnumeratorValue,
+  ProtosConnectionPriorityRequest_ConnectionPriority_Balanced = 0,
+  ProtosConnectionPriorityRequest_ConnectionPriority_High = 1,
+  ProtosConnectionPriorityRequest_ConnectionPriority_LowPower = 2,
+};
+
+GPBEnumDescriptor *ProtosConnectionPriorityRequest_ConnectionPriority_EnumDescriptor(void);
+
+/**
+ * Checks to see if the given value is defined by the enum or was not known at
+ * the time this source was generated.
+ **/
+BOOL ProtosConnectionPriorityRequest_ConnectionPriority_IsValidValue(int32_t value);
+
 #pragma mark - ProtosFlutterblueplusRoot
 
 /**
@@ -256,6 +285,16 @@ typedef GPB_ENUM(ProtosScanSettings_FieldNumber) {
   ProtosScanSettings_FieldNumber_AndroidScanMode = 1,
   ProtosScanSettings_FieldNumber_ServiceUuidsArray = 2,
   ProtosScanSettings_FieldNumber_AllowDuplicates = 3,
+  ProtosScanSettings_FieldNumber_AndroidReportDelayMillis = 4,
+  ProtosScanSettings_FieldNumber_AndroidBatchWindowMillis = 5,
+  ProtosScanSettings_FieldNumber_AndroidBatchSize = 6,
+  ProtosScanSettings_FieldNumber_AndroidDuplicateTimeoutMillis = 7,
+  ProtosScanSettings_FieldNumber_AndroidRawAdvertisements = 8,
+  ProtosScanSettings_FieldNumber_AndroidManufacturerDataFiltersArray = 9,
+  ProtosScanSettings_FieldNumber_AndroidServiceDataFiltersArray = 10,
+  ProtosScanSettings_FieldNumber_AndroidNamesArray = 11,
+  ProtosScanSettings_FieldNumber_AndroidNamePrefixesArray = 12,
+  ProtosScanSettings_FieldNumber_AndroidMinRssi = 13,
 };
 
 GPB_FINAL @interface ProtosScanSettings : GPBMessage
@@ -268,6 +307,84 @@ GPB_FINAL @interface ProtosScanSettings : GPBMessage
 
 @property(nonatomic, readwrite) BOOL allowDuplicates;
 
+/** Let the controller queue results and report them in batches (0 = immediately). */
+@property(nonatomic, readwrite) int32_t androidReportDelayMillis;
+
+/** Collect results for this long before sending them as one ScanResults (0 = no window, results then wait at most a second for a batch to fill). */
+@property(nonatomic, readwrite) int32_t androidBatchWindowMillis;
+
+/** Send a ScanResults as soon as this many results are collected (0 = no limit). */
+@property(nonatomic, readwrite) int32_t androidBatchSize;
+
+/** Report a filtered duplicate again once this long has passed since it was last reported (0 = never). */
+@property(nonatomic, readwrite) int32_t androidDuplicateTimeoutMillis;
+
+/** Send RawScanResult with the unparsed scan record instead of ScanResult. */
+@property(nonatomic, readwrite) BOOL androidRawAdvertisements;
+
+/** Further filters, a result is reported when it matches any of them or any of service_uuids. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosManufacturerDataFilter*> *androidManufacturerDataFiltersArray;
+/** The number of items in @c androidManufacturerDataFiltersArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger androidManufacturerDataFiltersArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosServiceDataFilter*> *androidServiceDataFiltersArray;
+/** The number of items in @c androidServiceDataFiltersArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger androidServiceDataFiltersArray_Count;
+
+/** Exact advertised local names. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<NSString*> *androidNamesArray;
+/** The number of items in @c androidNamesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger androidNamesArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<NSString*> *androidNamePrefixesArray;
+/** The number of items in @c androidNamePrefixesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger androidNamePrefixesArray_Count;
+
+/** Results weaker than this are dropped regardless of the filters above. */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosInt32Value *androidMinRssi;
+/** Test to see if @c androidMinRssi has been set. */
+@property(nonatomic, readwrite) BOOL hasAndroidMinRssi;
+
+@end
+
+#pragma mark - ProtosManufacturerDataFilter
+
+typedef GPB_ENUM(ProtosManufacturerDataFilter_FieldNumber) {
+  ProtosManufacturerDataFilter_FieldNumber_ManufacturerId = 1,
+  ProtosManufacturerDataFilter_FieldNumber_Data_p = 2,
+  ProtosManufacturerDataFilter_FieldNumber_Mask = 3,
+};
+
+GPB_FINAL @interface ProtosManufacturerDataFilter : GPBMessage
+
+@property(nonatomic, readwrite) uint32_t manufacturerId;
+
+/** Prefix the manufacturer data has to start with (empty = any). */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *data_p;
+
+/** Bits of data that have to match (empty = all), same length as data. */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *mask;
+
+@end
+
+#pragma mark - ProtosServiceDataFilter
+
+typedef GPB_ENUM(ProtosServiceDataFilter_FieldNumber) {
+  ProtosServiceDataFilter_FieldNumber_ServiceUuid = 1,
+  ProtosServiceDataFilter_FieldNumber_Data_p = 2,
+  ProtosServiceDataFilter_FieldNumber_Mask = 3,
+};
+
+GPB_FINAL @interface ProtosServiceDataFilter : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *serviceUuid;
+
+/** Prefix the service data has to start with (empty = any). */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *data_p;
+
+/** Bits of data that have to match (empty = all), same length as data. */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *mask;
+
 @end
 
 #pragma mark - ProtosScanResult
@@ -293,11 +410,77 @@ GPB_FINAL @interface ProtosScanResult : GPBMessage
 
 @end
 
+#pragma mark - ProtosRawScanResult
+
+typedef GPB_ENUM(ProtosRawScanResult_FieldNumber) {
+  ProtosRawScanResult_FieldNumber_RemoteId = 1,
+  ProtosRawScanResult_FieldNumber_Rssi = 2,
+  ProtosRawScanResult_FieldNumber_AdvertisementData = 3,
+  ProtosRawScanResult_FieldNumber_Connectable = 4,
+};
+
+/**
+ * A scan result with the advertisement left unparsed.
+ **/
+GPB_FINAL @interface ProtosRawScanResult : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) int32_t rssi;
+
+/** The scan record as received. */
+@property(nonatomic, readwrite, copy, null_resettable) NSData *advertisementData;
+
+@property(nonatomic, readwrite) BOOL connectable;
+
+@end
+
+#pragma mark - ProtosScanResults
+
+typedef GPB_ENUM(ProtosScanResults_FieldNumber) {
+  ProtosScanResults_FieldNumber_ResultsArray = 1,
+  ProtosScanResults_FieldNumber_RawResultsArray = 2,
+};
+
+GPB_FINAL @interface ProtosScanResults : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosScanResult*> *resultsArray;
+/** The number of items in @c resultsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger resultsArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosRawScanResult*> *rawResultsArray;
+/** The number of items in @c rawResultsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger rawResultsArray_Count;
+
+@end
+
+#pragma mark - ProtosConnectionLimits
+
+typedef GPB_ENUM(ProtosConnectionLimits_FieldNumber) {
+  ProtosConnectionLimits_FieldNumber_MaxConnections = 1,
+  ProtosConnectionLimits_FieldNumber_MinIdleMillis = 2,
+};
+
+/**
+ * Android only. Connect requests over max_connections wait until a connection is closed, or until
+ * the least recently used one has been idle for min_idle_millis and is closed to make room.
+ **/
+GPB_FINAL @interface ProtosConnectionLimits : GPBMessage
+
+/** 0 for no limit */
+@property(nonatomic, readwrite) uint32_t maxConnections;
+
+@property(nonatomic, readwrite) uint32_t minIdleMillis;
+
+@end
+
 #pragma mark - ProtosConnectRequest
 
 typedef GPB_ENUM(ProtosConnectRequest_FieldNumber) {
   ProtosConnectRequest_FieldNumber_RemoteId = 1,
   ProtosConnectRequest_FieldNumber_AndroidAutoConnect = 2,
+  ProtosConnectRequest_FieldNumber_AndroidMtu = 3,
+  ProtosConnectRequest_FieldNumber_AndroidFastReconnect = 4,
 };
 
 GPB_FINAL @interface ProtosConnectRequest : GPBMessage
@@ -306,6 +489,70 @@ GPB_FINAL @interface ProtosConnectRequest : GPBMessage
 
 @property(nonatomic, readwrite) BOOL androidAutoConnect;
 
+/** MTU to negotiate as soon as the link is up, 0 keeps the default */
+@property(nonatomic, readwrite) uint32_t androidMtu;
+
+/** Keep the discovered services across reconnects and only check that they still hold */
+@property(nonatomic, readwrite) BOOL androidFastReconnect;
+
+@end
+
+#pragma mark - ProtosConnectAllRequest
+
+typedef GPB_ENUM(ProtosConnectAllRequest_FieldNumber) {
+  ProtosConnectAllRequest_FieldNumber_DevicesArray = 1,
+  ProtosConnectAllRequest_FieldNumber_NotificationsArray = 2,
+  ProtosConnectAllRequest_FieldNumber_MaxConcurrent = 3,
+  ProtosConnectAllRequest_FieldNumber_TimeoutMillis = 4,
+};
+
+/**
+ * Connects the devices, discovers their services and enables the notifications, a few devices at a time
+ **/
+GPB_FINAL @interface ProtosConnectAllRequest : GPBMessage
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosConnectRequest*> *devicesArray;
+/** The number of items in @c devicesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger devicesArray_Count;
+
+/** Enabled on every device, remote_id is ignored */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosSetNotificationRequest*> *notificationsArray;
+/** The number of items in @c notificationsArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger notificationsArray_Count;
+
+/** 0 for all at once */
+@property(nonatomic, readwrite) uint32_t maxConcurrent;
+
+/** per device, 0 for none */
+@property(nonatomic, readwrite) uint32_t timeoutMillis;
+
+@end
+
+#pragma mark - ProtosDeviceReady
+
+typedef GPB_ENUM(ProtosDeviceReady_FieldNumber) {
+  ProtosDeviceReady_FieldNumber_RemoteId = 1,
+  ProtosDeviceReady_FieldNumber_Success = 2,
+  ProtosDeviceReady_FieldNumber_ErrorMessage = 3,
+  ProtosDeviceReady_FieldNumber_Services = 4,
+};
+
+/**
+ * Sent once per device of a ConnectAllRequest
+ **/
+GPB_FINAL @interface ProtosDeviceReady : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) BOOL success;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *errorMessage;
+
+/** set on success */
+@property(nonatomic, readwrite, strong, null_resettable) ProtosDiscoverServicesResult *services;
+/** Test to see if @c services has been set. */
+@property(nonatomic, readwrite) BOOL hasServices;
+
 @end
 
 #pragma mark - ProtosBluetoothDevice
@@ -379,6 +626,7 @@ typedef GPB_ENUM(ProtosBluetoothCharacteristic_FieldNumber) {
   ProtosBluetoothCharacteristic_FieldNumber_DescriptorsArray = 5,
   ProtosBluetoothCharacteristic_FieldNumber_Properties = 6,
   ProtosBluetoothCharacteristic_FieldNumber_Value = 7,
+  ProtosBluetoothCharacteristic_FieldNumber_Handle = 8,
 };
 
 GPB_FINAL @interface ProtosBluetoothCharacteristic : GPBMessage
@@ -405,6 +653,9 @@ GPB_FINAL @interface ProtosBluetoothCharacteristic : GPBMessage
 
 @property(nonatomic, readwrite, copy, null_resettable) NSData *value;
 
+/** Identifies the characteristic within the connection (Android only). */
+@property(nonatomic, readwrite) uint32_t handle;
+
 @end
 
 #pragma mark - ProtosBluetoothDescriptor
@@ -477,6 +728,7 @@ GPB_FINAL @interface ProtosCharacteristicProperties : GPBMessage
 typedef GPB_ENUM(ProtosDiscoverServicesResult_FieldNumber) {
   ProtosDiscoverServicesResult_FieldNumber_RemoteId = 1,
   ProtosDiscoverServicesResult_FieldNumber_ServicesArray = 2,
+  ProtosDiscoverServicesResult_FieldNumber_AndroidErrorMessage = 3,
 };
 
 GPB_FINAL @interface ProtosDiscoverServicesResult : GPBMessage
@@ -487,6 +739,9 @@ GPB_FINAL @interface ProtosDiscoverServicesResult : GPBMessage
 /** The number of items in @c servicesArray without causing the array to be created. */
 @property(nonatomic, readonly) NSUInteger servicesArray_Count;
 
+/** Set when discovery did not finish, e.g. it timed out. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *androidErrorMessage;
+
 @end
 
 #pragma mark - ProtosReadCharacteristicRequest
@@ -515,6 +770,7 @@ GPB_FINAL @interface ProtosReadCharacteristicRequest : GPBMessage
 typedef GPB_ENUM(ProtosReadCharacteristicResponse_FieldNumber) {
   ProtosReadCharacteristicResponse_FieldNumber_RemoteId = 1,
   ProtosReadCharacteristicResponse_FieldNumber_Characteristic = 2,
+  ProtosReadCharacteristicResponse_FieldNumber_AndroidErrorMessage = 3,
 };
 
 GPB_FINAL @interface ProtosReadCharacteristicResponse : GPBMessage
@@ -525,6 +781,74 @@ GPB_FINAL @interface ProtosReadCharacteristicResponse : GPBMessage
 /** Test to see if @c characteristic has been set. */
 @property(nonatomic, readwrite) BOOL hasCharacteristic;
 
+/** Set when the read failed, the value is then not current. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *androidErrorMessage;
+
+@end
+
+#pragma mark - ProtosReadLongCharacteristicRequest
+
+typedef GPB_ENUM(ProtosReadLongCharacteristicRequest_FieldNumber) {
+  ProtosReadLongCharacteristicRequest_FieldNumber_RemoteId = 1,
+  ProtosReadLongCharacteristicRequest_FieldNumber_CharacteristicUuid = 2,
+  ProtosReadLongCharacteristicRequest_FieldNumber_ServiceUuid = 3,
+  ProtosReadLongCharacteristicRequest_FieldNumber_SecondaryServiceUuid = 4,
+  ProtosReadLongCharacteristicRequest_FieldNumber_MaxLength = 5,
+  ProtosReadLongCharacteristicRequest_FieldNumber_ChunkLength = 6,
+};
+
+/**
+ * Reads the characteristic repeatedly and concatenates the values, for devices that hand out
+ * large values one read at a time (Android only).
+ **/
+GPB_FINAL @interface ProtosReadLongCharacteristicRequest : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *serviceUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *secondaryServiceUuid;
+
+/** Stop once this many bytes were read (0 = 1 MiB). */
+@property(nonatomic, readwrite) uint32_t maxLength;
+
+/**
+ * Android reads long values with Read Blob requests itself and offers no offset, so a single read
+ * already returns the whole value (up to 512 bytes). Set this only for devices that hand out the
+ * next part of the value on every read: reads continue until one returns fewer bytes than this.
+ * 0 reads once.
+ **/
+@property(nonatomic, readwrite) uint32_t chunkLength;
+
+@end
+
+#pragma mark - ProtosReadLongCharacteristicResponse
+
+typedef GPB_ENUM(ProtosReadLongCharacteristicResponse_FieldNumber) {
+  ProtosReadLongCharacteristicResponse_FieldNumber_RemoteId = 1,
+  ProtosReadLongCharacteristicResponse_FieldNumber_CharacteristicUuid = 2,
+  ProtosReadLongCharacteristicResponse_FieldNumber_ServiceUuid = 3,
+  ProtosReadLongCharacteristicResponse_FieldNumber_Value = 4,
+  ProtosReadLongCharacteristicResponse_FieldNumber_Success = 5,
+  ProtosReadLongCharacteristicResponse_FieldNumber_ErrorMessage = 6,
+};
+
+GPB_FINAL @interface ProtosReadLongCharacteristicResponse : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *serviceUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSData *value;
+
+@property(nonatomic, readwrite) BOOL success;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *errorMessage;
+
 @end
 
 #pragma mark - ProtosReadDescriptorRequest
@@ -556,6 +880,7 @@ GPB_FINAL @interface ProtosReadDescriptorRequest : GPBMessage
 typedef GPB_ENUM(ProtosReadDescriptorResponse_FieldNumber) {
   ProtosReadDescriptorResponse_FieldNumber_Request = 1,
   ProtosReadDescriptorResponse_FieldNumber_Value = 2,
+  ProtosReadDescriptorResponse_FieldNumber_AndroidErrorMessage = 3,
 };
 
 GPB_FINAL @interface ProtosReadDescriptorResponse : GPBMessage
@@ -566,6 +891,9 @@ GPB_FINAL @interface ProtosReadDescriptorResponse : GPBMessage
 
 @property(nonatomic, readwrite, copy, null_resettable) NSData *value;
 
+/** Set when the read failed. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *androidErrorMessage;
+
 @end
 
 #pragma mark - ProtosWriteCharacteristicRequest
@@ -607,6 +935,111 @@ int32_t ProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacter
  **/
 void SetProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacteristicRequest *message, int32_t value);
 
+#pragma mark - ProtosReliableWriteRequest
+
+typedef GPB_ENUM(ProtosReliableWriteRequest_FieldNumber) {
+  ProtosReliableWriteRequest_FieldNumber_RemoteId = 1,
+  ProtosReliableWriteRequest_FieldNumber_WritesArray = 2,
+};
+
+/**
+ * Writes several characteristics as one prepared write transaction (Android only).
+ **/
+GPB_FINAL @interface ProtosReliableWriteRequest : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+/** Applied in this order, write_type is ignored. */
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<ProtosWriteCharacteristicRequest*> *writesArray;
+/** The number of items in @c writesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger writesArray_Count;
+
+@end
+
+#pragma mark - ProtosReliableWriteResponse
+
+typedef GPB_ENUM(ProtosReliableWriteResponse_FieldNumber) {
+  ProtosReliableWriteResponse_FieldNumber_RemoteId = 1,
+  ProtosReliableWriteResponse_FieldNumber_Success = 2,
+  ProtosReliableWriteResponse_FieldNumber_ErrorMessage = 3,
+};
+
+GPB_FINAL @interface ProtosReliableWriteResponse : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) BOOL success;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *errorMessage;
+
+@end
+
+#pragma mark - ProtosWriteStreamRequest
+
+typedef GPB_ENUM(ProtosWriteStreamRequest_FieldNumber) {
+  ProtosWriteStreamRequest_FieldNumber_RemoteId = 1,
+  ProtosWriteStreamRequest_FieldNumber_CharacteristicUuid = 2,
+  ProtosWriteStreamRequest_FieldNumber_ServiceUuid = 3,
+  ProtosWriteStreamRequest_FieldNumber_SecondaryServiceUuid = 4,
+  ProtosWriteStreamRequest_FieldNumber_Value = 5,
+  ProtosWriteStreamRequest_FieldNumber_ChunkSize = 6,
+};
+
+/**
+ * Writes a value of any length as a series of write without response chunks (Android only).
+ **/
+GPB_FINAL @interface ProtosWriteStreamRequest : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *serviceUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *secondaryServiceUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSData *value;
+
+/** Upper bound for the chunk size, the MTU is used when 0 or larger. */
+@property(nonatomic, readwrite) uint32_t chunkSize;
+
+@end
+
+#pragma mark - ProtosWriteStreamProgress
+
+typedef GPB_ENUM(ProtosWriteStreamProgress_FieldNumber) {
+  ProtosWriteStreamProgress_FieldNumber_RemoteId = 1,
+  ProtosWriteStreamProgress_FieldNumber_CharacteristicUuid = 2,
+  ProtosWriteStreamProgress_FieldNumber_ServiceUuid = 3,
+  ProtosWriteStreamProgress_FieldNumber_BytesWritten = 4,
+  ProtosWriteStreamProgress_FieldNumber_TotalBytes = 5,
+  ProtosWriteStreamProgress_FieldNumber_Done = 6,
+  ProtosWriteStreamProgress_FieldNumber_Success = 7,
+  ProtosWriteStreamProgress_FieldNumber_ErrorMessage = 8,
+};
+
+GPB_FINAL @interface ProtosWriteStreamProgress : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *characteristicUuid;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *serviceUuid;
+
+@property(nonatomic, readwrite) uint32_t bytesWritten;
+
+@property(nonatomic, readwrite) uint32_t totalBytes;
+
+/** Last message for this stream. */
+@property(nonatomic, readwrite) BOOL done;
+
+/** Set together with done. */
+@property(nonatomic, readwrite) BOOL success;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *errorMessage;
+
+@end
+
 #pragma mark - ProtosWriteCharacteristicResponse
 
 typedef GPB_ENUM(ProtosWriteCharacteristicResponse_FieldNumber) {
@@ -676,6 +1109,10 @@ typedef GPB_ENUM(ProtosSetNotificationRequest_FieldNumber) {
   ProtosSetNotificationRequest_FieldNumber_SecondaryServiceUuid = 3,
   ProtosSetNotificationRequest_FieldNumber_CharacteristicUuid = 4,
   ProtosSetNotificationRequest_FieldNumber_Enable = 5,
+  ProtosSetNotificationRequest_FieldNumber_AndroidBatchWindowMillis = 6,
+  ProtosSetNotificationRequest_FieldNumber_AndroidBatchCount = 7,
+  ProtosSetNotificationRequest_FieldNumber_AndroidBatchBytes = 8,
+  ProtosSetNotificationRequest_FieldNumber_AndroidMaxBatchesPerSecond = 9,
 };
 
 GPB_FINAL @interface ProtosSetNotificationRequest : GPBMessage
@@ -690,6 +1127,18 @@ GPB_FINAL @interface ProtosSetNotificationRequest : GPBMessage
 
 @property(nonatomic, readwrite) BOOL enable;
 
+/** Collect notifications natively and send them as NotificationBatch (Android only, all 0 = send each one). */
+@property(nonatomic, readwrite) uint32_t androidBatchWindowMillis;
+
+/** Send once this many values are collected. */
+@property(nonatomic, readwrite) uint32_t androidBatchCount;
+
+/** Send once the collected values add up to this many bytes. */
+@property(nonatomic, readwrite) uint32_t androidBatchBytes;
+
+/** Cap for the whole connection, the latest request wins (0 = no cap). */
+@property(nonatomic, readwrite) uint32_t androidMaxBatchesPerSecond;
+
 @end
 
 #pragma mark - ProtosSetNotificationResponse
@@ -729,6 +1178,63 @@ GPB_FINAL @interface ProtosOnCharacteristicChanged : GPBMessage
 
 @end
 
+#pragma mark - ProtosNotificationBatch
+
+typedef GPB_ENUM(ProtosNotificationBatch_FieldNumber) {
+  ProtosNotificationBatch_FieldNumber_RemoteId = 1,
+  ProtosNotificationBatch_FieldNumber_StartTimeMillis = 2,
+  ProtosNotificationBatch_FieldNumber_HandlesArray = 3,
+  ProtosNotificationBatch_FieldNumber_ValuesArray = 4,
+  ProtosNotificationBatch_FieldNumber_TimeOffsetsMicrosArray = 5,
+};
+
+/**
+ * Notifications of batched characteristics, collected on one connection (Android only).
+ **/
+GPB_FINAL @interface ProtosNotificationBatch : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+/** When the first value arrived, in milliseconds since the epoch. */
+@property(nonatomic, readwrite) double startTimeMillis;
+
+/** Characteristic of each value. */
+@property(nonatomic, readwrite, strong, null_resettable) GPBUInt32Array *handlesArray;
+/** The number of items in @c handlesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger handlesArray_Count;
+
+@property(nonatomic, readwrite, strong, null_resettable) NSMutableArray<NSData*> *valuesArray;
+/** The number of items in @c valuesArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger valuesArray_Count;
+
+/** When each value arrived, relative to start_time_millis. */
+@property(nonatomic, readwrite, strong, null_resettable) GPBUInt32Array *timeOffsetsMicrosArray;
+/** The number of items in @c timeOffsetsMicrosArray without causing the array to be created. */
+@property(nonatomic, readonly) NSUInteger timeOffsetsMicrosArray_Count;
+
+@end
+
+#pragma mark - ProtosCharacteristicValueChanged
+
+typedef GPB_ENUM(ProtosCharacteristicValueChanged_FieldNumber) {
+  ProtosCharacteristicValueChanged_FieldNumber_RemoteId = 1,
+  ProtosCharacteristicValueChanged_FieldNumber_Handle = 2,
+  ProtosCharacteristicValueChanged_FieldNumber_Value = 3,
+};
+
+/**
+ * Notification carrying only the new value, the characteristic is identified by its handle.
+ **/
+GPB_FINAL @interface ProtosCharacteristicValueChanged : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) uint32_t handle;
+
+@property(nonatomic, readwrite, copy, null_resettable) NSData *value;
+
+@end
+
 #pragma mark - ProtosDeviceStateResponse
 
 typedef GPB_ENUM(ProtosDeviceStateResponse_FieldNumber) {
@@ -764,6 +1270,9 @@ typedef GPB_ENUM(ProtosDeviceConnectionStatusResponse_FieldNumber) {
   ProtosDeviceConnectionStatusResponse_FieldNumber_Status = 3,
 };
 
+/**
+ * デバイス接続ステータス取得用
+ **/
 GPB_FINAL @interface ProtosDeviceConnectionStatusResponse : GPBMessage
 
 @property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
@@ -820,6 +1329,7 @@ GPB_FINAL @interface ProtosMtuSizeRequest : GPBMessage
 typedef GPB_ENUM(ProtosMtuSizeResponse_FieldNumber) {
   ProtosMtuSizeResponse_FieldNumber_RemoteId = 1,
   ProtosMtuSizeResponse_FieldNumber_Mtu = 2,
+  ProtosMtuSizeResponse_FieldNumber_AndroidErrorMessage = 3,
 };
 
 GPB_FINAL @interface ProtosMtuSizeResponse : GPBMessage
@@ -828,6 +1338,82 @@ GPB_FINAL @interface ProtosMtuSizeResponse : GPBMessage
 
 @property(nonatomic, readwrite) uint32_t mtu;
 
+/** Set when the MTU request failed, mtu is then unset. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *androidErrorMessage;
+
+@end
+
+#pragma mark - ProtosConnectionPriorityRequest
+
+typedef GPB_ENUM(ProtosConnectionPriorityRequest_FieldNumber) {
+  ProtosConnectionPriorityRequest_FieldNumber_RemoteId = 1,
+  ProtosConnectionPriorityRequest_FieldNumber_ConnectionPriority = 2,
+};
+
+GPB_FINAL @interface ProtosConnectionPriorityRequest : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) ProtosConnectionPriorityRequest_ConnectionPriority connectionPriority;
+
+@end
+
+/**
+ * Fetches the raw value of a @c ProtosConnectionPriorityRequest's @c connectionPriority property, even
+ * if the value was not defined by the enum at the time the code was generated.
+ **/
+int32_t ProtosConnectionPriorityRequest_ConnectionPriority_RawValue(ProtosConnectionPriorityRequest *message);
+/**
+ * Sets the raw value of an @c ProtosConnectionPriorityRequest's @c connectionPriority property, allowing
+ * it to be set to a value that was not defined by the enum at the time the code
+ * was generated.
+ **/
+void SetProtosConnectionPriorityRequest_ConnectionPriority_RawValue(ProtosConnectionPriorityRequest *message, int32_t value);
+
+#pragma mark - ProtosPreferredPhyRequest
+
+typedef GPB_ENUM(ProtosPreferredPhyRequest_FieldNumber) {
+  ProtosPreferredPhyRequest_FieldNumber_RemoteId = 1,
+  ProtosPreferredPhyRequest_FieldNumber_TxPhyMask = 2,
+  ProtosPreferredPhyRequest_FieldNumber_RxPhyMask = 3,
+  ProtosPreferredPhyRequest_FieldNumber_PhyOptions = 4,
+};
+
+/**
+ * PHY values: 1 = LE 1M, 2 = LE 2M, 3 = LE Coded. Masks combine 1 << (PHY - 1).
+ **/
+GPB_FINAL @interface ProtosPreferredPhyRequest : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) uint32_t txPhyMask;
+
+@property(nonatomic, readwrite) uint32_t rxPhyMask;
+
+/** Coding for LE Coded: 0 = no preference, 1 = S2, 2 = S8. */
+@property(nonatomic, readwrite) uint32_t phyOptions;
+
+@end
+
+#pragma mark - ProtosPhyResponse
+
+typedef GPB_ENUM(ProtosPhyResponse_FieldNumber) {
+  ProtosPhyResponse_FieldNumber_RemoteId = 1,
+  ProtosPhyResponse_FieldNumber_TxPhy = 2,
+  ProtosPhyResponse_FieldNumber_RxPhy = 3,
+  ProtosPhyResponse_FieldNumber_Success = 4,
+};
+
+GPB_FINAL @interface ProtosPhyResponse : GPBMessage
+
+@property(nonatomic, readwrite, copy, null_resettable) NSString *remoteId;
+
+@property(nonatomic, readwrite) uint32_t txPhy;
+
+@property(nonatomic, readwrite) uint32_t rxPhy;
+
+@property(nonatomic, readwrite) BOOL success;
+
 @end
 
 #pragma mark - ProtosReadRssiResult
@@ -835,6 +1421,7 @@ GPB_FINAL @interface ProtosMtuSizeResponse : GPBMessage
 typedef GPB_ENUM(ProtosReadRssiResult_FieldNumber) {
   ProtosReadRssiResult_FieldNumber_RemoteId = 1,
   ProtosReadRssiResult_FieldNumber_Rssi = 2,
+  ProtosReadRssiResult_FieldNumber_AndroidErrorMessage = 3,
 };
 
 GPB_FINAL @interface ProtosReadRssiResult : GPBMessage
@@ -843,6 +1430,9 @@ GPB_FINAL @interface ProtosReadRssiResult : GPBMessage
 
 @property(nonatomic, readwrite) int32_t rssi;
 
+/** Set when the read failed. */
+@property(nonatomic, readwrite, copy, null_resettable) NSString *androidErrorMessage;
+
 @end
 
 NS_ASSUME_NONNULL_END
@@ -32,8 +32,15 @@ GPBObjCClassDeclaration(ProtosBluetoothDescriptor);
 GPBObjCClassDeclaration(ProtosBluetoothDevice);
 GPBObjCClassDeclaration(ProtosBluetoothService);
 GPBObjCClassDeclaration(ProtosCharacteristicProperties);
+GPBObjCClassDeclaration(ProtosConnectRequest);
+GPBObjCClassDeclaration(ProtosDiscoverServicesResult);
 GPBObjCClassDeclaration(ProtosInt32Value);
+GPBObjCClassDeclaration(ProtosManufacturerDataFilter);
+GPBObjCClassDeclaration(ProtosRawScanResult);
 GPBObjCClassDeclaration(ProtosReadDescriptorRequest);
+GPBObjCClassDeclaration(ProtosScanResult);
+GPBObjCClassDeclaration(ProtosServiceDataFilter);
+GPBObjCClassDeclaration(ProtosSetNotificationRequest);
 GPBObjCClassDeclaration(ProtosWriteCharacteristicRequest);
 GPBObjCClassDeclaration(ProtosWriteDescriptorRequest);
 
@@ -315,11 +322,30 @@ typedef struct ProtosAdvertisementData__storage_ {
 @dynamic androidScanMode;
 @dynamic serviceUuidsArray, serviceUuidsArray_Count;
 @dynamic allowDuplicates;
+@dynamic androidReportDelayMillis;
+@dynamic androidBatchWindowMillis;
+@dynamic androidBatchSize;
+@dynamic androidDuplicateTimeoutMillis;
+@dynamic androidRawAdvertisements;
+@dynamic androidManufacturerDataFiltersArray, androidManufacturerDataFiltersArray_Count;
+@dynamic androidServiceDataFiltersArray, androidServiceDataFiltersArray_Count;
+@dynamic androidNamesArray, androidNamesArray_Count;
+@dynamic androidNamePrefixesArray, androidNamePrefixesArray_Count;
+@dynamic hasAndroidMinRssi, androidMinRssi;
 
 typedef struct ProtosScanSettings__storage_ {
   uint32_t _has_storage_[1];
   int32_t androidScanMode;
+  int32_t androidReportDelayMillis;
+  int32_t androidBatchWindowMillis;
+  int32_t androidBatchSize;
+  int32_t androidDuplicateTimeoutMillis;
   NSMutableArray *serviceUuidsArray;
+  NSMutableArray *androidManufacturerDataFiltersArray;
+  NSMutableArray *androidServiceDataFiltersArray;
+  NSMutableArray *androidNamesArray;
+  NSMutableArray *androidNamePrefixesArray;
+  ProtosInt32Value *androidMinRssi;
 } ProtosScanSettings__storage_;
 
 // This method is threadsafe because it is initially called
@@ -355,6 +381,96 @@ typedef struct ProtosScanSettings__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBool,
       },
+      {
+        .name = "androidReportDelayMillis",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidReportDelayMillis,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidReportDelayMillis),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidBatchWindowMillis",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidBatchWindowMillis,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidBatchWindowMillis),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidBatchSize",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidBatchSize,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidBatchSize),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidDuplicateTimeoutMillis",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidDuplicateTimeoutMillis,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidDuplicateTimeoutMillis),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "androidRawAdvertisements",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidRawAdvertisements,
+        .hasIndex = 7,
+        .offset = 8,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "androidManufacturerDataFiltersArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosManufacturerDataFilter),
+        .number = ProtosScanSettings_FieldNumber_AndroidManufacturerDataFiltersArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidManufacturerDataFiltersArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "androidServiceDataFiltersArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosServiceDataFilter),
+        .number = ProtosScanSettings_FieldNumber_AndroidServiceDataFiltersArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidServiceDataFiltersArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "androidNamesArray",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidNamesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidNamesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "androidNamePrefixesArray",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosScanSettings_FieldNumber_AndroidNamePrefixesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidNamePrefixesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "androidMinRssi",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosInt32Value),
+        .number = ProtosScanSettings_FieldNumber_AndroidMinRssi,
+        .hasIndex = 9,
+        .offset = (uint32_t)offsetof(ProtosScanSettings__storage_, androidMinRssi),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosScanSettings class]
@@ -374,6 +490,140 @@ typedef struct ProtosScanSettings__storage_ {
 
 @end
 
+#pragma mark - ProtosManufacturerDataFilter
+
+@implementation ProtosManufacturerDataFilter
+
+@dynamic manufacturerId;
+@dynamic data_p;
+@dynamic mask;
+
+typedef struct ProtosManufacturerDataFilter__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t manufacturerId;
+  NSData *data_p;
+  NSData *mask;
+} ProtosManufacturerDataFilter__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "manufacturerId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosManufacturerDataFilter_FieldNumber_ManufacturerId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosManufacturerDataFilter__storage_, manufacturerId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "data_p",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosManufacturerDataFilter_FieldNumber_Data_p,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosManufacturerDataFilter__storage_, data_p),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "mask",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosManufacturerDataFilter_FieldNumber_Mask,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosManufacturerDataFilter__storage_, mask),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosManufacturerDataFilter class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosManufacturerDataFilter__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosServiceDataFilter
+
+@implementation ProtosServiceDataFilter
+
+@dynamic serviceUuid;
+@dynamic data_p;
+@dynamic mask;
+
+typedef struct ProtosServiceDataFilter__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *serviceUuid;
+  NSData *data_p;
+  NSData *mask;
+} ProtosServiceDataFilter__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosServiceDataFilter_FieldNumber_ServiceUuid,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosServiceDataFilter__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "data_p",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosServiceDataFilter_FieldNumber_Data_p,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosServiceDataFilter__storage_, data_p),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "mask",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosServiceDataFilter_FieldNumber_Mask,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosServiceDataFilter__storage_, mask),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosServiceDataFilter class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosServiceDataFilter__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
 #pragma mark - ProtosScanResult
 
 @implementation ProtosScanResult
@@ -441,17 +691,21 @@ typedef struct ProtosScanResult__storage_ {
 
 @end
 
-#pragma mark - ProtosConnectRequest
+#pragma mark - ProtosRawScanResult
 
-@implementation ProtosConnectRequest
+@implementation ProtosRawScanResult
 
 @dynamic remoteId;
-@dynamic androidAutoConnect;
+@dynamic rssi;
+@dynamic advertisementData;
+@dynamic connectable;
 
-typedef struct ProtosConnectRequest__storage_ {
+typedef struct ProtosRawScanResult__storage_ {
   uint32_t _has_storage_[1];
+  int32_t rssi;
   NSString *remoteId;
-} ProtosConnectRequest__storage_;
+  NSData *advertisementData;
+} ProtosRawScanResult__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -462,29 +716,47 @@ typedef struct ProtosConnectRequest__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosConnectRequest_FieldNumber_RemoteId,
+        .number = ProtosRawScanResult_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosRawScanResult__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "androidAutoConnect",
+        .name = "rssi",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosConnectRequest_FieldNumber_AndroidAutoConnect,
+        .number = ProtosRawScanResult_FieldNumber_Rssi,
         .hasIndex = 1,
-        .offset = 2,  // Stored in _has_storage_ to save space.
+        .offset = (uint32_t)offsetof(ProtosRawScanResult__storage_, rssi),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeInt32,
+      },
+      {
+        .name = "advertisementData",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosRawScanResult_FieldNumber_AdvertisementData,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosRawScanResult__storage_, advertisementData),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "connectable",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosRawScanResult_FieldNumber_Connectable,
+        .hasIndex = 3,
+        .offset = 4,  // Stored in _has_storage_ to save space.
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBool,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosConnectRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosRawScanResult class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosConnectRequest__storage_)
+                                   storageSize:sizeof(ProtosRawScanResult__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -496,20 +768,18 @@ typedef struct ProtosConnectRequest__storage_ {
 
 @end
 
-#pragma mark - ProtosBluetoothDevice
+#pragma mark - ProtosScanResults
 
-@implementation ProtosBluetoothDevice
+@implementation ProtosScanResults
 
-@dynamic remoteId;
-@dynamic name;
-@dynamic type;
+@dynamic resultsArray, resultsArray_Count;
+@dynamic rawResultsArray, rawResultsArray_Count;
 
-typedef struct ProtosBluetoothDevice__storage_ {
+typedef struct ProtosScanResults__storage_ {
   uint32_t _has_storage_[1];
-  ProtosBluetoothDevice_Type type;
-  NSString *remoteId;
-  NSString *name;
-} ProtosBluetoothDevice__storage_;
+  NSMutableArray *resultsArray;
+  NSMutableArray *rawResultsArray;
+} ProtosScanResults__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -518,40 +788,87 @@ typedef struct ProtosBluetoothDevice__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
+        .name = "resultsArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosScanResult),
+        .number = ProtosScanResults_FieldNumber_ResultsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanResults__storage_, resultsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "rawResultsArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosRawScanResult),
+        .number = ProtosScanResults_FieldNumber_RawResultsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosScanResults__storage_, rawResultsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosScanResults class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosScanResults__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosConnectionLimits
+
+@implementation ProtosConnectionLimits
+
+@dynamic maxConnections;
+@dynamic minIdleMillis;
+
+typedef struct ProtosConnectionLimits__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t maxConnections;
+  uint32_t minIdleMillis;
+} ProtosConnectionLimits__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "maxConnections",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothDevice_FieldNumber_RemoteId,
+        .number = ProtosConnectionLimits_FieldNumber_MaxConnections,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosConnectionLimits__storage_, maxConnections),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeUInt32,
       },
       {
-        .name = "name",
+        .name = "minIdleMillis",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothDevice_FieldNumber_Name,
+        .number = ProtosConnectionLimits_FieldNumber_MinIdleMillis,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, name),
+        .offset = (uint32_t)offsetof(ProtosConnectionLimits__storage_, minIdleMillis),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "type",
-        .dataTypeSpecific.enumDescFunc = ProtosBluetoothDevice_Type_EnumDescriptor,
-        .number = ProtosBluetoothDevice_FieldNumber_Type,
-        .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, type),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeEnum,
+        .dataType = GPBDataTypeUInt32,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDevice class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectionLimits class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosBluetoothDevice__storage_)
+                                   storageSize:sizeof(ProtosConnectionLimits__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -563,11 +880,309 @@ typedef struct ProtosBluetoothDevice__storage_ {
 
 @end
 
-int32_t ProtosBluetoothDevice_Type_RawValue(ProtosBluetoothDevice *message) {
-  GPBDescriptor *descriptor = [ProtosBluetoothDevice descriptor];
-  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosBluetoothDevice_FieldNumber_Type];
-  return GPBGetMessageRawEnumField(message, field);
-}
+#pragma mark - ProtosConnectRequest
+
+@implementation ProtosConnectRequest
+
+@dynamic remoteId;
+@dynamic androidAutoConnect;
+@dynamic androidMtu;
+@dynamic androidFastReconnect;
+
+typedef struct ProtosConnectRequest__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t androidMtu;
+  NSString *remoteId;
+} ProtosConnectRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosConnectRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "androidAutoConnect",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosConnectRequest_FieldNumber_AndroidAutoConnect,
+        .hasIndex = 1,
+        .offset = 2,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "androidMtu",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosConnectRequest_FieldNumber_AndroidMtu,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosConnectRequest__storage_, androidMtu),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "androidFastReconnect",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosConnectRequest_FieldNumber_AndroidFastReconnect,
+        .hasIndex = 4,
+        .offset = 5,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectRequest class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosConnectRequest__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosConnectAllRequest
+
+@implementation ProtosConnectAllRequest
+
+@dynamic devicesArray, devicesArray_Count;
+@dynamic notificationsArray, notificationsArray_Count;
+@dynamic maxConcurrent;
+@dynamic timeoutMillis;
+
+typedef struct ProtosConnectAllRequest__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t maxConcurrent;
+  uint32_t timeoutMillis;
+  NSMutableArray *devicesArray;
+  NSMutableArray *notificationsArray;
+} ProtosConnectAllRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "devicesArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosConnectRequest),
+        .number = ProtosConnectAllRequest_FieldNumber_DevicesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosConnectAllRequest__storage_, devicesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "notificationsArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosSetNotificationRequest),
+        .number = ProtosConnectAllRequest_FieldNumber_NotificationsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosConnectAllRequest__storage_, notificationsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "maxConcurrent",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosConnectAllRequest_FieldNumber_MaxConcurrent,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosConnectAllRequest__storage_, maxConcurrent),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "timeoutMillis",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosConnectAllRequest_FieldNumber_TimeoutMillis,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosConnectAllRequest__storage_, timeoutMillis),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectAllRequest class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosConnectAllRequest__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosDeviceReady
+
+@implementation ProtosDeviceReady
+
+@dynamic remoteId;
+@dynamic success;
+@dynamic errorMessage;
+@dynamic hasServices, services;
+
+typedef struct ProtosDeviceReady__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSString *errorMessage;
+  ProtosDiscoverServicesResult *services;
+} ProtosDeviceReady__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosDeviceReady_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDeviceReady__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "success",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosDeviceReady_FieldNumber_Success,
+        .hasIndex = 1,
+        .offset = 2,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "errorMessage",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosDeviceReady_FieldNumber_ErrorMessage,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosDeviceReady__storage_, errorMessage),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "services",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosDiscoverServicesResult),
+        .number = ProtosDeviceReady_FieldNumber_Services,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosDeviceReady__storage_, services),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosDeviceReady class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosDeviceReady__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosBluetoothDevice
+
+@implementation ProtosBluetoothDevice
+
+@dynamic remoteId;
+@dynamic name;
+@dynamic type;
+
+typedef struct ProtosBluetoothDevice__storage_ {
+  uint32_t _has_storage_[1];
+  ProtosBluetoothDevice_Type type;
+  NSString *remoteId;
+  NSString *name;
+} ProtosBluetoothDevice__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothDevice_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "name",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothDevice_FieldNumber_Name,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, name),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "type",
+        .dataTypeSpecific.enumDescFunc = ProtosBluetoothDevice_Type_EnumDescriptor,
+        .number = ProtosBluetoothDevice_FieldNumber_Type,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDevice__storage_, type),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeEnum,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDevice class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBluetoothDevice__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+int32_t ProtosBluetoothDevice_Type_RawValue(ProtosBluetoothDevice *message) {
+  GPBDescriptor *descriptor = [ProtosBluetoothDevice descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosBluetoothDevice_FieldNumber_Type];
+  return GPBGetMessageRawEnumField(message, field);
+}
 
 void SetProtosBluetoothDevice_Type_RawValue(ProtosBluetoothDevice *message, int32_t value) {
   GPBDescriptor *descriptor = [ProtosBluetoothDevice descriptor];
@@ -663,34 +1278,601 @@ typedef struct ProtosBluetoothService__storage_ {
         .hasIndex = 2,
         .offset = 3,  // Stored in _has_storage_ to save space.
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "characteristicsArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothCharacteristic),
+        .number = ProtosBluetoothService_FieldNumber_CharacteristicsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, characteristicsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "includedServicesArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothService),
+        .number = ProtosBluetoothService_FieldNumber_IncludedServicesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, includedServicesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothService class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBluetoothService__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosBluetoothCharacteristic
+
+@implementation ProtosBluetoothCharacteristic
+
+@dynamic uuid;
+@dynamic remoteId;
+@dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
+@dynamic descriptorsArray, descriptorsArray_Count;
+@dynamic hasProperties, properties;
+@dynamic value;
+@dynamic handle;
+
+typedef struct ProtosBluetoothCharacteristic__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t handle;
+  NSString *uuid;
+  NSString *remoteId;
+  NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
+  NSMutableArray *descriptorsArray;
+  ProtosCharacteristicProperties *properties;
+  NSData *value;
+} ProtosBluetoothCharacteristic__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "uuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_Uuid,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, uuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_RemoteId,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "secondaryServiceUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_SecondaryServiceUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, secondaryServiceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "descriptorsArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothDescriptor),
+        .number = ProtosBluetoothCharacteristic_FieldNumber_DescriptorsArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, descriptorsArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "properties",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosCharacteristicProperties),
+        .number = ProtosBluetoothCharacteristic_FieldNumber_Properties,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, properties),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_Value,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, value),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "handle",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothCharacteristic_FieldNumber_Handle,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, handle),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothCharacteristic class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBluetoothCharacteristic__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+#if !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
+    static const char *extraTextFormatInfo =
+        "\002\003\013\000\004\024\000";
+    [localDescriptor setupExtraTextInfo:extraTextFormatInfo];
+#endif  // !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosBluetoothDescriptor
+
+@implementation ProtosBluetoothDescriptor
+
+@dynamic uuid;
+@dynamic remoteId;
+@dynamic serviceUuid;
+@dynamic characteristicUuid;
+@dynamic value;
+
+typedef struct ProtosBluetoothDescriptor__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *uuid;
+  NSString *remoteId;
+  NSString *serviceUuid;
+  NSString *characteristicUuid;
+  NSData *value;
+} ProtosBluetoothDescriptor__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "uuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothDescriptor_FieldNumber_Uuid,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, uuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothDescriptor_FieldNumber_RemoteId,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothDescriptor_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothDescriptor_FieldNumber_CharacteristicUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, characteristicUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosBluetoothDescriptor_FieldNumber_Value,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, value),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDescriptor class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosBluetoothDescriptor__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+#if !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
+    static const char *extraTextFormatInfo =
+        "\002\003\013\000\004\022\000";
+    [localDescriptor setupExtraTextInfo:extraTextFormatInfo];
+#endif  // !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosCharacteristicProperties
+
+@implementation ProtosCharacteristicProperties
+
+@dynamic broadcast;
+@dynamic read;
+@dynamic writeWithoutResponse;
+@dynamic write;
+@dynamic notify;
+@dynamic indicate;
+@dynamic authenticatedSignedWrites;
+@dynamic extendedProperties;
+@dynamic notifyEncryptionRequired;
+@dynamic indicateEncryptionRequired;
+
+typedef struct ProtosCharacteristicProperties__storage_ {
+  uint32_t _has_storage_[1];
+} ProtosCharacteristicProperties__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "broadcast",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_Broadcast,
+        .hasIndex = 0,
+        .offset = 1,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "read",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_Read,
+        .hasIndex = 2,
+        .offset = 3,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "writeWithoutResponse",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_WriteWithoutResponse,
+        .hasIndex = 4,
+        .offset = 5,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "write",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_Write,
+        .hasIndex = 6,
+        .offset = 7,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "notify",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_Notify,
+        .hasIndex = 8,
+        .offset = 9,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "indicate",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_Indicate,
+        .hasIndex = 10,
+        .offset = 11,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "authenticatedSignedWrites",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_AuthenticatedSignedWrites,
+        .hasIndex = 12,
+        .offset = 13,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "extendedProperties",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_ExtendedProperties,
+        .hasIndex = 14,
+        .offset = 15,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "notifyEncryptionRequired",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_NotifyEncryptionRequired,
+        .hasIndex = 16,
+        .offset = 17,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "indicateEncryptionRequired",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicProperties_FieldNumber_IndicateEncryptionRequired,
+        .hasIndex = 18,
+        .offset = 19,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosCharacteristicProperties class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosCharacteristicProperties__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosDiscoverServicesResult
+
+@implementation ProtosDiscoverServicesResult
+
+@dynamic remoteId;
+@dynamic servicesArray, servicesArray_Count;
+@dynamic androidErrorMessage;
+
+typedef struct ProtosDiscoverServicesResult__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSMutableArray *servicesArray;
+  NSString *androidErrorMessage;
+} ProtosDiscoverServicesResult__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosDiscoverServicesResult_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosDiscoverServicesResult__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "servicesArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothService),
+        .number = ProtosDiscoverServicesResult_FieldNumber_ServicesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosDiscoverServicesResult__storage_, servicesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "androidErrorMessage",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosDiscoverServicesResult_FieldNumber_AndroidErrorMessage,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosDiscoverServicesResult__storage_, androidErrorMessage),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosDiscoverServicesResult class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosDiscoverServicesResult__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosReadCharacteristicRequest
+
+@implementation ProtosReadCharacteristicRequest
+
+@dynamic remoteId;
+@dynamic characteristicUuid;
+@dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
+
+typedef struct ProtosReadCharacteristicRequest__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  NSString *characteristicUuid;
+  NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
+} ProtosReadCharacteristicRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_CharacteristicUuid,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, characteristicUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "secondaryServiceUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadCharacteristicRequest_FieldNumber_SecondaryServiceUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, secondaryServiceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicRequest class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosReadCharacteristicRequest__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosReadCharacteristicResponse
+
+@implementation ProtosReadCharacteristicResponse
+
+@dynamic remoteId;
+@dynamic hasCharacteristic, characteristic;
+@dynamic androidErrorMessage;
+
+typedef struct ProtosReadCharacteristicResponse__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  ProtosBluetoothCharacteristic *characteristic;
+  NSString *androidErrorMessage;
+} ProtosReadCharacteristicResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadCharacteristicResponse_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
       },
       {
-        .name = "characteristicsArray",
+        .name = "characteristic",
         .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothCharacteristic),
-        .number = ProtosBluetoothService_FieldNumber_CharacteristicsArray,
-        .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, characteristicsArray),
-        .flags = GPBFieldRepeated,
+        .number = ProtosReadCharacteristicResponse_FieldNumber_Characteristic,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, characteristic),
+        .flags = GPBFieldOptional,
         .dataType = GPBDataTypeMessage,
       },
       {
-        .name = "includedServicesArray",
-        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothService),
-        .number = ProtosBluetoothService_FieldNumber_IncludedServicesArray,
-        .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosBluetoothService__storage_, includedServicesArray),
-        .flags = GPBFieldRepeated,
-        .dataType = GPBDataTypeMessage,
+        .name = "androidErrorMessage",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadCharacteristicResponse_FieldNumber_AndroidErrorMessage,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, androidErrorMessage),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothService class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicResponse class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosBluetoothService__storage_)
+                                   storageSize:sizeof(ProtosReadCharacteristicResponse__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -702,28 +1884,26 @@ typedef struct ProtosBluetoothService__storage_ {
 
 @end
 
-#pragma mark - ProtosBluetoothCharacteristic
+#pragma mark - ProtosReadLongCharacteristicRequest
 
-@implementation ProtosBluetoothCharacteristic
+@implementation ProtosReadLongCharacteristicRequest
 
-@dynamic uuid;
 @dynamic remoteId;
+@dynamic characteristicUuid;
 @dynamic serviceUuid;
 @dynamic secondaryServiceUuid;
-@dynamic descriptorsArray, descriptorsArray_Count;
-@dynamic hasProperties, properties;
-@dynamic value;
+@dynamic maxLength;
+@dynamic chunkLength;
 
-typedef struct ProtosBluetoothCharacteristic__storage_ {
+typedef struct ProtosReadLongCharacteristicRequest__storage_ {
   uint32_t _has_storage_[1];
-  NSString *uuid;
+  uint32_t maxLength;
+  uint32_t chunkLength;
   NSString *remoteId;
+  NSString *characteristicUuid;
   NSString *serviceUuid;
   NSString *secondaryServiceUuid;
-  NSMutableArray *descriptorsArray;
-  ProtosCharacteristicProperties *properties;
-  NSData *value;
-} ProtosBluetoothCharacteristic__storage_;
+} ProtosReadLongCharacteristicRequest__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -732,82 +1912,68 @@ typedef struct ProtosBluetoothCharacteristic__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "uuid",
+        .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_Uuid,
+        .number = ProtosReadLongCharacteristicRequest_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, uuid),
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicRequest__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "remoteId",
+        .name = "characteristicUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_RemoteId,
+        .number = ProtosReadLongCharacteristicRequest_FieldNumber_CharacteristicUuid,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicRequest__storage_, characteristicUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
         .name = "serviceUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_ServiceUuid,
+        .number = ProtosReadLongCharacteristicRequest_FieldNumber_ServiceUuid,
         .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, serviceUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom | GPBFieldClearHasIvarOnZero),
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicRequest__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
         .name = "secondaryServiceUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_SecondaryServiceUuid,
+        .number = ProtosReadLongCharacteristicRequest_FieldNumber_SecondaryServiceUuid,
         .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, secondaryServiceUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom | GPBFieldClearHasIvarOnZero),
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicRequest__storage_, secondaryServiceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "descriptorsArray",
-        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothDescriptor),
-        .number = ProtosBluetoothCharacteristic_FieldNumber_DescriptorsArray,
-        .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, descriptorsArray),
-        .flags = GPBFieldRepeated,
-        .dataType = GPBDataTypeMessage,
-      },
-      {
-        .name = "properties",
-        .dataTypeSpecific.clazz = GPBObjCClass(ProtosCharacteristicProperties),
-        .number = ProtosBluetoothCharacteristic_FieldNumber_Properties,
+        .name = "maxLength",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadLongCharacteristicRequest_FieldNumber_MaxLength,
         .hasIndex = 4,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, properties),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicRequest__storage_, maxLength),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
       },
       {
-        .name = "value",
+        .name = "chunkLength",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothCharacteristic_FieldNumber_Value,
+        .number = ProtosReadLongCharacteristicRequest_FieldNumber_ChunkLength,
         .hasIndex = 5,
-        .offset = (uint32_t)offsetof(ProtosBluetoothCharacteristic__storage_, value),
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicRequest__storage_, chunkLength),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBytes,
+        .dataType = GPBDataTypeUInt32,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothCharacteristic class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadLongCharacteristicRequest class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosBluetoothCharacteristic__storage_)
+                                   storageSize:sizeof(ProtosReadLongCharacteristicRequest__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
-#if !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
-    static const char *extraTextFormatInfo =
-        "\002\003\013\000\004\024\000";
-    [localDescriptor setupExtraTextInfo:extraTextFormatInfo];
-#endif  // !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
     #endif  // DEBUG
@@ -818,24 +1984,25 @@ typedef struct ProtosBluetoothCharacteristic__storage_ {
 
 @end
 
-#pragma mark - ProtosBluetoothDescriptor
+#pragma mark - ProtosReadLongCharacteristicResponse
 
-@implementation ProtosBluetoothDescriptor
+@implementation ProtosReadLongCharacteristicResponse
 
-@dynamic uuid;
 @dynamic remoteId;
-@dynamic serviceUuid;
 @dynamic characteristicUuid;
+@dynamic serviceUuid;
 @dynamic value;
+@dynamic success;
+@dynamic errorMessage;
 
-typedef struct ProtosBluetoothDescriptor__storage_ {
+typedef struct ProtosReadLongCharacteristicResponse__storage_ {
   uint32_t _has_storage_[1];
-  NSString *uuid;
   NSString *remoteId;
-  NSString *serviceUuid;
   NSString *characteristicUuid;
+  NSString *serviceUuid;
   NSData *value;
-} ProtosBluetoothDescriptor__storage_;
+  NSString *errorMessage;
+} ProtosReadLongCharacteristicResponse__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -844,64 +2011,68 @@ typedef struct ProtosBluetoothDescriptor__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "uuid",
+        .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothDescriptor_FieldNumber_Uuid,
+        .number = ProtosReadLongCharacteristicResponse_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, uuid),
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicResponse__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "remoteId",
+        .name = "characteristicUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothDescriptor_FieldNumber_RemoteId,
+        .number = ProtosReadLongCharacteristicResponse_FieldNumber_CharacteristicUuid,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicResponse__storage_, characteristicUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
         .name = "serviceUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothDescriptor_FieldNumber_ServiceUuid,
+        .number = ProtosReadLongCharacteristicResponse_FieldNumber_ServiceUuid,
         .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, serviceUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom | GPBFieldClearHasIvarOnZero),
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicResponse__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "characteristicUuid",
+        .name = "value",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothDescriptor_FieldNumber_CharacteristicUuid,
+        .number = ProtosReadLongCharacteristicResponse_FieldNumber_Value,
         .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, characteristicUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldTextFormatNameCustom | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeString,
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicResponse__storage_, value),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
       },
       {
-        .name = "value",
+        .name = "success",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosBluetoothDescriptor_FieldNumber_Value,
+        .number = ProtosReadLongCharacteristicResponse_FieldNumber_Success,
         .hasIndex = 4,
-        .offset = (uint32_t)offsetof(ProtosBluetoothDescriptor__storage_, value),
+        .offset = 5,  // Stored in _has_storage_ to save space.
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBytes,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "errorMessage",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadLongCharacteristicResponse_FieldNumber_ErrorMessage,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosReadLongCharacteristicResponse__storage_, errorMessage),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosBluetoothDescriptor class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadLongCharacteristicResponse class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosBluetoothDescriptor__storage_)
+                                   storageSize:sizeof(ProtosReadLongCharacteristicResponse__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
-#if !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
-    static const char *extraTextFormatInfo =
-        "\002\003\013\000\004\022\000";
-    [localDescriptor setupExtraTextInfo:extraTextFormatInfo];
-#endif  // !GPBOBJC_SKIP_MESSAGE_TEXTFORMAT_EXTRAS
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
     #endif  // DEBUG
@@ -912,24 +2083,24 @@ typedef struct ProtosBluetoothDescriptor__storage_ {
 
 @end
 
-#pragma mark - ProtosCharacteristicProperties
+#pragma mark - ProtosReadDescriptorRequest
 
-@implementation ProtosCharacteristicProperties
+@implementation ProtosReadDescriptorRequest
 
-@dynamic broadcast;
-@dynamic read;
-@dynamic writeWithoutResponse;
-@dynamic write;
-@dynamic notify;
-@dynamic indicate;
-@dynamic authenticatedSignedWrites;
-@dynamic extendedProperties;
-@dynamic notifyEncryptionRequired;
-@dynamic indicateEncryptionRequired;
+@dynamic remoteId;
+@dynamic descriptorUuid;
+@dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
+@dynamic characteristicUuid;
 
-typedef struct ProtosCharacteristicProperties__storage_ {
+typedef struct ProtosReadDescriptorRequest__storage_ {
   uint32_t _has_storage_[1];
-} ProtosCharacteristicProperties__storage_;
+  NSString *remoteId;
+  NSString *descriptorUuid;
+  NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
+  NSString *characteristicUuid;
+} ProtosReadDescriptorRequest__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -938,103 +2109,58 @@ typedef struct ProtosCharacteristicProperties__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "broadcast",
+        .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_Broadcast,
+        .number = ProtosReadDescriptorRequest_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = 1,  // Stored in _has_storage_ to save space.
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "read",
-        .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_Read,
-        .hasIndex = 2,
-        .offset = 3,  // Stored in _has_storage_ to save space.
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "writeWithoutResponse",
-        .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_WriteWithoutResponse,
-        .hasIndex = 4,
-        .offset = 5,  // Stored in _has_storage_ to save space.
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "write",
-        .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_Write,
-        .hasIndex = 6,
-        .offset = 7,  // Stored in _has_storage_ to save space.
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "notify",
-        .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_Notify,
-        .hasIndex = 8,
-        .offset = 9,  // Stored in _has_storage_ to save space.
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
-      },
-      {
-        .name = "indicate",
-        .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_Indicate,
-        .hasIndex = 10,
-        .offset = 11,  // Stored in _has_storage_ to save space.
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeString,
       },
       {
-        .name = "authenticatedSignedWrites",
+        .name = "descriptorUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_AuthenticatedSignedWrites,
-        .hasIndex = 12,
-        .offset = 13,  // Stored in _has_storage_ to save space.
+        .number = ProtosReadDescriptorRequest_FieldNumber_DescriptorUuid,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, descriptorUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeString,
       },
       {
-        .name = "extendedProperties",
+        .name = "serviceUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_ExtendedProperties,
-        .hasIndex = 14,
-        .offset = 15,  // Stored in _has_storage_ to save space.
+        .number = ProtosReadDescriptorRequest_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, serviceUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeString,
       },
       {
-        .name = "notifyEncryptionRequired",
+        .name = "secondaryServiceUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_NotifyEncryptionRequired,
-        .hasIndex = 16,
-        .offset = 17,  // Stored in _has_storage_ to save space.
+        .number = ProtosReadDescriptorRequest_FieldNumber_SecondaryServiceUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, secondaryServiceUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeString,
       },
       {
-        .name = "indicateEncryptionRequired",
-        .dataTypeSpecific.clazz = Nil,
-        .number = ProtosCharacteristicProperties_FieldNumber_IndicateEncryptionRequired,
-        .hasIndex = 18,
-        .offset = 19,  // Stored in _has_storage_ to save space.
+        .name = "characteristicUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadDescriptorRequest_FieldNumber_CharacteristicUuid,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, characteristicUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
+        .dataType = GPBDataTypeString,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosCharacteristicProperties class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadDescriptorRequest class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosCharacteristicProperties__storage_)
+                                   storageSize:sizeof(ProtosReadDescriptorRequest__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1046,18 +2172,20 @@ typedef struct ProtosCharacteristicProperties__storage_ {
 
 @end
 
-#pragma mark - ProtosDiscoverServicesResult
+#pragma mark - ProtosReadDescriptorResponse
 
-@implementation ProtosDiscoverServicesResult
+@implementation ProtosReadDescriptorResponse
 
-@dynamic remoteId;
-@dynamic servicesArray, servicesArray_Count;
+@dynamic hasRequest, request;
+@dynamic value;
+@dynamic androidErrorMessage;
 
-typedef struct ProtosDiscoverServicesResult__storage_ {
+typedef struct ProtosReadDescriptorResponse__storage_ {
   uint32_t _has_storage_[1];
-  NSString *remoteId;
-  NSMutableArray *servicesArray;
-} ProtosDiscoverServicesResult__storage_;
+  ProtosReadDescriptorRequest *request;
+  NSData *value;
+  NSString *androidErrorMessage;
+} ProtosReadDescriptorResponse__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1066,31 +2194,40 @@ typedef struct ProtosDiscoverServicesResult__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "remoteId",
-        .dataTypeSpecific.clazz = Nil,
-        .number = ProtosDiscoverServicesResult_FieldNumber_RemoteId,
+        .name = "request",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosReadDescriptorRequest),
+        .number = ProtosReadDescriptorResponse_FieldNumber_Request,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosDiscoverServicesResult__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, request),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadDescriptorResponse_FieldNumber_Value,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, value),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeBytes,
       },
       {
-        .name = "servicesArray",
-        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothService),
-        .number = ProtosDiscoverServicesResult_FieldNumber_ServicesArray,
-        .hasIndex = GPBNoHasBit,
-        .offset = (uint32_t)offsetof(ProtosDiscoverServicesResult__storage_, servicesArray),
-        .flags = GPBFieldRepeated,
-        .dataType = GPBDataTypeMessage,
+        .name = "androidErrorMessage",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadDescriptorResponse_FieldNumber_AndroidErrorMessage,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, androidErrorMessage),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosDiscoverServicesResult class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosReadDescriptorResponse class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosDiscoverServicesResult__storage_)
+                                   storageSize:sizeof(ProtosReadDescriptorResponse__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1102,22 +2239,26 @@ typedef struct ProtosDiscoverServicesResult__storage_ {
 
 @end
 
-#pragma mark - ProtosReadCharacteristicRequest
+#pragma mark - ProtosWriteCharacteristicRequest
 
-@implementation ProtosReadCharacteristicRequest
+@implementation ProtosWriteCharacteristicRequest
 
 @dynamic remoteId;
 @dynamic characteristicUuid;
 @dynamic serviceUuid;
 @dynamic secondaryServiceUuid;
+@dynamic writeType;
+@dynamic value;
 
-typedef struct ProtosReadCharacteristicRequest__storage_ {
+typedef struct ProtosWriteCharacteristicRequest__storage_ {
   uint32_t _has_storage_[1];
+  ProtosWriteCharacteristicRequest_WriteType writeType;
   NSString *remoteId;
   NSString *characteristicUuid;
   NSString *serviceUuid;
   NSString *secondaryServiceUuid;
-} ProtosReadCharacteristicRequest__storage_;
+  NSData *value;
+} ProtosWriteCharacteristicRequest__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1128,47 +2269,65 @@ typedef struct ProtosReadCharacteristicRequest__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadCharacteristicRequest_FieldNumber_RemoteId,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
         .name = "characteristicUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadCharacteristicRequest_FieldNumber_CharacteristicUuid,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_CharacteristicUuid,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, characteristicUuid),
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, characteristicUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
         .name = "serviceUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadCharacteristicRequest_FieldNumber_ServiceUuid,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_ServiceUuid,
         .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, serviceUuid),
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, serviceUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
         .name = "secondaryServiceUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadCharacteristicRequest_FieldNumber_SecondaryServiceUuid,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_SecondaryServiceUuid,
         .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicRequest__storage_, secondaryServiceUuid),
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, secondaryServiceUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
+      {
+        .name = "writeType",
+        .dataTypeSpecific.enumDescFunc = ProtosWriteCharacteristicRequest_WriteType_EnumDescriptor,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_WriteType,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, writeType),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeEnum,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteCharacteristicRequest_FieldNumber_Value,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, value),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
+      },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosWriteCharacteristicRequest class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosReadCharacteristicRequest__storage_)
+                                   storageSize:sizeof(ProtosWriteCharacteristicRequest__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1180,18 +2339,65 @@ typedef struct ProtosReadCharacteristicRequest__storage_ {
 
 @end
 
-#pragma mark - ProtosReadCharacteristicResponse
+int32_t ProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacteristicRequest *message) {
+  GPBDescriptor *descriptor = [ProtosWriteCharacteristicRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosWriteCharacteristicRequest_FieldNumber_WriteType];
+  return GPBGetMessageRawEnumField(message, field);
+}
 
-@implementation ProtosReadCharacteristicResponse
+void SetProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacteristicRequest *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosWriteCharacteristicRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosWriteCharacteristicRequest_FieldNumber_WriteType];
+  GPBSetMessageRawEnumField(message, field, value);
+}
+
+#pragma mark - Enum ProtosWriteCharacteristicRequest_WriteType
+
+GPBEnumDescriptor *ProtosWriteCharacteristicRequest_WriteType_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "WithResponse\000WithoutResponse\000";
+    static const int32_t values[] = {
+        ProtosWriteCharacteristicRequest_WriteType_WithResponse,
+        ProtosWriteCharacteristicRequest_WriteType_WithoutResponse,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosWriteCharacteristicRequest_WriteType)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosWriteCharacteristicRequest_WriteType_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosWriteCharacteristicRequest_WriteType_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosWriteCharacteristicRequest_WriteType_WithResponse:
+    case ProtosWriteCharacteristicRequest_WriteType_WithoutResponse:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - ProtosReliableWriteRequest
+
+@implementation ProtosReliableWriteRequest
 
 @dynamic remoteId;
-@dynamic hasCharacteristic, characteristic;
+@dynamic writesArray, writesArray_Count;
 
-typedef struct ProtosReadCharacteristicResponse__storage_ {
+typedef struct ProtosReliableWriteRequest__storage_ {
   uint32_t _has_storage_[1];
   NSString *remoteId;
-  ProtosBluetoothCharacteristic *characteristic;
-} ProtosReadCharacteristicResponse__storage_;
+  NSMutableArray *writesArray;
+} ProtosReliableWriteRequest__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1202,29 +2408,29 @@ typedef struct ProtosReadCharacteristicResponse__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadCharacteristicResponse_FieldNumber_RemoteId,
+        .number = ProtosReliableWriteRequest_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosReliableWriteRequest__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "characteristic",
-        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothCharacteristic),
-        .number = ProtosReadCharacteristicResponse_FieldNumber_Characteristic,
-        .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosReadCharacteristicResponse__storage_, characteristic),
-        .flags = GPBFieldOptional,
+        .name = "writesArray",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosWriteCharacteristicRequest),
+        .number = ProtosReliableWriteRequest_FieldNumber_WritesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosReliableWriteRequest__storage_, writesArray),
+        .flags = GPBFieldRepeated,
         .dataType = GPBDataTypeMessage,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosReadCharacteristicResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosReliableWriteRequest class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosReadCharacteristicResponse__storage_)
+                                   storageSize:sizeof(ProtosReliableWriteRequest__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1236,24 +2442,19 @@ typedef struct ProtosReadCharacteristicResponse__storage_ {
 
 @end
 
-#pragma mark - ProtosReadDescriptorRequest
+#pragma mark - ProtosReliableWriteResponse
 
-@implementation ProtosReadDescriptorRequest
+@implementation ProtosReliableWriteResponse
 
 @dynamic remoteId;
-@dynamic descriptorUuid;
-@dynamic serviceUuid;
-@dynamic secondaryServiceUuid;
-@dynamic characteristicUuid;
+@dynamic success;
+@dynamic errorMessage;
 
-typedef struct ProtosReadDescriptorRequest__storage_ {
+typedef struct ProtosReliableWriteResponse__storage_ {
   uint32_t _has_storage_[1];
   NSString *remoteId;
-  NSString *descriptorUuid;
-  NSString *serviceUuid;
-  NSString *secondaryServiceUuid;
-  NSString *characteristicUuid;
-} ProtosReadDescriptorRequest__storage_;
+  NSString *errorMessage;
+} ProtosReliableWriteResponse__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1264,56 +2465,38 @@ typedef struct ProtosReadDescriptorRequest__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadDescriptorRequest_FieldNumber_RemoteId,
+        .number = ProtosReliableWriteResponse_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosReliableWriteResponse__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "descriptorUuid",
+        .name = "success",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadDescriptorRequest_FieldNumber_DescriptorUuid,
+        .number = ProtosReliableWriteResponse_FieldNumber_Success,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, descriptorUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "serviceUuid",
-        .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadDescriptorRequest_FieldNumber_ServiceUuid,
-        .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, serviceUuid),
+        .offset = 2,  // Stored in _has_storage_ to save space.
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeBool,
       },
       {
-        .name = "secondaryServiceUuid",
+        .name = "errorMessage",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadDescriptorRequest_FieldNumber_SecondaryServiceUuid,
+        .number = ProtosReliableWriteResponse_FieldNumber_ErrorMessage,
         .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, secondaryServiceUuid),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeString,
-      },
-      {
-        .name = "characteristicUuid",
-        .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadDescriptorRequest_FieldNumber_CharacteristicUuid,
-        .hasIndex = 4,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorRequest__storage_, characteristicUuid),
+        .offset = (uint32_t)offsetof(ProtosReliableWriteResponse__storage_, errorMessage),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosReadDescriptorRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosReliableWriteResponse class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosReadDescriptorRequest__storage_)
+                                   storageSize:sizeof(ProtosReliableWriteResponse__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1325,18 +2508,26 @@ typedef struct ProtosReadDescriptorRequest__storage_ {
 
 @end
 
-#pragma mark - ProtosReadDescriptorResponse
+#pragma mark - ProtosWriteStreamRequest
 
-@implementation ProtosReadDescriptorResponse
+@implementation ProtosWriteStreamRequest
 
-@dynamic hasRequest, request;
+@dynamic remoteId;
+@dynamic characteristicUuid;
+@dynamic serviceUuid;
+@dynamic secondaryServiceUuid;
 @dynamic value;
+@dynamic chunkSize;
 
-typedef struct ProtosReadDescriptorResponse__storage_ {
+typedef struct ProtosWriteStreamRequest__storage_ {
   uint32_t _has_storage_[1];
-  ProtosReadDescriptorRequest *request;
+  uint32_t chunkSize;
+  NSString *remoteId;
+  NSString *characteristicUuid;
+  NSString *serviceUuid;
+  NSString *secondaryServiceUuid;
   NSData *value;
-} ProtosReadDescriptorResponse__storage_;
+} ProtosWriteStreamRequest__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1345,31 +2536,67 @@ typedef struct ProtosReadDescriptorResponse__storage_ {
   if (!descriptor) {
     static GPBMessageFieldDescription fields[] = {
       {
-        .name = "request",
-        .dataTypeSpecific.clazz = GPBObjCClass(ProtosReadDescriptorRequest),
-        .number = ProtosReadDescriptorResponse_FieldNumber_Request,
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteStreamRequest_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, request),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .offset = (uint32_t)offsetof(ProtosWriteStreamRequest__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristicUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteStreamRequest_FieldNumber_CharacteristicUuid,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosWriteStreamRequest__storage_, characteristicUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "serviceUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteStreamRequest_FieldNumber_ServiceUuid,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosWriteStreamRequest__storage_, serviceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "secondaryServiceUuid",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteStreamRequest_FieldNumber_SecondaryServiceUuid,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosWriteStreamRequest__storage_, secondaryServiceUuid),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
       },
       {
         .name = "value",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosReadDescriptorResponse_FieldNumber_Value,
-        .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosReadDescriptorResponse__storage_, value),
+        .number = ProtosWriteStreamRequest_FieldNumber_Value,
+        .hasIndex = 4,
+        .offset = (uint32_t)offsetof(ProtosWriteStreamRequest__storage_, value),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBytes,
       },
+      {
+        .name = "chunkSize",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteStreamRequest_FieldNumber_ChunkSize,
+        .hasIndex = 5,
+        .offset = (uint32_t)offsetof(ProtosWriteStreamRequest__storage_, chunkSize),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosReadDescriptorResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosWriteStreamRequest class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosReadDescriptorResponse__storage_)
+                                   storageSize:sizeof(ProtosWriteStreamRequest__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1381,26 +2608,28 @@ typedef struct ProtosReadDescriptorResponse__storage_ {
 
 @end
 
-#pragma mark - ProtosWriteCharacteristicRequest
+#pragma mark - ProtosWriteStreamProgress
 
-@implementation ProtosWriteCharacteristicRequest
+@implementation ProtosWriteStreamProgress
 
 @dynamic remoteId;
 @dynamic characteristicUuid;
 @dynamic serviceUuid;
-@dynamic secondaryServiceUuid;
-@dynamic writeType;
-@dynamic value;
+@dynamic bytesWritten;
+@dynamic totalBytes;
+@dynamic done;
+@dynamic success;
+@dynamic errorMessage;
 
-typedef struct ProtosWriteCharacteristicRequest__storage_ {
+typedef struct ProtosWriteStreamProgress__storage_ {
   uint32_t _has_storage_[1];
-  ProtosWriteCharacteristicRequest_WriteType writeType;
+  uint32_t bytesWritten;
+  uint32_t totalBytes;
   NSString *remoteId;
   NSString *characteristicUuid;
   NSString *serviceUuid;
-  NSString *secondaryServiceUuid;
-  NSData *value;
-} ProtosWriteCharacteristicRequest__storage_;
+  NSString *errorMessage;
+} ProtosWriteStreamProgress__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1411,65 +2640,83 @@ typedef struct ProtosWriteCharacteristicRequest__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_RemoteId,
+        .number = ProtosWriteStreamProgress_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosWriteStreamProgress__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
         .name = "characteristicUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_CharacteristicUuid,
+        .number = ProtosWriteStreamProgress_FieldNumber_CharacteristicUuid,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, characteristicUuid),
+        .offset = (uint32_t)offsetof(ProtosWriteStreamProgress__storage_, characteristicUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
         .name = "serviceUuid",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_ServiceUuid,
+        .number = ProtosWriteStreamProgress_FieldNumber_ServiceUuid,
         .hasIndex = 2,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, serviceUuid),
+        .offset = (uint32_t)offsetof(ProtosWriteStreamProgress__storage_, serviceUuid),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "secondaryServiceUuid",
+        .name = "bytesWritten",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_SecondaryServiceUuid,
+        .number = ProtosWriteStreamProgress_FieldNumber_BytesWritten,
         .hasIndex = 3,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, secondaryServiceUuid),
+        .offset = (uint32_t)offsetof(ProtosWriteStreamProgress__storage_, bytesWritten),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeString,
+        .dataType = GPBDataTypeUInt32,
       },
       {
-        .name = "writeType",
-        .dataTypeSpecific.enumDescFunc = ProtosWriteCharacteristicRequest_WriteType_EnumDescriptor,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_WriteType,
+        .name = "totalBytes",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteStreamProgress_FieldNumber_TotalBytes,
         .hasIndex = 4,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, writeType),
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeEnum,
+        .offset = (uint32_t)offsetof(ProtosWriteStreamProgress__storage_, totalBytes),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
       },
       {
-        .name = "value",
+        .name = "done",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosWriteCharacteristicRequest_FieldNumber_Value,
+        .number = ProtosWriteStreamProgress_FieldNumber_Done,
         .hasIndex = 5,
-        .offset = (uint32_t)offsetof(ProtosWriteCharacteristicRequest__storage_, value),
+        .offset = 6,  // Stored in _has_storage_ to save space.
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBytes,
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "success",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteStreamProgress_FieldNumber_Success,
+        .hasIndex = 7,
+        .offset = 8,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+      {
+        .name = "errorMessage",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosWriteStreamProgress_FieldNumber_ErrorMessage,
+        .hasIndex = 9,
+        .offset = (uint32_t)offsetof(ProtosWriteStreamProgress__storage_, errorMessage),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosWriteCharacteristicRequest class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosWriteStreamProgress class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosWriteCharacteristicRequest__storage_)
+                                   storageSize:sizeof(ProtosWriteStreamProgress__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1481,53 +2728,6 @@ typedef struct ProtosWriteCharacteristicRequest__storage_ {
 
 @end
 
-int32_t ProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacteristicRequest *message) {
-  GPBDescriptor *descriptor = [ProtosWriteCharacteristicRequest descriptor];
-  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosWriteCharacteristicRequest_FieldNumber_WriteType];
-  return GPBGetMessageRawEnumField(message, field);
-}
-
-void SetProtosWriteCharacteristicRequest_WriteType_RawValue(ProtosWriteCharacteristicRequest *message, int32_t value) {
-  GPBDescriptor *descriptor = [ProtosWriteCharacteristicRequest descriptor];
-  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosWriteCharacteristicRequest_FieldNumber_WriteType];
-  GPBSetMessageRawEnumField(message, field, value);
-}
-
-#pragma mark - Enum ProtosWriteCharacteristicRequest_WriteType
-
-GPBEnumDescriptor *ProtosWriteCharacteristicRequest_WriteType_EnumDescriptor(void) {
-  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
-  if (!descriptor) {
-    static const char *valueNames =
-        "WithResponse\000WithoutResponse\000";
-    static const int32_t values[] = {
-        ProtosWriteCharacteristicRequest_WriteType_WithResponse,
-        ProtosWriteCharacteristicRequest_WriteType_WithoutResponse,
-    };
-    GPBEnumDescriptor *worker =
-        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosWriteCharacteristicRequest_WriteType)
-                                       valueNames:valueNames
-                                           values:values
-                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
-                                     enumVerifier:ProtosWriteCharacteristicRequest_WriteType_IsValidValue];
-    GPBEnumDescriptor *expected = nil;
-    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
-      [worker release];
-    }
-  }
-  return descriptor;
-}
-
-BOOL ProtosWriteCharacteristicRequest_WriteType_IsValidValue(int32_t value__) {
-  switch (value__) {
-    case ProtosWriteCharacteristicRequest_WriteType_WithResponse:
-    case ProtosWriteCharacteristicRequest_WriteType_WithoutResponse:
-      return YES;
-    default:
-      return NO;
-  }
-}
-
 #pragma mark - ProtosWriteCharacteristicResponse
 
 @implementation ProtosWriteCharacteristicResponse
@@ -1747,9 +2947,17 @@ typedef struct ProtosWriteDescriptorResponse__storage_ {
 @dynamic secondaryServiceUuid;
 @dynamic characteristicUuid;
 @dynamic enable;
+@dynamic androidBatchWindowMillis;
+@dynamic androidBatchCount;
+@dynamic androidBatchBytes;
+@dynamic androidMaxBatchesPerSecond;
 
 typedef struct ProtosSetNotificationRequest__storage_ {
   uint32_t _has_storage_[1];
+  uint32_t androidBatchWindowMillis;
+  uint32_t androidBatchCount;
+  uint32_t androidBatchBytes;
+  uint32_t androidMaxBatchesPerSecond;
   NSString *remoteId;
   NSString *serviceUuid;
   NSString *secondaryServiceUuid;
@@ -1807,6 +3015,42 @@ typedef struct ProtosSetNotificationRequest__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeBool,
       },
+      {
+        .name = "androidBatchWindowMillis",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosSetNotificationRequest_FieldNumber_AndroidBatchWindowMillis,
+        .hasIndex = 6,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, androidBatchWindowMillis),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "androidBatchCount",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosSetNotificationRequest_FieldNumber_AndroidBatchCount,
+        .hasIndex = 7,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, androidBatchCount),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "androidBatchBytes",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosSetNotificationRequest_FieldNumber_AndroidBatchBytes,
+        .hasIndex = 8,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, androidBatchBytes),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "androidMaxBatchesPerSecond",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosSetNotificationRequest_FieldNumber_AndroidMaxBatchesPerSecond,
+        .hasIndex = 9,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationRequest__storage_, androidMaxBatchesPerSecond),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosSetNotificationRequest class]
@@ -1849,38 +3093,183 @@ typedef struct ProtosSetNotificationResponse__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosSetNotificationResponse_FieldNumber_RemoteId,
+        .number = ProtosSetNotificationResponse_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationResponse__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristic",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothCharacteristic),
+        .number = ProtosSetNotificationResponse_FieldNumber_Characteristic,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosSetNotificationResponse__storage_, characteristic),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+      {
+        .name = "success",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosSetNotificationResponse_FieldNumber_Success,
+        .hasIndex = 2,
+        .offset = 3,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosSetNotificationResponse class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosSetNotificationResponse__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosOnCharacteristicChanged
+
+@implementation ProtosOnCharacteristicChanged
+
+@dynamic remoteId;
+@dynamic hasCharacteristic, characteristic;
+
+typedef struct ProtosOnCharacteristicChanged__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  ProtosBluetoothCharacteristic *characteristic;
+} ProtosOnCharacteristicChanged__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosOnCharacteristicChanged_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "characteristic",
+        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothCharacteristic),
+        .number = ProtosOnCharacteristicChanged_FieldNumber_Characteristic,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, characteristic),
+        .flags = GPBFieldOptional,
+        .dataType = GPBDataTypeMessage,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosOnCharacteristicChanged class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosOnCharacteristicChanged__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosNotificationBatch
+
+@implementation ProtosNotificationBatch
+
+@dynamic remoteId;
+@dynamic startTimeMillis;
+@dynamic handlesArray, handlesArray_Count;
+@dynamic valuesArray, valuesArray_Count;
+@dynamic timeOffsetsMicrosArray, timeOffsetsMicrosArray_Count;
+
+typedef struct ProtosNotificationBatch__storage_ {
+  uint32_t _has_storage_[1];
+  NSString *remoteId;
+  GPBUInt32Array *handlesArray;
+  NSMutableArray *valuesArray;
+  GPBUInt32Array *timeOffsetsMicrosArray;
+  double startTimeMillis;
+} ProtosNotificationBatch__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationBatch_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosSetNotificationResponse__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosNotificationBatch__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "characteristic",
-        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothCharacteristic),
-        .number = ProtosSetNotificationResponse_FieldNumber_Characteristic,
+        .name = "startTimeMillis",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationBatch_FieldNumber_StartTimeMillis,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosSetNotificationResponse__storage_, characteristic),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .offset = (uint32_t)offsetof(ProtosNotificationBatch__storage_, startTimeMillis),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeDouble,
       },
       {
-        .name = "success",
+        .name = "handlesArray",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosSetNotificationResponse_FieldNumber_Success,
-        .hasIndex = 2,
-        .offset = 3,  // Stored in _has_storage_ to save space.
-        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
-        .dataType = GPBDataTypeBool,
+        .number = ProtosNotificationBatch_FieldNumber_HandlesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosNotificationBatch__storage_, handlesArray),
+        .flags = (GPBFieldFlags)(GPBFieldRepeated | GPBFieldPacked),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "valuesArray",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationBatch_FieldNumber_ValuesArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosNotificationBatch__storage_, valuesArray),
+        .flags = GPBFieldRepeated,
+        .dataType = GPBDataTypeBytes,
+      },
+      {
+        .name = "timeOffsetsMicrosArray",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosNotificationBatch_FieldNumber_TimeOffsetsMicrosArray,
+        .hasIndex = GPBNoHasBit,
+        .offset = (uint32_t)offsetof(ProtosNotificationBatch__storage_, timeOffsetsMicrosArray),
+        .flags = (GPBFieldFlags)(GPBFieldRepeated | GPBFieldPacked),
+        .dataType = GPBDataTypeUInt32,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosSetNotificationResponse class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosNotificationBatch class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosSetNotificationResponse__storage_)
+                                   storageSize:sizeof(ProtosNotificationBatch__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -1892,18 +3281,20 @@ typedef struct ProtosSetNotificationResponse__storage_ {
 
 @end
 
-#pragma mark - ProtosOnCharacteristicChanged
+#pragma mark - ProtosCharacteristicValueChanged
 
-@implementation ProtosOnCharacteristicChanged
+@implementation ProtosCharacteristicValueChanged
 
 @dynamic remoteId;
-@dynamic hasCharacteristic, characteristic;
+@dynamic handle;
+@dynamic value;
 
-typedef struct ProtosOnCharacteristicChanged__storage_ {
+typedef struct ProtosCharacteristicValueChanged__storage_ {
   uint32_t _has_storage_[1];
+  uint32_t handle;
   NSString *remoteId;
-  ProtosBluetoothCharacteristic *characteristic;
-} ProtosOnCharacteristicChanged__storage_;
+  NSData *value;
+} ProtosCharacteristicValueChanged__storage_;
 
 // This method is threadsafe because it is initially called
 // in +initialize for each subclass.
@@ -1914,29 +3305,38 @@ typedef struct ProtosOnCharacteristicChanged__storage_ {
       {
         .name = "remoteId",
         .dataTypeSpecific.clazz = Nil,
-        .number = ProtosOnCharacteristicChanged_FieldNumber_RemoteId,
+        .number = ProtosCharacteristicValueChanged_FieldNumber_RemoteId,
         .hasIndex = 0,
-        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, remoteId),
+        .offset = (uint32_t)offsetof(ProtosCharacteristicValueChanged__storage_, remoteId),
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeString,
       },
       {
-        .name = "characteristic",
-        .dataTypeSpecific.clazz = GPBObjCClass(ProtosBluetoothCharacteristic),
-        .number = ProtosOnCharacteristicChanged_FieldNumber_Characteristic,
+        .name = "handle",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicValueChanged_FieldNumber_Handle,
         .hasIndex = 1,
-        .offset = (uint32_t)offsetof(ProtosOnCharacteristicChanged__storage_, characteristic),
-        .flags = GPBFieldOptional,
-        .dataType = GPBDataTypeMessage,
+        .offset = (uint32_t)offsetof(ProtosCharacteristicValueChanged__storage_, handle),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "value",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosCharacteristicValueChanged_FieldNumber_Value,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosCharacteristicValueChanged__storage_, value),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBytes,
       },
     };
     GPBDescriptor *localDescriptor =
-        [GPBDescriptor allocDescriptorForClass:[ProtosOnCharacteristicChanged class]
+        [GPBDescriptor allocDescriptorForClass:[ProtosCharacteristicValueChanged class]
                                      rootClass:[ProtosFlutterblueplusRoot class]
                                           file:ProtosFlutterblueplusRoot_FileDescriptor()
                                         fields:fields
                                     fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
-                                   storageSize:sizeof(ProtosOnCharacteristicChanged__storage_)
+                                   storageSize:sizeof(ProtosCharacteristicValueChanged__storage_)
                                          flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
     #if defined(DEBUG) && DEBUG
       NSAssert(descriptor == nil, @"Startup recursed!");
@@ -2282,11 +3682,13 @@ typedef struct ProtosMtuSizeRequest__storage_ {
 
 @dynamic remoteId;
 @dynamic mtu;
+@dynamic androidErrorMessage;
 
 typedef struct ProtosMtuSizeResponse__storage_ {
   uint32_t _has_storage_[1];
   uint32_t mtu;
   NSString *remoteId;
+  NSString *androidErrorMessage;
 } ProtosMtuSizeResponse__storage_;
 
 // This method is threadsafe because it is initially called
@@ -2313,6 +3715,15 @@ typedef struct ProtosMtuSizeResponse__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeUInt32,
       },
+      {
+        .name = "androidErrorMessage",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosMtuSizeResponse_FieldNumber_AndroidErrorMessage,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosMtuSizeResponse__storage_, androidErrorMessage),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosMtuSizeResponse class]
@@ -2332,17 +3743,279 @@ typedef struct ProtosMtuSizeResponse__storage_ {
 
 @end
 
+#pragma mark - ProtosConnectionPriorityRequest
+
+@implementation ProtosConnectionPriorityRequest
+
+@dynamic remoteId;
+@dynamic connectionPriority;
+
+typedef struct ProtosConnectionPriorityRequest__storage_ {
+  uint32_t _has_storage_[1];
+  ProtosConnectionPriorityRequest_ConnectionPriority connectionPriority;
+  NSString *remoteId;
+} ProtosConnectionPriorityRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosConnectionPriorityRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosConnectionPriorityRequest__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "connectionPriority",
+        .dataTypeSpecific.enumDescFunc = ProtosConnectionPriorityRequest_ConnectionPriority_EnumDescriptor,
+        .number = ProtosConnectionPriorityRequest_FieldNumber_ConnectionPriority,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosConnectionPriorityRequest__storage_, connectionPriority),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldHasEnumDescriptor | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeEnum,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosConnectionPriorityRequest class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosConnectionPriorityRequest__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+int32_t ProtosConnectionPriorityRequest_ConnectionPriority_RawValue(ProtosConnectionPriorityRequest *message) {
+  GPBDescriptor *descriptor = [ProtosConnectionPriorityRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectionPriorityRequest_FieldNumber_ConnectionPriority];
+  return GPBGetMessageRawEnumField(message, field);
+}
+
+void SetProtosConnectionPriorityRequest_ConnectionPriority_RawValue(ProtosConnectionPriorityRequest *message, int32_t value) {
+  GPBDescriptor *descriptor = [ProtosConnectionPriorityRequest descriptor];
+  GPBFieldDescriptor *field = [descriptor fieldWithNumber:ProtosConnectionPriorityRequest_FieldNumber_ConnectionPriority];
+  GPBSetMessageRawEnumField(message, field, value);
+}
+
+#pragma mark - Enum ProtosConnectionPriorityRequest_ConnectionPriority
+
+GPBEnumDescriptor *ProtosConnectionPriorityRequest_ConnectionPriority_EnumDescriptor(void) {
+  static _Atomic(GPBEnumDescriptor*) descriptor = nil;
+  if (!descriptor) {
+    static const char *valueNames =
+        "Balanced\000High\000LowPower\000";
+    static const int32_t values[] = {
+        ProtosConnectionPriorityRequest_ConnectionPriority_Balanced,
+        ProtosConnectionPriorityRequest_ConnectionPriority_High,
+        ProtosConnectionPriorityRequest_ConnectionPriority_LowPower,
+    };
+    GPBEnumDescriptor *worker =
+        [GPBEnumDescriptor allocDescriptorForName:GPBNSStringifySymbol(ProtosConnectionPriorityRequest_ConnectionPriority)
+                                       valueNames:valueNames
+                                           values:values
+                                            count:(uint32_t)(sizeof(values) / sizeof(int32_t))
+                                     enumVerifier:ProtosConnectionPriorityRequest_ConnectionPriority_IsValidValue];
+    GPBEnumDescriptor *expected = nil;
+    if (!atomic_compare_exchange_strong(&descriptor, &expected, worker)) {
+      [worker release];
+    }
+  }
+  return descriptor;
+}
+
+BOOL ProtosConnectionPriorityRequest_ConnectionPriority_IsValidValue(int32_t value__) {
+  switch (value__) {
+    case ProtosConnectionPriorityRequest_ConnectionPriority_Balanced:
+    case ProtosConnectionPriorityRequest_ConnectionPriority_High:
+    case ProtosConnectionPriorityRequest_ConnectionPriority_LowPower:
+      return YES;
+    default:
+      return NO;
+  }
+}
+
+#pragma mark - ProtosPreferredPhyRequest
+
+@implementation ProtosPreferredPhyRequest
+
+@dynamic remoteId;
+@dynamic txPhyMask;
+@dynamic rxPhyMask;
+@dynamic phyOptions;
+
+typedef struct ProtosPreferredPhyRequest__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t txPhyMask;
+  uint32_t rxPhyMask;
+  uint32_t phyOptions;
+  NSString *remoteId;
+} ProtosPreferredPhyRequest__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosPreferredPhyRequest_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosPreferredPhyRequest__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "txPhyMask",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosPreferredPhyRequest_FieldNumber_TxPhyMask,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosPreferredPhyRequest__storage_, txPhyMask),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "rxPhyMask",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosPreferredPhyRequest_FieldNumber_RxPhyMask,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosPreferredPhyRequest__storage_, rxPhyMask),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "phyOptions",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosPreferredPhyRequest_FieldNumber_PhyOptions,
+        .hasIndex = 3,
+        .offset = (uint32_t)offsetof(ProtosPreferredPhyRequest__storage_, phyOptions),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosPreferredPhyRequest class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosPreferredPhyRequest__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
+#pragma mark - ProtosPhyResponse
+
+@implementation ProtosPhyResponse
+
+@dynamic remoteId;
+@dynamic txPhy;
+@dynamic rxPhy;
+@dynamic success;
+
+typedef struct ProtosPhyResponse__storage_ {
+  uint32_t _has_storage_[1];
+  uint32_t txPhy;
+  uint32_t rxPhy;
+  NSString *remoteId;
+} ProtosPhyResponse__storage_;
+
+// This method is threadsafe because it is initially called
+// in +initialize for each subclass.
++ (GPBDescriptor *)descriptor {
+  static GPBDescriptor *descriptor = nil;
+  if (!descriptor) {
+    static GPBMessageFieldDescription fields[] = {
+      {
+        .name = "remoteId",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosPhyResponse_FieldNumber_RemoteId,
+        .hasIndex = 0,
+        .offset = (uint32_t)offsetof(ProtosPhyResponse__storage_, remoteId),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
+      {
+        .name = "txPhy",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosPhyResponse_FieldNumber_TxPhy,
+        .hasIndex = 1,
+        .offset = (uint32_t)offsetof(ProtosPhyResponse__storage_, txPhy),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "rxPhy",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosPhyResponse_FieldNumber_RxPhy,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosPhyResponse__storage_, rxPhy),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeUInt32,
+      },
+      {
+        .name = "success",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosPhyResponse_FieldNumber_Success,
+        .hasIndex = 3,
+        .offset = 4,  // Stored in _has_storage_ to save space.
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeBool,
+      },
+    };
+    GPBDescriptor *localDescriptor =
+        [GPBDescriptor allocDescriptorForClass:[ProtosPhyResponse class]
+                                     rootClass:[ProtosFlutterblueplusRoot class]
+                                          file:ProtosFlutterblueplusRoot_FileDescriptor()
+                                        fields:fields
+                                    fieldCount:(uint32_t)(sizeof(fields) / sizeof(GPBMessageFieldDescription))
+                                   storageSize:sizeof(ProtosPhyResponse__storage_)
+                                         flags:(GPBDescriptorInitializationFlags)(GPBDescriptorInitializationFlag_UsesClassRefs | GPBDescriptorInitializationFlag_Proto3OptionalKnown)];
+    #if defined(DEBUG) && DEBUG
+      NSAssert(descriptor == nil, @"Startup recursed!");
+    #endif  // DEBUG
+    descriptor = localDescriptor;
+  }
+  return descriptor;
+}
+
+@end
+
 #pragma mark - ProtosReadRssiResult
 
 @implementation ProtosReadRssiResult
 
 @dynamic remoteId;
 @dynamic rssi;
+@dynamic androidErrorMessage;
 
 typedef struct ProtosReadRssiResult__storage_ {
   uint32_t _has_storage_[1];
   int32_t rssi;
   NSString *remoteId;
+  NSString *androidErrorMessage;
 } ProtosReadRssiResult__storage_;
 
 // This method is threadsafe because it is initially called
@@ -2369,6 +4042,15 @@ typedef struct ProtosReadRssiResult__storage_ {
         .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
         .dataType = GPBDataTypeInt32,
       },
+      {
+        .name = "androidErrorMessage",
+        .dataTypeSpecific.clazz = Nil,
+        .number = ProtosReadRssiResult_FieldNumber_AndroidErrorMessage,
+        .hasIndex = 2,
+        .offset = (uint32_t)offsetof(ProtosReadRssiResult__storage_, androidErrorMessage),
+        .flags = (GPBFieldFlags)(GPBFieldOptional | GPBFieldClearHasIvarOnZero),
+        .dataType = GPBDataTypeString,
+      },
     };
     GPBDescriptor *localDescriptor =
         [GPBDescriptor allocDescriptorForClass:[ProtosReadRssiResult class]
@@ -5,6 +5,7 @@
 library flutter_blue_plus;
 
 import 'dart:async';
+import 'dart:convert';
 
 import 'package:collection/collection.dart';
 import 'package:convert/convert.dart';
@@ -213,6 +213,16 @@ class ScanSettings extends $pb.GeneratedMessage {
     ..a<$core.int>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidScanMode', $pb.PbFieldType.O3)
     ..pPS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuids')
     ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'allowDuplicates')
+    ..a<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidReportDelayMillis', $pb.PbFieldType.O3)
+    ..a<$core.int>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidBatchWindowMillis', $pb.PbFieldType.O3)
+    ..a<$core.int>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidBatchSize', $pb.PbFieldType.O3)
+    ..a<$core.int>(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidDuplicateTimeoutMillis', $pb.PbFieldType.O3)
+    ..aOB(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidRawAdvertisements')
+    ..pc<ManufacturerDataFilter>(9, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidManufacturerDataFilters', $pb.PbFieldType.PM, subBuilder: ManufacturerDataFilter.create)
+    ..pc<ServiceDataFilter>(10, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidServiceDataFilters', $pb.PbFieldType.PM, subBuilder: ServiceDataFilter.create)
+    ..pPS(11, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidNames')
+    ..pPS(12, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidNamePrefixes')
+    ..aOM<Int32Value>(13, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidMinRssi', subBuilder: Int32Value.create)
     ..hasRequiredFields = false
   ;
 
@@ -221,6 +231,16 @@ class ScanSettings extends $pb.GeneratedMessage {
     $core.int? androidScanMode,
     $core.Iterable<$core.String>? serviceUuids,
     $core.bool? allowDuplicates,
+    $core.int? androidReportDelayMillis,
+    $core.int? androidBatchWindowMillis,
+    $core.int? androidBatchSize,
+    $core.int? androidDuplicateTimeoutMillis,
+    $core.bool? androidRawAdvertisements,
+    $core.Iterable<ManufacturerDataFilter>? androidManufacturerDataFilters,
+    $core.Iterable<ServiceDataFilter>? androidServiceDataFilters,
+    $core.Iterable<$core.String>? androidNames,
+    $core.Iterable<$core.String>? androidNamePrefixes,
+    Int32Value? androidMinRssi,
   }) {
     final _result = create();
     if (androidScanMode != null) {
@@ -232,6 +252,36 @@ class ScanSettings extends $pb.GeneratedMessage {
     if (allowDuplicates != null) {
       _result.allowDuplicates = allowDuplicates;
     }
+    if (androidReportDelayMillis != null) {
+      _result.androidReportDelayMillis = androidReportDelayMillis;
+    }
+    if (androidBatchWindowMillis != null) {
+      _result.androidBatchWindowMillis = androidBatchWindowMillis;
+    }
+    if (androidBatchSize != null) {
+      _result.androidBatchSize = androidBatchSize;
+    }
+    if (androidDuplicateTimeoutMillis != null) {
+      _result.androidDuplicateTimeoutMillis = androidDuplicateTimeoutMillis;
+    }
+    if (androidRawAdvertisements != null) {
+      _result.androidRawAdvertisements = androidRawAdvertisements;
+    }
+    if (androidManufacturerDataFilters != null) {
+      _result.androidManufacturerDataFilters.addAll(androidManufacturerDataFilters);
+    }
+    if (androidServiceDataFilters != null) {
+      _result.androidServiceDataFilters.addAll(androidServiceDataFilters);
+    }
+    if (androidNames != null) {
+      _result.androidNames.addAll(androidNames);
+    }
+    if (androidNamePrefixes != null) {
+      _result.androidNamePrefixes.addAll(androidNamePrefixes);
+    }
+    if (androidMinRssi != null) {
+      _result.androidMinRssi = androidMinRssi;
+    }
     return _result;
   }
   factory ScanSettings.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -275,6 +325,224 @@ class ScanSettings extends $pb.GeneratedMessage {
   $core.bool hasAllowDuplicates() => $_has(2);
   @$pb.TagNumber(3)
   void clearAllowDuplicates() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.int get androidReportDelayMillis => $_getIZ(3);
+  @$pb.TagNumber(4)
+  set androidReportDelayMillis($core.int v) { $_setSignedInt32(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasAndroidReportDelayMillis() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearAndroidReportDelayMillis() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $core.int get androidBatchWindowMillis => $_getIZ(4);
+  @$pb.TagNumber(5)
+  set androidBatchWindowMillis($core.int v) { $_setSignedInt32(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasAndroidBatchWindowMillis() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearAndroidBatchWindowMillis() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $core.int get androidBatchSize => $_getIZ(5);
+  @$pb.TagNumber(6)
+  set androidBatchSize($core.int v) { $_setSignedInt32(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasAndroidBatchSize() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearAndroidBatchSize() => clearField(6);
+
+  @$pb.TagNumber(7)
+  $core.int get androidDuplicateTimeoutMillis => $_getIZ(6);
+  @$pb.TagNumber(7)
+  set androidDuplicateTimeoutMillis($core.int v) { $_setSignedInt32(6, v); }
+  @$pb.TagNumber(7)
+  $core.bool hasAndroidDuplicateTimeoutMillis() => $_has(6);
+  @$pb.TagNumber(7)
+  void clearAndroidDuplicateTimeoutMillis() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $core.bool get androidRawAdvertisements => $_getBF(7);
+  @$pb.TagNumber(8)
+  set androidRawAdvertisements($core.bool v) { $_setBool(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasAndroidRawAdvertisements() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearAndroidRawAdvertisements() => clearField(8);
+
+  @$pb.TagNumber(9)
+  $core.List<ManufacturerDataFilter> get androidManufacturerDataFilters => $_getList(8);
+
+  @$pb.TagNumber(10)
+  $core.List<ServiceDataFilter> get androidServiceDataFilters => $_getList(9);
+
+  @$pb.TagNumber(11)
+  $core.List<$core.String> get androidNames => $_getList(10);
+
+  @$pb.TagNumber(12)
+  $core.List<$core.String> get androidNamePrefixes => $_getList(11);
+
+  @$pb.TagNumber(13)
+  Int32Value get androidMinRssi => $_getN(12);
+  @$pb.TagNumber(13)
+  set androidMinRssi(Int32Value v) { setField(13, v); }
+  @$pb.TagNumber(13)
+  $core.bool hasAndroidMinRssi() => $_has(12);
+  @$pb.TagNumber(13)
+  void clearAndroidMinRssi() => clearField(13);
+  @$pb.TagNumber(13)
+  Int32Value ensureAndroidMinRssi() => $_ensure(12);
+}
+
+class ManufacturerDataFilter extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ManufacturerDataFilter', createEmptyInstance: create)
+    ..a<$core.int>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'manufacturerId', $pb.PbFieldType.OU3)
+    ..a<$core.List<$core.int>>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'data', $pb.PbFieldType.OY)
+    ..a<$core.List<$core.int>>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'mask', $pb.PbFieldType.OY)
+    ..hasRequiredFields = false
+  ;
+
+  ManufacturerDataFilter._() : super();
+  factory ManufacturerDataFilter({
+    $core.int? manufacturerId,
+    $core.List<$core.int>? data,
+    $core.List<$core.int>? mask,
+  }) {
+    final _result = create();
+    if (manufacturerId != null) {
+      _result.manufacturerId = manufacturerId;
+    }
+    if (data != null) {
+      _result.data = data;
+    }
+    if (mask != null) {
+      _result.mask = mask;
+    }
+    return _result;
+  }
+  factory ManufacturerDataFilter.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ManufacturerDataFilter.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  ManufacturerDataFilter clone() => ManufacturerDataFilter()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  ManufacturerDataFilter copyWith(void Function(ManufacturerDataFilter) updates) => super.copyWith((message) => updates(message as ManufacturerDataFilter)) as ManufacturerDataFilter; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ManufacturerDataFilter create() => ManufacturerDataFilter._();
+  ManufacturerDataFilter createEmptyInstance() => create();
+  static $pb.PbList<ManufacturerDataFilter> createRepeated() => $pb.PbList<ManufacturerDataFilter>();
+  @$core.pragma('dart2js:noInline')
+  static ManufacturerDataFilter getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ManufacturerDataFilter>(create);
+  static ManufacturerDataFilter? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.int get manufacturerId => $_getIZ(0);
+  @$pb.TagNumber(1)
+  set manufacturerId($core.int v) { $_setUnsignedInt32(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasManufacturerId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearManufacturerId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.List<$core.int> get data => $_getN(1);
+  @$pb.TagNumber(2)
+  set data($core.List<$core.int> v) { $_setBytes(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasData() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearData() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.List<$core.int> get mask => $_getN(2);
+  @$pb.TagNumber(3)
+  set mask($core.List<$core.int> v) { $_setBytes(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasMask() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearMask() => clearField(3);
+}
+
+class ServiceDataFilter extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ServiceDataFilter', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
+    ..a<$core.List<$core.int>>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'data', $pb.PbFieldType.OY)
+    ..a<$core.List<$core.int>>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'mask', $pb.PbFieldType.OY)
+    ..hasRequiredFields = false
+  ;
+
+  ServiceDataFilter._() : super();
+  factory ServiceDataFilter({
+    $core.String? serviceUuid,
+    $core.List<$core.int>? data,
+    $core.List<$core.int>? mask,
+  }) {
+    final _result = create();
+    if (serviceUuid != null) {
+      _result.serviceUuid = serviceUuid;
+    }
+    if (data != null) {
+      _result.data = data;
+    }
+    if (mask != null) {
+      _result.mask = mask;
+    }
+    return _result;
+  }
+  factory ServiceDataFilter.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ServiceDataFilter.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  ServiceDataFilter clone() => ServiceDataFilter()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  ServiceDataFilter copyWith(void Function(ServiceDataFilter) updates) => super.copyWith((message) => updates(message as ServiceDataFilter)) as ServiceDataFilter; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ServiceDataFilter create() => ServiceDataFilter._();
+  ServiceDataFilter createEmptyInstance() => create();
+  static $pb.PbList<ServiceDataFilter> createRepeated() => $pb.PbList<ServiceDataFilter>();
+  @$core.pragma('dart2js:noInline')
+  static ServiceDataFilter getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ServiceDataFilter>(create);
+  static ServiceDataFilter? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get serviceUuid => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set serviceUuid($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasServiceUuid() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearServiceUuid() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.List<$core.int> get data => $_getN(1);
+  @$pb.TagNumber(2)
+  set data($core.List<$core.int> v) { $_setBytes(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasData() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearData() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.List<$core.int> get mask => $_getN(2);
+  @$pb.TagNumber(3)
+  set mask($core.List<$core.int> v) { $_setBytes(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasMask() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearMask() => clearField(3);
 }
 
 class ScanResult extends $pb.GeneratedMessage {
@@ -356,47 +624,57 @@ class ScanResult extends $pb.GeneratedMessage {
   void clearRssi() => clearField(3);
 }
 
-class ConnectRequest extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ConnectRequest', createEmptyInstance: create)
+class RawScanResult extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'RawScanResult', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOB(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidAutoConnect')
+    ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'rssi', $pb.PbFieldType.O3)
+    ..a<$core.List<$core.int>>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'advertisementData', $pb.PbFieldType.OY)
+    ..aOB(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'connectable')
     ..hasRequiredFields = false
   ;
 
-  ConnectRequest._() : super();
-  factory ConnectRequest({
+  RawScanResult._() : super();
+  factory RawScanResult({
     $core.String? remoteId,
-    $core.bool? androidAutoConnect,
+    $core.int? rssi,
+    $core.List<$core.int>? advertisementData,
+    $core.bool? connectable,
   }) {
     final _result = create();
     if (remoteId != null) {
       _result.remoteId = remoteId;
     }
-    if (androidAutoConnect != null) {
-      _result.androidAutoConnect = androidAutoConnect;
+    if (rssi != null) {
+      _result.rssi = rssi;
+    }
+    if (advertisementData != null) {
+      _result.advertisementData = advertisementData;
+    }
+    if (connectable != null) {
+      _result.connectable = connectable;
     }
     return _result;
   }
-  factory ConnectRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory ConnectRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory RawScanResult.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory RawScanResult.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  ConnectRequest clone() => ConnectRequest()..mergeFromMessage(this);
+  RawScanResult clone() => RawScanResult()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  ConnectRequest copyWith(void Function(ConnectRequest) updates) => super.copyWith((message) => updates(message as ConnectRequest)) as ConnectRequest; // ignore: deprecated_member_use
+  RawScanResult copyWith(void Function(RawScanResult) updates) => super.copyWith((message) => updates(message as RawScanResult)) as RawScanResult; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static ConnectRequest create() => ConnectRequest._();
-  ConnectRequest createEmptyInstance() => create();
-  static $pb.PbList<ConnectRequest> createRepeated() => $pb.PbList<ConnectRequest>();
+  static RawScanResult create() => RawScanResult._();
+  RawScanResult createEmptyInstance() => create();
+  static $pb.PbList<RawScanResult> createRepeated() => $pb.PbList<RawScanResult>();
   @$core.pragma('dart2js:noInline')
-  static ConnectRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ConnectRequest>(create);
-  static ConnectRequest? _defaultInstance;
+  static RawScanResult getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<RawScanResult>(create);
+  static RawScanResult? _defaultInstance;
 
   @$pb.TagNumber(1)
   $core.String get remoteId => $_getSZ(0);
@@ -408,265 +686,1297 @@ class ConnectRequest extends $pb.GeneratedMessage {
   void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  $core.bool get androidAutoConnect => $_getBF(1);
+  $core.int get rssi => $_getIZ(1);
   @$pb.TagNumber(2)
-  set androidAutoConnect($core.bool v) { $_setBool(1, v); }
+  set rssi($core.int v) { $_setSignedInt32(1, v); }
   @$pb.TagNumber(2)
-  $core.bool hasAndroidAutoConnect() => $_has(1);
+  $core.bool hasRssi() => $_has(1);
   @$pb.TagNumber(2)
-  void clearAndroidAutoConnect() => clearField(2);
+  void clearRssi() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.List<$core.int> get advertisementData => $_getN(2);
+  @$pb.TagNumber(3)
+  set advertisementData($core.List<$core.int> v) { $_setBytes(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasAdvertisementData() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearAdvertisementData() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.bool get connectable => $_getBF(3);
+  @$pb.TagNumber(4)
+  set connectable($core.bool v) { $_setBool(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasConnectable() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearConnectable() => clearField(4);
 }
 
-class BluetoothDevice extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BluetoothDevice', createEmptyInstance: create)
-    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'name')
-    ..e<BluetoothDevice_Type>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'type', $pb.PbFieldType.OE, defaultOrMaker: BluetoothDevice_Type.UNKNOWN, valueOf: BluetoothDevice_Type.valueOf, enumValues: BluetoothDevice_Type.values)
+class ScanResults extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ScanResults', createEmptyInstance: create)
+    ..pc<ScanResult>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'results', $pb.PbFieldType.PM, subBuilder: ScanResult.create)
+    ..pc<RawScanResult>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'rawResults', $pb.PbFieldType.PM, subBuilder: RawScanResult.create)
     ..hasRequiredFields = false
   ;
 
-  BluetoothDevice._() : super();
-  factory BluetoothDevice({
-    $core.String? remoteId,
-    $core.String? name,
-    BluetoothDevice_Type? type,
+  ScanResults._() : super();
+  factory ScanResults({
+    $core.Iterable<ScanResult>? results,
+    $core.Iterable<RawScanResult>? rawResults,
   }) {
     final _result = create();
-    if (remoteId != null) {
-      _result.remoteId = remoteId;
+    if (results != null) {
+      _result.results.addAll(results);
     }
-    if (name != null) {
-      _result.name = name;
-    }
-    if (type != null) {
-      _result.type = type;
+    if (rawResults != null) {
+      _result.rawResults.addAll(rawResults);
     }
     return _result;
   }
-  factory BluetoothDevice.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory BluetoothDevice.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory ScanResults.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ScanResults.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  BluetoothDevice clone() => BluetoothDevice()..mergeFromMessage(this);
+  ScanResults clone() => ScanResults()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  BluetoothDevice copyWith(void Function(BluetoothDevice) updates) => super.copyWith((message) => updates(message as BluetoothDevice)) as BluetoothDevice; // ignore: deprecated_member_use
+  ScanResults copyWith(void Function(ScanResults) updates) => super.copyWith((message) => updates(message as ScanResults)) as ScanResults; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static BluetoothDevice create() => BluetoothDevice._();
-  BluetoothDevice createEmptyInstance() => create();
-  static $pb.PbList<BluetoothDevice> createRepeated() => $pb.PbList<BluetoothDevice>();
+  static ScanResults create() => ScanResults._();
+  ScanResults createEmptyInstance() => create();
+  static $pb.PbList<ScanResults> createRepeated() => $pb.PbList<ScanResults>();
   @$core.pragma('dart2js:noInline')
-  static BluetoothDevice getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BluetoothDevice>(create);
-  static BluetoothDevice? _defaultInstance;
+  static ScanResults getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ScanResults>(create);
+  static ScanResults? _defaultInstance;
 
   @$pb.TagNumber(1)
-  $core.String get remoteId => $_getSZ(0);
-  @$pb.TagNumber(1)
-  set remoteId($core.String v) { $_setString(0, v); }
-  @$pb.TagNumber(1)
-  $core.bool hasRemoteId() => $_has(0);
-  @$pb.TagNumber(1)
-  void clearRemoteId() => clearField(1);
+  $core.List<ScanResult> get results => $_getList(0);
 
   @$pb.TagNumber(2)
-  $core.String get name => $_getSZ(1);
-  @$pb.TagNumber(2)
-  set name($core.String v) { $_setString(1, v); }
-  @$pb.TagNumber(2)
-  $core.bool hasName() => $_has(1);
-  @$pb.TagNumber(2)
-  void clearName() => clearField(2);
-
-  @$pb.TagNumber(3)
-  BluetoothDevice_Type get type => $_getN(2);
-  @$pb.TagNumber(3)
-  set type(BluetoothDevice_Type v) { setField(3, v); }
-  @$pb.TagNumber(3)
-  $core.bool hasType() => $_has(2);
-  @$pb.TagNumber(3)
-  void clearType() => clearField(3);
+  $core.List<RawScanResult> get rawResults => $_getList(1);
 }
 
-class BluetoothService extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BluetoothService', createEmptyInstance: create)
-    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uuid')
-    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'isPrimary')
-    ..pc<BluetoothCharacteristic>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristics', $pb.PbFieldType.PM, subBuilder: BluetoothCharacteristic.create)
-    ..pc<BluetoothService>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'includedServices', $pb.PbFieldType.PM, subBuilder: BluetoothService.create)
+class ConnectionLimits extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ConnectionLimits', createEmptyInstance: create)
+    ..a<$core.int>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'maxConnections', $pb.PbFieldType.OU3)
+    ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'minIdleMillis', $pb.PbFieldType.OU3)
     ..hasRequiredFields = false
   ;
 
-  BluetoothService._() : super();
-  factory BluetoothService({
-    $core.String? uuid,
-    $core.String? remoteId,
-    $core.bool? isPrimary,
-    $core.Iterable<BluetoothCharacteristic>? characteristics,
-    $core.Iterable<BluetoothService>? includedServices,
+  ConnectionLimits._() : super();
+  factory ConnectionLimits({
+    $core.int? maxConnections,
+    $core.int? minIdleMillis,
   }) {
     final _result = create();
-    if (uuid != null) {
-      _result.uuid = uuid;
-    }
-    if (remoteId != null) {
-      _result.remoteId = remoteId;
+    if (maxConnections != null) {
+      _result.maxConnections = maxConnections;
     }
-    if (isPrimary != null) {
-      _result.isPrimary = isPrimary;
-    }
-    if (characteristics != null) {
-      _result.characteristics.addAll(characteristics);
-    }
-    if (includedServices != null) {
-      _result.includedServices.addAll(includedServices);
+    if (minIdleMillis != null) {
+      _result.minIdleMillis = minIdleMillis;
     }
     return _result;
   }
-  factory BluetoothService.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory BluetoothService.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory ConnectionLimits.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ConnectionLimits.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  BluetoothService clone() => BluetoothService()..mergeFromMessage(this);
+  ConnectionLimits clone() => ConnectionLimits()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  BluetoothService copyWith(void Function(BluetoothService) updates) => super.copyWith((message) => updates(message as BluetoothService)) as BluetoothService; // ignore: deprecated_member_use
+  ConnectionLimits copyWith(void Function(ConnectionLimits) updates) => super.copyWith((message) => updates(message as ConnectionLimits)) as ConnectionLimits; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static BluetoothService create() => BluetoothService._();
-  BluetoothService createEmptyInstance() => create();
-  static $pb.PbList<BluetoothService> createRepeated() => $pb.PbList<BluetoothService>();
+  static ConnectionLimits create() => ConnectionLimits._();
+  ConnectionLimits createEmptyInstance() => create();
+  static $pb.PbList<ConnectionLimits> createRepeated() => $pb.PbList<ConnectionLimits>();
   @$core.pragma('dart2js:noInline')
-  static BluetoothService getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BluetoothService>(create);
-  static BluetoothService? _defaultInstance;
+  static ConnectionLimits getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ConnectionLimits>(create);
+  static ConnectionLimits? _defaultInstance;
 
   @$pb.TagNumber(1)
-  $core.String get uuid => $_getSZ(0);
+  $core.int get maxConnections => $_getIZ(0);
   @$pb.TagNumber(1)
-  set uuid($core.String v) { $_setString(0, v); }
+  set maxConnections($core.int v) { $_setUnsignedInt32(0, v); }
   @$pb.TagNumber(1)
-  $core.bool hasUuid() => $_has(0);
+  $core.bool hasMaxConnections() => $_has(0);
   @$pb.TagNumber(1)
-  void clearUuid() => clearField(1);
+  void clearMaxConnections() => clearField(1);
 
   @$pb.TagNumber(2)
-  $core.String get remoteId => $_getSZ(1);
+  $core.int get minIdleMillis => $_getIZ(1);
   @$pb.TagNumber(2)
-  set remoteId($core.String v) { $_setString(1, v); }
+  set minIdleMillis($core.int v) { $_setUnsignedInt32(1, v); }
   @$pb.TagNumber(2)
-  $core.bool hasRemoteId() => $_has(1);
+  $core.bool hasMinIdleMillis() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearMinIdleMillis() => clearField(2);
+}
+
+class ConnectRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ConnectRequest', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOB(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidAutoConnect')
+    ..a<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidMtu', $pb.PbFieldType.OU3)
+    ..aOB(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidFastReconnect')
+    ..hasRequiredFields = false
+  ;
+
+  ConnectRequest._() : super();
+  factory ConnectRequest({
+    $core.String? remoteId,
+    $core.bool? androidAutoConnect,
+    $core.int? androidMtu,
+    $core.bool? androidFastReconnect,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (androidAutoConnect != null) {
+      _result.androidAutoConnect = androidAutoConnect;
+    }
+    if (androidMtu != null) {
+      _result.androidMtu = androidMtu;
+    }
+    if (androidFastReconnect != null) {
+      _result.androidFastReconnect = androidFastReconnect;
+    }
+    return _result;
+  }
+  factory ConnectRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ConnectRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  ConnectRequest clone() => ConnectRequest()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  ConnectRequest copyWith(void Function(ConnectRequest) updates) => super.copyWith((message) => updates(message as ConnectRequest)) as ConnectRequest; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ConnectRequest create() => ConnectRequest._();
+  ConnectRequest createEmptyInstance() => create();
+  static $pb.PbList<ConnectRequest> createRepeated() => $pb.PbList<ConnectRequest>();
+  @$core.pragma('dart2js:noInline')
+  static ConnectRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ConnectRequest>(create);
+  static ConnectRequest? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.bool get androidAutoConnect => $_getBF(1);
+  @$pb.TagNumber(2)
+  set androidAutoConnect($core.bool v) { $_setBool(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasAndroidAutoConnect() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearAndroidAutoConnect() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.int get androidMtu => $_getIZ(2);
+  @$pb.TagNumber(3)
+  set androidMtu($core.int v) { $_setUnsignedInt32(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasAndroidMtu() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearAndroidMtu() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.bool get androidFastReconnect => $_getBF(3);
+  @$pb.TagNumber(4)
+  set androidFastReconnect($core.bool v) { $_setBool(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasAndroidFastReconnect() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearAndroidFastReconnect() => clearField(4);
+}
+
+class ConnectAllRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ConnectAllRequest', createEmptyInstance: create)
+    ..pc<ConnectRequest>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'devices', $pb.PbFieldType.PM, subBuilder: ConnectRequest.create)
+    ..pc<SetNotificationRequest>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'notifications', $pb.PbFieldType.PM, subBuilder: SetNotificationRequest.create)
+    ..a<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'maxConcurrent', $pb.PbFieldType.OU3)
+    ..a<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'timeoutMillis', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  ConnectAllRequest._() : super();
+  factory ConnectAllRequest({
+    $core.Iterable<ConnectRequest>? devices,
+    $core.Iterable<SetNotificationRequest>? notifications,
+    $core.int? maxConcurrent,
+    $core.int? timeoutMillis,
+  }) {
+    final _result = create();
+    if (devices != null) {
+      _result.devices.addAll(devices);
+    }
+    if (notifications != null) {
+      _result.notifications.addAll(notifications);
+    }
+    if (maxConcurrent != null) {
+      _result.maxConcurrent = maxConcurrent;
+    }
+    if (timeoutMillis != null) {
+      _result.timeoutMillis = timeoutMillis;
+    }
+    return _result;
+  }
+  factory ConnectAllRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ConnectAllRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  ConnectAllRequest clone() => ConnectAllRequest()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  ConnectAllRequest copyWith(void Function(ConnectAllRequest) updates) => super.copyWith((message) => updates(message as ConnectAllRequest)) as ConnectAllRequest; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ConnectAllRequest create() => ConnectAllRequest._();
+  ConnectAllRequest createEmptyInstance() => create();
+  static $pb.PbList<ConnectAllRequest> createRepeated() => $pb.PbList<ConnectAllRequest>();
+  @$core.pragma('dart2js:noInline')
+  static ConnectAllRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ConnectAllRequest>(create);
+  static ConnectAllRequest? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.List<ConnectRequest> get devices => $_getList(0);
+
+  @$pb.TagNumber(2)
+  $core.List<SetNotificationRequest> get notifications => $_getList(1);
+
+  @$pb.TagNumber(3)
+  $core.int get maxConcurrent => $_getIZ(2);
+  @$pb.TagNumber(3)
+  set maxConcurrent($core.int v) { $_setUnsignedInt32(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasMaxConcurrent() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearMaxConcurrent() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.int get timeoutMillis => $_getIZ(3);
+  @$pb.TagNumber(4)
+  set timeoutMillis($core.int v) { $_setUnsignedInt32(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasTimeoutMillis() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearTimeoutMillis() => clearField(4);
+}
+
+class DeviceReady extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'DeviceReady', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOB(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'errorMessage')
+    ..aOM<DiscoverServicesResult>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'services', subBuilder: DiscoverServicesResult.create)
+    ..hasRequiredFields = false
+  ;
+
+  DeviceReady._() : super();
+  factory DeviceReady({
+    $core.String? remoteId,
+    $core.bool? success,
+    $core.String? errorMessage,
+    DiscoverServicesResult? services,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (success != null) {
+      _result.success = success;
+    }
+    if (errorMessage != null) {
+      _result.errorMessage = errorMessage;
+    }
+    if (services != null) {
+      _result.services = services;
+    }
+    return _result;
+  }
+  factory DeviceReady.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory DeviceReady.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  DeviceReady clone() => DeviceReady()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  DeviceReady copyWith(void Function(DeviceReady) updates) => super.copyWith((message) => updates(message as DeviceReady)) as DeviceReady; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static DeviceReady create() => DeviceReady._();
+  DeviceReady createEmptyInstance() => create();
+  static $pb.PbList<DeviceReady> createRepeated() => $pb.PbList<DeviceReady>();
+  @$core.pragma('dart2js:noInline')
+  static DeviceReady getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<DeviceReady>(create);
+  static DeviceReady? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.bool get success => $_getBF(1);
+  @$pb.TagNumber(2)
+  set success($core.bool v) { $_setBool(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasSuccess() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearSuccess() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.String get errorMessage => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set errorMessage($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasErrorMessage() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearErrorMessage() => clearField(3);
+
+  @$pb.TagNumber(4)
+  DiscoverServicesResult get services => $_getN(3);
+  @$pb.TagNumber(4)
+  set services(DiscoverServicesResult v) { setField(4, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasServices() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearServices() => clearField(4);
+  @$pb.TagNumber(4)
+  DiscoverServicesResult ensureServices() => $_ensure(3);
+}
+
+class BluetoothDevice extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BluetoothDevice', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'name')
+    ..e<BluetoothDevice_Type>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'type', $pb.PbFieldType.OE, defaultOrMaker: BluetoothDevice_Type.UNKNOWN, valueOf: BluetoothDevice_Type.valueOf, enumValues: BluetoothDevice_Type.values)
+    ..hasRequiredFields = false
+  ;
+
+  BluetoothDevice._() : super();
+  factory BluetoothDevice({
+    $core.String? remoteId,
+    $core.String? name,
+    BluetoothDevice_Type? type,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (name != null) {
+      _result.name = name;
+    }
+    if (type != null) {
+      _result.type = type;
+    }
+    return _result;
+  }
+  factory BluetoothDevice.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BluetoothDevice.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  BluetoothDevice clone() => BluetoothDevice()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  BluetoothDevice copyWith(void Function(BluetoothDevice) updates) => super.copyWith((message) => updates(message as BluetoothDevice)) as BluetoothDevice; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BluetoothDevice create() => BluetoothDevice._();
+  BluetoothDevice createEmptyInstance() => create();
+  static $pb.PbList<BluetoothDevice> createRepeated() => $pb.PbList<BluetoothDevice>();
+  @$core.pragma('dart2js:noInline')
+  static BluetoothDevice getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BluetoothDevice>(create);
+  static BluetoothDevice? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.String get name => $_getSZ(1);
+  @$pb.TagNumber(2)
+  set name($core.String v) { $_setString(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasName() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearName() => clearField(2);
+
+  @$pb.TagNumber(3)
+  BluetoothDevice_Type get type => $_getN(2);
+  @$pb.TagNumber(3)
+  set type(BluetoothDevice_Type v) { setField(3, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasType() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearType() => clearField(3);
+}
+
+class BluetoothService extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BluetoothService', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uuid')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'isPrimary')
+    ..pc<BluetoothCharacteristic>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristics', $pb.PbFieldType.PM, subBuilder: BluetoothCharacteristic.create)
+    ..pc<BluetoothService>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'includedServices', $pb.PbFieldType.PM, subBuilder: BluetoothService.create)
+    ..hasRequiredFields = false
+  ;
+
+  BluetoothService._() : super();
+  factory BluetoothService({
+    $core.String? uuid,
+    $core.String? remoteId,
+    $core.bool? isPrimary,
+    $core.Iterable<BluetoothCharacteristic>? characteristics,
+    $core.Iterable<BluetoothService>? includedServices,
+  }) {
+    final _result = create();
+    if (uuid != null) {
+      _result.uuid = uuid;
+    }
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (isPrimary != null) {
+      _result.isPrimary = isPrimary;
+    }
+    if (characteristics != null) {
+      _result.characteristics.addAll(characteristics);
+    }
+    if (includedServices != null) {
+      _result.includedServices.addAll(includedServices);
+    }
+    return _result;
+  }
+  factory BluetoothService.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BluetoothService.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  BluetoothService clone() => BluetoothService()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  BluetoothService copyWith(void Function(BluetoothService) updates) => super.copyWith((message) => updates(message as BluetoothService)) as BluetoothService; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BluetoothService create() => BluetoothService._();
+  BluetoothService createEmptyInstance() => create();
+  static $pb.PbList<BluetoothService> createRepeated() => $pb.PbList<BluetoothService>();
+  @$core.pragma('dart2js:noInline')
+  static BluetoothService getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BluetoothService>(create);
+  static BluetoothService? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get uuid => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set uuid($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasUuid() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearUuid() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.String get remoteId => $_getSZ(1);
+  @$pb.TagNumber(2)
+  set remoteId($core.String v) { $_setString(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasRemoteId() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearRemoteId() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.bool get isPrimary => $_getBF(2);
+  @$pb.TagNumber(3)
+  set isPrimary($core.bool v) { $_setBool(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasIsPrimary() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearIsPrimary() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.List<BluetoothCharacteristic> get characteristics => $_getList(3);
+
+  @$pb.TagNumber(5)
+  $core.List<BluetoothService> get includedServices => $_getList(4);
+}
+
+class BluetoothCharacteristic extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BluetoothCharacteristic', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uuid')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid', protoName: 'serviceUuid')
+    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid', protoName: 'secondaryServiceUuid')
+    ..pc<BluetoothDescriptor>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'descriptors', $pb.PbFieldType.PM, subBuilder: BluetoothDescriptor.create)
+    ..aOM<CharacteristicProperties>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'properties', subBuilder: CharacteristicProperties.create)
+    ..a<$core.List<$core.int>>(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+    ..a<$core.int>(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'handle', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  BluetoothCharacteristic._() : super();
+  factory BluetoothCharacteristic({
+    $core.String? uuid,
+    $core.String? remoteId,
+    $core.String? serviceUuid,
+    $core.String? secondaryServiceUuid,
+    $core.Iterable<BluetoothDescriptor>? descriptors,
+    CharacteristicProperties? properties,
+    $core.List<$core.int>? value,
+    $core.int? handle,
+  }) {
+    final _result = create();
+    if (uuid != null) {
+      _result.uuid = uuid;
+    }
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (serviceUuid != null) {
+      _result.serviceUuid = serviceUuid;
+    }
+    if (secondaryServiceUuid != null) {
+      _result.secondaryServiceUuid = secondaryServiceUuid;
+    }
+    if (descriptors != null) {
+      _result.descriptors.addAll(descriptors);
+    }
+    if (properties != null) {
+      _result.properties = properties;
+    }
+    if (value != null) {
+      _result.value = value;
+    }
+    if (handle != null) {
+      _result.handle = handle;
+    }
+    return _result;
+  }
+  factory BluetoothCharacteristic.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BluetoothCharacteristic.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  BluetoothCharacteristic clone() => BluetoothCharacteristic()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  BluetoothCharacteristic copyWith(void Function(BluetoothCharacteristic) updates) => super.copyWith((message) => updates(message as BluetoothCharacteristic)) as BluetoothCharacteristic; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BluetoothCharacteristic create() => BluetoothCharacteristic._();
+  BluetoothCharacteristic createEmptyInstance() => create();
+  static $pb.PbList<BluetoothCharacteristic> createRepeated() => $pb.PbList<BluetoothCharacteristic>();
+  @$core.pragma('dart2js:noInline')
+  static BluetoothCharacteristic getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BluetoothCharacteristic>(create);
+  static BluetoothCharacteristic? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get uuid => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set uuid($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasUuid() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearUuid() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.String get remoteId => $_getSZ(1);
+  @$pb.TagNumber(2)
+  set remoteId($core.String v) { $_setString(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasRemoteId() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearRemoteId() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.String get serviceUuid => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set serviceUuid($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasServiceUuid() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearServiceUuid() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.String get secondaryServiceUuid => $_getSZ(3);
+  @$pb.TagNumber(4)
+  set secondaryServiceUuid($core.String v) { $_setString(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasSecondaryServiceUuid() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearSecondaryServiceUuid() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $core.List<BluetoothDescriptor> get descriptors => $_getList(4);
+
+  @$pb.TagNumber(6)
+  CharacteristicProperties get properties => $_getN(5);
+  @$pb.TagNumber(6)
+  set properties(CharacteristicProperties v) { setField(6, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasProperties() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearProperties() => clearField(6);
+  @$pb.TagNumber(6)
+  CharacteristicProperties ensureProperties() => $_ensure(5);
+
+  @$pb.TagNumber(7)
+  $core.List<$core.int> get value => $_getN(6);
+  @$pb.TagNumber(7)
+  set value($core.List<$core.int> v) { $_setBytes(6, v); }
+  @$pb.TagNumber(7)
+  $core.bool hasValue() => $_has(6);
+  @$pb.TagNumber(7)
+  void clearValue() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $core.int get handle => $_getIZ(7);
+  @$pb.TagNumber(8)
+  set handle($core.int v) { $_setUnsignedInt32(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasHandle() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearHandle() => clearField(8);
+}
+
+class BluetoothDescriptor extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BluetoothDescriptor', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uuid')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid', protoName: 'serviceUuid')
+    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid', protoName: 'characteristicUuid')
+    ..a<$core.List<$core.int>>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+    ..hasRequiredFields = false
+  ;
+
+  BluetoothDescriptor._() : super();
+  factory BluetoothDescriptor({
+    $core.String? uuid,
+    $core.String? remoteId,
+    $core.String? serviceUuid,
+    $core.String? characteristicUuid,
+    $core.List<$core.int>? value,
+  }) {
+    final _result = create();
+    if (uuid != null) {
+      _result.uuid = uuid;
+    }
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (serviceUuid != null) {
+      _result.serviceUuid = serviceUuid;
+    }
+    if (characteristicUuid != null) {
+      _result.characteristicUuid = characteristicUuid;
+    }
+    if (value != null) {
+      _result.value = value;
+    }
+    return _result;
+  }
+  factory BluetoothDescriptor.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory BluetoothDescriptor.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  BluetoothDescriptor clone() => BluetoothDescriptor()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  BluetoothDescriptor copyWith(void Function(BluetoothDescriptor) updates) => super.copyWith((message) => updates(message as BluetoothDescriptor)) as BluetoothDescriptor; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static BluetoothDescriptor create() => BluetoothDescriptor._();
+  BluetoothDescriptor createEmptyInstance() => create();
+  static $pb.PbList<BluetoothDescriptor> createRepeated() => $pb.PbList<BluetoothDescriptor>();
+  @$core.pragma('dart2js:noInline')
+  static BluetoothDescriptor getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BluetoothDescriptor>(create);
+  static BluetoothDescriptor? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get uuid => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set uuid($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasUuid() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearUuid() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.String get remoteId => $_getSZ(1);
+  @$pb.TagNumber(2)
+  set remoteId($core.String v) { $_setString(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasRemoteId() => $_has(1);
   @$pb.TagNumber(2)
   void clearRemoteId() => clearField(2);
 
   @$pb.TagNumber(3)
-  $core.bool get isPrimary => $_getBF(2);
+  $core.String get serviceUuid => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set serviceUuid($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasServiceUuid() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearServiceUuid() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.String get characteristicUuid => $_getSZ(3);
+  @$pb.TagNumber(4)
+  set characteristicUuid($core.String v) { $_setString(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasCharacteristicUuid() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearCharacteristicUuid() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $core.List<$core.int> get value => $_getN(4);
+  @$pb.TagNumber(5)
+  set value($core.List<$core.int> v) { $_setBytes(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasValue() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearValue() => clearField(5);
+}
+
+class CharacteristicProperties extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'CharacteristicProperties', createEmptyInstance: create)
+    ..aOB(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'broadcast')
+    ..aOB(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'read')
+    ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writeWithoutResponse')
+    ..aOB(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'write')
+    ..aOB(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'notify')
+    ..aOB(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'indicate')
+    ..aOB(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'authenticatedSignedWrites')
+    ..aOB(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'extendedProperties')
+    ..aOB(9, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'notifyEncryptionRequired')
+    ..aOB(10, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'indicateEncryptionRequired')
+    ..hasRequiredFields = false
+  ;
+
+  CharacteristicProperties._() : super();
+  factory CharacteristicProperties({
+    $core.bool? broadcast,
+    $core.bool? read,
+    $core.bool? writeWithoutResponse,
+    $core.bool? write,
+    $core.bool? notify,
+    $core.bool? indicate,
+    $core.bool? authenticatedSignedWrites,
+    $core.bool? extendedProperties,
+    $core.bool? notifyEncryptionRequired,
+    $core.bool? indicateEncryptionRequired,
+  }) {
+    final _result = create();
+    if (broadcast != null) {
+      _result.broadcast = broadcast;
+    }
+    if (read != null) {
+      _result.read = read;
+    }
+    if (writeWithoutResponse != null) {
+      _result.writeWithoutResponse = writeWithoutResponse;
+    }
+    if (write != null) {
+      _result.write = write;
+    }
+    if (notify != null) {
+      _result.notify = notify;
+    }
+    if (indicate != null) {
+      _result.indicate = indicate;
+    }
+    if (authenticatedSignedWrites != null) {
+      _result.authenticatedSignedWrites = authenticatedSignedWrites;
+    }
+    if (extendedProperties != null) {
+      _result.extendedProperties = extendedProperties;
+    }
+    if (notifyEncryptionRequired != null) {
+      _result.notifyEncryptionRequired = notifyEncryptionRequired;
+    }
+    if (indicateEncryptionRequired != null) {
+      _result.indicateEncryptionRequired = indicateEncryptionRequired;
+    }
+    return _result;
+  }
+  factory CharacteristicProperties.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory CharacteristicProperties.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  CharacteristicProperties clone() => CharacteristicProperties()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  CharacteristicProperties copyWith(void Function(CharacteristicProperties) updates) => super.copyWith((message) => updates(message as CharacteristicProperties)) as CharacteristicProperties; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static CharacteristicProperties create() => CharacteristicProperties._();
+  CharacteristicProperties createEmptyInstance() => create();
+  static $pb.PbList<CharacteristicProperties> createRepeated() => $pb.PbList<CharacteristicProperties>();
+  @$core.pragma('dart2js:noInline')
+  static CharacteristicProperties getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<CharacteristicProperties>(create);
+  static CharacteristicProperties? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.bool get broadcast => $_getBF(0);
+  @$pb.TagNumber(1)
+  set broadcast($core.bool v) { $_setBool(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasBroadcast() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearBroadcast() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.bool get read => $_getBF(1);
+  @$pb.TagNumber(2)
+  set read($core.bool v) { $_setBool(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasRead() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearRead() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.bool get writeWithoutResponse => $_getBF(2);
+  @$pb.TagNumber(3)
+  set writeWithoutResponse($core.bool v) { $_setBool(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasWriteWithoutResponse() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearWriteWithoutResponse() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.bool get write => $_getBF(3);
+  @$pb.TagNumber(4)
+  set write($core.bool v) { $_setBool(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasWrite() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearWrite() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $core.bool get notify => $_getBF(4);
+  @$pb.TagNumber(5)
+  set notify($core.bool v) { $_setBool(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasNotify() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearNotify() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $core.bool get indicate => $_getBF(5);
+  @$pb.TagNumber(6)
+  set indicate($core.bool v) { $_setBool(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasIndicate() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearIndicate() => clearField(6);
+
+  @$pb.TagNumber(7)
+  $core.bool get authenticatedSignedWrites => $_getBF(6);
+  @$pb.TagNumber(7)
+  set authenticatedSignedWrites($core.bool v) { $_setBool(6, v); }
+  @$pb.TagNumber(7)
+  $core.bool hasAuthenticatedSignedWrites() => $_has(6);
+  @$pb.TagNumber(7)
+  void clearAuthenticatedSignedWrites() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $core.bool get extendedProperties => $_getBF(7);
+  @$pb.TagNumber(8)
+  set extendedProperties($core.bool v) { $_setBool(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasExtendedProperties() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearExtendedProperties() => clearField(8);
+
+  @$pb.TagNumber(9)
+  $core.bool get notifyEncryptionRequired => $_getBF(8);
+  @$pb.TagNumber(9)
+  set notifyEncryptionRequired($core.bool v) { $_setBool(8, v); }
+  @$pb.TagNumber(9)
+  $core.bool hasNotifyEncryptionRequired() => $_has(8);
+  @$pb.TagNumber(9)
+  void clearNotifyEncryptionRequired() => clearField(9);
+
+  @$pb.TagNumber(10)
+  $core.bool get indicateEncryptionRequired => $_getBF(9);
+  @$pb.TagNumber(10)
+  set indicateEncryptionRequired($core.bool v) { $_setBool(9, v); }
+  @$pb.TagNumber(10)
+  $core.bool hasIndicateEncryptionRequired() => $_has(9);
+  @$pb.TagNumber(10)
+  void clearIndicateEncryptionRequired() => clearField(10);
+}
+
+class DiscoverServicesResult extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'DiscoverServicesResult', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..pc<BluetoothService>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'services', $pb.PbFieldType.PM, subBuilder: BluetoothService.create)
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidErrorMessage')
+    ..hasRequiredFields = false
+  ;
+
+  DiscoverServicesResult._() : super();
+  factory DiscoverServicesResult({
+    $core.String? remoteId,
+    $core.Iterable<BluetoothService>? services,
+    $core.String? androidErrorMessage,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (services != null) {
+      _result.services.addAll(services);
+    }
+    if (androidErrorMessage != null) {
+      _result.androidErrorMessage = androidErrorMessage;
+    }
+    return _result;
+  }
+  factory DiscoverServicesResult.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory DiscoverServicesResult.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  DiscoverServicesResult clone() => DiscoverServicesResult()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  DiscoverServicesResult copyWith(void Function(DiscoverServicesResult) updates) => super.copyWith((message) => updates(message as DiscoverServicesResult)) as DiscoverServicesResult; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static DiscoverServicesResult create() => DiscoverServicesResult._();
+  DiscoverServicesResult createEmptyInstance() => create();
+  static $pb.PbList<DiscoverServicesResult> createRepeated() => $pb.PbList<DiscoverServicesResult>();
+  @$core.pragma('dart2js:noInline')
+  static DiscoverServicesResult getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<DiscoverServicesResult>(create);
+  static DiscoverServicesResult? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.List<BluetoothService> get services => $_getList(1);
+
+  @$pb.TagNumber(3)
+  $core.String get androidErrorMessage => $_getSZ(2);
   @$pb.TagNumber(3)
-  set isPrimary($core.bool v) { $_setBool(2, v); }
+  set androidErrorMessage($core.String v) { $_setString(2, v); }
   @$pb.TagNumber(3)
-  $core.bool hasIsPrimary() => $_has(2);
+  $core.bool hasAndroidErrorMessage() => $_has(2);
   @$pb.TagNumber(3)
-  void clearIsPrimary() => clearField(3);
+  void clearAndroidErrorMessage() => clearField(3);
+}
+
+class ReadCharacteristicRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadCharacteristicRequest', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
+    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
+    ..hasRequiredFields = false
+  ;
+
+  ReadCharacteristicRequest._() : super();
+  factory ReadCharacteristicRequest({
+    $core.String? remoteId,
+    $core.String? characteristicUuid,
+    $core.String? serviceUuid,
+    $core.String? secondaryServiceUuid,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (characteristicUuid != null) {
+      _result.characteristicUuid = characteristicUuid;
+    }
+    if (serviceUuid != null) {
+      _result.serviceUuid = serviceUuid;
+    }
+    if (secondaryServiceUuid != null) {
+      _result.secondaryServiceUuid = secondaryServiceUuid;
+    }
+    return _result;
+  }
+  factory ReadCharacteristicRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReadCharacteristicRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  ReadCharacteristicRequest clone() => ReadCharacteristicRequest()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  ReadCharacteristicRequest copyWith(void Function(ReadCharacteristicRequest) updates) => super.copyWith((message) => updates(message as ReadCharacteristicRequest)) as ReadCharacteristicRequest; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ReadCharacteristicRequest create() => ReadCharacteristicRequest._();
+  ReadCharacteristicRequest createEmptyInstance() => create();
+  static $pb.PbList<ReadCharacteristicRequest> createRepeated() => $pb.PbList<ReadCharacteristicRequest>();
+  @$core.pragma('dart2js:noInline')
+  static ReadCharacteristicRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadCharacteristicRequest>(create);
+  static ReadCharacteristicRequest? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.String get characteristicUuid => $_getSZ(1);
+  @$pb.TagNumber(2)
+  set characteristicUuid($core.String v) { $_setString(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasCharacteristicUuid() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearCharacteristicUuid() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.String get serviceUuid => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set serviceUuid($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasServiceUuid() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearServiceUuid() => clearField(3);
 
   @$pb.TagNumber(4)
-  $core.List<BluetoothCharacteristic> get characteristics => $_getList(3);
+  $core.String get secondaryServiceUuid => $_getSZ(3);
+  @$pb.TagNumber(4)
+  set secondaryServiceUuid($core.String v) { $_setString(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasSecondaryServiceUuid() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearSecondaryServiceUuid() => clearField(4);
+}
 
-  @$pb.TagNumber(5)
-  $core.List<BluetoothService> get includedServices => $_getList(4);
+class ReadCharacteristicResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadCharacteristicResponse', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOM<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristic', subBuilder: BluetoothCharacteristic.create)
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidErrorMessage')
+    ..hasRequiredFields = false
+  ;
+
+  ReadCharacteristicResponse._() : super();
+  factory ReadCharacteristicResponse({
+    $core.String? remoteId,
+    BluetoothCharacteristic? characteristic,
+    $core.String? androidErrorMessage,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (characteristic != null) {
+      _result.characteristic = characteristic;
+    }
+    if (androidErrorMessage != null) {
+      _result.androidErrorMessage = androidErrorMessage;
+    }
+    return _result;
+  }
+  factory ReadCharacteristicResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReadCharacteristicResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  ReadCharacteristicResponse clone() => ReadCharacteristicResponse()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  ReadCharacteristicResponse copyWith(void Function(ReadCharacteristicResponse) updates) => super.copyWith((message) => updates(message as ReadCharacteristicResponse)) as ReadCharacteristicResponse; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ReadCharacteristicResponse create() => ReadCharacteristicResponse._();
+  ReadCharacteristicResponse createEmptyInstance() => create();
+  static $pb.PbList<ReadCharacteristicResponse> createRepeated() => $pb.PbList<ReadCharacteristicResponse>();
+  @$core.pragma('dart2js:noInline')
+  static ReadCharacteristicResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadCharacteristicResponse>(create);
+  static ReadCharacteristicResponse? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  BluetoothCharacteristic get characteristic => $_getN(1);
+  @$pb.TagNumber(2)
+  set characteristic(BluetoothCharacteristic v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasCharacteristic() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearCharacteristic() => clearField(2);
+  @$pb.TagNumber(2)
+  BluetoothCharacteristic ensureCharacteristic() => $_ensure(1);
+
+  @$pb.TagNumber(3)
+  $core.String get androidErrorMessage => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set androidErrorMessage($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasAndroidErrorMessage() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearAndroidErrorMessage() => clearField(3);
 }
 
-class BluetoothCharacteristic extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BluetoothCharacteristic', createEmptyInstance: create)
-    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uuid')
-    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid', protoName: 'serviceUuid')
-    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid', protoName: 'secondaryServiceUuid')
-    ..pc<BluetoothDescriptor>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'descriptors', $pb.PbFieldType.PM, subBuilder: BluetoothDescriptor.create)
-    ..aOM<CharacteristicProperties>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'properties', subBuilder: CharacteristicProperties.create)
-    ..a<$core.List<$core.int>>(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+class ReadLongCharacteristicRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadLongCharacteristicRequest', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
+    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
+    ..a<$core.int>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'maxLength', $pb.PbFieldType.OU3)
+    ..a<$core.int>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'chunkLength', $pb.PbFieldType.OU3)
     ..hasRequiredFields = false
   ;
 
-  BluetoothCharacteristic._() : super();
-  factory BluetoothCharacteristic({
-    $core.String? uuid,
+  ReadLongCharacteristicRequest._() : super();
+  factory ReadLongCharacteristicRequest({
     $core.String? remoteId,
+    $core.String? characteristicUuid,
     $core.String? serviceUuid,
     $core.String? secondaryServiceUuid,
-    $core.Iterable<BluetoothDescriptor>? descriptors,
-    CharacteristicProperties? properties,
-    $core.List<$core.int>? value,
+    $core.int? maxLength,
+    $core.int? chunkLength,
   }) {
     final _result = create();
-    if (uuid != null) {
-      _result.uuid = uuid;
-    }
     if (remoteId != null) {
       _result.remoteId = remoteId;
     }
+    if (characteristicUuid != null) {
+      _result.characteristicUuid = characteristicUuid;
+    }
     if (serviceUuid != null) {
       _result.serviceUuid = serviceUuid;
     }
     if (secondaryServiceUuid != null) {
       _result.secondaryServiceUuid = secondaryServiceUuid;
     }
-    if (descriptors != null) {
-      _result.descriptors.addAll(descriptors);
-    }
-    if (properties != null) {
-      _result.properties = properties;
+    if (maxLength != null) {
+      _result.maxLength = maxLength;
     }
-    if (value != null) {
-      _result.value = value;
+    if (chunkLength != null) {
+      _result.chunkLength = chunkLength;
     }
     return _result;
   }
-  factory BluetoothCharacteristic.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory BluetoothCharacteristic.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory ReadLongCharacteristicRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReadLongCharacteristicRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  BluetoothCharacteristic clone() => BluetoothCharacteristic()..mergeFromMessage(this);
+  ReadLongCharacteristicRequest clone() => ReadLongCharacteristicRequest()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  BluetoothCharacteristic copyWith(void Function(BluetoothCharacteristic) updates) => super.copyWith((message) => updates(message as BluetoothCharacteristic)) as BluetoothCharacteristic; // ignore: deprecated_member_use
+  ReadLongCharacteristicRequest copyWith(void Function(ReadLongCharacteristicRequest) updates) => super.copyWith((message) => updates(message as ReadLongCharacteristicRequest)) as ReadLongCharacteristicRequest; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static BluetoothCharacteristic create() => BluetoothCharacteristic._();
-  BluetoothCharacteristic createEmptyInstance() => create();
-  static $pb.PbList<BluetoothCharacteristic> createRepeated() => $pb.PbList<BluetoothCharacteristic>();
+  static ReadLongCharacteristicRequest create() => ReadLongCharacteristicRequest._();
+  ReadLongCharacteristicRequest createEmptyInstance() => create();
+  static $pb.PbList<ReadLongCharacteristicRequest> createRepeated() => $pb.PbList<ReadLongCharacteristicRequest>();
   @$core.pragma('dart2js:noInline')
-  static BluetoothCharacteristic getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BluetoothCharacteristic>(create);
-  static BluetoothCharacteristic? _defaultInstance;
+  static ReadLongCharacteristicRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadLongCharacteristicRequest>(create);
+  static ReadLongCharacteristicRequest? _defaultInstance;
 
   @$pb.TagNumber(1)
-  $core.String get uuid => $_getSZ(0);
+  $core.String get remoteId => $_getSZ(0);
   @$pb.TagNumber(1)
-  set uuid($core.String v) { $_setString(0, v); }
+  set remoteId($core.String v) { $_setString(0, v); }
   @$pb.TagNumber(1)
-  $core.bool hasUuid() => $_has(0);
+  $core.bool hasRemoteId() => $_has(0);
   @$pb.TagNumber(1)
-  void clearUuid() => clearField(1);
+  void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  $core.String get remoteId => $_getSZ(1);
+  $core.String get characteristicUuid => $_getSZ(1);
   @$pb.TagNumber(2)
-  set remoteId($core.String v) { $_setString(1, v); }
+  set characteristicUuid($core.String v) { $_setString(1, v); }
   @$pb.TagNumber(2)
-  $core.bool hasRemoteId() => $_has(1);
+  $core.bool hasCharacteristicUuid() => $_has(1);
   @$pb.TagNumber(2)
-  void clearRemoteId() => clearField(2);
+  void clearCharacteristicUuid() => clearField(2);
 
   @$pb.TagNumber(3)
   $core.String get serviceUuid => $_getSZ(2);
@@ -687,103 +1997,103 @@ class BluetoothCharacteristic extends $pb.GeneratedMessage {
   void clearSecondaryServiceUuid() => clearField(4);
 
   @$pb.TagNumber(5)
-  $core.List<BluetoothDescriptor> get descriptors => $_getList(4);
-
-  @$pb.TagNumber(6)
-  CharacteristicProperties get properties => $_getN(5);
+  $core.int get maxLength => $_getIZ(4);
+  @$pb.TagNumber(5)
+  set maxLength($core.int v) { $_setUnsignedInt32(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasMaxLength() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearMaxLength() => clearField(5);
+
   @$pb.TagNumber(6)
-  set properties(CharacteristicProperties v) { setField(6, v); }
+  $core.int get chunkLength => $_getIZ(5);
   @$pb.TagNumber(6)
-  $core.bool hasProperties() => $_has(5);
+  set chunkLength($core.int v) { $_setUnsignedInt32(5, v); }
   @$pb.TagNumber(6)
-  void clearProperties() => clearField(6);
+  $core.bool hasChunkLength() => $_has(5);
   @$pb.TagNumber(6)
-  CharacteristicProperties ensureProperties() => $_ensure(5);
-
-  @$pb.TagNumber(7)
-  $core.List<$core.int> get value => $_getN(6);
-  @$pb.TagNumber(7)
-  set value($core.List<$core.int> v) { $_setBytes(6, v); }
-  @$pb.TagNumber(7)
-  $core.bool hasValue() => $_has(6);
-  @$pb.TagNumber(7)
-  void clearValue() => clearField(7);
+  void clearChunkLength() => clearField(6);
 }
 
-class BluetoothDescriptor extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'BluetoothDescriptor', createEmptyInstance: create)
-    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'uuid')
-    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid', protoName: 'serviceUuid')
-    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid', protoName: 'characteristicUuid')
-    ..a<$core.List<$core.int>>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+class ReadLongCharacteristicResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadLongCharacteristicResponse', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
+    ..a<$core.List<$core.int>>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+    ..aOB(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..aOS(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'errorMessage')
     ..hasRequiredFields = false
   ;
 
-  BluetoothDescriptor._() : super();
-  factory BluetoothDescriptor({
-    $core.String? uuid,
+  ReadLongCharacteristicResponse._() : super();
+  factory ReadLongCharacteristicResponse({
     $core.String? remoteId,
-    $core.String? serviceUuid,
     $core.String? characteristicUuid,
+    $core.String? serviceUuid,
     $core.List<$core.int>? value,
+    $core.bool? success,
+    $core.String? errorMessage,
   }) {
     final _result = create();
-    if (uuid != null) {
-      _result.uuid = uuid;
-    }
     if (remoteId != null) {
       _result.remoteId = remoteId;
     }
-    if (serviceUuid != null) {
-      _result.serviceUuid = serviceUuid;
-    }
     if (characteristicUuid != null) {
       _result.characteristicUuid = characteristicUuid;
     }
+    if (serviceUuid != null) {
+      _result.serviceUuid = serviceUuid;
+    }
     if (value != null) {
       _result.value = value;
     }
+    if (success != null) {
+      _result.success = success;
+    }
+    if (errorMessage != null) {
+      _result.errorMessage = errorMessage;
+    }
     return _result;
   }
-  factory BluetoothDescriptor.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory BluetoothDescriptor.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory ReadLongCharacteristicResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReadLongCharacteristicResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  BluetoothDescriptor clone() => BluetoothDescriptor()..mergeFromMessage(this);
+  ReadLongCharacteristicResponse clone() => ReadLongCharacteristicResponse()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  BluetoothDescriptor copyWith(void Function(BluetoothDescriptor) updates) => super.copyWith((message) => updates(message as BluetoothDescriptor)) as BluetoothDescriptor; // ignore: deprecated_member_use
+  ReadLongCharacteristicResponse copyWith(void Function(ReadLongCharacteristicResponse) updates) => super.copyWith((message) => updates(message as ReadLongCharacteristicResponse)) as ReadLongCharacteristicResponse; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static BluetoothDescriptor create() => BluetoothDescriptor._();
-  BluetoothDescriptor createEmptyInstance() => create();
-  static $pb.PbList<BluetoothDescriptor> createRepeated() => $pb.PbList<BluetoothDescriptor>();
+  static ReadLongCharacteristicResponse create() => ReadLongCharacteristicResponse._();
+  ReadLongCharacteristicResponse createEmptyInstance() => create();
+  static $pb.PbList<ReadLongCharacteristicResponse> createRepeated() => $pb.PbList<ReadLongCharacteristicResponse>();
   @$core.pragma('dart2js:noInline')
-  static BluetoothDescriptor getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<BluetoothDescriptor>(create);
-  static BluetoothDescriptor? _defaultInstance;
+  static ReadLongCharacteristicResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadLongCharacteristicResponse>(create);
+  static ReadLongCharacteristicResponse? _defaultInstance;
 
   @$pb.TagNumber(1)
-  $core.String get uuid => $_getSZ(0);
+  $core.String get remoteId => $_getSZ(0);
   @$pb.TagNumber(1)
-  set uuid($core.String v) { $_setString(0, v); }
+  set remoteId($core.String v) { $_setString(0, v); }
   @$pb.TagNumber(1)
-  $core.bool hasUuid() => $_has(0);
+  $core.bool hasRemoteId() => $_has(0);
   @$pb.TagNumber(1)
-  void clearUuid() => clearField(1);
+  void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  $core.String get remoteId => $_getSZ(1);
+  $core.String get characteristicUuid => $_getSZ(1);
   @$pb.TagNumber(2)
-  set remoteId($core.String v) { $_setString(1, v); }
+  set characteristicUuid($core.String v) { $_setString(1, v); }
   @$pb.TagNumber(2)
-  $core.bool hasRemoteId() => $_has(1);
+  $core.bool hasCharacteristicUuid() => $_has(1);
   @$pb.TagNumber(2)
-  void clearRemoteId() => clearField(2);
+  void clearCharacteristicUuid() => clearField(2);
 
   @$pb.TagNumber(3)
   $core.String get serviceUuid => $_getSZ(2);
@@ -795,267 +2105,232 @@ class BluetoothDescriptor extends $pb.GeneratedMessage {
   void clearServiceUuid() => clearField(3);
 
   @$pb.TagNumber(4)
-  $core.String get characteristicUuid => $_getSZ(3);
+  $core.List<$core.int> get value => $_getN(3);
   @$pb.TagNumber(4)
-  set characteristicUuid($core.String v) { $_setString(3, v); }
+  set value($core.List<$core.int> v) { $_setBytes(3, v); }
   @$pb.TagNumber(4)
-  $core.bool hasCharacteristicUuid() => $_has(3);
+  $core.bool hasValue() => $_has(3);
   @$pb.TagNumber(4)
-  void clearCharacteristicUuid() => clearField(4);
+  void clearValue() => clearField(4);
 
   @$pb.TagNumber(5)
-  $core.List<$core.int> get value => $_getN(4);
+  $core.bool get success => $_getBF(4);
   @$pb.TagNumber(5)
-  set value($core.List<$core.int> v) { $_setBytes(4, v); }
+  set success($core.bool v) { $_setBool(4, v); }
   @$pb.TagNumber(5)
-  $core.bool hasValue() => $_has(4);
+  $core.bool hasSuccess() => $_has(4);
   @$pb.TagNumber(5)
-  void clearValue() => clearField(5);
+  void clearSuccess() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $core.String get errorMessage => $_getSZ(5);
+  @$pb.TagNumber(6)
+  set errorMessage($core.String v) { $_setString(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasErrorMessage() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearErrorMessage() => clearField(6);
 }
 
-class CharacteristicProperties extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'CharacteristicProperties', createEmptyInstance: create)
-    ..aOB(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'broadcast')
-    ..aOB(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'read')
-    ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writeWithoutResponse')
-    ..aOB(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'write')
-    ..aOB(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'notify')
-    ..aOB(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'indicate')
-    ..aOB(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'authenticatedSignedWrites')
-    ..aOB(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'extendedProperties')
-    ..aOB(9, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'notifyEncryptionRequired')
-    ..aOB(10, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'indicateEncryptionRequired')
+class ReadDescriptorRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadDescriptorRequest', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'descriptorUuid')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
+    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
+    ..aOS(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
     ..hasRequiredFields = false
   ;
 
-  CharacteristicProperties._() : super();
-  factory CharacteristicProperties({
-    $core.bool? broadcast,
-    $core.bool? read,
-    $core.bool? writeWithoutResponse,
-    $core.bool? write,
-    $core.bool? notify,
-    $core.bool? indicate,
-    $core.bool? authenticatedSignedWrites,
-    $core.bool? extendedProperties,
-    $core.bool? notifyEncryptionRequired,
-    $core.bool? indicateEncryptionRequired,
+  ReadDescriptorRequest._() : super();
+  factory ReadDescriptorRequest({
+    $core.String? remoteId,
+    $core.String? descriptorUuid,
+    $core.String? serviceUuid,
+    $core.String? secondaryServiceUuid,
+    $core.String? characteristicUuid,
   }) {
     final _result = create();
-    if (broadcast != null) {
-      _result.broadcast = broadcast;
-    }
-    if (read != null) {
-      _result.read = read;
-    }
-    if (writeWithoutResponse != null) {
-      _result.writeWithoutResponse = writeWithoutResponse;
-    }
-    if (write != null) {
-      _result.write = write;
-    }
-    if (notify != null) {
-      _result.notify = notify;
-    }
-    if (indicate != null) {
-      _result.indicate = indicate;
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
     }
-    if (authenticatedSignedWrites != null) {
-      _result.authenticatedSignedWrites = authenticatedSignedWrites;
+    if (descriptorUuid != null) {
+      _result.descriptorUuid = descriptorUuid;
     }
-    if (extendedProperties != null) {
-      _result.extendedProperties = extendedProperties;
+    if (serviceUuid != null) {
+      _result.serviceUuid = serviceUuid;
     }
-    if (notifyEncryptionRequired != null) {
-      _result.notifyEncryptionRequired = notifyEncryptionRequired;
+    if (secondaryServiceUuid != null) {
+      _result.secondaryServiceUuid = secondaryServiceUuid;
     }
-    if (indicateEncryptionRequired != null) {
-      _result.indicateEncryptionRequired = indicateEncryptionRequired;
+    if (characteristicUuid != null) {
+      _result.characteristicUuid = characteristicUuid;
     }
     return _result;
   }
-  factory CharacteristicProperties.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory CharacteristicProperties.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory ReadDescriptorRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReadDescriptorRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  CharacteristicProperties clone() => CharacteristicProperties()..mergeFromMessage(this);
+  ReadDescriptorRequest clone() => ReadDescriptorRequest()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  CharacteristicProperties copyWith(void Function(CharacteristicProperties) updates) => super.copyWith((message) => updates(message as CharacteristicProperties)) as CharacteristicProperties; // ignore: deprecated_member_use
+  ReadDescriptorRequest copyWith(void Function(ReadDescriptorRequest) updates) => super.copyWith((message) => updates(message as ReadDescriptorRequest)) as ReadDescriptorRequest; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static CharacteristicProperties create() => CharacteristicProperties._();
-  CharacteristicProperties createEmptyInstance() => create();
-  static $pb.PbList<CharacteristicProperties> createRepeated() => $pb.PbList<CharacteristicProperties>();
+  static ReadDescriptorRequest create() => ReadDescriptorRequest._();
+  ReadDescriptorRequest createEmptyInstance() => create();
+  static $pb.PbList<ReadDescriptorRequest> createRepeated() => $pb.PbList<ReadDescriptorRequest>();
   @$core.pragma('dart2js:noInline')
-  static CharacteristicProperties getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<CharacteristicProperties>(create);
-  static CharacteristicProperties? _defaultInstance;
+  static ReadDescriptorRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadDescriptorRequest>(create);
+  static ReadDescriptorRequest? _defaultInstance;
 
   @$pb.TagNumber(1)
-  $core.bool get broadcast => $_getBF(0);
+  $core.String get remoteId => $_getSZ(0);
   @$pb.TagNumber(1)
-  set broadcast($core.bool v) { $_setBool(0, v); }
+  set remoteId($core.String v) { $_setString(0, v); }
   @$pb.TagNumber(1)
-  $core.bool hasBroadcast() => $_has(0);
+  $core.bool hasRemoteId() => $_has(0);
   @$pb.TagNumber(1)
-  void clearBroadcast() => clearField(1);
+  void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  $core.bool get read => $_getBF(1);
+  $core.String get descriptorUuid => $_getSZ(1);
   @$pb.TagNumber(2)
-  set read($core.bool v) { $_setBool(1, v); }
+  set descriptorUuid($core.String v) { $_setString(1, v); }
   @$pb.TagNumber(2)
-  $core.bool hasRead() => $_has(1);
+  $core.bool hasDescriptorUuid() => $_has(1);
   @$pb.TagNumber(2)
-  void clearRead() => clearField(2);
+  void clearDescriptorUuid() => clearField(2);
 
   @$pb.TagNumber(3)
-  $core.bool get writeWithoutResponse => $_getBF(2);
+  $core.String get serviceUuid => $_getSZ(2);
   @$pb.TagNumber(3)
-  set writeWithoutResponse($core.bool v) { $_setBool(2, v); }
+  set serviceUuid($core.String v) { $_setString(2, v); }
   @$pb.TagNumber(3)
-  $core.bool hasWriteWithoutResponse() => $_has(2);
+  $core.bool hasServiceUuid() => $_has(2);
   @$pb.TagNumber(3)
-  void clearWriteWithoutResponse() => clearField(3);
+  void clearServiceUuid() => clearField(3);
 
   @$pb.TagNumber(4)
-  $core.bool get write => $_getBF(3);
+  $core.String get secondaryServiceUuid => $_getSZ(3);
   @$pb.TagNumber(4)
-  set write($core.bool v) { $_setBool(3, v); }
+  set secondaryServiceUuid($core.String v) { $_setString(3, v); }
   @$pb.TagNumber(4)
-  $core.bool hasWrite() => $_has(3);
+  $core.bool hasSecondaryServiceUuid() => $_has(3);
   @$pb.TagNumber(4)
-  void clearWrite() => clearField(4);
+  void clearSecondaryServiceUuid() => clearField(4);
 
   @$pb.TagNumber(5)
-  $core.bool get notify => $_getBF(4);
-  @$pb.TagNumber(5)
-  set notify($core.bool v) { $_setBool(4, v); }
+  $core.String get characteristicUuid => $_getSZ(4);
   @$pb.TagNumber(5)
-  $core.bool hasNotify() => $_has(4);
+  set characteristicUuid($core.String v) { $_setString(4, v); }
   @$pb.TagNumber(5)
-  void clearNotify() => clearField(5);
-
-  @$pb.TagNumber(6)
-  $core.bool get indicate => $_getBF(5);
-  @$pb.TagNumber(6)
-  set indicate($core.bool v) { $_setBool(5, v); }
-  @$pb.TagNumber(6)
-  $core.bool hasIndicate() => $_has(5);
-  @$pb.TagNumber(6)
-  void clearIndicate() => clearField(6);
-
-  @$pb.TagNumber(7)
-  $core.bool get authenticatedSignedWrites => $_getBF(6);
-  @$pb.TagNumber(7)
-  set authenticatedSignedWrites($core.bool v) { $_setBool(6, v); }
-  @$pb.TagNumber(7)
-  $core.bool hasAuthenticatedSignedWrites() => $_has(6);
-  @$pb.TagNumber(7)
-  void clearAuthenticatedSignedWrites() => clearField(7);
-
-  @$pb.TagNumber(8)
-  $core.bool get extendedProperties => $_getBF(7);
-  @$pb.TagNumber(8)
-  set extendedProperties($core.bool v) { $_setBool(7, v); }
-  @$pb.TagNumber(8)
-  $core.bool hasExtendedProperties() => $_has(7);
-  @$pb.TagNumber(8)
-  void clearExtendedProperties() => clearField(8);
-
-  @$pb.TagNumber(9)
-  $core.bool get notifyEncryptionRequired => $_getBF(8);
-  @$pb.TagNumber(9)
-  set notifyEncryptionRequired($core.bool v) { $_setBool(8, v); }
-  @$pb.TagNumber(9)
-  $core.bool hasNotifyEncryptionRequired() => $_has(8);
-  @$pb.TagNumber(9)
-  void clearNotifyEncryptionRequired() => clearField(9);
-
-  @$pb.TagNumber(10)
-  $core.bool get indicateEncryptionRequired => $_getBF(9);
-  @$pb.TagNumber(10)
-  set indicateEncryptionRequired($core.bool v) { $_setBool(9, v); }
-  @$pb.TagNumber(10)
-  $core.bool hasIndicateEncryptionRequired() => $_has(9);
-  @$pb.TagNumber(10)
-  void clearIndicateEncryptionRequired() => clearField(10);
+  $core.bool hasCharacteristicUuid() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearCharacteristicUuid() => clearField(5);
 }
 
-class DiscoverServicesResult extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'DiscoverServicesResult', createEmptyInstance: create)
-    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..pc<BluetoothService>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'services', $pb.PbFieldType.PM, subBuilder: BluetoothService.create)
+class ReadDescriptorResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadDescriptorResponse', createEmptyInstance: create)
+    ..aOM<ReadDescriptorRequest>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'request', subBuilder: ReadDescriptorRequest.create)
+    ..a<$core.List<$core.int>>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidErrorMessage')
     ..hasRequiredFields = false
   ;
 
-  DiscoverServicesResult._() : super();
-  factory DiscoverServicesResult({
-    $core.String? remoteId,
-    $core.Iterable<BluetoothService>? services,
+  ReadDescriptorResponse._() : super();
+  factory ReadDescriptorResponse({
+    ReadDescriptorRequest? request,
+    $core.List<$core.int>? value,
+    $core.String? androidErrorMessage,
   }) {
     final _result = create();
-    if (remoteId != null) {
-      _result.remoteId = remoteId;
+    if (request != null) {
+      _result.request = request;
     }
-    if (services != null) {
-      _result.services.addAll(services);
+    if (value != null) {
+      _result.value = value;
+    }
+    if (androidErrorMessage != null) {
+      _result.androidErrorMessage = androidErrorMessage;
     }
     return _result;
   }
-  factory DiscoverServicesResult.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory DiscoverServicesResult.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory ReadDescriptorResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReadDescriptorResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  DiscoverServicesResult clone() => DiscoverServicesResult()..mergeFromMessage(this);
+  ReadDescriptorResponse clone() => ReadDescriptorResponse()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  DiscoverServicesResult copyWith(void Function(DiscoverServicesResult) updates) => super.copyWith((message) => updates(message as DiscoverServicesResult)) as DiscoverServicesResult; // ignore: deprecated_member_use
+  ReadDescriptorResponse copyWith(void Function(ReadDescriptorResponse) updates) => super.copyWith((message) => updates(message as ReadDescriptorResponse)) as ReadDescriptorResponse; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static DiscoverServicesResult create() => DiscoverServicesResult._();
-  DiscoverServicesResult createEmptyInstance() => create();
-  static $pb.PbList<DiscoverServicesResult> createRepeated() => $pb.PbList<DiscoverServicesResult>();
+  static ReadDescriptorResponse create() => ReadDescriptorResponse._();
+  ReadDescriptorResponse createEmptyInstance() => create();
+  static $pb.PbList<ReadDescriptorResponse> createRepeated() => $pb.PbList<ReadDescriptorResponse>();
   @$core.pragma('dart2js:noInline')
-  static DiscoverServicesResult getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<DiscoverServicesResult>(create);
-  static DiscoverServicesResult? _defaultInstance;
+  static ReadDescriptorResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadDescriptorResponse>(create);
+  static ReadDescriptorResponse? _defaultInstance;
 
   @$pb.TagNumber(1)
-  $core.String get remoteId => $_getSZ(0);
+  ReadDescriptorRequest get request => $_getN(0);
   @$pb.TagNumber(1)
-  set remoteId($core.String v) { $_setString(0, v); }
+  set request(ReadDescriptorRequest v) { setField(1, v); }
   @$pb.TagNumber(1)
-  $core.bool hasRemoteId() => $_has(0);
+  $core.bool hasRequest() => $_has(0);
   @$pb.TagNumber(1)
-  void clearRemoteId() => clearField(1);
+  void clearRequest() => clearField(1);
+  @$pb.TagNumber(1)
+  ReadDescriptorRequest ensureRequest() => $_ensure(0);
 
   @$pb.TagNumber(2)
-  $core.List<BluetoothService> get services => $_getList(1);
+  $core.List<$core.int> get value => $_getN(1);
+  @$pb.TagNumber(2)
+  set value($core.List<$core.int> v) { $_setBytes(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasValue() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearValue() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.String get androidErrorMessage => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set androidErrorMessage($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasAndroidErrorMessage() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearAndroidErrorMessage() => clearField(3);
 }
 
-class ReadCharacteristicRequest extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadCharacteristicRequest', createEmptyInstance: create)
+class WriteCharacteristicRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'WriteCharacteristicRequest', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
     ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
     ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
     ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
+    ..e<WriteCharacteristicRequest_WriteType>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writeType', $pb.PbFieldType.OE, defaultOrMaker: WriteCharacteristicRequest_WriteType.WITH_RESPONSE, valueOf: WriteCharacteristicRequest_WriteType.valueOf, enumValues: WriteCharacteristicRequest_WriteType.values)
+    ..a<$core.List<$core.int>>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
     ..hasRequiredFields = false
   ;
 
-  ReadCharacteristicRequest._() : super();
-  factory ReadCharacteristicRequest({
+  WriteCharacteristicRequest._() : super();
+  factory WriteCharacteristicRequest({
     $core.String? remoteId,
     $core.String? characteristicUuid,
     $core.String? serviceUuid,
     $core.String? secondaryServiceUuid,
+    WriteCharacteristicRequest_WriteType? writeType,
+    $core.List<$core.int>? value,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -1070,28 +2345,34 @@ class ReadCharacteristicRequest extends $pb.GeneratedMessage {
     if (secondaryServiceUuid != null) {
       _result.secondaryServiceUuid = secondaryServiceUuid;
     }
+    if (writeType != null) {
+      _result.writeType = writeType;
+    }
+    if (value != null) {
+      _result.value = value;
+    }
     return _result;
   }
-  factory ReadCharacteristicRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory ReadCharacteristicRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory WriteCharacteristicRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory WriteCharacteristicRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  ReadCharacteristicRequest clone() => ReadCharacteristicRequest()..mergeFromMessage(this);
+  WriteCharacteristicRequest clone() => WriteCharacteristicRequest()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  ReadCharacteristicRequest copyWith(void Function(ReadCharacteristicRequest) updates) => super.copyWith((message) => updates(message as ReadCharacteristicRequest)) as ReadCharacteristicRequest; // ignore: deprecated_member_use
+  WriteCharacteristicRequest copyWith(void Function(WriteCharacteristicRequest) updates) => super.copyWith((message) => updates(message as WriteCharacteristicRequest)) as WriteCharacteristicRequest; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static ReadCharacteristicRequest create() => ReadCharacteristicRequest._();
-  ReadCharacteristicRequest createEmptyInstance() => create();
-  static $pb.PbList<ReadCharacteristicRequest> createRepeated() => $pb.PbList<ReadCharacteristicRequest>();
+  static WriteCharacteristicRequest create() => WriteCharacteristicRequest._();
+  WriteCharacteristicRequest createEmptyInstance() => create();
+  static $pb.PbList<WriteCharacteristicRequest> createRepeated() => $pb.PbList<WriteCharacteristicRequest>();
   @$core.pragma('dart2js:noInline')
-  static ReadCharacteristicRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadCharacteristicRequest>(create);
-  static ReadCharacteristicRequest? _defaultInstance;
+  static WriteCharacteristicRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<WriteCharacteristicRequest>(create);
+  static WriteCharacteristicRequest? _defaultInstance;
 
   @$pb.TagNumber(1)
   $core.String get remoteId => $_getSZ(0);
@@ -1128,49 +2409,67 @@ class ReadCharacteristicRequest extends $pb.GeneratedMessage {
   $core.bool hasSecondaryServiceUuid() => $_has(3);
   @$pb.TagNumber(4)
   void clearSecondaryServiceUuid() => clearField(4);
+
+  @$pb.TagNumber(5)
+  WriteCharacteristicRequest_WriteType get writeType => $_getN(4);
+  @$pb.TagNumber(5)
+  set writeType(WriteCharacteristicRequest_WriteType v) { setField(5, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasWriteType() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearWriteType() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $core.List<$core.int> get value => $_getN(5);
+  @$pb.TagNumber(6)
+  set value($core.List<$core.int> v) { $_setBytes(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasValue() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearValue() => clearField(6);
 }
 
-class ReadCharacteristicResponse extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadCharacteristicResponse', createEmptyInstance: create)
+class ReliableWriteRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReliableWriteRequest', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOM<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristic', subBuilder: BluetoothCharacteristic.create)
+    ..pc<WriteCharacteristicRequest>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writes', $pb.PbFieldType.PM, subBuilder: WriteCharacteristicRequest.create)
     ..hasRequiredFields = false
   ;
 
-  ReadCharacteristicResponse._() : super();
-  factory ReadCharacteristicResponse({
+  ReliableWriteRequest._() : super();
+  factory ReliableWriteRequest({
     $core.String? remoteId,
-    BluetoothCharacteristic? characteristic,
+    $core.Iterable<WriteCharacteristicRequest>? writes,
   }) {
     final _result = create();
     if (remoteId != null) {
       _result.remoteId = remoteId;
     }
-    if (characteristic != null) {
-      _result.characteristic = characteristic;
+    if (writes != null) {
+      _result.writes.addAll(writes);
     }
     return _result;
   }
-  factory ReadCharacteristicResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory ReadCharacteristicResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory ReliableWriteRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReliableWriteRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  ReadCharacteristicResponse clone() => ReadCharacteristicResponse()..mergeFromMessage(this);
+  ReliableWriteRequest clone() => ReliableWriteRequest()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  ReadCharacteristicResponse copyWith(void Function(ReadCharacteristicResponse) updates) => super.copyWith((message) => updates(message as ReadCharacteristicResponse)) as ReadCharacteristicResponse; // ignore: deprecated_member_use
+  ReliableWriteRequest copyWith(void Function(ReliableWriteRequest) updates) => super.copyWith((message) => updates(message as ReliableWriteRequest)) as ReliableWriteRequest; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static ReadCharacteristicResponse create() => ReadCharacteristicResponse._();
-  ReadCharacteristicResponse createEmptyInstance() => create();
-  static $pb.PbList<ReadCharacteristicResponse> createRepeated() => $pb.PbList<ReadCharacteristicResponse>();
+  static ReliableWriteRequest create() => ReliableWriteRequest._();
+  ReliableWriteRequest createEmptyInstance() => create();
+  static $pb.PbList<ReliableWriteRequest> createRepeated() => $pb.PbList<ReliableWriteRequest>();
   @$core.pragma('dart2js:noInline')
-  static ReadCharacteristicResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadCharacteristicResponse>(create);
-  static ReadCharacteristicResponse? _defaultInstance;
+  static ReliableWriteRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReliableWriteRequest>(create);
+  static ReliableWriteRequest? _defaultInstance;
 
   @$pb.TagNumber(1)
   $core.String get remoteId => $_getSZ(0);
@@ -1182,73 +2481,55 @@ class ReadCharacteristicResponse extends $pb.GeneratedMessage {
   void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  BluetoothCharacteristic get characteristic => $_getN(1);
-  @$pb.TagNumber(2)
-  set characteristic(BluetoothCharacteristic v) { setField(2, v); }
-  @$pb.TagNumber(2)
-  $core.bool hasCharacteristic() => $_has(1);
-  @$pb.TagNumber(2)
-  void clearCharacteristic() => clearField(2);
-  @$pb.TagNumber(2)
-  BluetoothCharacteristic ensureCharacteristic() => $_ensure(1);
+  $core.List<WriteCharacteristicRequest> get writes => $_getList(1);
 }
 
-class ReadDescriptorRequest extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadDescriptorRequest', createEmptyInstance: create)
+class ReliableWriteResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReliableWriteResponse', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'descriptorUuid')
-    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
-    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
-    ..aOS(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
+    ..aOB(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'errorMessage')
     ..hasRequiredFields = false
   ;
 
-  ReadDescriptorRequest._() : super();
-  factory ReadDescriptorRequest({
+  ReliableWriteResponse._() : super();
+  factory ReliableWriteResponse({
     $core.String? remoteId,
-    $core.String? descriptorUuid,
-    $core.String? serviceUuid,
-    $core.String? secondaryServiceUuid,
-    $core.String? characteristicUuid,
+    $core.bool? success,
+    $core.String? errorMessage,
   }) {
     final _result = create();
     if (remoteId != null) {
       _result.remoteId = remoteId;
     }
-    if (descriptorUuid != null) {
-      _result.descriptorUuid = descriptorUuid;
-    }
-    if (serviceUuid != null) {
-      _result.serviceUuid = serviceUuid;
-    }
-    if (secondaryServiceUuid != null) {
-      _result.secondaryServiceUuid = secondaryServiceUuid;
+    if (success != null) {
+      _result.success = success;
     }
-    if (characteristicUuid != null) {
-      _result.characteristicUuid = characteristicUuid;
+    if (errorMessage != null) {
+      _result.errorMessage = errorMessage;
     }
     return _result;
   }
-  factory ReadDescriptorRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory ReadDescriptorRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory ReliableWriteResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ReliableWriteResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  ReadDescriptorRequest clone() => ReadDescriptorRequest()..mergeFromMessage(this);
+  ReliableWriteResponse clone() => ReliableWriteResponse()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  ReadDescriptorRequest copyWith(void Function(ReadDescriptorRequest) updates) => super.copyWith((message) => updates(message as ReadDescriptorRequest)) as ReadDescriptorRequest; // ignore: deprecated_member_use
+  ReliableWriteResponse copyWith(void Function(ReliableWriteResponse) updates) => super.copyWith((message) => updates(message as ReliableWriteResponse)) as ReliableWriteResponse; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static ReadDescriptorRequest create() => ReadDescriptorRequest._();
-  ReadDescriptorRequest createEmptyInstance() => create();
-  static $pb.PbList<ReadDescriptorRequest> createRepeated() => $pb.PbList<ReadDescriptorRequest>();
+  static ReliableWriteResponse create() => ReliableWriteResponse._();
+  ReliableWriteResponse createEmptyInstance() => create();
+  static $pb.PbList<ReliableWriteResponse> createRepeated() => $pb.PbList<ReliableWriteResponse>();
   @$core.pragma('dart2js:noInline')
-  static ReadDescriptorRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadDescriptorRequest>(create);
-  static ReadDescriptorRequest? _defaultInstance;
+  static ReliableWriteResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReliableWriteResponse>(create);
+  static ReliableWriteResponse? _defaultInstance;
 
   @$pb.TagNumber(1)
   $core.String get remoteId => $_getSZ(0);
@@ -1260,124 +2541,164 @@ class ReadDescriptorRequest extends $pb.GeneratedMessage {
   void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  $core.String get descriptorUuid => $_getSZ(1);
+  $core.bool get success => $_getBF(1);
   @$pb.TagNumber(2)
-  set descriptorUuid($core.String v) { $_setString(1, v); }
+  set success($core.bool v) { $_setBool(1, v); }
   @$pb.TagNumber(2)
-  $core.bool hasDescriptorUuid() => $_has(1);
+  $core.bool hasSuccess() => $_has(1);
   @$pb.TagNumber(2)
-  void clearDescriptorUuid() => clearField(2);
+  void clearSuccess() => clearField(2);
 
   @$pb.TagNumber(3)
-  $core.String get serviceUuid => $_getSZ(2);
+  $core.String get errorMessage => $_getSZ(2);
   @$pb.TagNumber(3)
-  set serviceUuid($core.String v) { $_setString(2, v); }
+  set errorMessage($core.String v) { $_setString(2, v); }
   @$pb.TagNumber(3)
-  $core.bool hasServiceUuid() => $_has(2);
+  $core.bool hasErrorMessage() => $_has(2);
   @$pb.TagNumber(3)
-  void clearServiceUuid() => clearField(3);
-
-  @$pb.TagNumber(4)
-  $core.String get secondaryServiceUuid => $_getSZ(3);
-  @$pb.TagNumber(4)
-  set secondaryServiceUuid($core.String v) { $_setString(3, v); }
-  @$pb.TagNumber(4)
-  $core.bool hasSecondaryServiceUuid() => $_has(3);
-  @$pb.TagNumber(4)
-  void clearSecondaryServiceUuid() => clearField(4);
-
-  @$pb.TagNumber(5)
-  $core.String get characteristicUuid => $_getSZ(4);
-  @$pb.TagNumber(5)
-  set characteristicUuid($core.String v) { $_setString(4, v); }
-  @$pb.TagNumber(5)
-  $core.bool hasCharacteristicUuid() => $_has(4);
-  @$pb.TagNumber(5)
-  void clearCharacteristicUuid() => clearField(5);
+  void clearErrorMessage() => clearField(3);
 }
 
-class ReadDescriptorResponse extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadDescriptorResponse', createEmptyInstance: create)
-    ..aOM<ReadDescriptorRequest>(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'request', subBuilder: ReadDescriptorRequest.create)
-    ..a<$core.List<$core.int>>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+class WriteStreamRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'WriteStreamRequest', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
+    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
+    ..a<$core.List<$core.int>>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+    ..a<$core.int>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'chunkSize', $pb.PbFieldType.OU3)
     ..hasRequiredFields = false
   ;
 
-  ReadDescriptorResponse._() : super();
-  factory ReadDescriptorResponse({
-    ReadDescriptorRequest? request,
+  WriteStreamRequest._() : super();
+  factory WriteStreamRequest({
+    $core.String? remoteId,
+    $core.String? characteristicUuid,
+    $core.String? serviceUuid,
+    $core.String? secondaryServiceUuid,
     $core.List<$core.int>? value,
+    $core.int? chunkSize,
   }) {
     final _result = create();
-    if (request != null) {
-      _result.request = request;
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (characteristicUuid != null) {
+      _result.characteristicUuid = characteristicUuid;
+    }
+    if (serviceUuid != null) {
+      _result.serviceUuid = serviceUuid;
+    }
+    if (secondaryServiceUuid != null) {
+      _result.secondaryServiceUuid = secondaryServiceUuid;
     }
     if (value != null) {
       _result.value = value;
     }
+    if (chunkSize != null) {
+      _result.chunkSize = chunkSize;
+    }
     return _result;
   }
-  factory ReadDescriptorResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory ReadDescriptorResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory WriteStreamRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory WriteStreamRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  ReadDescriptorResponse clone() => ReadDescriptorResponse()..mergeFromMessage(this);
+  WriteStreamRequest clone() => WriteStreamRequest()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  ReadDescriptorResponse copyWith(void Function(ReadDescriptorResponse) updates) => super.copyWith((message) => updates(message as ReadDescriptorResponse)) as ReadDescriptorResponse; // ignore: deprecated_member_use
+  WriteStreamRequest copyWith(void Function(WriteStreamRequest) updates) => super.copyWith((message) => updates(message as WriteStreamRequest)) as WriteStreamRequest; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static ReadDescriptorResponse create() => ReadDescriptorResponse._();
-  ReadDescriptorResponse createEmptyInstance() => create();
-  static $pb.PbList<ReadDescriptorResponse> createRepeated() => $pb.PbList<ReadDescriptorResponse>();
+  static WriteStreamRequest create() => WriteStreamRequest._();
+  WriteStreamRequest createEmptyInstance() => create();
+  static $pb.PbList<WriteStreamRequest> createRepeated() => $pb.PbList<WriteStreamRequest>();
   @$core.pragma('dart2js:noInline')
-  static ReadDescriptorResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ReadDescriptorResponse>(create);
-  static ReadDescriptorResponse? _defaultInstance;
-
-  @$pb.TagNumber(1)
-  ReadDescriptorRequest get request => $_getN(0);
+  static WriteStreamRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<WriteStreamRequest>(create);
+  static WriteStreamRequest? _defaultInstance;
+
   @$pb.TagNumber(1)
-  set request(ReadDescriptorRequest v) { setField(1, v); }
+  $core.String get remoteId => $_getSZ(0);
   @$pb.TagNumber(1)
-  $core.bool hasRequest() => $_has(0);
+  set remoteId($core.String v) { $_setString(0, v); }
   @$pb.TagNumber(1)
-  void clearRequest() => clearField(1);
+  $core.bool hasRemoteId() => $_has(0);
   @$pb.TagNumber(1)
-  ReadDescriptorRequest ensureRequest() => $_ensure(0);
+  void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  $core.List<$core.int> get value => $_getN(1);
+  $core.String get characteristicUuid => $_getSZ(1);
   @$pb.TagNumber(2)
-  set value($core.List<$core.int> v) { $_setBytes(1, v); }
+  set characteristicUuid($core.String v) { $_setString(1, v); }
   @$pb.TagNumber(2)
-  $core.bool hasValue() => $_has(1);
+  $core.bool hasCharacteristicUuid() => $_has(1);
   @$pb.TagNumber(2)
-  void clearValue() => clearField(2);
+  void clearCharacteristicUuid() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.String get serviceUuid => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set serviceUuid($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasServiceUuid() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearServiceUuid() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.String get secondaryServiceUuid => $_getSZ(3);
+  @$pb.TagNumber(4)
+  set secondaryServiceUuid($core.String v) { $_setString(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasSecondaryServiceUuid() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearSecondaryServiceUuid() => clearField(4);
+
+  @$pb.TagNumber(5)
+  $core.List<$core.int> get value => $_getN(4);
+  @$pb.TagNumber(5)
+  set value($core.List<$core.int> v) { $_setBytes(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasValue() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearValue() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $core.int get chunkSize => $_getIZ(5);
+  @$pb.TagNumber(6)
+  set chunkSize($core.int v) { $_setUnsignedInt32(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasChunkSize() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearChunkSize() => clearField(6);
 }
 
-class WriteCharacteristicRequest extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'WriteCharacteristicRequest', createEmptyInstance: create)
+class WriteStreamProgress extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'WriteStreamProgress', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
     ..aOS(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
     ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'serviceUuid')
-    ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
-    ..e<WriteCharacteristicRequest_WriteType>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'writeType', $pb.PbFieldType.OE, defaultOrMaker: WriteCharacteristicRequest_WriteType.WITH_RESPONSE, valueOf: WriteCharacteristicRequest_WriteType.valueOf, enumValues: WriteCharacteristicRequest_WriteType.values)
-    ..a<$core.List<$core.int>>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
+    ..a<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'bytesWritten', $pb.PbFieldType.OU3)
+    ..a<$core.int>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'totalBytes', $pb.PbFieldType.OU3)
+    ..aOB(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'done')
+    ..aOB(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..aOS(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'errorMessage')
     ..hasRequiredFields = false
   ;
 
-  WriteCharacteristicRequest._() : super();
-  factory WriteCharacteristicRequest({
+  WriteStreamProgress._() : super();
+  factory WriteStreamProgress({
     $core.String? remoteId,
     $core.String? characteristicUuid,
     $core.String? serviceUuid,
-    $core.String? secondaryServiceUuid,
-    WriteCharacteristicRequest_WriteType? writeType,
-    $core.List<$core.int>? value,
+    $core.int? bytesWritten,
+    $core.int? totalBytes,
+    $core.bool? done,
+    $core.bool? success,
+    $core.String? errorMessage,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -1389,37 +2710,43 @@ class WriteCharacteristicRequest extends $pb.GeneratedMessage {
     if (serviceUuid != null) {
       _result.serviceUuid = serviceUuid;
     }
-    if (secondaryServiceUuid != null) {
-      _result.secondaryServiceUuid = secondaryServiceUuid;
+    if (bytesWritten != null) {
+      _result.bytesWritten = bytesWritten;
     }
-    if (writeType != null) {
-      _result.writeType = writeType;
+    if (totalBytes != null) {
+      _result.totalBytes = totalBytes;
     }
-    if (value != null) {
-      _result.value = value;
+    if (done != null) {
+      _result.done = done;
+    }
+    if (success != null) {
+      _result.success = success;
+    }
+    if (errorMessage != null) {
+      _result.errorMessage = errorMessage;
     }
     return _result;
   }
-  factory WriteCharacteristicRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory WriteCharacteristicRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory WriteStreamProgress.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory WriteStreamProgress.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  WriteCharacteristicRequest clone() => WriteCharacteristicRequest()..mergeFromMessage(this);
+  WriteStreamProgress clone() => WriteStreamProgress()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  WriteCharacteristicRequest copyWith(void Function(WriteCharacteristicRequest) updates) => super.copyWith((message) => updates(message as WriteCharacteristicRequest)) as WriteCharacteristicRequest; // ignore: deprecated_member_use
+  WriteStreamProgress copyWith(void Function(WriteStreamProgress) updates) => super.copyWith((message) => updates(message as WriteStreamProgress)) as WriteStreamProgress; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static WriteCharacteristicRequest create() => WriteCharacteristicRequest._();
-  WriteCharacteristicRequest createEmptyInstance() => create();
-  static $pb.PbList<WriteCharacteristicRequest> createRepeated() => $pb.PbList<WriteCharacteristicRequest>();
+  static WriteStreamProgress create() => WriteStreamProgress._();
+  WriteStreamProgress createEmptyInstance() => create();
+  static $pb.PbList<WriteStreamProgress> createRepeated() => $pb.PbList<WriteStreamProgress>();
   @$core.pragma('dart2js:noInline')
-  static WriteCharacteristicRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<WriteCharacteristicRequest>(create);
-  static WriteCharacteristicRequest? _defaultInstance;
+  static WriteStreamProgress getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<WriteStreamProgress>(create);
+  static WriteStreamProgress? _defaultInstance;
 
   @$pb.TagNumber(1)
   $core.String get remoteId => $_getSZ(0);
@@ -1449,31 +2776,49 @@ class WriteCharacteristicRequest extends $pb.GeneratedMessage {
   void clearServiceUuid() => clearField(3);
 
   @$pb.TagNumber(4)
-  $core.String get secondaryServiceUuid => $_getSZ(3);
+  $core.int get bytesWritten => $_getIZ(3);
   @$pb.TagNumber(4)
-  set secondaryServiceUuid($core.String v) { $_setString(3, v); }
+  set bytesWritten($core.int v) { $_setUnsignedInt32(3, v); }
   @$pb.TagNumber(4)
-  $core.bool hasSecondaryServiceUuid() => $_has(3);
+  $core.bool hasBytesWritten() => $_has(3);
   @$pb.TagNumber(4)
-  void clearSecondaryServiceUuid() => clearField(4);
+  void clearBytesWritten() => clearField(4);
 
   @$pb.TagNumber(5)
-  WriteCharacteristicRequest_WriteType get writeType => $_getN(4);
+  $core.int get totalBytes => $_getIZ(4);
   @$pb.TagNumber(5)
-  set writeType(WriteCharacteristicRequest_WriteType v) { setField(5, v); }
+  set totalBytes($core.int v) { $_setUnsignedInt32(4, v); }
   @$pb.TagNumber(5)
-  $core.bool hasWriteType() => $_has(4);
+  $core.bool hasTotalBytes() => $_has(4);
   @$pb.TagNumber(5)
-  void clearWriteType() => clearField(5);
+  void clearTotalBytes() => clearField(5);
 
   @$pb.TagNumber(6)
-  $core.List<$core.int> get value => $_getN(5);
+  $core.bool get done => $_getBF(5);
   @$pb.TagNumber(6)
-  set value($core.List<$core.int> v) { $_setBytes(5, v); }
+  set done($core.bool v) { $_setBool(5, v); }
   @$pb.TagNumber(6)
-  $core.bool hasValue() => $_has(5);
+  $core.bool hasDone() => $_has(5);
   @$pb.TagNumber(6)
-  void clearValue() => clearField(6);
+  void clearDone() => clearField(6);
+
+  @$pb.TagNumber(7)
+  $core.bool get success => $_getBF(6);
+  @$pb.TagNumber(7)
+  set success($core.bool v) { $_setBool(6, v); }
+  @$pb.TagNumber(7)
+  $core.bool hasSuccess() => $_has(6);
+  @$pb.TagNumber(7)
+  void clearSuccess() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $core.String get errorMessage => $_getSZ(7);
+  @$pb.TagNumber(8)
+  set errorMessage($core.String v) { $_setString(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasErrorMessage() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearErrorMessage() => clearField(8);
 }
 
 class WriteCharacteristicResponse extends $pb.GeneratedMessage {
@@ -1726,6 +3071,10 @@ class SetNotificationRequest extends $pb.GeneratedMessage {
     ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'secondaryServiceUuid')
     ..aOS(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristicUuid')
     ..aOB(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'enable')
+    ..a<$core.int>(6, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidBatchWindowMillis', $pb.PbFieldType.OU3)
+    ..a<$core.int>(7, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidBatchCount', $pb.PbFieldType.OU3)
+    ..a<$core.int>(8, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidBatchBytes', $pb.PbFieldType.OU3)
+    ..a<$core.int>(9, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidMaxBatchesPerSecond', $pb.PbFieldType.OU3)
     ..hasRequiredFields = false
   ;
 
@@ -1736,6 +3085,10 @@ class SetNotificationRequest extends $pb.GeneratedMessage {
     $core.String? secondaryServiceUuid,
     $core.String? characteristicUuid,
     $core.bool? enable,
+    $core.int? androidBatchWindowMillis,
+    $core.int? androidBatchCount,
+    $core.int? androidBatchBytes,
+    $core.int? androidMaxBatchesPerSecond,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -1753,6 +3106,18 @@ class SetNotificationRequest extends $pb.GeneratedMessage {
     if (enable != null) {
       _result.enable = enable;
     }
+    if (androidBatchWindowMillis != null) {
+      _result.androidBatchWindowMillis = androidBatchWindowMillis;
+    }
+    if (androidBatchCount != null) {
+      _result.androidBatchCount = androidBatchCount;
+    }
+    if (androidBatchBytes != null) {
+      _result.androidBatchBytes = androidBatchBytes;
+    }
+    if (androidMaxBatchesPerSecond != null) {
+      _result.androidMaxBatchesPerSecond = androidMaxBatchesPerSecond;
+    }
     return _result;
   }
   factory SetNotificationRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -1812,62 +3177,248 @@ class SetNotificationRequest extends $pb.GeneratedMessage {
   @$pb.TagNumber(4)
   void clearCharacteristicUuid() => clearField(4);
 
-  @$pb.TagNumber(5)
-  $core.bool get enable => $_getBF(4);
-  @$pb.TagNumber(5)
-  set enable($core.bool v) { $_setBool(4, v); }
-  @$pb.TagNumber(5)
-  $core.bool hasEnable() => $_has(4);
-  @$pb.TagNumber(5)
-  void clearEnable() => clearField(5);
+  @$pb.TagNumber(5)
+  $core.bool get enable => $_getBF(4);
+  @$pb.TagNumber(5)
+  set enable($core.bool v) { $_setBool(4, v); }
+  @$pb.TagNumber(5)
+  $core.bool hasEnable() => $_has(4);
+  @$pb.TagNumber(5)
+  void clearEnable() => clearField(5);
+
+  @$pb.TagNumber(6)
+  $core.int get androidBatchWindowMillis => $_getIZ(5);
+  @$pb.TagNumber(6)
+  set androidBatchWindowMillis($core.int v) { $_setUnsignedInt32(5, v); }
+  @$pb.TagNumber(6)
+  $core.bool hasAndroidBatchWindowMillis() => $_has(5);
+  @$pb.TagNumber(6)
+  void clearAndroidBatchWindowMillis() => clearField(6);
+
+  @$pb.TagNumber(7)
+  $core.int get androidBatchCount => $_getIZ(6);
+  @$pb.TagNumber(7)
+  set androidBatchCount($core.int v) { $_setUnsignedInt32(6, v); }
+  @$pb.TagNumber(7)
+  $core.bool hasAndroidBatchCount() => $_has(6);
+  @$pb.TagNumber(7)
+  void clearAndroidBatchCount() => clearField(7);
+
+  @$pb.TagNumber(8)
+  $core.int get androidBatchBytes => $_getIZ(7);
+  @$pb.TagNumber(8)
+  set androidBatchBytes($core.int v) { $_setUnsignedInt32(7, v); }
+  @$pb.TagNumber(8)
+  $core.bool hasAndroidBatchBytes() => $_has(7);
+  @$pb.TagNumber(8)
+  void clearAndroidBatchBytes() => clearField(8);
+
+  @$pb.TagNumber(9)
+  $core.int get androidMaxBatchesPerSecond => $_getIZ(8);
+  @$pb.TagNumber(9)
+  set androidMaxBatchesPerSecond($core.int v) { $_setUnsignedInt32(8, v); }
+  @$pb.TagNumber(9)
+  $core.bool hasAndroidMaxBatchesPerSecond() => $_has(8);
+  @$pb.TagNumber(9)
+  void clearAndroidMaxBatchesPerSecond() => clearField(9);
+}
+
+class SetNotificationResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'SetNotificationResponse', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOM<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristic', subBuilder: BluetoothCharacteristic.create)
+    ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..hasRequiredFields = false
+  ;
+
+  SetNotificationResponse._() : super();
+  factory SetNotificationResponse({
+    $core.String? remoteId,
+    BluetoothCharacteristic? characteristic,
+    $core.bool? success,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (characteristic != null) {
+      _result.characteristic = characteristic;
+    }
+    if (success != null) {
+      _result.success = success;
+    }
+    return _result;
+  }
+  factory SetNotificationResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory SetNotificationResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  SetNotificationResponse clone() => SetNotificationResponse()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  SetNotificationResponse copyWith(void Function(SetNotificationResponse) updates) => super.copyWith((message) => updates(message as SetNotificationResponse)) as SetNotificationResponse; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static SetNotificationResponse create() => SetNotificationResponse._();
+  SetNotificationResponse createEmptyInstance() => create();
+  static $pb.PbList<SetNotificationResponse> createRepeated() => $pb.PbList<SetNotificationResponse>();
+  @$core.pragma('dart2js:noInline')
+  static SetNotificationResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<SetNotificationResponse>(create);
+  static SetNotificationResponse? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  BluetoothCharacteristic get characteristic => $_getN(1);
+  @$pb.TagNumber(2)
+  set characteristic(BluetoothCharacteristic v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasCharacteristic() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearCharacteristic() => clearField(2);
+  @$pb.TagNumber(2)
+  BluetoothCharacteristic ensureCharacteristic() => $_ensure(1);
+
+  @$pb.TagNumber(3)
+  $core.bool get success => $_getBF(2);
+  @$pb.TagNumber(3)
+  set success($core.bool v) { $_setBool(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasSuccess() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearSuccess() => clearField(3);
+}
+
+class OnCharacteristicChanged extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'OnCharacteristicChanged', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..aOM<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristic', subBuilder: BluetoothCharacteristic.create)
+    ..hasRequiredFields = false
+  ;
+
+  OnCharacteristicChanged._() : super();
+  factory OnCharacteristicChanged({
+    $core.String? remoteId,
+    BluetoothCharacteristic? characteristic,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (characteristic != null) {
+      _result.characteristic = characteristic;
+    }
+    return _result;
+  }
+  factory OnCharacteristicChanged.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory OnCharacteristicChanged.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  OnCharacteristicChanged clone() => OnCharacteristicChanged()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  OnCharacteristicChanged copyWith(void Function(OnCharacteristicChanged) updates) => super.copyWith((message) => updates(message as OnCharacteristicChanged)) as OnCharacteristicChanged; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static OnCharacteristicChanged create() => OnCharacteristicChanged._();
+  OnCharacteristicChanged createEmptyInstance() => create();
+  static $pb.PbList<OnCharacteristicChanged> createRepeated() => $pb.PbList<OnCharacteristicChanged>();
+  @$core.pragma('dart2js:noInline')
+  static OnCharacteristicChanged getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<OnCharacteristicChanged>(create);
+  static OnCharacteristicChanged? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  BluetoothCharacteristic get characteristic => $_getN(1);
+  @$pb.TagNumber(2)
+  set characteristic(BluetoothCharacteristic v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasCharacteristic() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearCharacteristic() => clearField(2);
+  @$pb.TagNumber(2)
+  BluetoothCharacteristic ensureCharacteristic() => $_ensure(1);
 }
 
-class SetNotificationResponse extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'SetNotificationResponse', createEmptyInstance: create)
+class NotificationBatch extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'NotificationBatch', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOM<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristic', subBuilder: BluetoothCharacteristic.create)
-    ..aOB(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..a<$core.double>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'startTimeMillis', $pb.PbFieldType.OD)
+    ..p<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'handles', $pb.PbFieldType.KU3)
+    ..p<$core.List<$core.int>>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'values', $pb.PbFieldType.PY)
+    ..p<$core.int>(5, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'timeOffsetsMicros', $pb.PbFieldType.KU3)
     ..hasRequiredFields = false
   ;
 
-  SetNotificationResponse._() : super();
-  factory SetNotificationResponse({
+  NotificationBatch._() : super();
+  factory NotificationBatch({
     $core.String? remoteId,
-    BluetoothCharacteristic? characteristic,
-    $core.bool? success,
+    $core.double? startTimeMillis,
+    $core.Iterable<$core.int>? handles,
+    $core.Iterable<$core.List<$core.int>>? values,
+    $core.Iterable<$core.int>? timeOffsetsMicros,
   }) {
     final _result = create();
     if (remoteId != null) {
       _result.remoteId = remoteId;
     }
-    if (characteristic != null) {
-      _result.characteristic = characteristic;
+    if (startTimeMillis != null) {
+      _result.startTimeMillis = startTimeMillis;
     }
-    if (success != null) {
-      _result.success = success;
+    if (handles != null) {
+      _result.handles.addAll(handles);
+    }
+    if (values != null) {
+      _result.values.addAll(values);
+    }
+    if (timeOffsetsMicros != null) {
+      _result.timeOffsetsMicros.addAll(timeOffsetsMicros);
     }
     return _result;
   }
-  factory SetNotificationResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory SetNotificationResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory NotificationBatch.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory NotificationBatch.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  SetNotificationResponse clone() => SetNotificationResponse()..mergeFromMessage(this);
+  NotificationBatch clone() => NotificationBatch()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  SetNotificationResponse copyWith(void Function(SetNotificationResponse) updates) => super.copyWith((message) => updates(message as SetNotificationResponse)) as SetNotificationResponse; // ignore: deprecated_member_use
+  NotificationBatch copyWith(void Function(NotificationBatch) updates) => super.copyWith((message) => updates(message as NotificationBatch)) as NotificationBatch; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static SetNotificationResponse create() => SetNotificationResponse._();
-  SetNotificationResponse createEmptyInstance() => create();
-  static $pb.PbList<SetNotificationResponse> createRepeated() => $pb.PbList<SetNotificationResponse>();
+  static NotificationBatch create() => NotificationBatch._();
+  NotificationBatch createEmptyInstance() => create();
+  static $pb.PbList<NotificationBatch> createRepeated() => $pb.PbList<NotificationBatch>();
   @$core.pragma('dart2js:noInline')
-  static SetNotificationResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<SetNotificationResponse>(create);
-  static SetNotificationResponse? _defaultInstance;
+  static NotificationBatch getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<NotificationBatch>(create);
+  static NotificationBatch? _defaultInstance;
 
   @$pb.TagNumber(1)
   $core.String get remoteId => $_getSZ(0);
@@ -1879,67 +3430,70 @@ class SetNotificationResponse extends $pb.GeneratedMessage {
   void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  BluetoothCharacteristic get characteristic => $_getN(1);
-  @$pb.TagNumber(2)
-  set characteristic(BluetoothCharacteristic v) { setField(2, v); }
+  $core.double get startTimeMillis => $_getN(1);
   @$pb.TagNumber(2)
-  $core.bool hasCharacteristic() => $_has(1);
+  set startTimeMillis($core.double v) { $_setDouble(1, v); }
   @$pb.TagNumber(2)
-  void clearCharacteristic() => clearField(2);
+  $core.bool hasStartTimeMillis() => $_has(1);
   @$pb.TagNumber(2)
-  BluetoothCharacteristic ensureCharacteristic() => $_ensure(1);
+  void clearStartTimeMillis() => clearField(2);
 
   @$pb.TagNumber(3)
-  $core.bool get success => $_getBF(2);
-  @$pb.TagNumber(3)
-  set success($core.bool v) { $_setBool(2, v); }
-  @$pb.TagNumber(3)
-  $core.bool hasSuccess() => $_has(2);
-  @$pb.TagNumber(3)
-  void clearSuccess() => clearField(3);
+  $core.List<$core.int> get handles => $_getList(2);
+
+  @$pb.TagNumber(4)
+  $core.List<$core.List<$core.int>> get values => $_getList(3);
+
+  @$pb.TagNumber(5)
+  $core.List<$core.int> get timeOffsetsMicros => $_getList(4);
 }
 
-class OnCharacteristicChanged extends $pb.GeneratedMessage {
-  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'OnCharacteristicChanged', createEmptyInstance: create)
+class CharacteristicValueChanged extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'CharacteristicValueChanged', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
-    ..aOM<BluetoothCharacteristic>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'characteristic', subBuilder: BluetoothCharacteristic.create)
+    ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'handle', $pb.PbFieldType.OU3)
+    ..a<$core.List<$core.int>>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'value', $pb.PbFieldType.OY)
     ..hasRequiredFields = false
   ;
 
-  OnCharacteristicChanged._() : super();
-  factory OnCharacteristicChanged({
+  CharacteristicValueChanged._() : super();
+  factory CharacteristicValueChanged({
     $core.String? remoteId,
-    BluetoothCharacteristic? characteristic,
+    $core.int? handle,
+    $core.List<$core.int>? value,
   }) {
     final _result = create();
     if (remoteId != null) {
       _result.remoteId = remoteId;
     }
-    if (characteristic != null) {
-      _result.characteristic = characteristic;
+    if (handle != null) {
+      _result.handle = handle;
+    }
+    if (value != null) {
+      _result.value = value;
     }
     return _result;
   }
-  factory OnCharacteristicChanged.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
-  factory OnCharacteristicChanged.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  factory CharacteristicValueChanged.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory CharacteristicValueChanged.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
   'Will be removed in next major version')
-  OnCharacteristicChanged clone() => OnCharacteristicChanged()..mergeFromMessage(this);
+  CharacteristicValueChanged clone() => CharacteristicValueChanged()..mergeFromMessage(this);
   @$core.Deprecated(
   'Using this can add significant overhead to your binary. '
   'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
   'Will be removed in next major version')
-  OnCharacteristicChanged copyWith(void Function(OnCharacteristicChanged) updates) => super.copyWith((message) => updates(message as OnCharacteristicChanged)) as OnCharacteristicChanged; // ignore: deprecated_member_use
+  CharacteristicValueChanged copyWith(void Function(CharacteristicValueChanged) updates) => super.copyWith((message) => updates(message as CharacteristicValueChanged)) as CharacteristicValueChanged; // ignore: deprecated_member_use
   $pb.BuilderInfo get info_ => _i;
   @$core.pragma('dart2js:noInline')
-  static OnCharacteristicChanged create() => OnCharacteristicChanged._();
-  OnCharacteristicChanged createEmptyInstance() => create();
-  static $pb.PbList<OnCharacteristicChanged> createRepeated() => $pb.PbList<OnCharacteristicChanged>();
+  static CharacteristicValueChanged create() => CharacteristicValueChanged._();
+  CharacteristicValueChanged createEmptyInstance() => create();
+  static $pb.PbList<CharacteristicValueChanged> createRepeated() => $pb.PbList<CharacteristicValueChanged>();
   @$core.pragma('dart2js:noInline')
-  static OnCharacteristicChanged getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<OnCharacteristicChanged>(create);
-  static OnCharacteristicChanged? _defaultInstance;
+  static CharacteristicValueChanged getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<CharacteristicValueChanged>(create);
+  static CharacteristicValueChanged? _defaultInstance;
 
   @$pb.TagNumber(1)
   $core.String get remoteId => $_getSZ(0);
@@ -1951,15 +3505,22 @@ class OnCharacteristicChanged extends $pb.GeneratedMessage {
   void clearRemoteId() => clearField(1);
 
   @$pb.TagNumber(2)
-  BluetoothCharacteristic get characteristic => $_getN(1);
-  @$pb.TagNumber(2)
-  set characteristic(BluetoothCharacteristic v) { setField(2, v); }
+  $core.int get handle => $_getIZ(1);
   @$pb.TagNumber(2)
-  $core.bool hasCharacteristic() => $_has(1);
+  set handle($core.int v) { $_setUnsignedInt32(1, v); }
   @$pb.TagNumber(2)
-  void clearCharacteristic() => clearField(2);
+  $core.bool hasHandle() => $_has(1);
   @$pb.TagNumber(2)
-  BluetoothCharacteristic ensureCharacteristic() => $_ensure(1);
+  void clearHandle() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.List<$core.int> get value => $_getN(2);
+  @$pb.TagNumber(3)
+  set value($core.List<$core.int> v) { $_setBytes(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasValue() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearValue() => clearField(3);
 }
 
 class DeviceStateResponse extends $pb.GeneratedMessage {
@@ -2204,6 +3765,7 @@ class MtuSizeResponse extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'MtuSizeResponse', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
     ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'mtu', $pb.PbFieldType.OU3)
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidErrorMessage')
     ..hasRequiredFields = false
   ;
 
@@ -2211,6 +3773,7 @@ class MtuSizeResponse extends $pb.GeneratedMessage {
   factory MtuSizeResponse({
     $core.String? remoteId,
     $core.int? mtu,
+    $core.String? androidErrorMessage,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -2219,6 +3782,9 @@ class MtuSizeResponse extends $pb.GeneratedMessage {
     if (mtu != null) {
       _result.mtu = mtu;
     }
+    if (androidErrorMessage != null) {
+      _result.androidErrorMessage = androidErrorMessage;
+    }
     return _result;
   }
   factory MtuSizeResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -2259,12 +3825,261 @@ class MtuSizeResponse extends $pb.GeneratedMessage {
   $core.bool hasMtu() => $_has(1);
   @$pb.TagNumber(2)
   void clearMtu() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.String get androidErrorMessage => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set androidErrorMessage($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasAndroidErrorMessage() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearAndroidErrorMessage() => clearField(3);
+}
+
+class ConnectionPriorityRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ConnectionPriorityRequest', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..e<ConnectionPriorityRequest_ConnectionPriority>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'connectionPriority', $pb.PbFieldType.OE, defaultOrMaker: ConnectionPriorityRequest_ConnectionPriority.BALANCED, valueOf: ConnectionPriorityRequest_ConnectionPriority.valueOf, enumValues: ConnectionPriorityRequest_ConnectionPriority.values)
+    ..hasRequiredFields = false
+  ;
+
+  ConnectionPriorityRequest._() : super();
+  factory ConnectionPriorityRequest({
+    $core.String? remoteId,
+    ConnectionPriorityRequest_ConnectionPriority? connectionPriority,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (connectionPriority != null) {
+      _result.connectionPriority = connectionPriority;
+    }
+    return _result;
+  }
+  factory ConnectionPriorityRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory ConnectionPriorityRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  ConnectionPriorityRequest clone() => ConnectionPriorityRequest()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  ConnectionPriorityRequest copyWith(void Function(ConnectionPriorityRequest) updates) => super.copyWith((message) => updates(message as ConnectionPriorityRequest)) as ConnectionPriorityRequest; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static ConnectionPriorityRequest create() => ConnectionPriorityRequest._();
+  ConnectionPriorityRequest createEmptyInstance() => create();
+  static $pb.PbList<ConnectionPriorityRequest> createRepeated() => $pb.PbList<ConnectionPriorityRequest>();
+  @$core.pragma('dart2js:noInline')
+  static ConnectionPriorityRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<ConnectionPriorityRequest>(create);
+  static ConnectionPriorityRequest? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  ConnectionPriorityRequest_ConnectionPriority get connectionPriority => $_getN(1);
+  @$pb.TagNumber(2)
+  set connectionPriority(ConnectionPriorityRequest_ConnectionPriority v) { setField(2, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasConnectionPriority() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearConnectionPriority() => clearField(2);
+}
+
+class PreferredPhyRequest extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'PreferredPhyRequest', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'txPhyMask', $pb.PbFieldType.OU3)
+    ..a<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'rxPhyMask', $pb.PbFieldType.OU3)
+    ..a<$core.int>(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'phyOptions', $pb.PbFieldType.OU3)
+    ..hasRequiredFields = false
+  ;
+
+  PreferredPhyRequest._() : super();
+  factory PreferredPhyRequest({
+    $core.String? remoteId,
+    $core.int? txPhyMask,
+    $core.int? rxPhyMask,
+    $core.int? phyOptions,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (txPhyMask != null) {
+      _result.txPhyMask = txPhyMask;
+    }
+    if (rxPhyMask != null) {
+      _result.rxPhyMask = rxPhyMask;
+    }
+    if (phyOptions != null) {
+      _result.phyOptions = phyOptions;
+    }
+    return _result;
+  }
+  factory PreferredPhyRequest.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory PreferredPhyRequest.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  PreferredPhyRequest clone() => PreferredPhyRequest()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  PreferredPhyRequest copyWith(void Function(PreferredPhyRequest) updates) => super.copyWith((message) => updates(message as PreferredPhyRequest)) as PreferredPhyRequest; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static PreferredPhyRequest create() => PreferredPhyRequest._();
+  PreferredPhyRequest createEmptyInstance() => create();
+  static $pb.PbList<PreferredPhyRequest> createRepeated() => $pb.PbList<PreferredPhyRequest>();
+  @$core.pragma('dart2js:noInline')
+  static PreferredPhyRequest getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<PreferredPhyRequest>(create);
+  static PreferredPhyRequest? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.int get txPhyMask => $_getIZ(1);
+  @$pb.TagNumber(2)
+  set txPhyMask($core.int v) { $_setUnsignedInt32(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasTxPhyMask() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearTxPhyMask() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.int get rxPhyMask => $_getIZ(2);
+  @$pb.TagNumber(3)
+  set rxPhyMask($core.int v) { $_setUnsignedInt32(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasRxPhyMask() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearRxPhyMask() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.int get phyOptions => $_getIZ(3);
+  @$pb.TagNumber(4)
+  set phyOptions($core.int v) { $_setUnsignedInt32(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasPhyOptions() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearPhyOptions() => clearField(4);
+}
+
+class PhyResponse extends $pb.GeneratedMessage {
+  static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'PhyResponse', createEmptyInstance: create)
+    ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
+    ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'txPhy', $pb.PbFieldType.OU3)
+    ..a<$core.int>(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'rxPhy', $pb.PbFieldType.OU3)
+    ..aOB(4, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'success')
+    ..hasRequiredFields = false
+  ;
+
+  PhyResponse._() : super();
+  factory PhyResponse({
+    $core.String? remoteId,
+    $core.int? txPhy,
+    $core.int? rxPhy,
+    $core.bool? success,
+  }) {
+    final _result = create();
+    if (remoteId != null) {
+      _result.remoteId = remoteId;
+    }
+    if (txPhy != null) {
+      _result.txPhy = txPhy;
+    }
+    if (rxPhy != null) {
+      _result.rxPhy = rxPhy;
+    }
+    if (success != null) {
+      _result.success = success;
+    }
+    return _result;
+  }
+  factory PhyResponse.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
+  factory PhyResponse.fromJson($core.String i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromJson(i, r);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.deepCopy] instead. '
+  'Will be removed in next major version')
+  PhyResponse clone() => PhyResponse()..mergeFromMessage(this);
+  @$core.Deprecated(
+  'Using this can add significant overhead to your binary. '
+  'Use [GeneratedMessageGenericExtensions.rebuild] instead. '
+  'Will be removed in next major version')
+  PhyResponse copyWith(void Function(PhyResponse) updates) => super.copyWith((message) => updates(message as PhyResponse)) as PhyResponse; // ignore: deprecated_member_use
+  $pb.BuilderInfo get info_ => _i;
+  @$core.pragma('dart2js:noInline')
+  static PhyResponse create() => PhyResponse._();
+  PhyResponse createEmptyInstance() => create();
+  static $pb.PbList<PhyResponse> createRepeated() => $pb.PbList<PhyResponse>();
+  @$core.pragma('dart2js:noInline')
+  static PhyResponse getDefault() => _defaultInstance ??= $pb.GeneratedMessage.$_defaultFor<PhyResponse>(create);
+  static PhyResponse? _defaultInstance;
+
+  @$pb.TagNumber(1)
+  $core.String get remoteId => $_getSZ(0);
+  @$pb.TagNumber(1)
+  set remoteId($core.String v) { $_setString(0, v); }
+  @$pb.TagNumber(1)
+  $core.bool hasRemoteId() => $_has(0);
+  @$pb.TagNumber(1)
+  void clearRemoteId() => clearField(1);
+
+  @$pb.TagNumber(2)
+  $core.int get txPhy => $_getIZ(1);
+  @$pb.TagNumber(2)
+  set txPhy($core.int v) { $_setUnsignedInt32(1, v); }
+  @$pb.TagNumber(2)
+  $core.bool hasTxPhy() => $_has(1);
+  @$pb.TagNumber(2)
+  void clearTxPhy() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.int get rxPhy => $_getIZ(2);
+  @$pb.TagNumber(3)
+  set rxPhy($core.int v) { $_setUnsignedInt32(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasRxPhy() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearRxPhy() => clearField(3);
+
+  @$pb.TagNumber(4)
+  $core.bool get success => $_getBF(3);
+  @$pb.TagNumber(4)
+  set success($core.bool v) { $_setBool(3, v); }
+  @$pb.TagNumber(4)
+  $core.bool hasSuccess() => $_has(3);
+  @$pb.TagNumber(4)
+  void clearSuccess() => clearField(4);
 }
 
 class ReadRssiResult extends $pb.GeneratedMessage {
   static final $pb.BuilderInfo _i = $pb.BuilderInfo(const $core.bool.fromEnvironment('protobuf.omit_message_names') ? '' : 'ReadRssiResult', createEmptyInstance: create)
     ..aOS(1, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'remoteId')
     ..a<$core.int>(2, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'rssi', $pb.PbFieldType.O3)
+    ..aOS(3, const $core.bool.fromEnvironment('protobuf.omit_field_names') ? '' : 'androidErrorMessage')
     ..hasRequiredFields = false
   ;
 
@@ -2272,6 +4087,7 @@ class ReadRssiResult extends $pb.GeneratedMessage {
   factory ReadRssiResult({
     $core.String? remoteId,
     $core.int? rssi,
+    $core.String? androidErrorMessage,
   }) {
     final _result = create();
     if (remoteId != null) {
@@ -2280,6 +4096,9 @@ class ReadRssiResult extends $pb.GeneratedMessage {
     if (rssi != null) {
       _result.rssi = rssi;
     }
+    if (androidErrorMessage != null) {
+      _result.androidErrorMessage = androidErrorMessage;
+    }
     return _result;
   }
   factory ReadRssiResult.fromBuffer($core.List<$core.int> i, [$pb.ExtensionRegistry r = $pb.ExtensionRegistry.EMPTY]) => create()..mergeFromBuffer(i, r);
@@ -2320,5 +4139,14 @@ class ReadRssiResult extends $pb.GeneratedMessage {
   $core.bool hasRssi() => $_has(1);
   @$pb.TagNumber(2)
   void clearRssi() => clearField(2);
+
+  @$pb.TagNumber(3)
+  $core.String get androidErrorMessage => $_getSZ(2);
+  @$pb.TagNumber(3)
+  set androidErrorMessage($core.String v) { $_setString(2, v); }
+  @$pb.TagNumber(3)
+  $core.bool hasAndroidErrorMessage() => $_has(2);
+  @$pb.TagNumber(3)
+  void clearAndroidErrorMessage() => clearField(3);
 }
 
@@ -106,3 +106,20 @@ class DeviceConnectionStatusResponse_BluetoothDeviceState extends $pb.ProtobufEn
   const DeviceConnectionStatusResponse_BluetoothDeviceState._($core.int v, $core.String n) : super(v, n);
 }
 
+class ConnectionPriorityRequest_ConnectionPriority extends $pb.ProtobufEnum {
+  static const ConnectionPriorityRequest_ConnectionPriority BALANCED = ConnectionPriorityRequest_ConnectionPriority._(0, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'BALANCED');
+  static const ConnectionPriorityRequest_ConnectionPriority HIGH = ConnectionPriorityRequest_ConnectionPriority._(1, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'HIGH');
+  static const ConnectionPriorityRequest_ConnectionPriority LOW_POWER = ConnectionPriorityRequest_ConnectionPriority._(2, const $core.bool.fromEnvironment('protobuf.omit_enum_names') ? '' : 'LOW_POWER');
+
+  static const $core.List<ConnectionPriorityRequest_ConnectionPriority> values = <ConnectionPriorityRequest_ConnectionPriority> [
+    BALANCED,
+    HIGH,
+    LOW_POWER,
+  ];
+
+  static final $core.Map<$core.int, ConnectionPriorityRequest_ConnectionPriority> _byValue = $pb.ProtobufEnum.initByValue(values);
+  static ConnectionPriorityRequest_ConnectionPriority? valueOf($core.int value) => _byValue[value];
+
+  const ConnectionPriorityRequest_ConnectionPriority._($core.int v, $core.String n) : super(v, n);
+}
+
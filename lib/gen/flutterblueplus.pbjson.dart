@@ -86,11 +86,45 @@ const ScanSettings$json = const {
     const {'1': 'android_scan_mode', '3': 1, '4': 1, '5': 5, '10': 'androidScanMode'},
     const {'1': 'service_uuids', '3': 2, '4': 3, '5': 9, '10': 'serviceUuids'},
     const {'1': 'allow_duplicates', '3': 3, '4': 1, '5': 8, '10': 'allowDuplicates'},
+    const {'1': 'android_report_delay_millis', '3': 4, '4': 1, '5': 5, '10': 'androidReportDelayMillis'},
+    const {'1': 'android_batch_window_millis', '3': 5, '4': 1, '5': 5, '10': 'androidBatchWindowMillis'},
+    const {'1': 'android_batch_size', '3': 6, '4': 1, '5': 5, '10': 'androidBatchSize'},
+    const {'1': 'android_duplicate_timeout_millis', '3': 7, '4': 1, '5': 5, '10': 'androidDuplicateTimeoutMillis'},
+    const {'1': 'android_raw_advertisements', '3': 8, '4': 1, '5': 8, '10': 'androidRawAdvertisements'},
+    const {'1': 'android_manufacturer_data_filters', '3': 9, '4': 3, '5': 11, '6': '.ManufacturerDataFilter', '10': 'androidManufacturerDataFilters'},
+    const {'1': 'android_service_data_filters', '3': 10, '4': 3, '5': 11, '6': '.ServiceDataFilter', '10': 'androidServiceDataFilters'},
+    const {'1': 'android_names', '3': 11, '4': 3, '5': 9, '10': 'androidNames'},
+    const {'1': 'android_name_prefixes', '3': 12, '4': 3, '5': 9, '10': 'androidNamePrefixes'},
+    const {'1': 'android_min_rssi', '3': 13, '4': 1, '5': 11, '6': '.Int32Value', '10': 'androidMinRssi'},
   ],
 };
 
 /// Descriptor for `ScanSettings`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List scanSettingsDescriptor = $convert.base64Decode('CgxTY2FuU2V0dGluZ3MSKgoRYW5kcm9pZF9zY2FuX21vZGUYASABKAVSD2FuZHJvaWRTY2FuTW9kZRIjCg1zZXJ2aWNlX3V1aWRzGAIgAygJUgxzZXJ2aWNlVXVpZHMSKQoQYWxsb3dfZHVwbGljYXRlcxgDIAEoCFIPYWxsb3dEdXBsaWNhdGVz');
+final $typed_data.Uint8List scanSettingsDescriptor = $convert.base64Decode('CgxTY2FuU2V0dGluZ3MSKgoRYW5kcm9pZF9zY2FuX21vZGUYASABKAVSD2FuZHJvaWRTY2FuTW9kZRIjCg1zZXJ2aWNlX3V1aWRzGAIgAygJUgxzZXJ2aWNlVXVpZHMSKQoQYWxsb3dfZHVwbGljYXRlcxgDIAEoCFIPYWxsb3dEdXBsaWNhdGVzEj0KG2FuZHJvaWRfcmVwb3J0X2RlbGF5X21pbGxpcxgEIAEoBVIYYW5kcm9pZFJlcG9ydERlbGF5TWlsbGlzEj0KG2FuZHJvaWRfYmF0Y2hfd2luZG93X21pbGxpcxgFIAEoBVIYYW5kcm9pZEJhdGNoV2luZG93TWlsbGlzEiwKEmFuZHJvaWRfYmF0Y2hfc2l6ZRgGIAEoBVIQYW5kcm9pZEJhdGNoU2l6ZRJHCiBhbmRyb2lkX2R1cGxpY2F0ZV90aW1lb3V0X21pbGxpcxgHIAEoBVIdYW5kcm9pZER1cGxpY2F0ZVRpbWVvdXRNaWxsaXMSPAoaYW5kcm9pZF9yYXdfYWR2ZXJ0aXNlbWVudHMYCCABKAhSGGFuZHJvaWRSYXdBZHZlcnRpc2VtZW50cxJiCiFhbmRyb2lkX21hbnVmYWN0dXJlcl9kYXRhX2ZpbHRlcnMYCSADKAsyFy5NYW51ZmFjdHVyZXJEYXRhRmlsdGVyUh5hbmRyb2lkTWFudWZhY3R1cmVyRGF0YUZpbHRlcnMSUwocYW5kcm9pZF9zZXJ2aWNlX2RhdGFfZmlsdGVycxgKIAMoCzISLlNlcnZpY2VEYXRhRmlsdGVyUhlhbmRyb2lkU2VydmljZURhdGFGaWx0ZXJzEiMKDWFuZHJvaWRfbmFtZXMYCyADKAlSDGFuZHJvaWROYW1lcxIyChVhbmRyb2lkX25hbWVfcHJlZml4ZXMYDCADKAlSE2FuZHJvaWROYW1lUHJlZml4ZXMSNQoQYW5kcm9pZF9taW5fcnNzaRgNIAEoCzILLkludDMyVmFsdWVSDmFuZHJvaWRNaW5Sc3Np');
+@$core.Deprecated('Use manufacturerDataFilterDescriptor instead')
+const ManufacturerDataFilter$json = const {
+  '1': 'ManufacturerDataFilter',
+  '2': const [
+    const {'1': 'manufacturer_id', '3': 1, '4': 1, '5': 13, '10': 'manufacturerId'},
+    const {'1': 'data', '3': 2, '4': 1, '5': 12, '10': 'data'},
+    const {'1': 'mask', '3': 3, '4': 1, '5': 12, '10': 'mask'},
+  ],
+};
+
+/// Descriptor for `ManufacturerDataFilter`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List manufacturerDataFilterDescriptor = $convert.base64Decode('ChZNYW51ZmFjdHVyZXJEYXRhRmlsdGVyEicKD21hbnVmYWN0dXJlcl9pZBgBIAEoDVIObWFudWZhY3R1cmVySWQSEgoEZGF0YRgCIAEoDFIEZGF0YRISCgRtYXNrGAMgASgMUgRtYXNr');
+@$core.Deprecated('Use serviceDataFilterDescriptor instead')
+const ServiceDataFilter$json = const {
+  '1': 'ServiceDataFilter',
+  '2': const [
+    const {'1': 'service_uuid', '3': 1, '4': 1, '5': 9, '10': 'serviceUuid'},
+    const {'1': 'data', '3': 2, '4': 1, '5': 12, '10': 'data'},
+    const {'1': 'mask', '3': 3, '4': 1, '5': 12, '10': 'mask'},
+  ],
+};
+
+/// Descriptor for `ServiceDataFilter`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List serviceDataFilterDescriptor = $convert.base64Decode('ChFTZXJ2aWNlRGF0YUZpbHRlchIhCgxzZXJ2aWNlX3V1aWQYASABKAlSC3NlcnZpY2VVdWlkEhIKBGRhdGEYAiABKAxSBGRhdGESEgoEbWFzaxgDIAEoDFIEbWFzaw==');
 @$core.Deprecated('Use scanResultDescriptor instead')
 const ScanResult$json = const {
   '1': 'ScanResult',
@@ -103,17 +137,80 @@ const ScanResult$json = const {
 
 /// Descriptor for `ScanResult`. Decode as a `google.protobuf.DescriptorProto`.
 final $typed_data.Uint8List scanResultDescriptor = $convert.base64Decode('CgpTY2FuUmVzdWx0EigKBmRldmljZRgBIAEoCzIQLkJsdWV0b290aERldmljZVIGZGV2aWNlEkEKEmFkdmVydGlzZW1lbnRfZGF0YRgCIAEoCzISLkFkdmVydGlzZW1lbnREYXRhUhFhZHZlcnRpc2VtZW50RGF0YRISCgRyc3NpGAMgASgFUgRyc3Np');
+@$core.Deprecated('Use rawScanResultDescriptor instead')
+const RawScanResult$json = const {
+  '1': 'RawScanResult',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'rssi', '3': 2, '4': 1, '5': 5, '10': 'rssi'},
+    const {'1': 'advertisement_data', '3': 3, '4': 1, '5': 12, '10': 'advertisementData'},
+    const {'1': 'connectable', '3': 4, '4': 1, '5': 8, '10': 'connectable'},
+  ],
+};
+
+/// Descriptor for `RawScanResult`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List rawScanResultDescriptor = $convert.base64Decode('Cg1SYXdTY2FuUmVzdWx0EhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSEgoEcnNzaRgCIAEoBVIEcnNzaRItChJhZHZlcnRpc2VtZW50X2RhdGEYAyABKAxSEWFkdmVydGlzZW1lbnREYXRhEiAKC2Nvbm5lY3RhYmxlGAQgASgIUgtjb25uZWN0YWJsZQ==');
+@$core.Deprecated('Use scanResultsDescriptor instead')
+const ScanResults$json = const {
+  '1': 'ScanResults',
+  '2': const [
+    const {'1': 'results', '3': 1, '4': 3, '5': 11, '6': '.ScanResult', '10': 'results'},
+    const {'1': 'raw_results', '3': 2, '4': 3, '5': 11, '6': '.RawScanResult', '10': 'rawResults'},
+  ],
+};
+
+/// Descriptor for `ScanResults`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List scanResultsDescriptor = $convert.base64Decode('CgtTY2FuUmVzdWx0cxIlCgdyZXN1bHRzGAEgAygLMgsuU2NhblJlc3VsdFIHcmVzdWx0cxIvCgtyYXdfcmVzdWx0cxgCIAMoCzIOLlJhd1NjYW5SZXN1bHRSCnJhd1Jlc3VsdHM=');
+@$core.Deprecated('Use connectionLimitsDescriptor instead')
+const ConnectionLimits$json = const {
+  '1': 'ConnectionLimits',
+  '2': const [
+    const {'1': 'max_connections', '3': 1, '4': 1, '5': 13, '10': 'maxConnections'},
+    const {'1': 'min_idle_millis', '3': 2, '4': 1, '5': 13, '10': 'minIdleMillis'},
+  ],
+};
+
+/// Descriptor for `ConnectionLimits`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List connectionLimitsDescriptor = $convert.base64Decode('ChBDb25uZWN0aW9uTGltaXRzEicKD21heF9jb25uZWN0aW9ucxgBIAEoDVIObWF4Q29ubmVjdGlvbnMSJgoPbWluX2lkbGVfbWlsbGlzGAIgASgNUg1taW5JZGxlTWlsbGlz');
 @$core.Deprecated('Use connectRequestDescriptor instead')
 const ConnectRequest$json = const {
   '1': 'ConnectRequest',
   '2': const [
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'android_auto_connect', '3': 2, '4': 1, '5': 8, '10': 'androidAutoConnect'},
+    const {'1': 'android_mtu', '3': 3, '4': 1, '5': 13, '10': 'androidMtu'},
+    const {'1': 'android_fast_reconnect', '3': 4, '4': 1, '5': 8, '10': 'androidFastReconnect'},
   ],
 };
 
 /// Descriptor for `ConnectRequest`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List connectRequestDescriptor = $convert.base64Decode('Cg5Db25uZWN0UmVxdWVzdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEjAKFGFuZHJvaWRfYXV0b19jb25uZWN0GAIgASgIUhJhbmRyb2lkQXV0b0Nvbm5lY3Q=');
+final $typed_data.Uint8List connectRequestDescriptor = $convert.base64Decode('Cg5Db25uZWN0UmVxdWVzdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEjAKFGFuZHJvaWRfYXV0b19jb25uZWN0GAIgASgIUhJhbmRyb2lkQXV0b0Nvbm5lY3QSHwoLYW5kcm9pZF9tdHUYAyABKA1SCmFuZHJvaWRNdHUSNAoWYW5kcm9pZF9mYXN0X3JlY29ubmVjdBgEIAEoCFIUYW5kcm9pZEZhc3RSZWNvbm5lY3Q=');
+@$core.Deprecated('Use connectAllRequestDescriptor instead')
+const ConnectAllRequest$json = const {
+  '1': 'ConnectAllRequest',
+  '2': const [
+    const {'1': 'devices', '3': 1, '4': 3, '5': 11, '6': '.ConnectRequest', '10': 'devices'},
+    const {'1': 'notifications', '3': 2, '4': 3, '5': 11, '6': '.SetNotificationRequest', '10': 'notifications'},
+    const {'1': 'max_concurrent', '3': 3, '4': 1, '5': 13, '10': 'maxConcurrent'},
+    const {'1': 'timeout_millis', '3': 4, '4': 1, '5': 13, '10': 'timeoutMillis'},
+  ],
+};
+
+/// Descriptor for `ConnectAllRequest`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List connectAllRequestDescriptor = $convert.base64Decode('ChFDb25uZWN0QWxsUmVxdWVzdBIpCgdkZXZpY2VzGAEgAygLMg8uQ29ubmVjdFJlcXVlc3RSB2RldmljZXMSPQoNbm90aWZpY2F0aW9ucxgCIAMoCzIXLlNldE5vdGlmaWNhdGlvblJlcXVlc3RSDW5vdGlmaWNhdGlvbnMSJQoObWF4X2NvbmN1cnJlbnQYAyABKA1SDW1heENvbmN1cnJlbnQSJQoOdGltZW91dF9taWxsaXMYBCABKA1SDXRpbWVvdXRNaWxsaXM=');
+@$core.Deprecated('Use deviceReadyDescriptor instead')
+const DeviceReady$json = const {
+  '1': 'DeviceReady',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'success', '3': 2, '4': 1, '5': 8, '10': 'success'},
+    const {'1': 'error_message', '3': 3, '4': 1, '5': 9, '10': 'errorMessage'},
+    const {'1': 'services', '3': 4, '4': 1, '5': 11, '6': '.DiscoverServicesResult', '10': 'services'},
+  ],
+};
+
+/// Descriptor for `DeviceReady`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List deviceReadyDescriptor = $convert.base64Decode('CgtEZXZpY2VSZWFkeRIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEhgKB3N1Y2Nlc3MYAiABKAhSB3N1Y2Nlc3MSIwoNZXJyb3JfbWVzc2FnZRgDIAEoCVIMZXJyb3JNZXNzYWdlEjMKCHNlcnZpY2VzGAQgASgLMhcuRGlzY292ZXJTZXJ2aWNlc1Jlc3VsdFIIc2VydmljZXM=');
 @$core.Deprecated('Use bluetoothDeviceDescriptor instead')
 const BluetoothDevice$json = const {
   '1': 'BluetoothDevice',
@@ -163,11 +260,12 @@ const BluetoothCharacteristic$json = const {
     const {'1': 'descriptors', '3': 5, '4': 3, '5': 11, '6': '.BluetoothDescriptor', '10': 'descriptors'},
     const {'1': 'properties', '3': 6, '4': 1, '5': 11, '6': '.CharacteristicProperties', '10': 'properties'},
     const {'1': 'value', '3': 7, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'handle', '3': 8, '4': 1, '5': 13, '10': 'handle'},
   ],
 };
 
 /// Descriptor for `BluetoothCharacteristic`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List bluetoothCharacteristicDescriptor = $convert.base64Decode('ChdCbHVldG9vdGhDaGFyYWN0ZXJpc3RpYxISCgR1dWlkGAEgASgJUgR1dWlkEhsKCXJlbW90ZV9pZBgCIAEoCVIIcmVtb3RlSWQSIAoLc2VydmljZVV1aWQYAyABKAlSC3NlcnZpY2VVdWlkEjIKFHNlY29uZGFyeVNlcnZpY2VVdWlkGAQgASgJUhRzZWNvbmRhcnlTZXJ2aWNlVXVpZBI2CgtkZXNjcmlwdG9ycxgFIAMoCzIULkJsdWV0b290aERlc2NyaXB0b3JSC2Rlc2NyaXB0b3JzEjkKCnByb3BlcnRpZXMYBiABKAsyGS5DaGFyYWN0ZXJpc3RpY1Byb3BlcnRpZXNSCnByb3BlcnRpZXMSFAoFdmFsdWUYByABKAxSBXZhbHVl');
+final $typed_data.Uint8List bluetoothCharacteristicDescriptor = $convert.base64Decode('ChdCbHVldG9vdGhDaGFyYWN0ZXJpc3RpYxISCgR1dWlkGAEgASgJUgR1dWlkEhsKCXJlbW90ZV9pZBgCIAEoCVIIcmVtb3RlSWQSIAoLc2VydmljZVV1aWQYAyABKAlSC3NlcnZpY2VVdWlkEjIKFHNlY29uZGFyeVNlcnZpY2VVdWlkGAQgASgJUhRzZWNvbmRhcnlTZXJ2aWNlVXVpZBI2CgtkZXNjcmlwdG9ycxgFIAMoCzIULkJsdWV0b290aERlc2NyaXB0b3JSC2Rlc2NyaXB0b3JzEjkKCnByb3BlcnRpZXMYBiABKAsyGS5DaGFyYWN0ZXJpc3RpY1Byb3BlcnRpZXNSCnByb3BlcnRpZXMSFAoFdmFsdWUYByABKAxSBXZhbHVlEhYKBmhhbmRsZRgIIAEoDVIGaGFuZGxl');
 @$core.Deprecated('Use bluetoothDescriptorDescriptor instead')
 const BluetoothDescriptor$json = const {
   '1': 'BluetoothDescriptor',
@@ -207,11 +305,12 @@ const DiscoverServicesResult$json = const {
   '2': const [
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'services', '3': 2, '4': 3, '5': 11, '6': '.BluetoothService', '10': 'services'},
+    const {'1': 'android_error_message', '3': 3, '4': 1, '5': 9, '10': 'androidErrorMessage'},
   ],
 };
 
 /// Descriptor for `DiscoverServicesResult`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List discoverServicesResultDescriptor = $convert.base64Decode('ChZEaXNjb3ZlclNlcnZpY2VzUmVzdWx0EhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSLQoIc2VydmljZXMYAiADKAsyES5CbHVldG9vdGhTZXJ2aWNlUghzZXJ2aWNlcw==');
+final $typed_data.Uint8List discoverServicesResultDescriptor = $convert.base64Decode('ChZEaXNjb3ZlclNlcnZpY2VzUmVzdWx0EhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSLQoIc2VydmljZXMYAiADKAsyES5CbHVldG9vdGhTZXJ2aWNlUghzZXJ2aWNlcxIyChVhbmRyb2lkX2Vycm9yX21lc3NhZ2UYAyABKAlSE2FuZHJvaWRFcnJvck1lc3NhZ2U=');
 @$core.Deprecated('Use readCharacteristicRequestDescriptor instead')
 const ReadCharacteristicRequest$json = const {
   '1': 'ReadCharacteristicRequest',
@@ -231,11 +330,42 @@ const ReadCharacteristicResponse$json = const {
   '2': const [
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'characteristic', '3': 2, '4': 1, '5': 11, '6': '.BluetoothCharacteristic', '10': 'characteristic'},
+    const {'1': 'android_error_message', '3': 3, '4': 1, '5': 9, '10': 'androidErrorMessage'},
   ],
 };
 
 /// Descriptor for `ReadCharacteristicResponse`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List readCharacteristicResponseDescriptor = $convert.base64Decode('ChpSZWFkQ2hhcmFjdGVyaXN0aWNSZXNwb25zZRIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEkAKDmNoYXJhY3RlcmlzdGljGAIgASgLMhguQmx1ZXRvb3RoQ2hhcmFjdGVyaXN0aWNSDmNoYXJhY3RlcmlzdGlj');
+final $typed_data.Uint8List readCharacteristicResponseDescriptor = $convert.base64Decode('ChpSZWFkQ2hhcmFjdGVyaXN0aWNSZXNwb25zZRIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEkAKDmNoYXJhY3RlcmlzdGljGAIgASgLMhguQmx1ZXRvb3RoQ2hhcmFjdGVyaXN0aWNSDmNoYXJhY3RlcmlzdGljEjIKFWFuZHJvaWRfZXJyb3JfbWVzc2FnZRgDIAEoCVITYW5kcm9pZEVycm9yTWVzc2FnZQ==');
+@$core.Deprecated('Use readLongCharacteristicRequestDescriptor instead')
+const ReadLongCharacteristicRequest$json = const {
+  '1': 'ReadLongCharacteristicRequest',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'characteristic_uuid', '3': 2, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'service_uuid', '3': 3, '4': 1, '5': 9, '10': 'serviceUuid'},
+    const {'1': 'secondary_service_uuid', '3': 4, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
+    const {'1': 'max_length', '3': 5, '4': 1, '5': 13, '10': 'maxLength'},
+    const {'1': 'chunk_length', '3': 6, '4': 1, '5': 13, '10': 'chunkLength'},
+  ],
+};
+
+/// Descriptor for `ReadLongCharacteristicRequest`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List readLongCharacteristicRequestDescriptor = $convert.base64Decode('Ch1SZWFkTG9uZ0NoYXJhY3RlcmlzdGljUmVxdWVzdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEi8KE2NoYXJhY3RlcmlzdGljX3V1aWQYAiABKAlSEmNoYXJhY3RlcmlzdGljVXVpZBIhCgxzZXJ2aWNlX3V1aWQYAyABKAlSC3NlcnZpY2VVdWlkEjQKFnNlY29uZGFyeV9zZXJ2aWNlX3V1aWQYBCABKAlSFHNlY29uZGFyeVNlcnZpY2VVdWlkEh0KCm1heF9sZW5ndGgYBSABKA1SCW1heExlbmd0aBIhCgxjaHVua19sZW5ndGgYBiABKA1SC2NodW5rTGVuZ3Ro');
+@$core.Deprecated('Use readLongCharacteristicResponseDescriptor instead')
+const ReadLongCharacteristicResponse$json = const {
+  '1': 'ReadLongCharacteristicResponse',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'characteristic_uuid', '3': 2, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'service_uuid', '3': 3, '4': 1, '5': 9, '10': 'serviceUuid'},
+    const {'1': 'value', '3': 4, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'success', '3': 5, '4': 1, '5': 8, '10': 'success'},
+    const {'1': 'error_message', '3': 6, '4': 1, '5': 9, '10': 'errorMessage'},
+  ],
+};
+
+/// Descriptor for `ReadLongCharacteristicResponse`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List readLongCharacteristicResponseDescriptor = $convert.base64Decode('Ch5SZWFkTG9uZ0NoYXJhY3RlcmlzdGljUmVzcG9uc2USGwoJcmVtb3RlX2lkGAEgASgJUghyZW1vdGVJZBIvChNjaGFyYWN0ZXJpc3RpY191dWlkGAIgASgJUhJjaGFyYWN0ZXJpc3RpY1V1aWQSIQoMc2VydmljZV91dWlkGAMgASgJUgtzZXJ2aWNlVXVpZBIUCgV2YWx1ZRgEIAEoDFIFdmFsdWUSGAoHc3VjY2VzcxgFIAEoCFIHc3VjY2VzcxIjCg1lcnJvcl9tZXNzYWdlGAYgASgJUgxlcnJvck1lc3NhZ2U=');
 @$core.Deprecated('Use readDescriptorRequestDescriptor instead')
 const ReadDescriptorRequest$json = const {
   '1': 'ReadDescriptorRequest',
@@ -256,11 +386,12 @@ const ReadDescriptorResponse$json = const {
   '2': const [
     const {'1': 'request', '3': 1, '4': 1, '5': 11, '6': '.ReadDescriptorRequest', '10': 'request'},
     const {'1': 'value', '3': 2, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'android_error_message', '3': 3, '4': 1, '5': 9, '10': 'androidErrorMessage'},
   ],
 };
 
 /// Descriptor for `ReadDescriptorResponse`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List readDescriptorResponseDescriptor = $convert.base64Decode('ChZSZWFkRGVzY3JpcHRvclJlc3BvbnNlEjAKB3JlcXVlc3QYASABKAsyFi5SZWFkRGVzY3JpcHRvclJlcXVlc3RSB3JlcXVlc3QSFAoFdmFsdWUYAiABKAxSBXZhbHVl');
+final $typed_data.Uint8List readDescriptorResponseDescriptor = $convert.base64Decode('ChZSZWFkRGVzY3JpcHRvclJlc3BvbnNlEjAKB3JlcXVlc3QYASABKAsyFi5SZWFkRGVzY3JpcHRvclJlcXVlc3RSB3JlcXVlc3QSFAoFdmFsdWUYAiABKAxSBXZhbHVlEjIKFWFuZHJvaWRfZXJyb3JfbWVzc2FnZRgDIAEoCVITYW5kcm9pZEVycm9yTWVzc2FnZQ==');
 @$core.Deprecated('Use writeCharacteristicRequestDescriptor instead')
 const WriteCharacteristicRequest$json = const {
   '1': 'WriteCharacteristicRequest',
@@ -286,6 +417,61 @@ const WriteCharacteristicRequest_WriteType$json = const {
 
 /// Descriptor for `WriteCharacteristicRequest`. Decode as a `google.protobuf.DescriptorProto`.
 final $typed_data.Uint8List writeCharacteristicRequestDescriptor = $convert.base64Decode('ChpXcml0ZUNoYXJhY3RlcmlzdGljUmVxdWVzdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEi8KE2NoYXJhY3RlcmlzdGljX3V1aWQYAiABKAlSEmNoYXJhY3RlcmlzdGljVXVpZBIhCgxzZXJ2aWNlX3V1aWQYAyABKAlSC3NlcnZpY2VVdWlkEjQKFnNlY29uZGFyeV9zZXJ2aWNlX3V1aWQYBCABKAlSFHNlY29uZGFyeVNlcnZpY2VVdWlkEkQKCndyaXRlX3R5cGUYBSABKA4yJS5Xcml0ZUNoYXJhY3RlcmlzdGljUmVxdWVzdC5Xcml0ZVR5cGVSCXdyaXRlVHlwZRIUCgV2YWx1ZRgGIAEoDFIFdmFsdWUiNAoJV3JpdGVUeXBlEhEKDVdJVEhfUkVTUE9OU0UQABIUChBXSVRIT1VUX1JFU1BPTlNFEAE=');
+@$core.Deprecated('Use reliableWriteRequestDescriptor instead')
+const ReliableWriteRequest$json = const {
+  '1': 'ReliableWriteRequest',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'writes', '3': 2, '4': 3, '5': 11, '6': '.WriteCharacteristicRequest', '10': 'writes'},
+  ],
+};
+
+/// Descriptor for `ReliableWriteRequest`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List reliableWriteRequestDescriptor = $convert.base64Decode('ChRSZWxpYWJsZVdyaXRlUmVxdWVzdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEjMKBndyaXRlcxgCIAMoCzIbLldyaXRlQ2hhcmFjdGVyaXN0aWNSZXF1ZXN0UgZ3cml0ZXM=');
+@$core.Deprecated('Use reliableWriteResponseDescriptor instead')
+const ReliableWriteResponse$json = const {
+  '1': 'ReliableWriteResponse',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'success', '3': 2, '4': 1, '5': 8, '10': 'success'},
+    const {'1': 'error_message', '3': 3, '4': 1, '5': 9, '10': 'errorMessage'},
+  ],
+};
+
+/// Descriptor for `ReliableWriteResponse`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List reliableWriteResponseDescriptor = $convert.base64Decode('ChVSZWxpYWJsZVdyaXRlUmVzcG9uc2USGwoJcmVtb3RlX2lkGAEgASgJUghyZW1vdGVJZBIYCgdzdWNjZXNzGAIgASgIUgdzdWNjZXNzEiMKDWVycm9yX21lc3NhZ2UYAyABKAlSDGVycm9yTWVzc2FnZQ==');
+@$core.Deprecated('Use writeStreamRequestDescriptor instead')
+const WriteStreamRequest$json = const {
+  '1': 'WriteStreamRequest',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'characteristic_uuid', '3': 2, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'service_uuid', '3': 3, '4': 1, '5': 9, '10': 'serviceUuid'},
+    const {'1': 'secondary_service_uuid', '3': 4, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
+    const {'1': 'value', '3': 5, '4': 1, '5': 12, '10': 'value'},
+    const {'1': 'chunk_size', '3': 6, '4': 1, '5': 13, '10': 'chunkSize'},
+  ],
+};
+
+/// Descriptor for `WriteStreamRequest`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List writeStreamRequestDescriptor = $convert.base64Decode('ChJXcml0ZVN0cmVhbVJlcXVlc3QSGwoJcmVtb3RlX2lkGAEgASgJUghyZW1vdGVJZBIvChNjaGFyYWN0ZXJpc3RpY191dWlkGAIgASgJUhJjaGFyYWN0ZXJpc3RpY1V1aWQSIQoMc2VydmljZV91dWlkGAMgASgJUgtzZXJ2aWNlVXVpZBI0ChZzZWNvbmRhcnlfc2VydmljZV91dWlkGAQgASgJUhRzZWNvbmRhcnlTZXJ2aWNlVXVpZBIUCgV2YWx1ZRgFIAEoDFIFdmFsdWUSHQoKY2h1bmtfc2l6ZRgGIAEoDVIJY2h1bmtTaXpl');
+@$core.Deprecated('Use writeStreamProgressDescriptor instead')
+const WriteStreamProgress$json = const {
+  '1': 'WriteStreamProgress',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'characteristic_uuid', '3': 2, '4': 1, '5': 9, '10': 'characteristicUuid'},
+    const {'1': 'service_uuid', '3': 3, '4': 1, '5': 9, '10': 'serviceUuid'},
+    const {'1': 'bytes_written', '3': 4, '4': 1, '5': 13, '10': 'bytesWritten'},
+    const {'1': 'total_bytes', '3': 5, '4': 1, '5': 13, '10': 'totalBytes'},
+    const {'1': 'done', '3': 6, '4': 1, '5': 8, '10': 'done'},
+    const {'1': 'success', '3': 7, '4': 1, '5': 8, '10': 'success'},
+    const {'1': 'error_message', '3': 8, '4': 1, '5': 9, '10': 'errorMessage'},
+  ],
+};
+
+/// Descriptor for `WriteStreamProgress`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List writeStreamProgressDescriptor = $convert.base64Decode('ChNXcml0ZVN0cmVhbVByb2dyZXNzEhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSLwoTY2hhcmFjdGVyaXN0aWNfdXVpZBgCIAEoCVISY2hhcmFjdGVyaXN0aWNVdWlkEiEKDHNlcnZpY2VfdXVpZBgDIAEoCVILc2VydmljZVV1aWQSIwoNYnl0ZXNfd3JpdHRlbhgEIAEoDVIMYnl0ZXNXcml0dGVuEh8KC3RvdGFsX2J5dGVzGAUgASgNUgp0b3RhbEJ5dGVzEhIKBGRvbmUYBiABKAhSBGRvbmUSGAoHc3VjY2VzcxgHIAEoCFIHc3VjY2VzcxIjCg1lcnJvcl9tZXNzYWdlGAggASgJUgxlcnJvck1lc3NhZ2U=');
 @$core.Deprecated('Use writeCharacteristicResponseDescriptor instead')
 const WriteCharacteristicResponse$json = const {
   '1': 'WriteCharacteristicResponse',
@@ -332,11 +518,15 @@ const SetNotificationRequest$json = const {
     const {'1': 'secondary_service_uuid', '3': 3, '4': 1, '5': 9, '10': 'secondaryServiceUuid'},
     const {'1': 'characteristic_uuid', '3': 4, '4': 1, '5': 9, '10': 'characteristicUuid'},
     const {'1': 'enable', '3': 5, '4': 1, '5': 8, '10': 'enable'},
+    const {'1': 'android_batch_window_millis', '3': 6, '4': 1, '5': 13, '10': 'androidBatchWindowMillis'},
+    const {'1': 'android_batch_count', '3': 7, '4': 1, '5': 13, '10': 'androidBatchCount'},
+    const {'1': 'android_batch_bytes', '3': 8, '4': 1, '5': 13, '10': 'androidBatchBytes'},
+    const {'1': 'android_max_batches_per_second', '3': 9, '4': 1, '5': 13, '10': 'androidMaxBatchesPerSecond'},
   ],
 };
 
 /// Descriptor for `SetNotificationRequest`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List setNotificationRequestDescriptor = $convert.base64Decode('ChZTZXROb3RpZmljYXRpb25SZXF1ZXN0EhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSIQoMc2VydmljZV91dWlkGAIgASgJUgtzZXJ2aWNlVXVpZBI0ChZzZWNvbmRhcnlfc2VydmljZV91dWlkGAMgASgJUhRzZWNvbmRhcnlTZXJ2aWNlVXVpZBIvChNjaGFyYWN0ZXJpc3RpY191dWlkGAQgASgJUhJjaGFyYWN0ZXJpc3RpY1V1aWQSFgoGZW5hYmxlGAUgASgIUgZlbmFibGU=');
+final $typed_data.Uint8List setNotificationRequestDescriptor = $convert.base64Decode('ChZTZXROb3RpZmljYXRpb25SZXF1ZXN0EhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSIQoMc2VydmljZV91dWlkGAIgASgJUgtzZXJ2aWNlVXVpZBI0ChZzZWNvbmRhcnlfc2VydmljZV91dWlkGAMgASgJUhRzZWNvbmRhcnlTZXJ2aWNlVXVpZBIvChNjaGFyYWN0ZXJpc3RpY191dWlkGAQgASgJUhJjaGFyYWN0ZXJpc3RpY1V1aWQSFgoGZW5hYmxlGAUgASgIUgZlbmFibGUSPQobYW5kcm9pZF9iYXRjaF93aW5kb3dfbWlsbGlzGAYgASgNUhhhbmRyb2lkQmF0Y2hXaW5kb3dNaWxsaXMSLgoTYW5kcm9pZF9iYXRjaF9jb3VudBgHIAEoDVIRYW5kcm9pZEJhdGNoQ291bnQSLgoTYW5kcm9pZF9iYXRjaF9ieXRlcxgIIAEoDVIRYW5kcm9pZEJhdGNoQnl0ZXMSQgoeYW5kcm9pZF9tYXhfYmF0Y2hlc19wZXJfc2Vjb25kGAkgASgNUhphbmRyb2lkTWF4QmF0Y2hlc1BlclNlY29uZA==');
 @$core.Deprecated('Use setNotificationResponseDescriptor instead')
 const SetNotificationResponse$json = const {
   '1': 'SetNotificationResponse',
@@ -360,6 +550,32 @@ const OnCharacteristicChanged$json = const {
 
 /// Descriptor for `OnCharacteristicChanged`. Decode as a `google.protobuf.DescriptorProto`.
 final $typed_data.Uint8List onCharacteristicChangedDescriptor = $convert.base64Decode('ChdPbkNoYXJhY3RlcmlzdGljQ2hhbmdlZBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEkAKDmNoYXJhY3RlcmlzdGljGAIgASgLMhguQmx1ZXRvb3RoQ2hhcmFjdGVyaXN0aWNSDmNoYXJhY3RlcmlzdGlj');
+@$core.Deprecated('Use notificationBatchDescriptor instead')
+const NotificationBatch$json = const {
+  '1': 'NotificationBatch',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'start_time_millis', '3': 2, '4': 1, '5': 1, '10': 'startTimeMillis'},
+    const {'1': 'handles', '3': 3, '4': 3, '5': 13, '10': 'handles'},
+    const {'1': 'values', '3': 4, '4': 3, '5': 12, '10': 'values'},
+    const {'1': 'time_offsets_micros', '3': 5, '4': 3, '5': 13, '10': 'timeOffsetsMicros'},
+  ],
+};
+
+/// Descriptor for `NotificationBatch`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List notificationBatchDescriptor = $convert.base64Decode('ChFOb3RpZmljYXRpb25CYXRjaBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEioKEXN0YXJ0X3RpbWVfbWlsbGlzGAIgASgBUg9zdGFydFRpbWVNaWxsaXMSGAoHaGFuZGxlcxgDIAMoDVIHaGFuZGxlcxIWCgZ2YWx1ZXMYBCADKAxSBnZhbHVlcxIuChN0aW1lX29mZnNldHNfbWljcm9zGAUgAygNUhF0aW1lT2Zmc2V0c01pY3Jvcw==');
+@$core.Deprecated('Use characteristicValueChangedDescriptor instead')
+const CharacteristicValueChanged$json = const {
+  '1': 'CharacteristicValueChanged',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'handle', '3': 2, '4': 1, '5': 13, '10': 'handle'},
+    const {'1': 'value', '3': 3, '4': 1, '5': 12, '10': 'value'},
+  ],
+};
+
+/// Descriptor for `CharacteristicValueChanged`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List characteristicValueChangedDescriptor = $convert.base64Decode('ChpDaGFyYWN0ZXJpc3RpY1ZhbHVlQ2hhbmdlZBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEhYKBmhhbmRsZRgCIAEoDVIGaGFuZGxlEhQKBXZhbHVlGAMgASgMUgV2YWx1ZQ==');
 @$core.Deprecated('Use deviceStateResponseDescriptor instead')
 const DeviceStateResponse$json = const {
   '1': 'DeviceStateResponse',
@@ -434,19 +650,69 @@ const MtuSizeResponse$json = const {
   '2': const [
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'mtu', '3': 2, '4': 1, '5': 13, '10': 'mtu'},
+    const {'1': 'android_error_message', '3': 3, '4': 1, '5': 9, '10': 'androidErrorMessage'},
   ],
 };
 
 /// Descriptor for `MtuSizeResponse`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List mtuSizeResponseDescriptor = $convert.base64Decode('Cg9NdHVTaXplUmVzcG9uc2USGwoJcmVtb3RlX2lkGAEgASgJUghyZW1vdGVJZBIQCgNtdHUYAiABKA1SA210dQ==');
+final $typed_data.Uint8List mtuSizeResponseDescriptor = $convert.base64Decode('Cg9NdHVTaXplUmVzcG9uc2USGwoJcmVtb3RlX2lkGAEgASgJUghyZW1vdGVJZBIQCgNtdHUYAiABKA1SA210dRIyChVhbmRyb2lkX2Vycm9yX21lc3NhZ2UYAyABKAlSE2FuZHJvaWRFcnJvck1lc3NhZ2U=');
+@$core.Deprecated('Use connectionPriorityRequestDescriptor instead')
+const ConnectionPriorityRequest$json = const {
+  '1': 'ConnectionPriorityRequest',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'connection_priority', '3': 2, '4': 1, '5': 14, '6': '.ConnectionPriorityRequest.ConnectionPriority', '10': 'connectionPriority'},
+  ],
+  '4': const [ConnectionPriorityRequest_ConnectionPriority$json],
+};
+
+@$core.Deprecated('Use connectionPriorityRequestDescriptor instead')
+const ConnectionPriorityRequest_ConnectionPriority$json = const {
+  '1': 'ConnectionPriority',
+  '2': const [
+    const {'1': 'BALANCED', '2': 0},
+    const {'1': 'HIGH', '2': 1},
+    const {'1': 'LOW_POWER', '2': 2},
+  ],
+};
+
+/// Descriptor for `ConnectionPriorityRequest`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List connectionPriorityRequestDescriptor = $convert.base64Decode('ChlDb25uZWN0aW9uUHJpb3JpdHlSZXF1ZXN0EhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSXgoTY29ubmVjdGlvbl9wcmlvcml0eRgCIAEoDjItLkNvbm5lY3Rpb25Qcmlvcml0eVJlcXVlc3QuQ29ubmVjdGlvblByaW9yaXR5UhJjb25uZWN0aW9uUHJpb3JpdHkiOwoSQ29ubmVjdGlvblByaW9yaXR5EgwKCEJBTEFOQ0VEEAASCAoESElHSBABEg0KCUxPV19QT1dFUhAC');
+@$core.Deprecated('Use preferredPhyRequestDescriptor instead')
+const PreferredPhyRequest$json = const {
+  '1': 'PreferredPhyRequest',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'tx_phy_mask', '3': 2, '4': 1, '5': 13, '10': 'txPhyMask'},
+    const {'1': 'rx_phy_mask', '3': 3, '4': 1, '5': 13, '10': 'rxPhyMask'},
+    const {'1': 'phy_options', '3': 4, '4': 1, '5': 13, '10': 'phyOptions'},
+  ],
+};
+
+/// Descriptor for `PreferredPhyRequest`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List preferredPhyRequestDescriptor = $convert.base64Decode('ChNQcmVmZXJyZWRQaHlSZXF1ZXN0EhsKCXJlbW90ZV9pZBgBIAEoCVIIcmVtb3RlSWQSHgoLdHhfcGh5X21hc2sYAiABKA1SCXR4UGh5TWFzaxIeCgtyeF9waHlfbWFzaxgDIAEoDVIJcnhQaHlNYXNrEh8KC3BoeV9vcHRpb25zGAQgASgNUgpwaHlPcHRpb25z');
+@$core.Deprecated('Use phyResponseDescriptor instead')
+const PhyResponse$json = const {
+  '1': 'PhyResponse',
+  '2': const [
+    const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
+    const {'1': 'tx_phy', '3': 2, '4': 1, '5': 13, '10': 'txPhy'},
+    const {'1': 'rx_phy', '3': 3, '4': 1, '5': 13, '10': 'rxPhy'},
+    const {'1': 'success', '3': 4, '4': 1, '5': 8, '10': 'success'},
+  ],
+};
+
+/// Descriptor for `PhyResponse`. Decode as a `google.protobuf.DescriptorProto`.
+final $typed_data.Uint8List phyResponseDescriptor = $convert.base64Decode('CgtQaHlSZXNwb25zZRIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEhUKBnR4X3BoeRgCIAEoDVIFdHhQaHkSFQoGcnhfcGh5GAMgASgNUgVyeFBoeRIYCgdzdWNjZXNzGAQgASgIUgdzdWNjZXNz');
 @$core.Deprecated('Use readRssiResultDescriptor instead')
 const ReadRssiResult$json = const {
   '1': 'ReadRssiResult',
   '2': const [
     const {'1': 'remote_id', '3': 1, '4': 1, '5': 9, '10': 'remoteId'},
     const {'1': 'rssi', '3': 2, '4': 1, '5': 5, '10': 'rssi'},
+    const {'1': 'android_error_message', '3': 3, '4': 1, '5': 9, '10': 'androidErrorMessage'},
   ],
 };
 
 /// Descriptor for `ReadRssiResult`. Decode as a `google.protobuf.DescriptorProto`.
-final $typed_data.Uint8List readRssiResultDescriptor = $convert.base64Decode('Cg5SZWFkUnNzaVJlc3VsdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEhIKBHJzc2kYAiABKAVSBHJzc2k=');
+final $typed_data.Uint8List readRssiResultDescriptor = $convert.base64Decode('Cg5SZWFkUnNzaVJlc3VsdBIbCglyZW1vdGVfaWQYASABKAlSCHJlbW90ZUlkEhIKBHJzc2kYAiABKAVSBHJzc2kSMgoVYW5kcm9pZF9lcnJvcl9tZXNzYWdlGAMgASgJUhNhbmRyb2lkRXJyb3JNZXNzYWdl');
@@ -11,6 +11,7 @@ class BluetoothCharacteristic {
   final Guid? secondaryServiceUuid;
   final CharacteristicProperties properties;
   final List<BluetoothDescriptor> descriptors;
+  final int _handle;
   bool get isNotifying {
     try {
       var cccd =
@@ -39,6 +40,7 @@ class BluetoothCharacteristic {
         descriptors =
             p.descriptors.map((d) => BluetoothDescriptor.fromProto(d)).toList(),
         properties = CharacteristicProperties.fromProto(p.properties),
+        _handle = p.handle,
         _value = BehaviorSubject.seeded(p.value);
 
   Stream<BluetoothCharacteristic> get _onCharacteristicChangedStream =>
@@ -55,8 +57,52 @@ class BluetoothCharacteristic {
         return c;
       });
 
-  Stream<List<int>> get onValueChangedStream =>
-      _onCharacteristicChangedStream.map((c) => c.lastValue);
+  // Android sends notifications with only the handle and the new value
+  Stream<List<int>> get _onCharacteristicValueChangedStream =>
+      FlutterBluePlus.instance._methodStream
+          .where((m) => m.method == "CharacteristicValueChanged")
+          .map((m) => m.arguments)
+          .map((buffer) => protos.CharacteristicValueChanged.fromBuffer(buffer))
+          .where((p) =>
+              p.handle == _handle && p.remoteId == deviceId.toString())
+          .map((p) => p.value);
+
+  // Notifications batched natively, see setNotifyValue
+  Stream<TimestampedValue> get _onNotificationBatchStream =>
+      FlutterBluePlus.instance._methodStream
+          .where((m) => m.method == "NotificationBatch")
+          .map((m) => m.arguments)
+          .map((buffer) => protos.NotificationBatch.fromBuffer(buffer))
+          .where((p) => p.remoteId == deviceId.toString())
+          .expand((p) sync* {
+        final start = (p.startTimeMillis * 1000).round();
+        for (var i = 0; i < p.handles.length; i++) {
+          if (p.handles[i] == _handle) {
+            yield TimestampedValue(
+                DateTime.fromMicrosecondsSinceEpoch(
+                    start + p.timeOffsetsMicros[i]),
+                p.values[i]);
+          }
+        }
+      });
+
+  Stream<List<int>> get onValueChangedStream => Rx.merge([
+        _onCharacteristicChangedStream.map((c) => c.lastValue),
+        _onCharacteristicValueChangedStream,
+        _onNotificationBatchStream.map((v) => v.value),
+      ]);
+
+  /// Notified values together with the time they arrived.
+  ///
+  /// Values batched natively (see [setNotifyValue]) carry the time they
+  /// reached the Android Bluetooth stack, all others the time they reached Dart.
+  Stream<TimestampedValue> get onTimestampedValueChangedStream => Rx.merge([
+        _onCharacteristicChangedStream
+            .map((c) => TimestampedValue(DateTime.now(), c.lastValue)),
+        _onCharacteristicValueChangedStream
+            .map((v) => TimestampedValue(DateTime.now(), v)),
+        _onNotificationBatchStream,
+      ]);
 
   void _updateDescriptors(List<BluetoothDescriptor> newDescriptors) {
     for (var d in descriptors) {
@@ -88,14 +134,55 @@ class BluetoothCharacteristic {
             (p.remoteId == request.remoteId) &&
             (p.characteristic.uuid == request.characteristicUuid) &&
             (p.characteristic.serviceUuid == request.serviceUuid))
-        .map((p) => p.characteristic.value)
         .first
+        .then((p) => p.androidErrorMessage.isNotEmpty
+            ? throw Exception(
+                'Failed to read the characteristic: ${p.androidErrorMessage}')
+            : p.characteristic.value)
         .then((d) {
       _value.add(d);
       return d;
     });
   }
 
+  /// Reads a value larger than a single read returns (Android only).
+  ///
+  /// Android already reads long values with Read Blob requests, and returns
+  /// the whole value (up to 512 bytes) from one read without offering an
+  /// offset. So by default this reads once. Pass [chunkLength] for devices
+  /// that hand out the next part of a large value on every read: the
+  /// characteristic is then read repeatedly on the native side and the values
+  /// are concatenated, until a read returns fewer than [chunkLength] bytes or
+  /// [maxLength] bytes (by default 1 MiB) were read.
+  Future<List<int>> readLong({int maxLength = 0, int chunkLength = 0}) async {
+    var request = protos.ReadLongCharacteristicRequest.create()
+      ..remoteId = deviceId.toString()
+      ..characteristicUuid = uuid.toString()
+      ..serviceUuid = serviceUuid.toString()
+      ..maxLength = maxLength
+      ..chunkLength = chunkLength;
+
+    await FlutterBluePlus.instance._channel
+        .invokeMethod('readLongCharacteristic', request.writeToBuffer());
+
+    final response = await FlutterBluePlus.instance._methodStream
+        .where((m) => m.method == "ReadLongCharacteristicResponse")
+        .map((m) => m.arguments)
+        .map((buffer) =>
+            protos.ReadLongCharacteristicResponse.fromBuffer(buffer))
+        .where((p) =>
+            (p.remoteId == request.remoteId) &&
+            (p.characteristicUuid == request.characteristicUuid) &&
+            (p.serviceUuid == request.serviceUuid))
+        .first;
+    if (!response.success) {
+      throw Exception(
+          'Failed to read the characteristic: ${response.errorMessage}');
+    }
+    _value.add(response.value);
+    return response.value;
+  }
+
   /// Writes the value of a characteristic.
   /// [CharacteristicWriteType.withoutResponse]: the write is not
   /// guaranteed and will return immediately with success.
@@ -137,13 +224,66 @@ class BluetoothCharacteristic {
         .then((_) => null);
   }
 
+  /// Writes [value], which may be far larger than the MTU, as a series of
+  /// write without response chunks (Android only).
+  ///
+  /// The value is handed to the platform once. Each chunk is written as soon
+  /// as the Bluetooth stack accepted the previous one. Chunks are as large as
+  /// the negotiated MTU allows, or at most [chunkSize] bytes when given. The
+  /// returned stream reports progress periodically and closes once everything
+  /// is written, or fails with an exception.
+  Stream<WriteProgress> writeStream(List<int> value,
+      {int chunkSize = 0}) async* {
+    var request = protos.WriteStreamRequest.create()
+      ..remoteId = deviceId.toString()
+      ..characteristicUuid = uuid.toString()
+      ..serviceUuid = serviceUuid.toString()
+      ..value = value
+      ..chunkSize = chunkSize;
+
+    await FlutterBluePlus.instance._channel
+        .invokeMethod('writeStream', request.writeToBuffer());
+
+    yield* FlutterBluePlus.instance._methodStream
+        .where((m) => m.method == "WriteStreamProgress")
+        .map((m) => m.arguments)
+        .map((buffer) => protos.WriteStreamProgress.fromBuffer(buffer))
+        .where((p) =>
+            (p.remoteId == request.remoteId) &&
+            (p.characteristicUuid == request.characteristicUuid) &&
+            (p.serviceUuid == request.serviceUuid))
+        .takeWhileInclusive((p) => !p.done)
+        .map((p) {
+      if (p.done && !p.success) {
+        throw Exception('Failed to write the stream: ${p.errorMessage}');
+      }
+      return WriteProgress(p.bytesWritten, p.totalBytes);
+    });
+  }
+
   /// Sets notifications or indications for the value of a specified characteristic
-  Future<bool> setNotifyValue(bool notify) async {
+  ///
+  /// [batchWindow], [batchCount] and [batchBytes] (Android only) collect
+  /// notifications natively and deliver them together, once the oldest value
+  /// is [batchWindow] old, [batchCount] values or [batchBytes] bytes are
+  /// waiting. Without [batchWindow], values wait at most a second for the
+  /// batch to fill. Batches of one device are delivered at most
+  /// [maxBatchesPerSecond] times per second. Arrival times are kept, see
+  /// [onTimestampedValueChangedStream].
+  Future<bool> setNotifyValue(bool notify,
+      {Duration? batchWindow,
+      int batchCount = 0,
+      int batchBytes = 0,
+      int maxBatchesPerSecond = 0}) async {
     var request = protos.SetNotificationRequest.create()
       ..remoteId = deviceId.toString()
       ..serviceUuid = serviceUuid.toString()
       ..characteristicUuid = uuid.toString()
-      ..enable = notify;
+      ..enable = notify
+      ..androidBatchWindowMillis = batchWindow?.inMilliseconds ?? 0
+      ..androidBatchCount = batchCount
+      ..androidBatchBytes = batchBytes
+      ..androidMaxBatchesPerSecond = maxBatchesPerSecond;
 
     await FlutterBluePlus.instance._channel
         .invokeMethod('setNotification', request.writeToBuffer());
@@ -207,6 +347,32 @@ class BluetoothCharacteristic {
 
 enum CharacteristicWriteType { withResponse, withoutResponse }
 
+@immutable
+class WriteProgress {
+  final int bytesWritten;
+  final int totalBytes;
+
+  const WriteProgress(this.bytesWritten, this.totalBytes);
+
+  @override
+  String toString() {
+    return 'WriteProgress{bytesWritten: $bytesWritten, totalBytes: $totalBytes}';
+  }
+}
+
+@immutable
+class TimestampedValue {
+  final DateTime timestamp;
+  final List<int> value;
+
+  const TimestampedValue(this.timestamp, this.value);
+
+  @override
+  String toString() {
+    return 'TimestampedValue{timestamp: $timestamp, value: $value}';
+  }
+}
+
 @immutable
 class CharacteristicProperties {
   final bool broadcast;
@@ -44,8 +44,11 @@ class BluetoothDescriptor {
             (p.request.descriptorUuid == request.descriptorUuid) &&
             (p.request.characteristicUuid == request.characteristicUuid) &&
             (p.request.serviceUuid == request.serviceUuid))
-        .map((d) => d.value)
         .first
+        .then((p) => p.androidErrorMessage.isNotEmpty
+            ? throw Exception(
+                'Failed to read the descriptor: ${p.androidErrorMessage}')
+            : p.value)
         .then((d) {
       _value.add(d);
       return d;
@@ -28,14 +28,28 @@ class BluetoothDevice {
   Stream<bool> get isDiscoveringServices => _isDiscoveringServices.stream;
 
   /// Establishes a connection to the Bluetooth Device.
+  ///
+  /// On Android, [mtu] is negotiated as soon as the link is up, ahead of service discovery.
+  /// The value the device agreed to is remembered and asked for directly on later connections.
+  /// iOS negotiates the MTU by itself and ignores it.
+  ///
+  /// With [fastReconnect] on Android, the services discovered on this
+  /// connection are kept when the link drops. When the device comes back and
+  /// its Database Hash shows nothing changed (or it is bonded and has none),
+  /// they are sent to [services] right away and [discoverServices] answers
+  /// without discovering again.
   Future<void> connect({
     Duration? timeout,
     bool autoConnect = true,
+    int? mtu,
+    bool fastReconnect = false,
   }) async {
     final completer = Completer<void>();
     var request = protos.ConnectRequest.create()
       ..remoteId = id.toString()
-      ..androidAutoConnect = autoConnect;
+      ..androidAutoConnect = autoConnect
+      ..androidMtu = mtu ?? 0
+      ..androidFastReconnect = fastReconnect;
 
     Timer? timer;
     if (timeout != null) {
@@ -77,10 +91,13 @@ class BluetoothDevice {
         .map((m) => m.arguments)
         .map((buffer) => protos.DiscoverServicesResult.fromBuffer(buffer))
         .where((p) => p.remoteId == id.toString())
-        .map((p) => p.services)
-        .map((s) => s.map((p) => BluetoothService.fromProto(p)).toList())
         .first
-        .then((list) {
+        .then((p) {
+      if (p.androidErrorMessage.isNotEmpty) {
+        _isDiscoveringServices.add(false);
+        throw Exception('Failed to discover services: ${p.androidErrorMessage}');
+      }
+      var list = p.services.map((s) => BluetoothService.fromProto(s)).toList();
       _services.add(list);
       _isDiscoveringServices.add(false);
       return list;
@@ -102,9 +119,19 @@ class BluetoothDevice {
         .then((buffer) =>
             protos.DiscoverServicesResult.fromBuffer(buffer).services)
         .then((i) => i.map((s) => BluetoothService.fromProto(s)).toList());
-    yield* _services.stream;
+    yield* Rx.merge([_services.stream, _restoredServices]);
   }
 
+  // Layouts reused on reconnect, see [connect]
+  Stream<List<BluetoothService>> get _restoredServices =>
+      FlutterBluePlus.instance._methodStream
+          .where((m) => m.method == "ServicesRestored")
+          .map((m) => m.arguments)
+          .map((buffer) => protos.DiscoverServicesResult.fromBuffer(buffer))
+          .where((p) => p.remoteId == id.toString())
+          .map((p) =>
+              p.services.map((s) => BluetoothService.fromProto(s)).toList());
+
   /// The current connection state of the device
   Stream<BluetoothDeviceState> get state async* {
     yield await FlutterBluePlus.instance._channel
@@ -146,6 +173,7 @@ class BluetoothDevice {
         .map((m) => m.arguments)
         .map((buffer) => protos.MtuSizeResponse.fromBuffer(buffer))
         .where((p) => p.remoteId == id.toString())
+        .where((p) => p.androidErrorMessage.isEmpty)
         .map((p) => p.mtu);
   }
 
@@ -163,8 +191,10 @@ class BluetoothDevice {
         .map((m) => m.arguments)
         .map((buffer) => protos.MtuSizeResponse.fromBuffer(buffer))
         .where((p) => p.remoteId == id.toString())
-        .map((p) => p.mtu)
-        .first;
+        .first
+        .then((p) => p.androidErrorMessage.isNotEmpty
+            ? throw Exception('Failed to request the MTU: ${p.androidErrorMessage}')
+            : p.mtu);
 
     await FlutterBluePlus.instance._channel
         .invokeMethod('requestMtu', request.writeToBuffer());
@@ -172,6 +202,99 @@ class BluetoothDevice {
     return response;
   }
 
+  /// Writes several characteristics as one transaction (Android only).
+  ///
+  /// The values are prepared on the device in the given order and only
+  /// applied once all of them were accepted, so either every write takes
+  /// effect or none does. Throws if the transaction was not executed.
+  Future<void> reliableWrite(List<CharacteristicWrite> writes) async {
+    var request = protos.ReliableWriteRequest.create()
+      ..remoteId = id.toString()
+      ..writes.addAll(writes.map((w) => protos.WriteCharacteristicRequest()
+        ..remoteId = id.toString()
+        ..characteristicUuid = w.characteristic.uuid.toString()
+        ..serviceUuid = w.characteristic.serviceUuid.toString()
+        ..value = w.value));
+
+    var response = FlutterBluePlus.instance._methodStream
+        .where((m) => m.method == "ReliableWriteResponse")
+        .map((m) => m.arguments)
+        .map((buffer) => protos.ReliableWriteResponse.fromBuffer(buffer))
+        .where((p) => p.remoteId == id.toString())
+        .first;
+
+    await FlutterBluePlus.instance._channel
+        .invokeMethod('reliableWrite', request.writeToBuffer());
+
+    final p = await response;
+    if (!p.success) {
+      throw Exception('Reliable write failed: ${p.errorMessage}');
+    }
+  }
+
+  /// Requests a connection interval suited to [priority] (Android only).
+  ///
+  /// [ConnectionPriority.high] shortens the interval for bulk transfers,
+  /// [ConnectionPriority.lowPower] lengthens it to save power.
+  Future<void> requestConnectionPriority(ConnectionPriority priority) async {
+    var request = protos.ConnectionPriorityRequest.create()
+      ..remoteId = id.toString()
+      ..connectionPriority =
+          protos.ConnectionPriorityRequest_ConnectionPriority.valueOf(
+              priority.index)!;
+
+    await FlutterBluePlus.instance._channel
+        .invokeMethod('requestConnectionPriority', request.writeToBuffer());
+  }
+
+  /// Stream of PHY changes, whether requested by [setPreferredPhy] or by the
+  /// remote device (Android 8.0+ only).
+  Stream<PhyState> get phy => FlutterBluePlus.instance._methodStream
+      .where((m) => m.method == "PhyUpdate")
+      .map((m) => m.arguments)
+      .map((buffer) => protos.PhyResponse.fromBuffer(buffer))
+      .where((p) => p.remoteId == id.toString())
+      .map((p) => PhyState._fromProto(p));
+
+  /// Asks for the connection to use one of [txPhy] and [rxPhy], e.g. LE 2M
+  /// for throughput or LE Coded for range, and returns the PHY in use
+  /// afterwards (Android 8.0+ only). The controller may pick a different one.
+  Future<PhyState> setPreferredPhy(
+      {required Set<Phy> txPhy,
+      required Set<Phy> rxPhy,
+      PhyCoding coding = PhyCoding.noPreference}) async {
+    int mask(Set<Phy> phys) =>
+        phys.fold(0, (m, phy) => m | (1 << phy.index));
+    var request = protos.PreferredPhyRequest.create()
+      ..remoteId = id.toString()
+      ..txPhyMask = mask(txPhy)
+      ..rxPhyMask = mask(rxPhy)
+      ..phyOptions = coding.index;
+
+    var response = phy.first;
+
+    await FlutterBluePlus.instance._channel
+        .invokeMethod('setPreferredPhy', request.writeToBuffer());
+
+    return response;
+  }
+
+  /// Reads the PHY currently used by the connection (Android 8.0+ only).
+  Future<PhyState> readPhy() async {
+    var response = FlutterBluePlus.instance._methodStream
+        .where((m) => m.method == "PhyRead")
+        .map((m) => m.arguments)
+        .map((buffer) => protos.PhyResponse.fromBuffer(buffer))
+        .where((p) => p.remoteId == id.toString())
+        .map((p) => PhyState._fromProto(p))
+        .first;
+
+    await FlutterBluePlus.instance._channel
+        .invokeMethod('readPhy', id.toString());
+
+    return response;
+  }
+
   /// Indicates whether the Bluetooth Device can send a write without response
   Future<bool> get canSendWriteWithoutResponse =>
       Future.error(UnimplementedError());
@@ -188,6 +311,9 @@ class BluetoothDevice {
         .where((p) => (p.remoteId == remoteId))
         .first
         .then((c) {
+      if (c.androidErrorMessage.isNotEmpty) {
+        throw Exception('Failed to read the RSSI: ${c.androidErrorMessage}');
+      }
       return (c.rssi);
     });
   }
@@ -208,8 +334,45 @@ class BluetoothDevice {
   }
 }
 
+/// A value to write to [characteristic] as part of
+/// [BluetoothDevice.reliableWrite].
+class CharacteristicWrite {
+  final BluetoothCharacteristic characteristic;
+  final List<int> value;
+
+  const CharacteristicWrite(this.characteristic, this.value);
+}
+
 enum BluetoothDeviceType { unknown, classic, le, dual }
 
+enum ConnectionPriority { balanced, high, lowPower }
+
+enum Phy { le1m, le2m, leCoded }
+
+enum PhyCoding { noPreference, s2, s8 }
+
+class PhyState {
+  /// The PHYs in use, null when none was reported, e.g. when [success] is
+  /// false.
+  final Phy? tx;
+  final Phy? rx;
+  final bool success;
+
+  PhyState._fromProto(protos.PhyResponse p)
+      : tx = _phy(p.txPhy),
+        rx = _phy(p.rxPhy),
+        success = p.success;
+
+  // Android numbers the PHYs from 1, a failed update may report 0
+  static Phy? _phy(int value) =>
+      value >= 1 && value <= Phy.values.length ? Phy.values[value - 1] : null;
+
+  @override
+  String toString() {
+    return 'PhyState{tx: $tx, rx: $rx, success: $success}';
+  }
+}
+
 enum BluetoothDeviceState { disconnected, connecting, connected, disconnecting }
 
 class DeviceConnectionStatus {
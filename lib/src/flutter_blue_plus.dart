@@ -14,12 +14,39 @@ class FlutterBluePlus {
   Stream<MethodCall> get _methodStream => _methodStreamController
       .stream; // Used internally to dispatch methods from platform.
 
+  /// High rate events Android sends outside the method channel, with the
+  /// names of the calls they stand for
+  static const Map<String, List<String>> _eventChannels = {
+    'flutter_blue_plus/scanResults': [
+      'ScanResult',
+      'RawScanResult',
+      'ScanResults'
+    ],
+    'flutter_blue_plus/notifications': [
+      'CharacteristicValueChanged',
+      'NotificationBatch'
+    ],
+    'flutter_blue_plus/connectionState': ['DeviceState', 'DeviceStatus'],
+  };
+
   /// Singleton boilerplate
   FlutterBluePlus._() {
     _channel.setMethodCallHandler((MethodCall call) async {
       _methodStreamController.add(call);
     });
 
+    if (defaultTargetPlatform == TargetPlatform.android) {
+      _eventChannels.forEach((name, calls) {
+        EventChannel(name, const _EventCodec())
+            .receiveBroadcastStream()
+            .listen((event) {
+          Uint8List e = event;
+          _methodStreamController
+              .add(MethodCall(calls[e[0]], Uint8List.sublistView(e, 1)));
+        });
+      });
+    }
+
     setLogLevel(logLevel);
   }
 
@@ -121,17 +148,64 @@ class FlutterBluePlus {
   /// timeout calls stopStream after a specified [Duration].
   /// You can also get a list of ongoing results in the [scanResults] stream.
   /// If scanning is already in progress, this will throw an [Exception].
+  ///
+  /// [withManufacturerData], [withServiceData], [withNames] and
+  /// [withNamePrefixes] (Android 5.0+ only) narrow the scan natively: a result
+  /// is reported when it matches any of them or any of [withServices]. Filters
+  /// other than name prefixes are handed to the Bluetooth controller.
+  /// [minRssi] (Android only) drops weaker results before they reach Dart.
+  ///
+  /// [reportDelay], [batchWindow] and [batchSize] (Android only) trade latency
+  /// for fewer platform channel messages in busy environments:
+  /// [reportDelay] lets the Bluetooth controller queue results (when supported),
+  /// [batchWindow] and [batchSize] collect results natively and send them once
+  /// the window has elapsed or that many results are waiting. Without a
+  /// [batchWindow], results wait at most one second for a batch to fill.
+  /// Results still waiting when the scan stops are delivered first.
+  ///
+  /// [duplicateTimeout] (Android only) reports a device filtered out as a
+  /// duplicate again once that much time has passed since it was last reported,
+  /// without turning on [allowDuplicates].
+  ///
+  /// [rawAdvertisements] (Android only) skips parsing the advertisement
+  /// natively. Results then carry the scan record as received in
+  /// [ScanResult.rawAdvertisementData], with only [AdvertisementData.connectable]
+  /// filled in and no device name.
   Stream<ScanResult> scan({
     ScanMode scanMode = ScanMode.lowLatency,
     List<Guid> withServices = const [],
     List<Guid> withDevices = const [],
+    List<ManufacturerDataFilter> withManufacturerData = const [],
+    List<ServiceDataFilter> withServiceData = const [],
+    List<String> withNames = const [],
+    List<String> withNamePrefixes = const [],
+    int? minRssi,
     Duration? timeout,
     bool allowDuplicates = false,
+    Duration? duplicateTimeout,
+    bool rawAdvertisements = false,
+    Duration? reportDelay,
+    Duration? batchWindow,
+    int batchSize = 0,
   }) async* {
     var settings = protos.ScanSettings.create()
       ..androidScanMode = scanMode.value
       ..allowDuplicates = allowDuplicates
+      ..androidDuplicateTimeoutMillis = duplicateTimeout?.inMilliseconds ?? 0
+      ..androidRawAdvertisements = rawAdvertisements
+      ..androidManufacturerDataFilters
+          .addAll(withManufacturerData.map((f) => f._toProto()))
+      ..androidServiceDataFilters
+          .addAll(withServiceData.map((f) => f._toProto()))
+      ..androidNames.addAll(withNames)
+      ..androidNamePrefixes.addAll(withNamePrefixes)
+      ..androidReportDelayMillis = reportDelay?.inMilliseconds ?? 0
+      ..androidBatchWindowMillis = batchWindow?.inMilliseconds ?? 0
+      ..androidBatchSize = batchSize
       ..serviceUuids.addAll(withServices.map((g) => g.toString()).toList());
+    if (minRssi != null) {
+      settings.androidMinRssi = protos.Int32Value.create()..value = minRssi;
+    }
 
     if (_isScanning.value == true) {
       throw Exception('Another scan is already in progress.');
@@ -143,7 +217,9 @@ class FlutterBluePlus {
     final killStreams = <Stream>[];
     killStreams.add(_stopScanPill);
     if (timeout != null) {
-      killStreams.add(Rx.timer(null, timeout));
+      // stopScan stops natively before it ends the stream, so results still
+      // batched there arrive first
+      killStreams.add(Rx.timer(null, timeout).asyncMap((_) => stopScan()));
     }
 
     // Clear scan results list
@@ -161,13 +237,13 @@ class FlutterBluePlus {
     }
 
     yield* FlutterBluePlus.instance._methodStream
-        .where((m) => m.method == "ScanResult")
-        .map((m) => m.arguments)
+        .where((m) =>
+            m.method == "ScanResult" ||
+            m.method == "RawScanResult" ||
+            m.method == "ScanResults")
         .takeUntil(Rx.merge(killStreams))
-        .doOnDone(stopScan)
-        .map((buffer) => protos.ScanResult.fromBuffer(buffer))
-        .map((p) {
-      final result = ScanResult.fromProto(p);
+        .expand(_scanResultsFromMessage)
+        .map((result) {
       final list = _scanResults.value;
       int index = list.indexOf(result);
       if (index != -1) {
@@ -180,6 +256,22 @@ class FlutterBluePlus {
     });
   }
 
+  static Iterable<ScanResult> _scanResultsFromMessage(MethodCall m) {
+    switch (m.method) {
+      case "ScanResults":
+        final p = protos.ScanResults.fromBuffer(m.arguments);
+        return p.results
+            .map((r) => ScanResult.fromProto(r))
+            .followedBy(p.rawResults.map((r) => ScanResult.fromRawProto(r)));
+      case "RawScanResult":
+        return [
+          ScanResult.fromRawProto(protos.RawScanResult.fromBuffer(m.arguments))
+        ];
+      default:
+        return [ScanResult.fromProto(protos.ScanResult.fromBuffer(m.arguments))];
+    }
+  }
+
   /// Starts a scan and returns a future that will complete once the scan has finished.
   ///
   /// Once a scan is started, call [stopScan] to stop the scan and complete the returned future.
@@ -192,15 +284,35 @@ class FlutterBluePlus {
     ScanMode scanMode = ScanMode.lowLatency,
     List<Guid> withServices = const [],
     List<Guid> withDevices = const [],
+    List<ManufacturerDataFilter> withManufacturerData = const [],
+    List<ServiceDataFilter> withServiceData = const [],
+    List<String> withNames = const [],
+    List<String> withNamePrefixes = const [],
+    int? minRssi,
     Duration? timeout,
     bool allowDuplicates = false,
+    Duration? duplicateTimeout,
+    bool rawAdvertisements = false,
+    Duration? reportDelay,
+    Duration? batchWindow,
+    int batchSize = 0,
   }) async {
     await scan(
             scanMode: scanMode,
             withServices: withServices,
             withDevices: withDevices,
+            withManufacturerData: withManufacturerData,
+            withServiceData: withServiceData,
+            withNames: withNames,
+            withNamePrefixes: withNamePrefixes,
+            minRssi: minRssi,
             timeout: timeout,
-            allowDuplicates: allowDuplicates)
+            allowDuplicates: allowDuplicates,
+            duplicateTimeout: duplicateTimeout,
+            rawAdvertisements: rawAdvertisements,
+            reportDelay: reportDelay,
+            batchWindow: batchWindow,
+            batchSize: batchSize)
         .drain();
     return _scanResults.value;
   }
@@ -220,6 +332,59 @@ class FlutterBluePlus {
 //  }) =>
 //      throw UnimplementedError();
 
+  /// Connects to [devices], discovers their services and enables
+  /// notifications of every characteristic in [notify] on each of them
+  /// (Android only).
+  ///
+  /// Up to [maxConcurrent] devices are brought up at the same time, 0 brings
+  /// up all of them at once. A device that is not ready within [timeout] is
+  /// reported as failed and disconnected. The returned stream reports every
+  /// device once, in the order they finish, and then closes.
+  Stream<DeviceReady> connectAll(List<BluetoothDevice> devices,
+      {List<NotificationTarget> notify = const [],
+      int maxConcurrent = 4,
+      Duration? timeout,
+      bool autoConnect = false,
+      int? mtu,
+      bool fastReconnect = false}) async* {
+    final ids = devices.map((d) => d.id.toString()).toSet();
+    var request = protos.ConnectAllRequest.create()
+      ..devices.addAll(ids.map((id) => protos.ConnectRequest.create()
+        ..remoteId = id
+        ..androidAutoConnect = autoConnect
+        ..androidMtu = mtu ?? 0
+        ..androidFastReconnect = fastReconnect))
+      ..notifications.addAll(notify.map((n) => n._toProto()))
+      ..maxConcurrent = maxConcurrent
+      ..timeoutMillis = timeout?.inMilliseconds ?? 0;
+
+    await _channel.invokeMethod('connectAll', request.writeToBuffer());
+
+    yield* _methodStream
+        .where((m) => m.method == "DeviceReady")
+        .map((m) => m.arguments)
+        .map((buffer) => protos.DeviceReady.fromBuffer(buffer))
+        .where((p) => ids.contains(p.remoteId))
+        .take(ids.length)
+        .map((p) => DeviceReady._fromProto(p));
+  }
+
+  /// Caps the number of devices connected at once (Android only).
+  ///
+  /// [BluetoothDevice.connect] calls beyond [maxConnections] wait until a
+  /// connection is closed, or until the least recently used connection has
+  /// been idle for [minIdleTime], which is then disconnected to make room.
+  /// A [maxConnections] of 0 removes the limit, which is the default.
+  Future<void> setConnectionLimits(
+      {required int maxConnections,
+      Duration minIdleTime = Duration.zero}) async {
+    var request = protos.ConnectionLimits.create()
+      ..maxConnections = maxConnections
+      ..minIdleMillis = minIdleTime.inMilliseconds;
+
+    await _channel.invokeMethod('setConnectionLimits', request.writeToBuffer());
+  }
+
   /// Sets the log level of the FlutterBlue instance
   /// Messages equal or below the log level specified are stored/forwarded,
   /// messages above are dropped.
@@ -269,6 +434,76 @@ class ScanMode {
   final int value;
 }
 
+/// Matches advertisements carrying manufacturer data for [manufacturerId].
+///
+/// When [data] is given, the manufacturer data has to start with it. [mask]
+/// (same length as [data]) selects which bits of [data] are compared.
+class ManufacturerDataFilter {
+  final int manufacturerId;
+  final List<int> data;
+  final List<int> mask;
+
+  const ManufacturerDataFilter(this.manufacturerId,
+      {this.data = const [], this.mask = const []});
+
+  protos.ManufacturerDataFilter _toProto() => protos.ManufacturerDataFilter()
+    ..manufacturerId = manufacturerId
+    ..data = data
+    ..mask = mask;
+}
+
+/// Matches advertisements carrying service data for [serviceUuid].
+///
+/// When [data] is given, the service data has to start with it. [mask]
+/// (same length as [data]) selects which bits of [data] are compared.
+class ServiceDataFilter {
+  final Guid serviceUuid;
+  final List<int> data;
+  final List<int> mask;
+
+  const ServiceDataFilter(this.serviceUuid,
+      {this.data = const [], this.mask = const []});
+
+  protos.ServiceDataFilter _toProto() => protos.ServiceDataFilter()
+    ..serviceUuid = serviceUuid.toString()
+    ..data = data
+    ..mask = mask;
+}
+
+/// A characteristic whose notifications [FlutterBluePlus.connectAll] enables.
+class NotificationTarget {
+  final Guid serviceUuid;
+  final Guid characteristicUuid;
+  final Guid? secondaryServiceUuid;
+
+  const NotificationTarget(this.serviceUuid, this.characteristicUuid,
+      {this.secondaryServiceUuid});
+
+  protos.SetNotificationRequest _toProto() => protos.SetNotificationRequest()
+    ..serviceUuid = serviceUuid.toString()
+    ..secondaryServiceUuid = secondaryServiceUuid?.toString() ?? ""
+    ..characteristicUuid = characteristicUuid.toString()
+    ..enable = true;
+}
+
+/// Outcome of bringing up one device of [FlutterBluePlus.connectAll].
+class DeviceReady {
+  final BluetoothDevice device;
+  final bool success;
+  final String? error;
+
+  /// The discovered services, empty when [success] is false.
+  final List<BluetoothService> services;
+
+  DeviceReady._fromProto(protos.DeviceReady p)
+      : device = BluetoothDevice.fromId(p.remoteId),
+        success = p.success,
+        error = p.success ? null : p.errorMessage,
+        services = p.services.services
+            .map((s) => BluetoothService.fromProto(s))
+            .toList();
+}
+
 class DeviceIdentifier {
   final String id;
   const DeviceIdentifier(this.id);
@@ -288,12 +523,22 @@ class ScanResult {
   ScanResult.fromProto(protos.ScanResult p)
       : device = BluetoothDevice.fromProto(p.device),
         advertisementData = AdvertisementData.fromProto(p.advertisementData),
-        rssi = p.rssi;
+        rssi = p.rssi,
+        rawAdvertisementData = null;
+
+  ScanResult.fromRawProto(protos.RawScanResult p)
+      : device = BluetoothDevice.fromId(p.remoteId, name: ''),
+        advertisementData = AdvertisementData._unparsed(p.connectable),
+        rssi = p.rssi,
+        rawAdvertisementData = p.advertisementData;
 
   final BluetoothDevice device;
   final AdvertisementData advertisementData;
   final int rssi;
 
+  /// The advertisement as received, when scanning with `rawAdvertisements`.
+  final List<int>? rawAdvertisementData;
+
   @override
   bool operator ==(Object other) =>
       identical(this, other) ||
@@ -327,8 +572,78 @@ class AdvertisementData {
         serviceData = p.serviceData,
         serviceUuids = p.serviceUuids;
 
+  AdvertisementData._unparsed(this.connectable)
+      : localName = '',
+        txPowerLevel = null,
+        manufacturerData = const {},
+        serviceData = const {},
+        serviceUuids = const [];
+
   @override
   String toString() {
     return 'AdvertisementData{localName: $localName, txPowerLevel: $txPowerLevel, connectable: $connectable, manufacturerData: $manufacturerData, serviceData: $serviceData, serviceUuids: $serviceUuids}';
   }
 }
+
+/// Codec of the Android event channels. Events are a kind byte followed by
+/// an encoded message, which is handed on without copying. Errors are the
+/// UTF-8 encoded code and message, separated by a zero byte.
+///
+/// Envelopes start with a status byte, 0 for success and 1 for errors.
+class _EventCodec implements MethodCodec {
+  const _EventCodec();
+
+  @override
+  ByteData encodeMethodCall(MethodCall methodCall) =>
+      ByteData.sublistView(utf8.encoder.convert(methodCall.method));
+
+  @override
+  MethodCall decodeMethodCall(ByteData? methodCall) =>
+      MethodCall(utf8.decode(Uint8List.sublistView(methodCall!)));
+
+  @override
+  dynamic decodeEnvelope(ByteData envelope) {
+    final status = envelope.getUint8(0);
+    if (status == 1) {
+      final error = Uint8List.sublistView(envelope, 1);
+      final separator = error.indexOf(0);
+      if (separator < 0) {
+        throw PlatformException(code: utf8.decode(error));
+      }
+      throw PlatformException(
+          code: utf8.decode(Uint8List.sublistView(error, 0, separator)),
+          message: utf8.decode(Uint8List.sublistView(error, separator + 1)));
+    }
+    if (status != 0) {
+      throw const FormatException('Envelope corrupted');
+    }
+    if (envelope.lengthInBytes == 1) {
+      // Reply to listen or cancel
+      return null;
+    }
+    return Uint8List.sublistView(envelope, 1);
+  }
+
+  /// [result] is null, or an event as [decodeEnvelope] returns it.
+  @override
+  ByteData encodeSuccessEnvelope(Object? result) {
+    final event = result as Uint8List?;
+    final envelope = Uint8List(1 + (event?.length ?? 0));
+    if (event != null) {
+      envelope.setAll(1, event);
+    }
+    return ByteData.sublistView(envelope);
+  }
+
+  @override
+  ByteData encodeErrorEnvelope(
+      {required String code, String? message, Object? details}) {
+    final codeBytes = utf8.encode(code);
+    final messageBytes = utf8.encode(message ?? '');
+    final envelope = Uint8List(2 + codeBytes.length + messageBytes.length)
+      ..[0] = 1
+      ..setAll(1, codeBytes)
+      ..setAll(2 + codeBytes.length, messageBytes);
+    return ByteData.sublistView(envelope);
+  }
+}